@@ -19,14 +19,17 @@
 
 package com.sqlapp.data.db.command;
 
+import java.io.File;
 import java.sql.Connection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
+import com.sqlapp.data.db.command.properties.MetadataCacheDirectoryProperty;
 import com.sqlapp.data.db.command.properties.SchemaOptionsProperty;
 import com.sqlapp.data.db.command.properties.TableOptionsProperty;
+import com.sqlapp.data.db.command.util.MetadataSnapshotCache;
 import com.sqlapp.data.db.dialect.Dialect;
 import com.sqlapp.data.db.metadata.SchemaReader;
 import com.sqlapp.data.db.metadata.SequenceReader;
@@ -51,9 +54,13 @@ import lombok.Setter;
 @Getter
 @Setter
 public abstract class AbstractSchemaDataSourceCommand extends AbstractDataSourceCommand
-		implements SchemaOptionsProperty {
+		implements SchemaOptionsProperty, MetadataCacheDirectoryProperty {
 
 	private Options schemaOptions = new Options();
+	/**
+	 * メタデータのスナップショットを保存するディレクトリ。指定した場合、テーブルのメタデータを実行をまたいで再利用します。
+	 */
+	private File metadataCacheDirectory = null;
 
 	/**
 	 * @return the sqlFactoryRegistry
@@ -97,7 +104,17 @@ public abstract class AbstractSchemaDataSourceCommand extends AbstractDataSource
 				.catalogName(SqlComparisonOperator.IN, catalogNames).schemaName(SqlComparisonOperator.IN, schemaNames)
 				.build();
 		final TableReader tableReader = schemaReader.getTableReader();
-		final List<Table> tables = tableReader.getAllFull(connection, context);
+		final MetadataSnapshotCache cache = getMetadataCacheDirectory() == null ? null
+				: new MetadataSnapshotCache(getMetadataCacheDirectory());
+		// 最終更新日時がDDLによる変更日時でないDBではスナップショットを使用しないため、保存もしない
+		final File snapshotFile = cache == null || !tableReader.isDdlTimestampSupported() ? null
+				: cache.getSnapshotFile(connection, catalogNames, schemaNames);
+		final List<Table> tables;
+		if (snapshotFile != null) {
+			tables = cache.getTables(connection, tableReader, context, snapshotFile);
+		} else {
+			tables = tableReader.getAllFull(connection, context);
+		}
 		tables.forEach(s -> {
 			final Schema schema = allSchemaMap.get(s.getSchemaName());
 			if (schema != null) {
@@ -134,6 +151,9 @@ public abstract class AbstractSchemaDataSourceCommand extends AbstractDataSource
 				readSynonymTables(connection, tableReader, allSchemaMap, rootSynonymMap, tableMap);
 			}
 		}
+		if (snapshotFile != null) {
+			cache.save(snapshotFile, catalog);
+		}
 		return schemaMap;
 	}
 
@@ -20,10 +20,14 @@
 package com.sqlapp.data.db.command;
 
 import java.sql.Connection;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.sqlapp.data.db.command.properties.EqualsHandlerProperty;
 import com.sqlapp.data.db.dialect.Dialect;
+import com.sqlapp.data.db.metadata.AbstractNamedMetadataReader;
 import com.sqlapp.data.db.metadata.MetadataReader;
 import com.sqlapp.data.db.metadata.MetadataReaderUtils;
 import com.sqlapp.data.db.sql.Options;
@@ -40,7 +44,9 @@ import com.sqlapp.data.schemas.ExcludeFilterEqualsHandler;
 import com.sqlapp.data.schemas.SchemaObjectProperties;
 import com.sqlapp.data.schemas.SchemaProperties;
 import com.sqlapp.data.schemas.SchemaUtils;
+import com.sqlapp.data.schemas.StructuralHashEqualsHandler;
 import com.sqlapp.data.schemas.properties.CatalogNameProperty;
+import com.sqlapp.data.schemas.properties.NameProperty;
 import com.sqlapp.data.schemas.properties.SchemaNameProperty;
 import com.sqlapp.util.CommonUtils;
 import com.sqlapp.util.SimpleBeanUtils;
@@ -91,6 +97,14 @@ public abstract class AbstractSynchronizeCommand extends AbstractFile2DataSource
 	protected List<DbObjectDifference> getDiff(final DbObjectCollection<?> objects, final MetadataReader<?, ?> reader,
 			final Connection connection) {
 		final List<DbObjectDifference> diffList = CommonUtils.list();
+		if (reader instanceof AbstractNamedMetadataReader) {
+			final Map<DbObject<?>, DbObject<?>> originals = readOriginals(objects,
+					(AbstractNamedMetadataReader<?, ?>) reader, connection);
+			for (final DbObject<?> obj : objects) {
+				diffList.add(createDiff(originals.get(obj), obj));
+			}
+			return diffList;
+		}
 		for (final DbObject<?> obj : objects) {
 			final DbObjectDifference diff = getDiff(obj, reader, connection);
 			diffList.add(diff);
@@ -98,6 +112,78 @@ public abstract class AbstractSynchronizeCommand extends AbstractFile2DataSource
 		return diffList;
 	}
 
+	/**
+	 * スキーマ毎にまとめてDBのオブジェクトを読み込み、名前で対応付けます。
+	 * 
+	 * @param objects    比較対象のオブジェクト
+	 * @param reader     メタデータリーダー
+	 * @param connection コネクション
+	 * @return 比較対象のオブジェクトとDBのオブジェクトの対応
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	protected Map<DbObject<?>, DbObject<?>> readOriginals(final DbObjectCollection<?> objects,
+			final AbstractNamedMetadataReader<?, ?> reader, final Connection connection) {
+		final Map<String, List<DbObject<?>>> schemaObjects = CommonUtils.linkedMap();
+		for (final DbObject<?> obj : objects) {
+			String schemaName = null;
+			if (obj instanceof SchemaNameProperty) {
+				schemaName = ((SchemaNameProperty) obj).getSchemaName();
+			}
+			List<DbObject<?>> list = schemaObjects.get(schemaName);
+			if (list == null) {
+				list = CommonUtils.list();
+				schemaObjects.put(schemaName, list);
+			}
+			list.add(obj);
+		}
+		final Map<DbObject<?>, DbObject<?>> result = new IdentityHashMap<>();
+		for (final Map.Entry<String, List<DbObject<?>>> entry : schemaObjects.entrySet()) {
+			SimpleBeanUtils.setValue(reader, SchemaProperties.SCHEMA_NAME.getLabel(), entry.getKey());
+			final Set<String> names = CommonUtils.linkedSet();
+			for (final DbObject<?> obj : entry.getValue()) {
+				names.add(getName(obj));
+			}
+			final List<DbObject> originals = (List) reader.getAllFull(connection, names);
+			final Map<String, DbObject<?>> nameMap = CommonUtils.map();
+			final Map<String, DbObject<?>> nameMapCi = CommonUtils.caseInsensitiveMap();
+			for (final DbObject<?> original : originals) {
+				final String name = getName(original);
+				if (!nameMap.containsKey(name)) {
+					nameMap.put(name, original);
+				}
+				if (!nameMapCi.containsKey(name)) {
+					nameMapCi.put(name, original);
+				}
+			}
+			for (final DbObject<?> obj : entry.getValue()) {
+				final String name = getName(obj);
+				DbObject<?> original = nameMap.get(name);
+				if (original == null) {
+					original = nameMapCi.get(name);
+				}
+				if (original != null) {
+					result.put(obj, original);
+				}
+			}
+		}
+		return result;
+	}
+
+	private String getName(final DbObject<?> obj) {
+		if (obj instanceof NameProperty) {
+			return ((NameProperty<?>) obj).getName();
+		}
+		return null;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private DbObjectDifference createDiff(final DbObject original, final DbObject<?> obj) {
+		if (original == null) {
+			return new DbObjectDifference((DbObject<?>) null, obj, this.getEqualsHandler());
+		}
+		return original.diff(obj, StructuralHashEqualsHandler.wrap(getEqualsHandler()));
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	protected DbObjectDifference getDiff(final DbObject obj, final MetadataReader reader, final Connection connection) {
 		if (obj instanceof SchemaNameProperty) {
@@ -105,14 +191,7 @@ public abstract class AbstractSynchronizeCommand extends AbstractFile2DataSource
 					((SchemaNameProperty) obj).getSchemaName());
 		}
 		final List<DbObject> originals = reader.getAllFull(connection);
-		final DbObjectDifference diff;
-		if (originals.isEmpty()) {
-			diff = new DbObjectDifference((DbObject<?>) null, (DbObject<?>) obj, this.getEqualsHandler());
-		} else {
-			final DbObject original = CommonUtils.first(originals);
-			diff = original.diff(obj, getEqualsHandler());
-		}
-		return diff;
+		return createDiff(CommonUtils.first(originals), obj);
 	}
 
 	@Override
@@ -22,17 +22,25 @@ package com.sqlapp.data.db.command;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import com.sqlapp.data.db.command.properties.OutputFormatTypeProperty;
+import com.sqlapp.data.db.command.properties.ParallelismProperty;
 import com.sqlapp.data.db.datatype.DataType;
 import com.sqlapp.data.db.dialect.Dialect;
 import com.sqlapp.data.db.metadata.SchemaReader;
 import com.sqlapp.data.schemas.Column;
 import com.sqlapp.data.schemas.Row;
 import com.sqlapp.data.schemas.Schema;
+import com.sqlapp.data.schemas.Statistics;
 import com.sqlapp.data.schemas.Table;
 import com.sqlapp.util.AbstractSqlBuilder;
+import com.sqlapp.util.CommonUtils;
 import com.sqlapp.util.OutputTextBuilder;
 
 import lombok.Getter;
@@ -40,63 +48,136 @@ import lombok.Setter;
 
 @Getter
 @Setter
-public class CountAllTablesCommand extends AbstractTableCommand implements OutputFormatTypeProperty {
+public class CountAllTablesCommand extends AbstractTableCommand
+		implements OutputFormatTypeProperty, ParallelismProperty {
 
 	private OutputFormatType outputFormatType = OutputFormatType.TSV;
+	/**
+	 * 同時にCOUNTするテーブル数。1より大きい場合、テーブルごとにDataSourceからコネクションを取得します。
+	 */
+	private int parallelism = 1;
+	/**
+	 * trueの場合、メタデータの統計情報の行数(推定値)を使用します。統計情報のないテーブルはCOUNTします。
+	 */
+	private boolean estimate = false;
 
 	private static final String SCHEMA_NAME_LABEL = "schemaName";
 	private static final String TABLE_NAME_LABEL = "tableName";
 	private static final String COUNT_LABEL = "count";
+	private static final String METHOD_LABEL = "method";
 
-	@Override
-	protected void doRun() {
-		final Table result = new Table();
+	static final String METHOD_COUNT = "count";
+	static final String METHOD_STATISTICS = "statistics";
+
+	/**
+	 * 実行結果(schemaName, tableName, count, method)
+	 */
+	private final Table result = new Table();
+
+	public CountAllTablesCommand() {
 		result.getColumns().add(new Column(SCHEMA_NAME_LABEL).setDataType(DataType.NVARCHAR).setLength(254));
 		result.getColumns().add(new Column(TABLE_NAME_LABEL).setDataType(DataType.NVARCHAR).setLength(254));
 		result.getColumns().add(new Column(COUNT_LABEL).setDataType(DataType.BIGINT));
+		result.getColumns().add(new Column(METHOD_LABEL).setDataType(DataType.NVARCHAR).setLength(20));
+	}
+
+	@Override
+	protected void doRun() {
+		result.getRows().clear();
 		execute(getDataSource(), connection -> {
 			final Dialect dialect = this.getDialect(connection);
-			try (Statement statement = connection.createStatement()) {
-				final SchemaReader schemaReader = this.getSchemaReader(connection, dialect);
-				final Map<String, Schema> schemaMap = this.getSchemas(connection, dialect, schemaReader, s -> true);
-				if (!getOutputFormatType().isTable()) {
-					final StringBuilder builder = new StringBuilder();
-					for (final Column column : result.getColumns()) {
-						builder.append(column.getName());
-						builder.append(this.getOutputFormatType().getSeparator());
-					}
-					this.info(builder.substring(0, builder.length() - 1));
+			final SchemaReader schemaReader = this.getSchemaReader(connection, dialect);
+			final Map<String, Schema> schemaMap = this.getSchemas(connection, dialect, schemaReader, s -> true);
+			if (!getOutputFormatType().isTable()) {
+				final StringBuilder builder = new StringBuilder();
+				for (final Column column : result.getColumns()) {
+					builder.append(column.getName());
+					builder.append(this.getOutputFormatType().getSeparator());
 				}
-				for (final Map.Entry<String, Schema> entry : schemaMap.entrySet()) {
-					for (final Table table : entry.getValue().getTables()) {
-						final Row row = result.newRow();
-						row.put(SCHEMA_NAME_LABEL, entry.getKey());
-						row.put(TABLE_NAME_LABEL, table.getName());
-						final AbstractSqlBuilder<?> sqlBuilder = dialect.createSqlBuilder();
-						sqlBuilder.select().count("*").from().name(table);
-						final StringBuilder builder = new StringBuilder();
-						builder.append(entry.getKey());
-						builder.append(this.getOutputFormatType().getSeparator());
-						builder.append(table.getName());
-						final long count = selectCount(dialect, statement, table);
-						row.put(COUNT_LABEL, count);
-						builder.append(this.getOutputFormatType().getSeparator());
-						builder.append(count);
-						if (!getOutputFormatType().isTable()) {
-							this.info(builder);
+				this.info(builder.substring(0, builder.length() - 1));
+			}
+			final List<CountTarget> targets = CommonUtils.list();
+			final List<CountTarget> countTargets = CommonUtils.list();
+			for (final Map.Entry<String, Schema> entry : schemaMap.entrySet()) {
+				for (final Table table : entry.getValue().getTables()) {
+					final CountTarget target = new CountTarget(entry.getKey(), table);
+					targets.add(target);
+					if (isEstimate()) {
+						final Long rows = Statistics.ROWS.getValue(table);
+						if (rows != null) {
+							target.count = rows.longValue();
+							target.method = METHOD_STATISTICS;
+							continue;
 						}
-						result.getRows().add(row);
 					}
+					countTargets.add(target);
 				}
-				if (getOutputFormatType().isTable()) {
-					final OutputTextBuilder builder = new OutputTextBuilder();
-					builder.append(result);
-					this.info(builder.toString());
+			}
+			if (this.getParallelism() > 1 && countTargets.size() > 1) {
+				info("parallelism=", this.getParallelism());
+				selectCountParallel(dialect, countTargets);
+			} else {
+				try (Statement statement = connection.createStatement()) {
+					for (final CountTarget target : countTargets) {
+						target.count = selectCount(dialect, statement, target.table);
+						target.method = METHOD_COUNT;
+					}
 				}
 			}
+			for (final CountTarget target : targets) {
+				final Row row = result.newRow();
+				row.put(SCHEMA_NAME_LABEL, target.schemaName);
+				row.put(TABLE_NAME_LABEL, target.table.getName());
+				row.put(COUNT_LABEL, target.count);
+				row.put(METHOD_LABEL, target.method);
+				if (!getOutputFormatType().isTable()) {
+					final StringBuilder builder = new StringBuilder();
+					builder.append(target.schemaName);
+					builder.append(this.getOutputFormatType().getSeparator());
+					builder.append(target.table.getName());
+					builder.append(this.getOutputFormatType().getSeparator());
+					builder.append(target.count);
+					builder.append(this.getOutputFormatType().getSeparator());
+					builder.append(target.method);
+					this.info(builder);
+				}
+				result.getRows().add(row);
+			}
+			if (getOutputFormatType().isTable()) {
+				final OutputTextBuilder builder = new OutputTextBuilder();
+				builder.append(result);
+				this.info(builder.toString());
+			}
 		});
 	}
 
+	/**
+	 * テーブルごとにDataSourceからコネクションを取得して、並列にCOUNTします。
+	 */
+	private void selectCountParallel(final Dialect dialect, final List<CountTarget> targets)
+			throws InterruptedException, ExecutionException {
+		final ExecutorService executorService = Executors
+				.newFixedThreadPool(Math.min(this.getParallelism(), targets.size()));
+		try {
+			final List<Future<?>> futures = CommonUtils.list();
+			for (final CountTarget target : targets) {
+				futures.add(executorService.submit(() -> {
+					executeNoTran(getDataSource(), connection -> {
+						try (Statement statement = connection.createStatement()) {
+							target.count = selectCount(dialect, statement, target.table);
+							target.method = METHOD_COUNT;
+						}
+					});
+				}));
+			}
+			for (final Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
 	private long selectCount(final Dialect dialect, final Statement statement, final Table table) throws SQLException {
 		final AbstractSqlBuilder<?> sqlBuilder = dialect.createSqlBuilder();
 		sqlBuilder.select().count("*").from().name(table);
@@ -108,4 +189,16 @@ public class CountAllTablesCommand extends AbstractTableCommand implements Outpu
 		}
 	}
 
+	private static final class CountTarget {
+		private final String schemaName;
+		private final Table table;
+		private long count;
+		private String method;
+
+		CountTarget(final String schemaName, final Table table) {
+			this.schemaName = schemaName;
+			this.table = table;
+		}
+	}
+
 }
@@ -34,6 +34,7 @@ import com.sqlapp.data.schemas.DbObjectDifferenceCollection;
 import com.sqlapp.data.schemas.DefaultSchemaEqualsHandler;
 import com.sqlapp.data.schemas.EqualsHandler;
 import com.sqlapp.data.schemas.SchemaUtils;
+import com.sqlapp.data.schemas.StructuralHashEqualsHandler;
 import com.sqlapp.exceptions.CommandException;
 import com.sqlapp.util.CommonUtils;
 
@@ -77,8 +78,8 @@ public class DiffCommand extends AbstractCommand
 			throw new CommandException("Original and Target class unmatch. original=[" + original.getClass()
 					+ "], target=[" + target.getClass() + "].");
 		}
-		EqualsHandler equalsHandler = getEqualsHandler();
-		boolean result = original.equals(target, equalsHandler);
+		StructuralHashEqualsHandler equalsHandler = new StructuralHashEqualsHandler(getEqualsHandler());
+		boolean result = equalsHandler.equals(original, target);
 		if (!result) {
 			printResult(original, target, equalsHandler);
 		} else {
@@ -110,12 +111,12 @@ public class DiffCommand extends AbstractCommand
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	protected void doExecute(DbObject original, DbObject target) {
-		original.diff(target, this.getEqualsHandler());
+		original.diff(target, StructuralHashEqualsHandler.wrap(this.getEqualsHandler()));
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	protected void doExecute(DbObjectCollection original, DbObjectCollection target) {
-		original.diff(target, this.getEqualsHandler());
+		original.diff(target, StructuralHashEqualsHandler.wrap(this.getEqualsHandler()));
 	}
 
 }
@@ -33,10 +33,12 @@ import com.sqlapp.data.db.command.properties.ObjectTargetProperty;
 import com.sqlapp.data.db.command.properties.OnlyCurrentCatalogProperty;
 import com.sqlapp.data.db.command.properties.OnlyCurrentSchemaProperty;
 import com.sqlapp.data.db.command.properties.OutputDirectoryProperty;
+import com.sqlapp.data.db.command.properties.ParallelismProperty;
 import com.sqlapp.data.db.command.properties.SchemaOptionsProperty;
 import com.sqlapp.data.db.command.properties.SchemaTargetProperty;
 import com.sqlapp.data.db.dialect.Dialect;
 import com.sqlapp.data.db.metadata.MetadataReader;
+import com.sqlapp.data.db.metadata.MetadataReaderTimings;
 import com.sqlapp.data.db.metadata.MetadataReaderUtils;
 import com.sqlapp.data.db.metadata.ObjectNameReaderPredicate;
 import com.sqlapp.data.db.metadata.ReadDbObjectPredicate;
@@ -66,7 +68,7 @@ import lombok.Setter;
 @Setter
 public class ExportSchemaXmlCommand extends AbstractSchemaDataSourceCommand
 		implements SchemaOptionsProperty, OnlyCurrentCatalogProperty, OnlyCurrentSchemaProperty, SchemaTargetProperty,
-		ObjectTargetProperty, OutputDirectoryProperty {
+		ObjectTargetProperty, OutputDirectoryProperty, ParallelismProperty {
 	/**
 	 * catalogs,catalog,schemas,schema,tables...
 	 */
@@ -122,6 +124,10 @@ public class ExportSchemaXmlCommand extends AbstractSchemaDataSourceCommand
 	private Consumer<DbObject<?>> converter = (c) -> {
 	};
 	private Options schemaOptions = new Options();
+	/**
+	 * メタデータの並列読み込みの並列度。2以上の場合、独立した子のReaderをデータソースから取得したコネクションで並列に実行します。
+	 */
+	private int parallelism = 1;
 
 	/*
 	 * (non-Javadoc)
@@ -137,7 +143,10 @@ public class ExportSchemaXmlCommand extends AbstractSchemaDataSourceCommand
 			final ReadDbObjectPredicate readerFilter = getMetadataReaderFilter();
 			List<DbObject> list;
 			reader.setReadDbObjectPredicate(readerFilter);
+			final MetadataReaderTimings timings = new MetadataReaderTimings();
+			reader.setTimings(timings);
 			list = readDbMetadataReader(connection, reader);
+			debug(timings);
 			list = getConvertHandler().handle(list);
 			for (final DbObject<?> object : list) {
 				object.applyAll(converter);
@@ -182,6 +191,11 @@ public class ExportSchemaXmlCommand extends AbstractSchemaDataSourceCommand
 		if (this.isOnlyCurrentSchema()) {
 			SimpleBeanUtils.setValue(reader, "schemaName", schemaName);
 		}
+		if (this.getParallelism() > 1) {
+			info("parallelism=", this.getParallelism());
+			reader.setDataSource(this.getDataSource());
+			reader.setParallelism(this.getParallelism());
+		}
 		return reader;
 	}
 
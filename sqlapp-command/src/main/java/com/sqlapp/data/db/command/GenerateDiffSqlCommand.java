@@ -20,8 +20,13 @@
 package com.sqlapp.data.db.command;
 
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 import com.sqlapp.data.db.command.properties.EqualsHandlerProperty;
+import com.sqlapp.data.db.command.properties.ParallelismProperty;
 import com.sqlapp.data.db.command.properties.SchemaOptionsProperty;
 import com.sqlapp.data.db.command.properties.SqlFactoryRegistryProperty;
 import com.sqlapp.data.db.sql.Options;
@@ -35,7 +40,11 @@ import com.sqlapp.data.schemas.DbObjectDifference;
 import com.sqlapp.data.schemas.DbObjectDifferenceCollection;
 import com.sqlapp.data.schemas.DefaultSchemaEqualsHandler;
 import com.sqlapp.data.schemas.EqualsHandler;
+import com.sqlapp.data.schemas.SchemaUtils;
 import com.sqlapp.data.schemas.State;
+import com.sqlapp.data.schemas.StructuralHashEqualsHandler;
+import com.sqlapp.data.schemas.properties.ISchemaProperty;
+import com.sqlapp.exceptions.CommandException;
 import com.sqlapp.util.CommonUtils;
 
 import lombok.Getter;
@@ -50,7 +59,7 @@ import lombok.Setter;
 @Getter
 @Setter
 public class GenerateDiffSqlCommand extends AbstractSqlGenerateCommand
-		implements SchemaOptionsProperty, EqualsHandlerProperty, SqlFactoryRegistryProperty {
+		implements SchemaOptionsProperty, EqualsHandlerProperty, SqlFactoryRegistryProperty, ParallelismProperty {
 	/**
 	 * Output originalFilePath
 	 */
@@ -68,42 +77,148 @@ public class GenerateDiffSqlCommand extends AbstractSqlGenerateCommand
 
 	private Options schemaOptions = new Options();
 
+	/**
+	 * 差分の比較とSQLの生成の並列数
+	 */
+	private int parallelism = 1;
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	@Override
 	protected void doRun() {
 		sqlOperations = CommonUtils.list();
-		if (this.getTarget() instanceof DbObject) {
-			final DbObject original = (DbObject) this.getOriginal();
-			final DbObject target = (DbObject) this.getTarget();
-			final DbObjectDifference difference = original.diff(target, getEqualsHandler());
-			final SqlFactoryRegistry sqlFactoryRegistry = getSqlFactoryRegistry(target);
-			if (this.getSchemaOptions() != null) {
-				sqlFactoryRegistry.setOptions(this.getSchemaOptions());
+		final StructuralHashEqualsHandler equalsHandler = StructuralHashEqualsHandler.wrap(getEqualsHandler());
+		ForkJoinPool forkJoinPool = null;
+		if (this.getParallelism() > 1) {
+			info("parallelism=", this.getParallelism());
+			forkJoinPool = new ForkJoinPool(this.getParallelism());
+		}
+		try {
+			if (forkJoinPool != null) {
+				computeHashes(forkJoinPool, equalsHandler, this.getOriginal(), this.getTarget());
 			}
-			final SqlFactory<?> sqlFactory = getSqlFactory(sqlFactoryRegistry, difference);
-			sqlOperations.addAll(sqlFactory.createDiffSql(difference));
-		} else {
-			final DbObjectCollection original = (DbObjectCollection) this.getOriginal();
-			final DbObjectCollection target = (DbObjectCollection) this.getTarget();
-			final DbObjectDifferenceCollection differences = original.diff(target, getEqualsHandler());
-			final SqlFactoryRegistry sqlFactoryRegistry = getSqlFactoryRegistry(target);
-			if (this.getSchemaOptions() != null) {
-				sqlFactoryRegistry.setOptions(this.getSchemaOptions());
+			final List<DbObjectDifference> differences = CommonUtils.list();
+			if (this.getTarget() instanceof DbObject) {
+				final DbObject original = (DbObject) this.getOriginal();
+				final DbObject target = (DbObject) this.getTarget();
+				differences.add(diff(forkJoinPool, () -> original.diff(target, equalsHandler)));
+			} else {
+				final DbObjectCollection original = (DbObjectCollection) this.getOriginal();
+				final DbObjectCollection target = (DbObjectCollection) this.getTarget();
+				final DbObjectDifferenceCollection differenceCollection = diff(forkJoinPool,
+						() -> original.diff(target, equalsHandler));
+				differences.addAll(differenceCollection.getList(State.Deleted));
+				differences.addAll(differenceCollection.getList(State.Added, State.Modified));
 			}
-			for (final DbObjectDifference difference : differences.getList(State.Deleted)) {
-				final SqlFactory<?> sqlFactory = getSqlFactory(sqlFactoryRegistry, difference);
-				sqlOperations.addAll(sqlFactory.createDiffSql(difference));
+			sqlOperations.addAll(createDiffSql(forkJoinPool, differences));
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CommandException(e);
+		} catch (final ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
 			}
-			for (final DbObjectDifference difference : differences.getList(State.Added, State.Modified)) {
-				final SqlFactory<?> sqlFactory = getSqlFactory(sqlFactoryRegistry, difference);
-				sqlOperations.addAll(sqlFactory.createDiffSql(difference));
+			throw new CommandException(e.getCause());
+		} finally {
+			if (forkJoinPool != null) {
+				forkJoinPool.shutdownNow();
 			}
 		}
 	}
 
-	private SqlFactory<?> getSqlFactory(final SqlFactoryRegistry sqlFactoryRegistry,
+	/**
+	 * 差分を計算します。ForkJoinPool内で計算した場合はスキーマ、テーブルごとに分割して並列に計算します。
+	 */
+	private <T> T diff(final ForkJoinPool forkJoinPool, final Supplier<T> diff)
+			throws InterruptedException, ExecutionException {
+		if (forkJoinPool == null) {
+			return diff.get();
+		}
+		return forkJoinPool.submit(() -> diff.get()).get();
+	}
+
+	/**
+	 * 差分ごとにSQLを生成します。並列に生成した場合も差分の順序で結合します。
+	 * SqlFactoryRegistryはスレッドセーフではないため、並列に生成する場合はワーカースレッドごとに作成します。
+	 * SqlFactoryRegistryが指定されている場合は呼び出し元のスレッドで生成します。
+	 */
+	private List<SqlOperation> createDiffSql(final ForkJoinPool forkJoinPool,
+			final List<DbObjectDifference> differences) throws InterruptedException, ExecutionException {
+		final List<SqlOperation> result = CommonUtils.list();
+		if (forkJoinPool == null || differences.size() < 2 || this.getSqlFactoryRegistry() != null) {
+			final SqlFactoryRegistry sqlFactoryRegistry = getSqlFactoryRegistry(this.getTarget());
+			for (final DbObjectDifference difference : differences) {
+				result.addAll(createDiffSql(sqlFactoryRegistry, difference));
+			}
+			return result;
+		}
+		final ThreadLocal<SqlFactoryRegistry> sqlFactoryRegistries = ThreadLocal
+				.withInitial(() -> getSqlFactoryRegistry(this.getTarget()));
+		final List<Future<List<SqlOperation>>> futures = CommonUtils.list();
+		for (final DbObjectDifference difference : differences) {
+			futures.add(forkJoinPool.submit(() -> createDiffSql(sqlFactoryRegistries.get(), difference)));
+		}
+		for (final Future<List<SqlOperation>> future : futures) {
+			result.addAll(future.get());
+		}
+		return result;
+	}
+
+	private List<SqlOperation> createDiffSql(final SqlFactoryRegistry sqlFactoryRegistry,
 			final DbObjectDifference difference) {
-		return sqlFactoryRegistry.getSqlFactory(difference);
+		final SqlFactory<?> sqlFactory = sqlFactoryRegistry.getSqlFactory(difference);
+		return sqlFactory.createDiffSql(difference);
+	}
+
+	/**
+	 * スキーマ、テーブル単位で構造ハッシュを並列に計算します。
+	 */
+	private void computeHashes(final ForkJoinPool forkJoinPool,
+			final StructuralHashEqualsHandler equalsHandler, final DbCommonObject<?>... objects)
+			throws InterruptedException, ExecutionException {
+		final List<DbCommonObject<?>> children = CommonUtils.list();
+		final List<DbCommonObject<?>> grandChildren = CommonUtils.list();
+		for (final DbCommonObject<?> obj : objects) {
+			for (final DbCommonObject<?> child : getChildren(obj)) {
+				children.add(child);
+				grandChildren.addAll(getChildren(child));
+			}
+		}
+		computeHashes(forkJoinPool, equalsHandler, grandChildren);
+		computeHashes(forkJoinPool, equalsHandler, children);
+	}
+
+	private void computeHashes(final ForkJoinPool forkJoinPool,
+			final StructuralHashEqualsHandler equalsHandler, final List<DbCommonObject<?>> objects)
+			throws InterruptedException, ExecutionException {
+		final List<Future<?>> futures = CommonUtils.list();
+		for (final DbCommonObject<?> obj : objects) {
+			futures.add(forkJoinPool.submit(() -> equalsHandler.getHash(obj)));
+		}
+		for (final Future<?> future : futures) {
+			future.get();
+		}
+	}
+
+	private List<DbCommonObject<?>> getChildren(final DbCommonObject<?> obj) {
+		final List<DbCommonObject<?>> result = CommonUtils.list();
+		if (obj instanceof DbObjectCollection) {
+			for (final Object child : (DbObjectCollection<?>) obj) {
+				result.add((DbCommonObject<?>) child);
+			}
+			return result;
+		}
+		if (obj == null) {
+			return result;
+		}
+		for (final ISchemaProperty prop : SchemaUtils.getAllSchemaProperties(obj.getClass())) {
+			final Object value = prop.getValue(obj);
+			if (value instanceof DbObjectCollection) {
+				for (final Object child : (DbObjectCollection<?>) value) {
+					result.add((DbCommonObject<?>) child);
+				}
+			}
+		}
+		return result;
 	}
 
 	/**
@@ -19,8 +19,24 @@
 
 package com.sqlapp.data.db.command;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.sql.Connection;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.sqlapp.data.db.command.properties.SqlTypeProperty;
 import com.sqlapp.data.db.dialect.Dialect;
@@ -30,14 +46,23 @@ import com.sqlapp.data.db.sql.SqlFactory;
 import com.sqlapp.data.db.sql.SqlFactoryRegistry;
 import com.sqlapp.data.db.sql.SqlOperation;
 import com.sqlapp.data.db.sql.SqlType;
+import com.sqlapp.data.parameter.ParametersContext;
 import com.sqlapp.data.schemas.Catalog;
+import com.sqlapp.data.schemas.Column;
 import com.sqlapp.data.schemas.DbCommonObject;
 import com.sqlapp.data.schemas.ExcludeFilterEqualsHandler;
+import com.sqlapp.data.schemas.ReferenceColumnCollection;
+import com.sqlapp.data.schemas.Row;
 import com.sqlapp.data.schemas.Schema;
 import com.sqlapp.data.schemas.SchemaProperties;
 import com.sqlapp.data.schemas.SchemaUtils;
 import com.sqlapp.data.schemas.Table;
+import com.sqlapp.data.schemas.UniqueConstraint;
 import com.sqlapp.data.schemas.properties.CatalogNameProperty;
+import com.sqlapp.data.schemas.rowiterator.JdbcDynamicRowIteratorHandler;
+import com.sqlapp.exceptions.CommandException;
+import com.sqlapp.jdbc.sql.JdbcBatchIterateHander;
+import com.sqlapp.jdbc.sql.node.SqlNode;
 import com.sqlapp.util.CommonUtils;
 import com.sqlapp.util.SimpleBeanUtils;
 
@@ -55,12 +80,27 @@ import lombok.Setter;
 public class SynchronizeDataCommand extends AbstractSynchronizeCommand implements SqlTypeProperty {
 
 	private SqlType sqlType = SqlType.MERGE;
+	/**
+	 * 差分のみ反映するか。trueの場合、DBのデータとキーで突き合わせて変更のあった行だけをINSERT/UPDATE/DELETEします。
+	 * 主キー、ユニークキーのないテーブルはsqlTypeで反映します。
+	 */
+	private boolean delta = false;
+	/**
+	 * 差分反映の結果
+	 */
+	private final List<DeltaSummary> deltaSummaries = CommonUtils.list();
 
 	public SynchronizeDataCommand() {
 		this.setEqualsHandler(new ExcludeFilterEqualsHandler(SchemaProperties.CREATED_AT.getLabel(),
 				SchemaProperties.LAST_ALTERED_AT.getLabel()));
 	}
 
+	@Override
+	protected void doRun() {
+		deltaSummaries.clear();
+		super.doRun();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -113,9 +153,342 @@ public class SynchronizeDataCommand extends AbstractSynchronizeCommand implement
 
 	protected void handle(final Table obj, final Connection connection, final SqlFactoryRegistry sqlFactoryRegistry)
 			throws Exception {
+		if (this.isDelta()) {
+			final UniqueConstraint key = getKeyConstraint(obj);
+			if (key != null) {
+				final DeltaSummary summary = handleDelta(obj, key, connection, sqlFactoryRegistry);
+				deltaSummaries.add(summary);
+				info(summary);
+				return;
+			}
+			info(obj.getName(), " has no unique key. ", sqlType, " is used.");
+		}
 		final SqlFactory<Table> sqlFactory = sqlFactoryRegistry.getSqlFactory(obj, sqlType);
 		final List<SqlOperation> sqls = sqlFactory.createSql(obj);
 		this.getSqlExecutor().execute(sqls);
 	}
 
+	private UniqueConstraint getKeyConstraint(final Table obj) {
+		final UniqueConstraint pk = obj.getPrimaryKeyConstraint();
+		if (pk != null) {
+			return pk;
+		}
+		return CommonUtils.first(obj.getConstraints().getUniqueConstraints());
+	}
+
+	/**
+	 * DBのデータを読み込みながらファイルの行とキーで突き合わせて、差分のある行だけを反映します。
+	 * ファイルの行はキーのハッシュ索引で検索するため、DB側の読み込み順は問いません。キーの値はDECIMALのスケール違いなどを同値とするため正規化して比較します。
+	 * DBにだけ存在する行はキーの値のみを保持し、バッチサイズを超えた分は一時ファイルに退避します。削除は同じ接続で開いたままのカーソルに影響しないよう、読み込みを閉じてから行います。
+	 * 
+	 * @param obj                ファイルから読み込んだテーブル
+	 * @param key                突き合わせに使用するキー
+	 * @param connection         Connection
+	 * @param sqlFactoryRegistry SqlFactoryRegistry
+	 * @return 差分反映の結果
+	 */
+	protected DeltaSummary handleDelta(final Table obj, final UniqueConstraint key, final Connection connection,
+			final SqlFactoryRegistry sqlFactoryRegistry) throws Exception {
+		final DeltaSummary summary = new DeltaSummary(obj.getName());
+		final ReferenceColumnCollection keyColumns = key.getColumns();
+		final String[] keyNames = new String[keyColumns.size()];
+		for (int i = 0; i < keyNames.length; i++) {
+			keyNames[i] = keyColumns.get(i).getName();
+		}
+		final Map<List<Object>, Row> sourceIndex = CommonUtils.map(obj.getRows().size() * 4 / 3 + 1);
+		for (final Row row : obj.getRows()) {
+			sourceIndex.putIfAbsent(createKey(row, keyNames), row);
+		}
+		final Set<Row> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+		final List<Row> updateRows = CommonUtils.list();
+		final int batchSize = sqlFactoryRegistry.getTableOptions().getDmlBatchSize().apply(obj);
+		final Table target = createTargetTable(obj);
+		final JdbcDynamicRowIteratorHandler rowIteratorHandler = new JdbcDynamicRowIteratorHandler(connection);
+		target.setRowIteratorHandler(rowIteratorHandler);
+		try (final DeleteKeyBuffer deleteKeys = new DeleteKeyBuffer(keyNames.length, batchSize)) {
+			final Iterator<Row> itr = target.getRows().iterator();
+			try {
+				while (itr.hasNext()) {
+					final Row targetRow = itr.next();
+					final Row sourceRow = sourceIndex.get(createKey(targetRow, keyNames));
+					if (sourceRow == null) {
+						final Object[] keyValues = new Object[keyNames.length];
+						for (int i = 0; i < keyNames.length; i++) {
+							keyValues[i] = targetRow.get(keyNames[i]);
+						}
+						deleteKeys.add(keyValues);
+					} else if (matched.add(sourceRow)) {
+						if (rowEquals(obj, sourceRow, targetRow)) {
+							summary.unchanged++;
+						} else {
+							updateRows.add(sourceRow);
+						}
+					}
+				}
+			} finally {
+				if (itr instanceof AutoCloseable) {
+					((AutoCloseable) itr).close();
+				}
+			}
+			summary.deleted = executeDelete(obj, target, keyNames, deleteKeys, connection, sqlFactoryRegistry);
+		}
+		final List<Row> insertRows = CommonUtils.list();
+		for (final Row row : obj.getRows()) {
+			if (!matched.contains(row)) {
+				insertRows.add(row);
+			}
+		}
+		summary.updated = executeRows(obj, SqlType.UPDATE, updateRows, connection, sqlFactoryRegistry);
+		summary.inserted = executeRows(obj, SqlType.INSERT, insertRows, connection, sqlFactoryRegistry);
+		return summary;
+	}
+
+	private Table createTargetTable(final Table obj) {
+		final Table target = new Table(obj.getName());
+		target.setCatalogName(obj.getCatalogName());
+		target.setSchemaName(obj.getSchemaName());
+		for (final Column column : obj.getColumns()) {
+			target.getColumns().add(column.clone());
+		}
+		return target;
+	}
+
+	private List<Object> createKey(final Row row, final String[] keyNames) {
+		final List<Object> key = CommonUtils.list(keyNames.length);
+		for (final String keyName : keyNames) {
+			key.add(normalizeKeyValue(row.get(keyName)));
+		}
+		return key;
+	}
+
+	/**
+	 * valueEqualsで同値となる値が同じキーになるように正規化します
+	 */
+	private Object normalizeKeyValue(final Object value) {
+		if (value instanceof BigDecimal) {
+			final BigDecimal dec = (BigDecimal) value;
+			return dec.signum() == 0 ? BigDecimal.ZERO : dec.stripTrailingZeros();
+		}
+		if (value instanceof byte[]) {
+			return ByteBuffer.wrap((byte[]) value);
+		}
+		return value;
+	}
+
+	private long executeDelete(final Table obj, final Table target, final String[] keyNames,
+			final DeleteKeyBuffer deleteKeys, final Connection connection,
+			final SqlFactoryRegistry sqlFactoryRegistry) throws Exception {
+		if (deleteKeys.isEmpty()) {
+			return 0;
+		}
+		long deleted = 0;
+		try (final JdbcBatchIterateHander handler = createBatchHandler(obj, SqlType.DELETE, sqlFactoryRegistry)) {
+			final List<Row> rows = CommonUtils.list(deleteKeys.getBatchSize());
+			final Iterator<Object[]> itr = deleteKeys.iterator();
+			while (itr.hasNext()) {
+				final Object[] keyValues = itr.next();
+				final Row row = target.newRow();
+				for (int i = 0; i < keyNames.length; i++) {
+					row.put(keyNames[i], keyValues[i]);
+				}
+				rows.add(row);
+				if (rows.size() >= deleteKeys.getBatchSize()) {
+					deleted += handler.execute(connection, rows);
+					rows.clear();
+				}
+			}
+			if (!rows.isEmpty()) {
+				deleted += handler.execute(connection, rows);
+			}
+		}
+		return deleted;
+	}
+
+	private boolean rowEquals(final Table obj, final Row sourceRow, final Row targetRow) {
+		for (final Column column : obj.getColumns()) {
+			if (!valueEquals(sourceRow.get(column), targetRow.get(column.getName()))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean valueEquals(final Object value1, final Object value2) {
+		if (CommonUtils.eq(value1, value2)) {
+			return true;
+		}
+		if (value1 instanceof BigDecimal && value2 instanceof BigDecimal) {
+			return ((BigDecimal) value1).compareTo((BigDecimal) value2) == 0;
+		}
+		if (value1 instanceof byte[] && value2 instanceof byte[]) {
+			return Arrays.equals((byte[]) value1, (byte[]) value2);
+		}
+		return false;
+	}
+
+	private long executeRows(final Table obj, final SqlType sqlType, final List<Row> rows,
+			final Connection connection, final SqlFactoryRegistry sqlFactoryRegistry) throws Exception {
+		if (rows.isEmpty()) {
+			return 0;
+		}
+		try (final JdbcBatchIterateHander handler = createBatchHandler(obj, sqlType, sqlFactoryRegistry)) {
+			return handler.execute(connection, rows);
+		}
+	}
+
+	private JdbcBatchIterateHander createBatchHandler(final Table obj, final SqlType sqlType,
+			final SqlFactoryRegistry sqlFactoryRegistry) throws Exception {
+		final List<SqlNode> sqlNodes = sqlFactoryRegistry.createSqlNodes(obj, sqlType);
+		final int batchSize = sqlFactoryRegistry.getTableOptions().getDmlBatchSize().apply(obj);
+		final JdbcBatchIterateHander handler = new JdbcBatchIterateHander(sqlNodes, batchSize, Integer.MAX_VALUE);
+		// コミットはコマンドのトランザクションで行う
+		handler.setCommitHandler(null);
+		handler.setValueConverter(r -> {
+			final Row row = (Row) r;
+			final ParametersContext context = new ParametersContext();
+			for (final Column column : row.getTable().getColumns()) {
+				context.put(column.getName(), row.get(column));
+			}
+			return context;
+		});
+		return handler;
+	}
+
+	/**
+	 * 削除する行のキーの値のバッファ。バッチサイズを超えた分は一時ファイルに退避します。
+	 */
+	static class DeleteKeyBuffer implements AutoCloseable {
+		private final int keySize;
+		@Getter
+		private final int batchSize;
+		private final List<Object[]> buffer;
+		private File spillFile;
+		private ObjectOutputStream spillOutput;
+		private ObjectInputStream spillInput;
+		private long spilled = 0;
+
+		DeleteKeyBuffer(final int keySize, final int batchSize) {
+			this.keySize = keySize;
+			this.batchSize = Math.max(1, batchSize);
+			this.buffer = CommonUtils.list(this.batchSize);
+		}
+
+		void add(final Object[] keyValues) throws IOException {
+			buffer.add(keyValues);
+			if (buffer.size() >= batchSize) {
+				spill();
+			}
+		}
+
+		private void spill() throws IOException {
+			if (spillOutput == null) {
+				spillFile = File.createTempFile("delta", ".tmp");
+				spillOutput = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(spillFile)));
+			}
+			for (final Object[] keyValues : buffer) {
+				for (final Object value : keyValues) {
+					spillOutput.writeObject(value);
+				}
+			}
+			// 書き込んだオブジェクトの参照を保持し続けないようにリセットする
+			spillOutput.reset();
+			spilled += buffer.size();
+			buffer.clear();
+		}
+
+		boolean isEmpty() {
+			return spilled == 0 && buffer.isEmpty();
+		}
+
+		File getSpillFile() {
+			return spillFile;
+		}
+
+		/**
+		 * 退避した分、バッファの分の順にキーの値を返します。呼び出し後は追加できません。
+		 */
+		Iterator<Object[]> iterator() throws IOException {
+			if (spillOutput != null) {
+				spillOutput.close();
+				spillOutput = null;
+			}
+			if (spillFile != null) {
+				spillInput = new ObjectInputStream(new BufferedInputStream(new FileInputStream(spillFile)));
+			}
+			return new Iterator<Object[]>() {
+				private long read = 0;
+				private int index = 0;
+
+				@Override
+				public boolean hasNext() {
+					return read < spilled || index < buffer.size();
+				}
+
+				@Override
+				public Object[] next() {
+					if (read < spilled) {
+						final Object[] keyValues = new Object[keySize];
+						try {
+							for (int i = 0; i < keySize; i++) {
+								keyValues[i] = spillInput.readObject();
+							}
+							read++;
+						} catch (final IOException | ClassNotFoundException e) {
+							throw new CommandException(e.getMessage(), e);
+						}
+						return keyValues;
+					}
+					return buffer.get(index++);
+				}
+			};
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				if (spillOutput != null) {
+					spillOutput.close();
+					spillOutput = null;
+				}
+				if (spillInput != null) {
+					spillInput.close();
+					spillInput = null;
+				}
+			} finally {
+				if (spillFile != null) {
+					spillFile.delete();
+					spillFile = null;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 差分反映の結果
+	 */
+	@Getter
+	public static class DeltaSummary {
+		private final String tableName;
+		private long inserted;
+		private long updated;
+		private long deleted;
+		private long unchanged;
+
+		DeltaSummary(final String tableName) {
+			this.tableName = tableName;
+		}
+
+		/**
+		 * @return 変更した行数
+		 */
+		public long getChanged() {
+			return inserted + updated + deleted;
+		}
+
+		@Override
+		public String toString() {
+			return tableName + " delta synchronized. inserted=" + inserted + ", updated=" + updated + ", deleted="
+					+ deleted + ", unchanged=" + unchanged;
+		}
+	}
 }
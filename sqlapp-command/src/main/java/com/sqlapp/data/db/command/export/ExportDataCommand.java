@@ -25,11 +25,21 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import javax.xml.stream.XMLStreamException;
@@ -37,6 +47,7 @@ import javax.xml.stream.XMLStreamException;
 import org.apache.poi.EncryptedDocumentException;
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.CreationHelper;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
@@ -46,18 +57,22 @@ import com.sqlapp.data.db.command.properties.ConvertersProperty;
 import com.sqlapp.data.db.command.properties.FetchSizeProperty;
 import com.sqlapp.data.db.command.properties.OutputDirectoryProperty;
 import com.sqlapp.data.db.command.properties.OutputFileTypeProperty;
+import com.sqlapp.data.db.command.properties.ParallelismProperty;
 import com.sqlapp.data.db.command.properties.SheetNameProperty;
 import com.sqlapp.data.db.dialect.Dialect;
 import com.sqlapp.data.db.metadata.SchemaReader;
+import com.sqlapp.data.db.sql.TableOptions;
 import com.sqlapp.data.schemas.Column;
 import com.sqlapp.data.schemas.Row;
 import com.sqlapp.data.schemas.Schema;
 import com.sqlapp.data.schemas.Synonym;
 import com.sqlapp.data.schemas.Table;
 import com.sqlapp.data.schemas.TableNameRowCollectionFilter;
+import com.sqlapp.data.schemas.function.TableSqlBuilder;
 import com.sqlapp.data.schemas.rowiterator.DataFormat;
 import com.sqlapp.data.schemas.rowiterator.ExcelUtils;
 import com.sqlapp.data.schemas.rowiterator.JdbcDynamicRowIteratorHandler;
+import com.sqlapp.util.AbstractSqlBuilder;
 import com.sqlapp.util.CommonUtils;
 import com.sqlapp.util.DoubleKeyMap;
 import com.sqlapp.util.FileUtils;
@@ -76,7 +91,7 @@ import lombok.Setter;
 @Getter
 @Setter
 public class ExportDataCommand extends AbstractExportCommand implements OutputFileTypeProperty, OutputDirectoryProperty,
-		SheetNameProperty, ConvertersProperty, FetchSizeProperty {
+		SheetNameProperty, ConvertersProperty, FetchSizeProperty, ParallelismProperty {
 	/**
 	 * Output Directory
 	 */
@@ -91,6 +106,45 @@ public class ExportDataCommand extends AbstractExportCommand implements OutputFi
 	private int fetchSize = 10000;
 
 	private Converters converters = new Converters();
+	/**
+	 * Number of tables exported concurrently. Each table uses its own connection
+	 * from the DataSource when greater than 1.
+	 */
+	private int parallelism = 1;
+	/**
+	 * Reads rows in a repeatable read transaction where the database supports it.
+	 */
+	private boolean consistentSnapshot = false;
+	/**
+	 * Number of key ranges a table is split into. Each range is written to its
+	 * own part file when greater than 1. Tables and parts share one executor, so
+	 * at most max(parallelism, splitCount) connections read concurrently.
+	 * Splitting is disabled when consistentSnapshot is enabled, because the parts
+	 * would be read in separate transactions.
+	 */
+	private int splitCount = 1;
+	/**
+	 * Numeric column used for the key ranges. The first primary key column is
+	 * used when not specified.
+	 */
+	private String splitColumn = null;
+	/**
+	 * Writes Excel files through a streaming workbook with bounded memory.
+	 */
+	private boolean streamingExcel = false;
+	/**
+	 * Number of rows kept in memory by the streaming workbook.
+	 */
+	private int excelRowAccessWindowSize = 100;
+	/**
+	 * Compresses the temporary files of the streaming workbook.
+	 */
+	private boolean compressTempFiles = true;
+	/**
+	 * Uses the shared strings table in the streaming workbook. Keeping it off
+	 * avoids holding every distinct string in memory.
+	 */
+	private boolean useSharedStringsTable = false;
 
 	/*
 	 * (non-Javadoc)
@@ -115,85 +169,406 @@ public class ExportDataCommand extends AbstractExportCommand implements OutputFi
 				FileUtils.createParentDirectory(this.getOutputDirectory());
 				this.getOutputDirectory().mkdir();
 			}
-			final DoubleKeyMap<String, String, Table> execTables = CommonUtils.doubleKeyMap();
-			for (Map.Entry<String, Schema> entry : schemaMap.entrySet()) {
-				String k = entry.getKey();
-				Schema v = entry.getValue();
-				File targetDirectory = null;
-				if (this.isUseSchemaNameDirectory()) {
-					final File file = new File(this.getOutputDirectory(), k);
-					if (!file.exists()) {
-						file.mkdirs();
-						file.mkdir();
+			final List<ExportTarget> targets = getExportTargets(schemaMap, rowIteratorHandler);
+			if (this.isConsistentSnapshot() && this.getSplitCount() > 1) {
+				info("splitCount is ignored because consistentSnapshot reads each table in a single transaction.");
+			}
+			final long start = System.currentTimeMillis();
+			final long rows;
+			final List<Column> splitColumns = getSplitColumns(targets);
+			if ((this.getParallelism() > 1 && targets.size() > 1) || splitColumns.stream().anyMatch(c -> c != null)) {
+				info("parallelism=", this.getParallelism());
+				rows = writeTablesParallel(targets, splitColumns, connection);
+			} else {
+				final int isolation = connection.getTransactionIsolation();
+				try {
+					beginConsistentSnapshot(connection);
+					long total = 0;
+					for (final ExportTarget target : targets) {
+						total += writeTableWithLog(target.directory(), target.table(), connection, rowIteratorHandler);
 					}
-					targetDirectory = file;
-				} else {
-					targetDirectory = this.getOutputDirectory();
+					rows = total;
+				} finally {
+					endConsistentSnapshot(connection, isolation);
 				}
-				for (final Table t : v.getTables()) {
-					writeTableWithLog(targetDirectory, t, rowIteratorHandler, execTables);
+			}
+			final long end = System.currentTimeMillis();
+			info(MESSAGE_SEPARATOR_START, "Export completed. tables=", targets.size(), ", rows=", rows, " [",
+					(end - start), " ms, ", rowsPerSecond(rows, end - start), " rows/sec].", MESSAGE_SEPARATOR_END);
+		});
+	}
+
+	/**
+	 * Collects the export targets. Tables referenced by synonyms are exported
+	 * only once.
+	 */
+	private List<ExportTarget> getExportTargets(final Map<String, Schema> schemaMap,
+			final JdbcDynamicRowIteratorHandler rowIterator) {
+		final List<ExportTarget> targets = CommonUtils.list();
+		final DoubleKeyMap<String, String, Table> execTables = CommonUtils.doubleKeyMap();
+		for (Map.Entry<String, Schema> entry : schemaMap.entrySet()) {
+			String k = entry.getKey();
+			Schema v = entry.getValue();
+			File targetDirectory = null;
+			if (this.isUseSchemaNameDirectory()) {
+				final File file = new File(this.getOutputDirectory(), k);
+				if (!file.exists()) {
+					file.mkdirs();
+					file.mkdir();
 				}
-				for (final Synonym s : v.getSynonyms()) {
-					final Table table = s.rootSynonym().getTable();
-					if (table == null) {
-						continue;
-					}
-					if (execTables.containsKey(table.getSchemaName(), table.getName())) {
-						continue;
-					}
-					writeTableWithLog(targetDirectory, table, rowIteratorHandler, execTables);
+				targetDirectory = file;
+			} else {
+				targetDirectory = this.getOutputDirectory();
+			}
+			for (final Table t : v.getTables()) {
+				addExportTarget(targets, targetDirectory, t, rowIterator, execTables);
+			}
+			for (final Synonym s : v.getSynonyms()) {
+				final Table table = s.rootSynonym().getTable();
+				if (table == null) {
+					continue;
 				}
+				if (execTables.containsKey(table.getSchemaName(), table.getName())) {
+					continue;
+				}
+				addExportTarget(targets, targetDirectory, table, rowIterator, execTables);
 			}
-		});
+		}
+		return targets;
 	}
 
-	private void writeTableWithLog(File targetDirectory, final Table t, final JdbcDynamicRowIteratorHandler rowIterator,
-			final DoubleKeyMap<String, String, Table> execTables) throws Exception {
+	private void addExportTarget(final List<ExportTarget> targets, final File targetDirectory, final Table t,
+			final JdbcDynamicRowIteratorHandler rowIterator, final DoubleKeyMap<String, String, Table> execTables) {
 		if (!rowIterator.getFilter().test(t.getRows())) {
 			info(MESSAGE_SEPARATOR_START, t.getName(), " Export skipped.", MESSAGE_SEPARATOR_END);
 			return;
 		}
+		targets.add(new ExportTarget(targetDirectory, t));
+		execTables.put(t.getSchemaName(), t.getName(), t);
+	}
+
+	/**
+	 * Returns the split column of each target, or null for a target exported
+	 * as a single file.
+	 */
+	private List<Column> getSplitColumns(final List<ExportTarget> targets) {
+		final List<Column> result = CommonUtils.list();
+		for (final ExportTarget target : targets) {
+			result.add(getSplitColumn(target.table()));
+		}
+		return result;
+	}
+
+	/**
+	 * Exports the tables concurrently. Whole tables and the key ranges of split
+	 * tables are submitted to one executor, and each task reads through its own
+	 * connection borrowed from the DataSource. The number of threads, and so the
+	 * number of connections, is max(parallelism, splitCount).
+	 */
+	private long writeTablesParallel(final List<ExportTarget> targets, final List<Column> splitColumns,
+			final Connection connection) throws Exception {
+		final List<List<ExportPart>> partsList = CommonUtils.list();
+		int taskCount = 0;
+		boolean split = false;
+		for (int i = 0; i < targets.size(); i++) {
+			final Column splitColumn = splitColumns.get(i);
+			if (splitColumn == null) {
+				partsList.add(null);
+				taskCount++;
+				continue;
+			}
+			final List<ExportPart> parts = getExportParts(targets.get(i).table(), connection, splitColumn);
+			partsList.add(parts);
+			taskCount += parts.size();
+			split = true;
+		}
+		int threads = this.getParallelism();
+		if (split) {
+			threads = Math.max(threads, this.getSplitCount());
+		}
+		final ExecutorService executorService = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, taskCount)));
+		try {
+			final List<List<Future<Long>>> futuresList = CommonUtils.list();
+			final long[] startTimes = new long[targets.size()];
+			for (int i = 0; i < targets.size(); i++) {
+				final ExportTarget target = targets.get(i);
+				final List<ExportPart> parts = partsList.get(i);
+				final List<Future<Long>> futures = CommonUtils.list();
+				if (parts == null) {
+					futures.add(executorService.submit(() -> writeTableWithConnection(target)));
+				} else {
+					info(MESSAGE_SEPARATOR_START, target.table().getName(), " Export start. start=[",
+							LocalDateTime.now(), "]. splitColumn=[", splitColumns.get(i).getName(), "].",
+							MESSAGE_SEPARATOR_END);
+					startTimes[i] = System.currentTimeMillis();
+					for (final ExportPart part : parts) {
+						futures.add(
+								executorService.submit(() -> writeTablePart(target.directory(), target.table(), part)));
+					}
+				}
+				futuresList.add(futures);
+			}
+			long total = 0;
+			for (int i = 0; i < targets.size(); i++) {
+				final ExportTarget target = targets.get(i);
+				final List<ExportPart> parts = partsList.get(i);
+				final List<Future<Long>> futures = futuresList.get(i);
+				if (parts == null) {
+					total += futures.get(0).get();
+					continue;
+				}
+				long ret = 0;
+				for (int j = 0; j < parts.size(); j++) {
+					parts.get(j).setRows(futures.get(j).get());
+					ret += parts.get(j).getRows();
+				}
+				writeManifest(target.directory(), target.table(), splitColumns.get(i), parts);
+				final long time = System.currentTimeMillis() - startTimes[i];
+				info(MESSAGE_SEPARATOR_START, target.table().getName(), " ", ret, " rows export completed. parts=",
+						parts.size(), ". end=[", LocalDateTime.now(), "]. [", time, " ms, ", rowsPerSecond(ret, time),
+						" rows/sec].", MESSAGE_SEPARATOR_END);
+				total += ret;
+			}
+			return total;
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private long writeTableWithConnection(final ExportTarget target) {
+		final long[] rows = new long[1];
+		executeNoTran(getDataSource(), connection -> {
+			final boolean autoCommit = connection.getAutoCommit();
+			final int isolation = connection.getTransactionIsolation();
+			try {
+				connection.setAutoCommit(false);
+				beginConsistentSnapshot(connection);
+				final JdbcDynamicRowIteratorHandler rowIteratorHandler = getRowIteratorHandler(connection);
+				target.table().setRowIteratorHandler(rowIteratorHandler);
+				rows[0] = writeTableWithLog(target.directory(), target.table(), connection, rowIteratorHandler);
+			} finally {
+				connection.rollback();
+				connection.setTransactionIsolation(isolation);
+				connection.setAutoCommit(autoCommit);
+			}
+		});
+		return rows[0];
+	}
+
+	/**
+	 * Starts a snapshot transaction when consistentSnapshot is enabled and the
+	 * database supports a repeatable isolation level.
+	 */
+	private void beginConsistentSnapshot(final Connection connection) throws SQLException {
+		if (!this.isConsistentSnapshot()) {
+			return;
+		}
+		final DatabaseMetaData metaData = connection.getMetaData();
+		final int level;
+		if (metaData.supportsTransactionIsolationLevel(Connection.TRANSACTION_REPEATABLE_READ)) {
+			level = Connection.TRANSACTION_REPEATABLE_READ;
+		} else if (metaData.supportsTransactionIsolationLevel(Connection.TRANSACTION_SERIALIZABLE)) {
+			level = Connection.TRANSACTION_SERIALIZABLE;
+		} else {
+			info("consistentSnapshot is not supported. product=", metaData.getDatabaseProductName());
+			return;
+		}
+		if (!connection.getAutoCommit()) {
+			connection.commit();
+		}
+		connection.setTransactionIsolation(level);
+	}
+
+	/**
+	 * Restores the isolation level changed by beginConsistentSnapshot, so the
+	 * connection is not returned to the pool with a different isolation level.
+	 */
+	private void endConsistentSnapshot(final Connection connection, final int isolation) throws SQLException {
+		if (connection.getTransactionIsolation() == isolation) {
+			return;
+		}
+		if (!connection.getAutoCommit()) {
+			connection.commit();
+		}
+		connection.setTransactionIsolation(isolation);
+	}
+
+	private long writeTableWithLog(File targetDirectory, final Table t, final Connection connection,
+			final JdbcDynamicRowIteratorHandler rowIterator) throws Exception {
 		final LocalDateTime startLocalTime = LocalDateTime.now();
 		long start = System.currentTimeMillis();
 		info(MESSAGE_SEPARATOR_START, t.getName(), " Export start. start=[", startLocalTime, "].",
 				MESSAGE_SEPARATOR_END);
-		long ret = writeTable(targetDirectory, t.getName(), t, this.getOutputFileType());
+		long ret = writeTable(targetDirectory, t.getName(), t, t.getRows(), this.getOutputFileType());
 		String sql;
 		sql = rowIterator.getResultSetIterator() != null ? rowIterator.getResultSetIterator().getSql() : "";
 		info(sql);
 		long end = System.currentTimeMillis();
 		final LocalDateTime endLocalTime = LocalDateTime.now();
 		info(MESSAGE_SEPARATOR_START, t.getName(), " ", ret, " rows export completed. end=[", endLocalTime, "]. [",
-				(end - start), " ms].", MESSAGE_SEPARATOR_END);
-		execTables.put(t.getSchemaName(), t.getName(), t);
+				(end - start), " ms, ", rowsPerSecond(ret, end - start), " rows/sec].", MESSAGE_SEPARATOR_END);
+		return ret;
+	}
+
+	/**
+	 * Returns the column used to split the table into key ranges, or null when
+	 * the table is exported as a single file.
+	 */
+	private Column getSplitColumn(final Table t) {
+		if (this.getSplitCount() <= 1 || this.getOutputFileType().isXml() || this.isConsistentSnapshot()) {
+			return null;
+		}
+		Column column = null;
+		if (this.getSplitColumn() != null) {
+			column = t.getColumns().get(this.getSplitColumn());
+		} else if (t.getPrimaryKeyConstraint() != null && !t.getPrimaryKeyConstraint().getColumns().isEmpty()) {
+			column = t.getColumns().get(t.getPrimaryKeyConstraint().getColumns().get(0).getName());
+		}
+		if (column == null || column.getDataType() == null || !column.getDataType().isNumeric()) {
+			return null;
+		}
+		return column;
+	}
+
+	/**
+	 * Probes MIN/MAX of the split column and divides the range into
+	 * splitCount parts. The first and the last part are open ended, so rows
+	 * outside the probed range and NULL keys are still exported.
+	 */
+	private List<ExportPart> getExportParts(final Table t, final Connection connection, final Column splitColumn)
+			throws SQLException {
+		final AbstractSqlBuilder<?> builder = this.getDialect(connection).createSqlBuilder();
+		builder.select().space()._add("MIN(").name(splitColumn)._add(")").comma()._add("MAX(").name(splitColumn)
+				._add(")");
+		builder.from().space().name(t, true);
+		BigDecimal min = null;
+		BigDecimal max = null;
+		try (Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery(builder.toString())) {
+			if (resultSet.next()) {
+				min = resultSet.getBigDecimal(1);
+				max = resultSet.getBigDecimal(2);
+			}
+		}
+		final List<BigDecimal> boundaries = CommonUtils.list();
+		if (min != null && max != null) {
+			final BigDecimal range = max.subtract(min);
+			for (int i = 1; i < this.getSplitCount(); i++) {
+				BigDecimal boundary = min.add(range.multiply(BigDecimal.valueOf(i))
+						.divide(BigDecimal.valueOf(this.getSplitCount()), MathContext.DECIMAL64));
+				if (min.scale() <= 0 && max.scale() <= 0) {
+					boundary = boundary.setScale(0, RoundingMode.FLOOR);
+				}
+				if (boundary.compareTo(min) <= 0) {
+					continue;
+				}
+				if (!boundaries.isEmpty() && boundary.compareTo(CommonUtils.last(boundaries)) <= 0) {
+					continue;
+				}
+				boundaries.add(boundary);
+			}
+		}
+		final List<ExportPart> parts = CommonUtils.list();
+		for (int i = 0; i <= boundaries.size(); i++) {
+			final BigDecimal lower = i == 0 ? null : boundaries.get(i - 1);
+			final BigDecimal upper = i == boundaries.size() ? null : boundaries.get(i);
+			parts.add(new ExportPart(t.getName() + ".part-" + String.format("%04d", i + 1), splitColumn, lower, upper));
+		}
+		return parts;
+	}
+
+	private long writeTablePart(final File targetDirectory, final Table t, final ExportPart part) {
+		final long[] rows = new long[1];
+		executeNoTran(getDataSource(), connection -> {
+			final boolean autoCommit = connection.getAutoCommit();
+			final int isolation = connection.getTransactionIsolation();
+			try {
+				connection.setAutoCommit(false);
+				beginConsistentSnapshot(connection);
+				final JdbcDynamicRowIteratorHandler rowIteratorHandler = getRowIteratorHandler(connection);
+				final TableOptions tableOptions = rowIteratorHandler.getTableOptions().clone();
+				final TableSqlBuilder<AbstractSqlBuilder<?>> condition = tableOptions.getSelectAllCondition();
+				tableOptions.setSelectAllCondition((table, builder) -> {
+					if (condition != null) {
+						condition.accept(table, builder);
+					}
+					part.addCondition(builder);
+					builder.lineBreak().orderBy().space().name(part.getColumn());
+				});
+				rowIteratorHandler.setTableOptions(tableOptions);
+				rows[0] = writeTable(targetDirectory, part.getFileName(), t,
+						() -> rowIteratorHandler.iterator(t.getRows()), this.getOutputFileType());
+				debug(rowIteratorHandler.getResultSetIterator() != null
+						? rowIteratorHandler.getResultSetIterator().getSql()
+						: "");
+			} finally {
+				connection.rollback();
+				connection.setTransactionIsolation(isolation);
+				connection.setAutoCommit(autoCommit);
+			}
+		});
+		return rows[0];
+	}
+
+	private void writeManifest(final File directory, final Table t, final Column splitColumn,
+			final List<ExportPart> parts) throws IOException {
+		final Map<String, Object> manifest = CommonUtils.linkedMap();
+		manifest.put("schemaName", t.getSchemaName());
+		manifest.put("tableName", t.getName());
+		manifest.put("splitColumn", splitColumn.getName());
+		final List<Map<String, Object>> list = CommonUtils.list();
+		for (final ExportPart part : parts) {
+			final Map<String, Object> map = CommonUtils.linkedMap();
+			map.put("file", part.getFileName() + "." + this.getOutputFileType().getFileExtension());
+			map.put("lower", part.getLower() != null ? part.getLower().toPlainString() : null);
+			map.put("upper", part.getUpper() != null ? part.getUpper().toPlainString() : null);
+			map.put("rows", part.getRows());
+			list.add(map);
+		}
+		manifest.put("parts", list);
+		final File file = new File(directory, t.getName() + ".manifest.json");
+		try (FileOutputStream fos = new FileOutputStream(file);
+				OutputStreamWriter writer = new OutputStreamWriter(fos, "UTF8");
+				BufferedWriter bw = new BufferedWriter(writer);) {
+			bw.write(getJsonConverter().toJsonString(manifest));
+		}
+	}
+
+	private static long rowsPerSecond(final long rows, final long millis) {
+		if (millis <= 0) {
+			return rows * 1000;
+		}
+		return rows * 1000 / millis;
 	}
 
 	private long writeTable(final File directory, final String filename, final Table table,
-			final DataFormat workbookFileType) throws Exception {
+			final Iterable<Row> rows, final DataFormat workbookFileType) throws Exception {
 		if (this.getOutputFileType().isTextFile()) {
 			if (this.getOutputFileType().isCsv()) {
-				return writeTableAsCsv(directory, filename, table, this.getOutputFileType());
+				return writeTableAsCsv(directory, filename, table, rows, this.getOutputFileType());
 			} else if (this.getOutputFileType().isXml()) {
 				return writeTableAsXml(directory, filename, table, this.getOutputFileType());
 			} else if (this.getOutputFileType().isJson()) {
-				return writeTableAsJson(directory, filename, table, this.getOutputFileType());
+				return writeTableAsJson(directory, filename, table, rows, this.getOutputFileType());
 			} else if (this.getOutputFileType().isJsonl()) {
-				return writeTableAsJsonl(directory, filename, table, this.getOutputFileType());
+				return writeTableAsJsonl(directory, filename, table, rows, this.getOutputFileType());
 			} else if (this.getOutputFileType().isToml()) {
-				return writeTableAsToml(directory, filename, table, this.getOutputFileType());
+				return writeTableAsToml(directory, filename, table, rows, this.getOutputFileType());
 			} else if (this.getOutputFileType().isYaml()) {
-				return writeTableAsYaml(directory, filename, table, this.getOutputFileType());
+				return writeTableAsYaml(directory, filename, table, rows, this.getOutputFileType());
 			} else {
 				return 0;
 			}
+		} else if (this.isStreamingExcel()) {
+			return writeTableAsStreamingExcel(directory, filename, table, rows, this.getOutputFileType());
 		} else {
-			return writeTableAsExcel(directory, filename, table, this.getOutputFileType());
+			return writeTableAsExcel(directory, filename, table, rows, this.getOutputFileType());
 		}
 	}
 
 	@SuppressWarnings("unchecked")
 	private long writeTableAsCsv(final File directory, final String filename, final Table table,
-			final DataFormat workbookFileType) throws Exception {
+			final Iterable<Row> rows, final DataFormat workbookFileType) throws Exception {
 		final File file = new File(directory, filename + "." + workbookFileType.getFileExtension());
 		long counter = 0;
 		try (FileOutputStream fos = new FileOutputStream(file);
@@ -203,7 +578,7 @@ public class ExportDataCommand extends AbstractExportCommand implements OutputFi
 			final List<String> headers = table.getColumns().stream().map(c -> c.getName()).collect(Collectors.toList());
 			csvWriter.writeHeader(headers.toArray(new String[0]));
 			final String[] values = new String[table.getColumns().size()];
-			for (final Row row : table.getRows()) {
+			for (final Row row : rows) {
 				int i = 0;
 				for (final Column column : table.getColumns()) {
 					final Object value = row.get(column);
@@ -223,7 +598,7 @@ public class ExportDataCommand extends AbstractExportCommand implements OutputFi
 	}
 
 	private long writeTableAsJson(final File directory, final String filename, final Table table,
-			final DataFormat workbookFileType) throws IOException, XMLStreamException {
+			final Iterable<Row> rows, final DataFormat workbookFileType) throws IOException, XMLStreamException {
 		final File file = new File(directory, filename + "." + workbookFileType.getFileExtension());
 		long counter = 0;
 		try (FileOutputStream fos = new FileOutputStream(file);
@@ -231,7 +606,7 @@ public class ExportDataCommand extends AbstractExportCommand implements OutputFi
 				BufferedWriter bw = new BufferedWriter(writer);) {
 			bw.write("[");
 			boolean first = true;
-			for (final Row row : table.getRows()) {
+			for (final Row row : rows) {
 				final String text = getJsonConverter().toJsonString(row.getValuesAsMapWithoutNullValue());
 				if (!first) {
 					bw.write(",\n");
@@ -251,7 +626,7 @@ public class ExportDataCommand extends AbstractExportCommand implements OutputFi
 	}
 
 	private long writeTableAsJsonl(final File directory, final String filename, final Table table,
-			final DataFormat workbookFileType) throws IOException, XMLStreamException {
+			final Iterable<Row> rows, final DataFormat workbookFileType) throws IOException, XMLStreamException {
 		final File file = new File(directory, filename + "." + workbookFileType.getFileExtension());
 		final JsonConverter converter = getJsonConverter().clone();
 		converter.setIndentOutput(false);
@@ -260,7 +635,7 @@ public class ExportDataCommand extends AbstractExportCommand implements OutputFi
 				OutputStreamWriter writer = new OutputStreamWriter(fos, "UTF8");
 				BufferedWriter bw = new BufferedWriter(writer);) {
 			boolean first = true;
-			for (final Row row : table.getRows()) {
+			for (final Row row : rows) {
 				final String text = getJsonConverter().toJsonString(row.getValuesAsMapWithoutNullValue());
 				if (!first) {
 					bw.write("\n");
@@ -275,13 +650,13 @@ public class ExportDataCommand extends AbstractExportCommand implements OutputFi
 	}
 
 	private long writeTableAsToml(final File directory, final String filename, final Table table,
-			final DataFormat workbookFileType) throws IOException, XMLStreamException {
+			final Iterable<Row> rows, final DataFormat workbookFileType) throws IOException, XMLStreamException {
 		final File file = new File(directory, filename + "." + workbookFileType.getFileExtension());
 		long counter = 0;
 		try (FileOutputStream fos = new FileOutputStream(file);
 				OutputStreamWriter writer = new OutputStreamWriter(fos, "UTF8");
 				BufferedWriter bw = new BufferedWriter(writer);) {
-			for (final Row row : table.getRows()) {
+			for (final Row row : rows) {
 				final String text = getTomlConverter().toJsonString(row.getValuesAsMapWithoutNullValue());
 				bw.write(text);
 				counter++;
@@ -291,14 +666,14 @@ public class ExportDataCommand extends AbstractExportCommand implements OutputFi
 	}
 
 	private long writeTableAsYaml(final File directory, final String filename, final Table table,
-			final DataFormat workbookFileType) throws IOException, XMLStreamException {
+			final Iterable<Row> rows, final DataFormat workbookFileType) throws IOException, XMLStreamException {
 		final File file = new File(directory, filename + "." + workbookFileType.getFileExtension());
 		long counter = 0;
 		try (FileOutputStream fos = new FileOutputStream(file);
 				OutputStreamWriter writer = new OutputStreamWriter(fos, "UTF8");
 				BufferedWriter bw = new BufferedWriter(writer);) {
 			bw.write("---");
-			for (final Row row : table.getRows()) {
+			for (final Row row : rows) {
 				final String text = getYamlConverter().toJsonString(row.getValuesAsMapWithoutNullValue());
 				String[] args = text.split("\n");
 				for (int i = 1; i < args.length; i++) {
@@ -317,7 +692,7 @@ public class ExportDataCommand extends AbstractExportCommand implements OutputFi
 	}
 
 	private long writeTableAsExcel(final File directory, final String fileName, final Table table,
-			final DataFormat workbookFileType)
+			final Iterable<Row> rows, final DataFormat workbookFileType)
 			throws FileNotFoundException, IOException, EncryptedDocumentException, InvalidFormatException {
 		final File file = new File(directory, fileName + "." + workbookFileType.getFileExtension());
 		long counter = 0;
@@ -337,7 +712,7 @@ public class ExportDataCommand extends AbstractExportCommand implements OutputFi
 				final Cell cell = ExcelUtils.getOrCreateCell(headerRow, cellnum++);
 				ExcelUtils.setCell(converters, workbook, cell, column.getName());
 			}
-			for (final Row row : table.getRows()) {
+			for (final Row row : rows) {
 				final org.apache.poi.ss.usermodel.Row dataRow = ExcelUtils.getOrCreateRow(sheet, rownum++);
 				cellnum = 0;
 				for (final Column column : table.getColumns()) {
@@ -364,6 +739,76 @@ public class ExportDataCommand extends AbstractExportCommand implements OutputFi
 		return counter;
 	}
 
+	/**
+	 * Writes rows through a streaming workbook. Only excelRowAccessWindowSize
+	 * rows are kept in memory and a new sheet is started when the row limit of
+	 * the format is reached.
+	 */
+	private long writeTableAsStreamingExcel(final File directory, final String fileName, final Table table,
+			final Iterable<Row> rows, final DataFormat workbookFileType) throws IOException {
+		final File file = new File(directory, fileName + "." + workbookFileType.getFileExtension());
+		if (file.exists()) {
+			file.delete();
+		}
+		final int maxRows = workbookFileType.getSpreadsheetVersion() != null
+				? workbookFileType.getSpreadsheetVersion().getMaxRows()
+				: Integer.MAX_VALUE;
+		long counter = 0;
+		final Workbook workbook = workbookFileType.createStreamingWorkbook(this.getExcelRowAccessWindowSize(),
+				this.isCompressTempFiles(), this.isUseSharedStringsTable());
+		try {
+			final CellStyle dateCellStyle = ExcelUtils.createDateCellStyle(workbook);
+			Sheet sheet = createStreamingSheet(workbook, table);
+			int rownum = 1;
+			for (final Row row : rows) {
+				if (rownum >= maxRows) {
+					sheet = createStreamingSheet(workbook, table);
+					rownum = 1;
+				}
+				final org.apache.poi.ss.usermodel.Row dataRow = sheet.createRow(rownum++);
+				int cellnum = 0;
+				for (final Column column : table.getColumns()) {
+					final Object obj = row.get(column);
+					if (obj != null) {
+						final Cell cell = dataRow.createCell(cellnum);
+						ExcelUtils.setCell(converters, cell, obj, dateCellStyle);
+					}
+					cellnum++;
+				}
+				counter++;
+			}
+			ExcelUtils.writeWorkbook(workbook, file);
+		} finally {
+			ExcelUtils.closeWorkbook(workbook);
+		}
+		return counter;
+	}
+
+	/**
+	 * Creates a sheet with the header row. The column widths are derived from
+	 * the column definitions, because auto sizing needs every row in memory.
+	 */
+	private Sheet createStreamingSheet(final Workbook workbook, final Table table) {
+		final String name = workbook.getNumberOfSheets() == 0 ? this.getSheetName()
+				: this.getSheetName() + "_" + (workbook.getNumberOfSheets() + 1);
+		final Sheet sheet = workbook.createSheet(name);
+		final CreationHelper helper = workbook.getCreationHelper();
+		final org.apache.poi.ss.usermodel.Row headerRow = sheet.createRow(0);
+		int cellnum = 0;
+		for (final Column column : table.getColumns()) {
+			final Cell cell = headerRow.createCell(cellnum);
+			ExcelUtils.setCell(converters, workbook, cell, column.getName());
+			if (column.getRemarks() != null) {
+				ExcelUtils.setComment(helper, cell, column.getRemarks());
+			}
+			final int width = column.getDataType() != null ? ExcelUtils.getCellWidth(column)
+					: ExcelUtils.getCellWidth(column.getName());
+			sheet.setColumnWidth(cellnum, Math.min(width + 2, 255) * 256);
+			cellnum++;
+		}
+		return sheet;
+	}
+
 	private Workbook createWorkbook(DataFormat workbookFileType, File file)
 			throws EncryptedDocumentException, InvalidFormatException, IOException {
 		if (file.exists()) {
@@ -383,4 +828,41 @@ public class ExportDataCommand extends AbstractExportCommand implements OutputFi
 		return rowIteratorHandler;
 	}
 
+	private record ExportTarget(File directory, Table table) {
+	}
+
+	/**
+	 * Key range of a split table
+	 */
+	@Getter
+	private static class ExportPart {
+		private final String fileName;
+		private final Column column;
+		private final BigDecimal lower;
+		private final BigDecimal upper;
+		@Setter
+		private long rows;
+
+		ExportPart(final String fileName, final Column column, final BigDecimal lower, final BigDecimal upper) {
+			this.fileName = fileName;
+			this.column = column;
+			this.lower = lower;
+			this.upper = upper;
+		}
+
+		void addCondition(final AbstractSqlBuilder<?> builder) {
+			if (lower != null) {
+				builder.lineBreak().and().name(column).gte().space()._add(lower.toPlainString());
+			}
+			if (upper != null) {
+				builder.lineBreak().and().brackets(() -> {
+					builder.name(column).lt().space()._add(upper.toPlainString());
+					if (lower == null) {
+						builder.or().name(column).is().null_();
+					}
+				});
+			}
+		}
+	}
+
 }
@@ -25,9 +25,13 @@ import java.io.IOException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -71,10 +75,13 @@ import com.sqlapp.data.schemas.rowiterator.TomlRowIteratorHandler;
 import com.sqlapp.data.schemas.rowiterator.XmlRowIteratorHandler;
 import com.sqlapp.data.schemas.rowiterator.YamlRowIteratorHandler;
 import com.sqlapp.exceptions.InvalidValueException;
+import com.sqlapp.iterable.VirtualThreadIterable;
+import com.sqlapp.jdbc.sql.BatchExecResult;
 import com.sqlapp.jdbc.sql.CommitCountHolder;
 import com.sqlapp.jdbc.sql.GeneratedKeyInfo;
 import com.sqlapp.jdbc.sql.JdbcBatchIterateHander;
 import com.sqlapp.jdbc.sql.JdbcHandler;
+import com.sqlapp.jdbc.sql.PreparedStatementCache;
 import com.sqlapp.jdbc.sql.SqlConverter;
 import com.sqlapp.jdbc.sql.node.SqlNode;
 import com.sqlapp.util.CommonUtils;
@@ -113,8 +120,27 @@ public class ImportDataCommand extends AbstractExportCommand
 	private int csvSkipHeaderRowsSize = 1;
 
 	private int excelSkipHeaderRowsSize = 1;
+	/** read xlsx files with the SAX streaming reader */
+	private boolean excelStreaming = false;
+	/**
+	 * execute row based sql types(INSERT_ROWS, MERGE_ROWS) as batches of one
+	 * prepared statement per table
+	 */
+	private boolean preparedBatch = false;
+	/**
+	 * run file parsing, value conversion and batch execution as a pipeline of
+	 * bounded queues
+	 */
+	private boolean pipelined = false;
+	/** queue size of each pipeline stage */
+	private int pipelineQueueSize = 1000;
 
 	private RowValueConverter rowValueConverter;
+	/**
+	 * PreparedStatement cache of the running import. Statements are closed at
+	 * the table commits.
+	 */
+	private PreparedStatementCache statementCache;
 
 	public ImportDataCommand() {
 		this.setDmlBatchSize(500);
@@ -156,30 +182,40 @@ public class ImportDataCommand extends AbstractExportCommand
 				tfs.addAll(sorted);
 			}
 			connection.setAutoCommit(false);
-			final CommitCountHolder commitCountHandler = new CommitCountHolder(queryCommitInterval,
-					conn -> commit(conn));
-			for (final TableFilesPair tf : tfs) {
-				final LocalDateTime startLocalTime = LocalDateTime.now();
-				long start = System.currentTimeMillis();
-				this.info("target=" + tf);
-				info(MESSAGE_SEPARATOR_START, tf.getTable().getName(), " Import start. start=[", startLocalTime, "].",
-						MESSAGE_SEPARATOR_END);
-				long ret;
-				if (this.getTableOptions().getCommitPerTable().test(tf.getTable())) {
-					ret = executeImport(connection, dialect, tf.getTable(), tf.getFiles());
-					commitCountHandler.commit(connection);
-				} else {
-					ret = executeImport(connection, dialect, tf.getTable(), tf.getFiles());
-				}
-				long end = System.currentTimeMillis();
-				final LocalDateTime endLocalTime = LocalDateTime.now();
-				info(MESSAGE_SEPARATOR_START, tf.getTable().getName(), " ", ret, " rows import completed. end=[",
-						endLocalTime, "]. [", (end - start), " ms].", MESSAGE_SEPARATOR_END);
+			try (PreparedStatementCache cache = new PreparedStatementCache(connection)) {
+				this.statementCache = cache;
+				importTables(connection, dialect, tfs);
+			} finally {
+				this.statementCache = null;
 			}
-			commitCountHandler.finalCommit(connection);
 		});
 	}
 
+	private void importTables(final Connection connection, final Dialect dialect, final List<TableFilesPair> tfs)
+			throws Exception {
+		final CommitCountHolder commitCountHandler = new CommitCountHolder(queryCommitInterval,
+				conn -> statementCache.commit(conn, c -> commit(c)));
+		for (final TableFilesPair tf : tfs) {
+			final LocalDateTime startLocalTime = LocalDateTime.now();
+			long start = System.currentTimeMillis();
+			this.info("target=" + tf);
+			info(MESSAGE_SEPARATOR_START, tf.getTable().getName(), " Import start. start=[", startLocalTime, "].",
+					MESSAGE_SEPARATOR_END);
+			long ret;
+			if (this.getTableOptions().getCommitPerTable().test(tf.getTable())) {
+				ret = executeImport(connection, dialect, tf.getTable(), tf.getFiles());
+				commitCountHandler.commit(connection);
+			} else {
+				ret = executeImport(connection, dialect, tf.getTable(), tf.getFiles());
+			}
+			long end = System.currentTimeMillis();
+			final LocalDateTime endLocalTime = LocalDateTime.now();
+			info(MESSAGE_SEPARATOR_START, tf.getTable().getName(), " ", ret, " rows import completed. end=[",
+					endLocalTime, "]. [", (end - start), " ms].", MESSAGE_SEPARATOR_END);
+		}
+		commitCountHandler.finalCommit(connection);
+	}
+
 	private TableFileReader createTableFileReader() {
 		final TableFileReader tableFileReader = new TableFileReader();
 		tableFileReader.setContext(this.getContext());
@@ -200,12 +236,32 @@ public class ImportDataCommand extends AbstractExportCommand
 			final List<File> files)
 			throws SQLException, EncryptedDocumentException, InvalidFormatException, IOException, XMLStreamException {
 		if (this.getSqlType().supportRows()) {
+			final SqlType preparedSqlType = getPreparedBatchSqlType();
+			if (preparedSqlType != null) {
+				return applyFromFileByTable(connection, dialect, table, files, preparedSqlType);
+			}
 			return applyFromFileByRow(connection, dialect, table, files);
 		} else {
 			return applyFromFileByTable(connection, dialect, table, files);
 		}
 	}
 
+	/**
+	 * 行単位のSQLタイプを1テーブル1つのPreparedStatementで実行する場合のSQLタイプを返します。
+	 * 
+	 * @return 代替のSQLタイプ。バッチ実行しない場合はnull
+	 */
+	protected SqlType getPreparedBatchSqlType() {
+		if (!this.isPreparedBatch()) {
+			return null;
+		}
+		final SqlType[] surrogates = this.getSqlType().getSurrogates();
+		if (surrogates.length != 1) {
+			return null;
+		}
+		return surrogates[0];
+	}
+
 	protected long applyFromFileByRow(final Connection connection, final Dialect dialect, final Table table,
 			final List<File> files)
 			throws EncryptedDocumentException, InvalidFormatException, IOException, XMLStreamException, SQLException {
@@ -242,8 +298,9 @@ public class ImportDataCommand extends AbstractExportCommand
 					context.putAll(this.getContext());
 					context.putAll(convert(sqlConverter, row, table.getColumns()));
 					for (final SqlOperation operation : operations) {
-						final SqlNode sqlNode = sqlConverter.parseSql(dialect, context, operation.getSqlText());
+						final SqlNode sqlNode = sqlConverter.parseGeneratedSql(dialect, context, operation.getSqlText());
 						final JdbcHandler jdbcHandler = new JdbcHandler(sqlNode);
+						jdbcHandler.setStatementCache(statementCache);
 						jdbcHandler.execute(connection, context);
 						commitCountHandler.commit(connection);
 					}
@@ -259,8 +316,9 @@ public class ImportDataCommand extends AbstractExportCommand
 			final ParametersContext context = new ParametersContext();
 			context.putAll(this.getContext());
 			for (final SqlOperation operation : operations) {
-				final SqlNode sqlNode = sqlConverter.parseSql(dialect, context, operation.getSqlText());
+				final SqlNode sqlNode = sqlConverter.parseGeneratedSql(dialect, context, operation.getSqlText());
 				final JdbcHandler jdbcHandler = new JdbcHandler(sqlNode);
+				jdbcHandler.setStatementCache(statementCache);
 				jdbcHandler.execute(connection, context);
 				commitCountHandler.commit(connection);
 			}
@@ -282,8 +340,15 @@ public class ImportDataCommand extends AbstractExportCommand
 	protected long applyFromFileByTable(final Connection connection, final Dialect dialect, final Table table,
 			final List<File> files)
 			throws EncryptedDocumentException, InvalidFormatException, IOException, XMLStreamException, SQLException {
+		return applyFromFileByTable(connection, dialect, table, files, this.getSqlType());
+	}
+
+	protected long applyFromFileByTable(final Connection connection, final Dialect dialect, final Table table,
+			final List<File> files, final SqlType sqlType)
+			throws EncryptedDocumentException, InvalidFormatException, IOException, XMLStreamException, SQLException {
 		final SqlFactoryRegistry sqlFactoryRegistry = dialect.createSqlFactoryRegistry();
-		final SqlFactory<Table> factory = sqlFactoryRegistry.getSqlFactory(table, this.getSqlType());
+		sqlFactoryRegistry.setTableOptions(this.getTableOptions());
+		final SqlFactory<Table> factory = sqlFactoryRegistry.getSqlFactory(table, sqlType);
 		final List<SqlOperation> operations = factory.createSql(table);
 		final SqlConverter sqlConverter = getSqlConverter();
 		final List<SqlNode> sqlNodes = operations.stream().map(c -> {
@@ -308,9 +373,12 @@ public class ImportDataCommand extends AbstractExportCommand
 			}
 			readFiles(table, targets);
 		}
-		try {
-			final JdbcBatchIterateHander handler = new JdbcBatchIterateHander(sqlNodes,
-					this.getTableOptions().getDmlBatchSize().apply(table), this.getQueryCommitInterval());
+		try (final JdbcBatchIterateHander handler = new JdbcBatchIterateHander(sqlNodes,
+				this.getTableOptions().getDmlBatchSize().apply(table), this.getQueryCommitInterval())) {
+			handler.setStatementCache(statementCache);
+			if (this.isPipelined() && hasFixedColumnTypes(table)) {
+				return executePipelined(connection, table, sqlConverter, handler);
+			}
 			handler.setValueConverter(r -> {
 				final ParametersContext context = new ParametersContext();
 				context.putAll(this.getContext());
@@ -318,14 +386,7 @@ public class ImportDataCommand extends AbstractExportCommand
 				return context;
 			});
 			handler.setBatchUpdateResultHandler(result -> {
-				// INSERTで生成されたキーを反映する
-				final int max = result.getGeneratedKeys().size();
-				for (int i = 0; i < max; i++) {
-					final GeneratedKeyInfo gk = result.getGeneratedKeys().get(i);
-					final Row row = (Row) result.getValues().get(i).value();
-					Column column = table.getColumns().get(gk.getColumnName());
-					row.put(column, gk.getValue());
-				}
+				setGeneratedKeys(table, result, r -> (Row) r);
 			});
 			return handler.execute(connection, table.getRows());
 		} finally {
@@ -333,6 +394,167 @@ public class ImportDataCommand extends AbstractExportCommand
 		}
 	}
 
+	/**
+	 * INSERTで生成されたキーを反映します
+	 */
+	private void setGeneratedKeys(final Table table, final BatchExecResult result,
+			final Function<Object, Row> rowGetter) {
+		final int max = result.getGeneratedKeys().size();
+		for (int i = 0; i < max; i++) {
+			final GeneratedKeyInfo gk = result.getGeneratedKeys().get(i);
+			final Row row = rowGetter.apply(result.getValues().get(i).value());
+			final Column column = table.getColumns().get(gk.getColumnName());
+			row.put(column, gk.getValue());
+		}
+	}
+
+	/**
+	 * 全てのカラムの型が決まっているかを判定します。
+	 * 型が決まっていないカラムはファイルの読み込み中に型が推定されて変更されるため、パイプラインで実行できません。
+	 */
+	private boolean hasFixedColumnTypes(final Table table) {
+		for (final Column column : table.getColumns()) {
+			if (column.getDataType() == null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * ファイルの読み込み、値の変換、バッチ実行をそれぞれ別スレッドのステージとして実行します。
+	 * ステージ間は上限付きのキューでつながっているため、DBが遅い場合は読み込みが待機します。
+	 * DBへのアクセスは呼び出し元のスレッドで行います。
+	 * カラムはステージ間で共有するため、型が決まっている必要があります。
+	 */
+	protected long executePipelined(final Connection connection, final Table table, final SqlConverter sqlConverter,
+			final JdbcBatchIterateHander handler) throws SQLException {
+		// 各ステージから参照するConverterはステージの開始前に作成しておく
+		for (final Column column : table.getColumns()) {
+			column.getConverter();
+		}
+		final PipelineStage parseStage = new PipelineStage("parse");
+		final PipelineStage convertStage = new PipelineStage("convert");
+		final PipelineStage writeStage = new PipelineStage("write");
+		final int queueSize = this.getPipelineQueueSize();
+		final VirtualThreadIterable<Row> parsed = new VirtualThreadIterable<>(output -> {
+			final Iterator<Row> itr = table.getRows().iterator();
+			try {
+				while (true) {
+					final long start = System.nanoTime();
+					if (!itr.hasNext()) {
+						parseStage.add(0, System.nanoTime() - start);
+						break;
+					}
+					final Row row = itr.next();
+					parseStage.add(1, System.nanoTime() - start);
+					output.accept(row);
+				}
+			} finally {
+				close(itr);
+			}
+		}, () -> {
+		}, queueSize);
+		final VirtualThreadIterable<ConvertedRow> converted = new VirtualThreadIterable<>(output -> {
+			final Iterator<Row> itr = parsed.iterator();
+			try {
+				while (itr.hasNext()) {
+					final Row row = itr.next();
+					final long start = System.nanoTime();
+					final ParametersContext context = new ParametersContext();
+					context.putAll(this.getContext());
+					context.putAll(convert(sqlConverter, row, table.getColumns()));
+					convertStage.add(1, System.nanoTime() - start);
+					output.accept(new ConvertedRow(row, context));
+				}
+			} finally {
+				close(itr);
+			}
+		}, () -> {
+		}, queueSize);
+		handler.setValueConverter(r -> ((ConvertedRow) r).context());
+		handler.setBatchUpdateResultHandler(result -> {
+			setGeneratedKeys(table, result, r -> ((ConvertedRow) r).row());
+		});
+		final Iterator<ConvertedRow> itr = converted.iterator();
+		final long[] waitNanos = new long[1];
+		final Iterator<ConvertedRow> timed = new Iterator<ConvertedRow>() {
+			@Override
+			public boolean hasNext() {
+				final long start = System.nanoTime();
+				try {
+					return itr.hasNext();
+				} finally {
+					waitNanos[0] += System.nanoTime() - start;
+				}
+			}
+
+			@Override
+			public ConvertedRow next() {
+				return itr.next();
+			}
+		};
+		final long start = System.nanoTime();
+		try {
+			final long count = handler.execute(connection, () -> timed);
+			writeStage.add(count, System.nanoTime() - start - waitNanos[0]);
+			return count;
+		} finally {
+			// 実行が失敗した場合も変換、読み込みのスレッドを停止して終了を待つ
+			close(itr);
+			info(table.getName(), " pipeline ", parseStage, ", ", convertStage, ", ", writeStage, ". elapsed=[",
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), " ms].");
+		}
+	}
+
+	private void close(final Iterator<?> itr) {
+		if (itr instanceof AutoCloseable) {
+			try {
+				((AutoCloseable) itr).close();
+			} catch (final Exception e) {
+			}
+		}
+	}
+
+	private static record ConvertedRow(Row row, ParametersContext context) {
+	}
+
+	/**
+	 * パイプラインのステージごとの処理件数と処理時間
+	 */
+	static class PipelineStage {
+		private final String name;
+		private final AtomicLong count = new AtomicLong();
+		private final AtomicLong nanos = new AtomicLong();
+
+		PipelineStage(final String name) {
+			this.name = name;
+		}
+
+		void add(final long rows, final long elapsedNanos) {
+			count.addAndGet(rows);
+			nanos.addAndGet(elapsedNanos);
+		}
+
+		long getCount() {
+			return count.get();
+		}
+
+		long getRowsPerSecond() {
+			final long value = nanos.get();
+			if (value <= 0) {
+				return 0;
+			}
+			return count.get() * TimeUnit.SECONDS.toNanos(1) / value;
+		}
+
+		@Override
+		public String toString() {
+			return name + "=" + count.get() + " rows [" + TimeUnit.NANOSECONDS.toMillis(nanos.get()) + " ms, "
+					+ getRowsPerSecond() + " rows/sec]";
+		}
+	}
+
 	private Map<String, Object> convert(final SqlConverter sqlConverter, final Row row,
 			final ColumnCollection columns) {
 		final Map<String, Object> ret = CommonUtils.map();
@@ -404,7 +626,10 @@ public class ImportDataCommand extends AbstractExportCommand
 				return new JsonRowIteratorHandler(file, this.getJsonConverter(), createRowValueConverter());
 			}
 		} else {
-			return new ExcelRowIteratorHandler(file, this.getExcelSkipHeaderRowsSize(), createRowValueConverter());
+			final ExcelRowIteratorHandler handler = new ExcelRowIteratorHandler(file,
+					this.getExcelSkipHeaderRowsSize(), createRowValueConverter());
+			handler.setStreaming(this.isExcelStreaming());
+			return handler;
 		}
 	}
 
@@ -0,0 +1,219 @@
+/**
+ * Copyright (C) 2007-2025 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-command.
+ *
+ * sqlapp-command is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-command is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-command.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+
+
+package com.sqlapp.data.db.command.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.sqlapp.data.db.metadata.TableReader;
+import com.sqlapp.data.parameter.ParametersContext;
+import com.sqlapp.data.schemas.Catalog;
+import com.sqlapp.data.schemas.Schema;
+import com.sqlapp.data.schemas.SchemaUtils;
+import com.sqlapp.data.schemas.Table;
+import com.sqlapp.util.CommonUtils;
+import com.sqlapp.util.DoubleKeyMap;
+import com.sqlapp.util.MessageDigests;
+
+/**
+ * テーブルのメタデータのスナップショットをディレクトリに保存し、実行をまたいで再利用します。
+ * 
+ * スナップショットはJDBC URL、ユーザー名、対象のカタログ名とスキーマ名毎に保存されます。読み込み時は最小限のメタデータで各テーブルの作成日時と最終更新日時を比較し、
+ * 変化が無いテーブルはスナップショットを使用して、それ以外のテーブルのみをDBから読み込みます。最終更新日時がDDLによる変更日時でないDB({@link TableReader#isDdlTimestampSupported()}がfalse)
+ * や最終更新日時を取得できないテーブル、最終更新日時に反映されないメタデータ(SQL Serverのコメントやトリガーなど)を持つテーブルでは、常にDBから読み込みます。
+ */
+public class MetadataSnapshotCache {
+
+	private static final Logger logger = LogManager.getLogger(MetadataSnapshotCache.class);
+
+	private final File directory;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param directory スナップショットを保存するディレクトリ
+	 */
+	public MetadataSnapshotCache(final File directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * @return スナップショットを保存するディレクトリ
+	 */
+	public File getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * スナップショットのファイルを取得します
+	 * 
+	 * @param connection   コネクション
+	 * @param catalogNames 対象のカタログ名
+	 * @param schemaNames  対象のスキーマ名
+	 * @return スナップショットのファイル(接続情報を取得できない場合はnull)
+	 */
+	public File getSnapshotFile(final Connection connection, final Set<String> catalogNames,
+			final Set<String> schemaNames) {
+		try {
+			final DatabaseMetaData metaData = connection.getMetaData();
+			final String key = MessageDigests.toHex(MessageDigests.SHA256.checksum(metaData.getURL(),
+					metaData.getUserName(), String.join(",", catalogNames), String.join(",", schemaNames)));
+			return new File(directory, "metadata-" + key + ".xml");
+		} catch (final SQLException e) {
+			logger.warn(e.getMessage(), e);
+			return null;
+		}
+	}
+
+	/**
+	 * スナップショットを使用してテーブルを読み込みます。
+	 * 
+	 * @param connection  コネクション
+	 * @param tableReader テーブル読み込み
+	 * @param context     パラメタコンテキスト
+	 * @param file        スナップショットのファイル
+	 * @return テーブル
+	 */
+	public List<Table> getTables(final Connection connection, final TableReader tableReader,
+			final ParametersContext context, final File file) {
+		if (!tableReader.isDdlTimestampSupported()) {
+			return tableReader.getAllFull(connection, context);
+		}
+		final DoubleKeyMap<String, String, Table> cachedMap = load(file);
+		if (cachedMap.size() == 0) {
+			return tableReader.getAllFull(connection, context);
+		}
+		final List<Table> currents = tableReader.getAll(connection, context.clone());
+		final DoubleKeyMap<String, String, Table> untrackedMap = tableReader.getUntrackedTables(connection,
+				context.clone());
+		final List<Table> result = CommonUtils.list(currents.size());
+		final DoubleKeyMap<String, String, Table> refreshTables = CommonUtils.doubleKeyMap();
+		final Set<String> refreshNames = CommonUtils.linkedSet();
+		for (final Table current : currents) {
+			final Table cached = cachedMap.get(current.getSchemaName(), current.getName());
+			if (isUnchanged(current, cached) && !untrackedMap.containsKey(current.getSchemaName(), current.getName())
+					&& !tableReader.hasUntrackedMetadata(cached)) {
+				cached.setDialect(current.getDialect());
+				result.add(cached);
+			} else {
+				refreshTables.put(current.getSchemaName(), current.getName(), current);
+				refreshNames.add(current.getName());
+				result.add(current);
+			}
+		}
+		if (refreshTables.size() == 0) {
+			return result;
+		}
+		if (refreshTables.size() == currents.size()) {
+			return tableReader.getAllFull(connection, context);
+		}
+		logger.debug("refresh tables=" + refreshNames);
+		// 名前で絞り込んで読み込み、スキーマ名とテーブル名で対象のテーブルのみを使用する
+		final DoubleKeyMap<String, String, Table> refreshMap = CommonUtils.doubleKeyMap();
+		for (final Table table : tableReader.getAllFull(connection, context, refreshNames)) {
+			refreshMap.put(table.getSchemaName(), table.getName(), table);
+		}
+		final List<Table> tables = CommonUtils.list(result.size());
+		for (final Table table : result) {
+			if (refreshTables.containsKey(table.getSchemaName(), table.getName())) {
+				final Table refreshed = refreshMap.get(table.getSchemaName(), table.getName());
+				if (refreshed != null) {
+					tables.add(refreshed);
+				}
+			} else {
+				tables.add(table);
+			}
+		}
+		return tables;
+	}
+
+	/**
+	 * スナップショットを保存します。保存に失敗した場合は、次回の実行でDBから読み込みます。
+	 * 
+	 * @param file    スナップショットのファイル
+	 * @param catalog カタログ
+	 */
+	public void save(final File file, final Catalog catalog) {
+		try {
+			Files.createDirectories(directory.toPath());
+			final File temp = File.createTempFile("metadata", ".tmp", directory);
+			try {
+				catalog.writeXml(temp);
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				Files.deleteIfExists(temp.toPath());
+			}
+		} catch (final Exception e) {
+			logger.warn("Failed to save metadata snapshot. file=" + file, e);
+		}
+	}
+
+	private DoubleKeyMap<String, String, Table> load(final File file) {
+		final DoubleKeyMap<String, String, Table> result = CommonUtils.doubleKeyMap();
+		if (!file.exists()) {
+			return result;
+		}
+		try {
+			final Catalog catalog = SchemaUtils.readXml(file);
+			if (catalog == null) {
+				return result;
+			}
+			for (final Schema schema : catalog.getSchemas()) {
+				for (final Table table : schema.getTables()) {
+					result.put(table.getSchemaName(), table.getName(), table);
+				}
+			}
+		} catch (final IOException | RuntimeException e) {
+			logger.warn("Failed to load metadata snapshot. file=" + file, e);
+			result.clear();
+		}
+		return result;
+	}
+
+	private boolean isUnchanged(final Table current, final Table cached) {
+		if (cached == null) {
+			return false;
+		}
+		if (current.getLastAlteredAt() == null) {
+			return false;
+		}
+		return equals(current.getLastAlteredAt(), cached.getLastAlteredAt())
+				&& equals(current.getCreatedAt(), cached.getCreatedAt());
+	}
+
+	private boolean equals(final Timestamp value1, final Timestamp value2) {
+		if (value1 == null || value2 == null) {
+			return value1 == value2;
+		}
+		return value1.getTime() == value2.getTime();
+	}
+}
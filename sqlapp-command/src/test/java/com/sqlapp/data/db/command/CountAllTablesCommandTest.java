@@ -19,6 +19,9 @@
 
 package com.sqlapp.data.db.command;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
 import java.io.IOException;
 import java.sql.SQLException;
 import java.text.ParseException;
@@ -28,6 +31,7 @@ import javax.sql.DataSource;
 import org.junit.jupiter.api.Test;
 
 import com.sqlapp.data.db.command.test.AbstractDbCommandTest;
+import com.sqlapp.data.schemas.Row;
 import com.zaxxer.hikari.HikariDataSource;
 
 public class CountAllTablesCommandTest extends AbstractDbCommandTest {
@@ -50,4 +54,74 @@ public class CountAllTablesCommandTest extends AbstractDbCommandTest {
 			ds.close();
 		}
 	}
+
+	@Test
+	public void testRunParallel() throws ParseException, IOException, SQLException {
+		HikariDataSource ds = newInternalDataSource();
+		try {
+			final CountAllTablesCommand command = new CountAllTablesCommand();
+			final DataSource dataSource = newDataSource();
+			command.setIncludeSchemas("PUBLIC");
+			command.setDataSource(dataSource);
+			command.setOnlyCurrentSchema(false);
+			command.setParallelism(4);
+			this.dropTables(ds, "TAB1", "TAB2");
+			String sql = this.getResource("create_table1.sql");
+			this.executeSql(ds, sql);
+			this.executeSql(ds, "CREATE TABLE TAB2 (ID INT PRIMARY KEY)");
+			insertRows(ds, "TAB1", "INTEGER_COL", 3);
+			insertRows(ds, "TAB2", "ID", 5);
+			command.run();
+			assertCount(command, "TAB1", 3, CountAllTablesCommand.METHOD_COUNT);
+			assertCount(command, "TAB2", 5, CountAllTablesCommand.METHOD_COUNT);
+		} finally {
+			ds.close();
+		}
+	}
+
+	@Test
+	public void testRunEstimate() throws ParseException, IOException, SQLException {
+		HikariDataSource ds = newInternalDataSource();
+		try {
+			final CountAllTablesCommand command = new CountAllTablesCommand();
+			final DataSource dataSource = newDataSource();
+			command.setIncludeSchemas("PUBLIC");
+			command.setDataSource(dataSource);
+			command.setOnlyCurrentSchema(false);
+			command.setOutputFormatType(OutputFormatType.TABLE);
+			command.setEstimate(true);
+			this.dropTables(ds, "TAB1");
+			String sql = this.getResource("create_table1.sql");
+			this.executeSql(ds, sql);
+			insertRows(ds, "TAB1", "INTEGER_COL", 4);
+			command.run();
+			// HSQLDBはINFORMATION_SCHEMA.SYSTEM_TABLESTATSの行数を使用する
+			assertCount(command, "TAB1", 4, CountAllTablesCommand.METHOD_STATISTICS);
+			command.setEstimate(false);
+			command.run();
+			assertCount(command, "TAB1", 4, CountAllTablesCommand.METHOD_COUNT);
+		} finally {
+			ds.close();
+		}
+	}
+
+	private void insertRows(final DataSource ds, final String tableName, final String columnName, final int size)
+			throws SQLException {
+		for (int i = 1; i <= size; i++) {
+			this.executeSql(ds, "INSERT INTO " + tableName + " (" + columnName + ") VALUES (" + i + ")");
+		}
+	}
+
+	private void assertCount(final CountAllTablesCommand command, final String tableName, final long count,
+			final String method) {
+		Row target = null;
+		for (final Row row : command.getResult().getRows()) {
+			if (tableName.equals(row.get("tableName"))) {
+				target = row;
+			}
+		}
+		assertNotNull(target, tableName);
+		assertEquals(count, ((Number) target.get("count")).longValue());
+		assertEquals(method, target.get("method"));
+	}
 }
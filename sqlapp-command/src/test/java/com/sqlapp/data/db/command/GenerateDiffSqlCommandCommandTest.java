@@ -19,15 +19,28 @@
 
 package com.sqlapp.data.db.command;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
 import java.io.IOException;
 import java.sql.SQLException;
 import java.text.ParseException;
+import java.util.List;
 
 import javax.xml.stream.XMLStreamException;
 
 import org.junit.jupiter.api.Test;
 
 import com.sqlapp.data.db.command.test.AbstractTest;
+import com.sqlapp.data.db.datatype.DataType;
+import com.sqlapp.data.db.dialect.Dialect;
+import com.sqlapp.data.db.dialect.DialectResolver;
+import com.sqlapp.data.db.sql.SqlOperation;
+import com.sqlapp.data.schemas.Catalog;
+import com.sqlapp.data.schemas.Column;
+import com.sqlapp.data.schemas.Schema;
+import com.sqlapp.data.schemas.Table;
+import com.sqlapp.util.CommonUtils;
 
 public class GenerateDiffSqlCommandCommandTest extends AbstractTest {
 
@@ -46,4 +59,63 @@ public class GenerateDiffSqlCommandCommandTest extends AbstractTest {
 //		});
 	}
 
+	@Test
+	public void testRunParallel() {
+		final Dialect dialect = DialectResolver.getInstance().getDialect("HSQL Database Engine", 2, 7, null);
+		final Catalog original = createCatalog();
+		final Catalog target = createCatalog();
+		final Schema schema1 = target.getSchemas().get("SCHEMA1");
+		schema1.getTables().remove(schema1.getTables().get("TAB1"));
+		target.getSchemas().get("SCHEMA2").getTables().get("TAB2").getColumns()
+				.add(new Column("ADD_COL").setDataType(DataType.VARCHAR).setLength(10));
+		target.getSchemas().get("SCHEMA3").getTables().add(createTable("TAB_NEW"));
+		target.getSchemas().remove(target.getSchemas().get("SCHEMA4"));
+		target.getSchemas().add(createSchema("SCHEMA_NEW"));
+		final List<String> serial = run(dialect, original, target, 1);
+		assertFalse(serial.isEmpty());
+		for (int i = 0; i < 3; i++) {
+			assertEquals(serial, run(dialect, original, target, 4));
+		}
+	}
+
+	private List<String> run(final Dialect dialect, final Catalog original, final Catalog target,
+			final int parallelism) {
+		final GenerateDiffSqlCommand command = new GenerateDiffSqlCommand();
+		command.setOriginal(original.getSchemas());
+		command.setTarget(target.getSchemas());
+		command.setSqlFactoryRegistry(dialect.createSqlFactoryRegistry());
+		command.setParallelism(parallelism);
+		command.run();
+		final List<String> result = CommonUtils.list();
+		for (final SqlOperation operation : command.getSqlOperations()) {
+			result.add(operation.getSqlType() + ":" + operation.getSqlText());
+		}
+		return result;
+	}
+
+	private Catalog createCatalog() {
+		final Catalog catalog = new Catalog();
+		for (int i = 1; i <= 4; i++) {
+			catalog.getSchemas().add(createSchema("SCHEMA" + i));
+		}
+		return catalog;
+	}
+
+	private Schema createSchema(final String name) {
+		final Schema schema = new Schema(name);
+		for (int i = 1; i <= 10; i++) {
+			schema.getTables().add(createTable("TAB" + i));
+		}
+		return schema;
+	}
+
+	private Table createTable(final String name) {
+		final Table table = new Table(name);
+		final Column id = new Column("ID").setDataType(DataType.INT).setNullable(false);
+		table.getColumns().add(id);
+		table.getColumns().add(new Column("NAME").setDataType(DataType.VARCHAR).setLength(100));
+		table.setPrimaryKey("PK_" + name, id);
+		return table;
+	}
+
 }
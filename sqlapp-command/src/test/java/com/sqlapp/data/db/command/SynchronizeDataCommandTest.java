@@ -0,0 +1,256 @@
+/**
+ * Copyright (C) 2007-2017 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-command.
+ *
+ * sqlapp-command is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-command is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-command.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+
+package com.sqlapp.data.db.command;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sqlapp.data.db.command.SynchronizeDataCommand.DeltaSummary;
+import com.sqlapp.data.db.command.test.AbstractDbCommandTest;
+import com.sqlapp.data.db.datatype.DataType;
+import com.sqlapp.data.schemas.Row;
+import com.sqlapp.data.schemas.Table;
+import com.sqlapp.jdbc.SqlappDataSource;
+import com.sqlapp.util.CommonUtils;
+
+public class SynchronizeDataCommandTest extends AbstractDbCommandTest {
+
+	@TempDir
+	File tempDirectory;
+
+	/**
+	 * 差分のある行だけが反映されること
+	 */
+	@Test
+	public void testRunDelta() throws SQLException, XMLStreamException, IOException {
+		try (final SqlappDataSource dataSource = newDataSource()) {
+			dropTables(dataSource, "SYNC_DATA");
+			executeSql(dataSource, "CREATE TABLE SYNC_DATA (ID INT PRIMARY KEY, NAME VARCHAR(50), AMOUNT DECIMAL(10,2))");
+			for (int i = 1; i <= 5; i++) {
+				executeSql(dataSource, "INSERT INTO SYNC_DATA VALUES (" + i + ", 'name" + i + "', " + (i * 10) + ")");
+			}
+			final Table table = createTable();
+			// 1,3,4 は同値(AMOUNTのスケール違いを含む)、2は更新、5は削除、6は追加
+			addRow(table, 1, "name1", "10.00");
+			addRow(table, 2, "changed", "20");
+			addRow(table, 3, "name3", "30.0");
+			addRow(table, 4, "name4", "40");
+			addRow(table, 6, "name6", "60");
+			final File file = new File(tempDirectory, "SYNC_DATA.xml");
+			table.writeXml(file);
+			final SynchronizeDataCommand command = new SynchronizeDataCommand();
+			command.setDataSource(dataSource);
+			command.setCloseDataSource(false);
+			command.setFiles(CommonUtils.list(file));
+			command.setDelta(true);
+			command.run();
+			assertEquals(1, command.getDeltaSummaries().size());
+			final DeltaSummary summary = command.getDeltaSummaries().get(0);
+			assertEquals(1, summary.getInserted());
+			assertEquals(1, summary.getUpdated());
+			assertEquals(1, summary.getDeleted());
+			assertEquals(3, summary.getUnchanged());
+			final Map<Integer, String> names = selectNames(dataSource);
+			assertEquals(CommonUtils.set(1, 2, 3, 4, 6), names.keySet());
+			assertEquals("changed", names.get(2));
+			assertEquals("name6", names.get(6));
+		}
+	}
+
+	/**
+	 * DBにだけ存在する行がバッチサイズを超えても削除され、実行ごとに結果がリセットされること
+	 */
+	@Test
+	public void testRunDeltaDeleteBatches() throws SQLException, XMLStreamException, IOException {
+		final int size = 1203;
+		try (final SqlappDataSource dataSource = newDataSource()) {
+			dropTables(dataSource, "SYNC_DATA");
+			executeSql(dataSource, "CREATE TABLE SYNC_DATA (ID INT PRIMARY KEY, NAME VARCHAR(50), AMOUNT DECIMAL(10,2))");
+			try (Connection conn = dataSource.getConnection();
+					PreparedStatement stmt = conn.prepareStatement("INSERT INTO SYNC_DATA VALUES (?, ?, ?)")) {
+				for (int i = 1; i <= size; i++) {
+					stmt.setInt(1, i);
+					stmt.setString(2, "name" + i);
+					stmt.setInt(3, i * 10);
+					stmt.addBatch();
+				}
+				stmt.executeBatch();
+				if (!conn.getAutoCommit()) {
+					conn.commit();
+				}
+			}
+			final Table table = createTable();
+			addRow(table, 1, "name1", "10");
+			addRow(table, 2, "name2", "20");
+			addRow(table, 3, "name3", "30");
+			final File file = new File(tempDirectory, "SYNC_DATA.xml");
+			table.writeXml(file);
+			final SynchronizeDataCommand command = new SynchronizeDataCommand();
+			command.setDataSource(dataSource);
+			command.setCloseDataSource(false);
+			command.setFiles(CommonUtils.list(file));
+			command.setDelta(true);
+			command.run();
+			assertEquals(1, command.getDeltaSummaries().size());
+			DeltaSummary summary = command.getDeltaSummaries().get(0);
+			assertEquals(size - 3, summary.getDeleted());
+			assertEquals(3, summary.getUnchanged());
+			assertEquals(CommonUtils.set(1, 2, 3), selectNames(dataSource).keySet());
+			//
+			command.run();
+			assertEquals(1, command.getDeltaSummaries().size());
+			summary = command.getDeltaSummaries().get(0);
+			assertEquals(0, summary.getChanged());
+			assertEquals(3, summary.getUnchanged());
+		}
+	}
+
+	/**
+	 * DECIMALのキーがスケール違いでも同じ行として突き合わされること
+	 */
+	@Test
+	public void testRunDeltaDecimalKey() throws SQLException, XMLStreamException, IOException {
+		try (final SqlappDataSource dataSource = newDataSource()) {
+			dropTables(dataSource, "SYNC_DECIMAL");
+			executeSql(dataSource, "CREATE TABLE SYNC_DECIMAL (CODE DECIMAL(10,2) PRIMARY KEY, NAME VARCHAR(50))");
+			executeSql(dataSource, "INSERT INTO SYNC_DECIMAL VALUES (1, 'name1')");
+			executeSql(dataSource, "INSERT INTO SYNC_DECIMAL VALUES (2.5, 'name2')");
+			executeSql(dataSource, "INSERT INTO SYNC_DECIMAL VALUES (3, 'name3')");
+			final Table table = new Table("SYNC_DECIMAL");
+			table.getColumns().add(c -> {
+				c.setName("CODE");
+				c.setDataType(DataType.DECIMAL);
+				c.setLength(10);
+				c.setScale(2);
+				c.setNotNull(true);
+			});
+			table.getColumns().add(c -> {
+				c.setName("NAME");
+				c.setDataType(DataType.VARCHAR);
+				c.setLength(50);
+			});
+			table.setPrimaryKey(table.getColumns().get("CODE"));
+			Row row = table.newRow();
+			row.put("CODE", new BigDecimal("1"));
+			row.put("NAME", "name1");
+			table.getRows().add(row);
+			row = table.newRow();
+			row.put("CODE", new BigDecimal("2.5"));
+			row.put("NAME", "changed");
+			table.getRows().add(row);
+			final File file = new File(tempDirectory, "SYNC_DECIMAL.xml");
+			table.writeXml(file);
+			final SynchronizeDataCommand command = new SynchronizeDataCommand();
+			command.setDataSource(dataSource);
+			command.setCloseDataSource(false);
+			command.setFiles(CommonUtils.list(file));
+			command.setDelta(true);
+			command.run();
+			final DeltaSummary summary = command.getDeltaSummaries().get(0);
+			assertEquals(0, summary.getInserted());
+			assertEquals(1, summary.getUpdated());
+			assertEquals(1, summary.getDeleted());
+			assertEquals(1, summary.getUnchanged());
+		}
+	}
+
+	/**
+	 * バッチサイズを超えたキーが一時ファイルを経由して追加順に返されること
+	 */
+	@Test
+	public void testDeleteKeyBuffer() throws Exception {
+		final int size = 25;
+		File spillFile;
+		try (final SynchronizeDataCommand.DeleteKeyBuffer buffer = new SynchronizeDataCommand.DeleteKeyBuffer(2,
+				10)) {
+			for (int i = 0; i < size; i++) {
+				buffer.add(new Object[] { i, "key" + i });
+			}
+			assertFalse(buffer.isEmpty());
+			final Iterator<Object[]> itr = buffer.iterator();
+			int i = 0;
+			while (itr.hasNext()) {
+				assertArrayEquals(new Object[] { i, "key" + i }, itr.next());
+				i++;
+			}
+			assertEquals(size, i);
+			spillFile = buffer.getSpillFile();
+		}
+		assertFalse(spillFile.exists());
+	}
+
+	private Table createTable() {
+		final Table table = new Table("SYNC_DATA");
+		table.getColumns().add(c -> {
+			c.setName("ID");
+			c.setDataType(DataType.INT);
+			c.setNotNull(true);
+		});
+		table.getColumns().add(c -> {
+			c.setName("NAME");
+			c.setDataType(DataType.VARCHAR);
+			c.setLength(50);
+		});
+		table.getColumns().add(c -> {
+			c.setName("AMOUNT");
+			c.setDataType(DataType.DECIMAL);
+			c.setLength(10);
+			c.setScale(2);
+		});
+		table.setPrimaryKey(table.getColumns().get("ID"));
+		return table;
+	}
+
+	private void addRow(final Table table, final int id, final String name, final String amount) {
+		final Row row = table.newRow();
+		row.put("ID", id);
+		row.put("NAME", name);
+		row.put("AMOUNT", amount);
+		table.getRows().add(row);
+	}
+
+	private Map<Integer, String> selectNames(final SqlappDataSource dataSource) throws SQLException {
+		final Map<Integer, String> names = CommonUtils.linkedMap();
+		try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement();
+				ResultSet rs = stmt.executeQuery("SELECT ID, NAME FROM SYNC_DATA ORDER BY ID")) {
+			while (rs.next()) {
+				names.put(rs.getInt(1), rs.getString(2));
+			}
+		}
+		return names;
+	}
+}
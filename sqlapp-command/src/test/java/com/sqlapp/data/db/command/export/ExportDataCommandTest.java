@@ -35,10 +35,18 @@
  */
 package com.sqlapp.data.db.command.export;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.io.File;
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
 import java.sql.SQLException;
 import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -56,6 +64,7 @@ import com.sqlapp.data.schemas.Table;
 import com.sqlapp.data.schemas.rowiterator.DataFormat;
 import com.sqlapp.jdbc.sql.node.SqlNode;
 import com.sqlapp.util.CommonUtils;
+import com.sqlapp.util.JsonConverter;
 import com.zaxxer.hikari.HikariDataSource;
 
 public class ExportDataCommandTest extends AbstractDbCommandTest {
@@ -78,6 +87,14 @@ public class ExportDataCommandTest extends AbstractDbCommandTest {
 		testRun(DataFormat.EXCEL);
 	}
 
+	@Test
+	public void testRunStreamingExcel() throws ParseException, IOException, SQLException {
+		testRun(DataFormat.EXCEL, command -> {
+			command.setStreamingExcel(true);
+			command.setExcelRowAccessWindowSize(10);
+		});
+	}
+
 	@Test
 	public void testRunCsv() throws ParseException, IOException, SQLException {
 		testRun(DataFormat.CSV);
@@ -93,30 +110,134 @@ public class ExportDataCommandTest extends AbstractDbCommandTest {
 		testRun(DataFormat.JSONL);
 	}
 
+	@Test
+	public void testRunCsvParallel() throws ParseException, IOException, SQLException {
+		testRun(DataFormat.CSV, command -> {
+			command.setParallelism(2);
+			command.setConsistentSnapshot(true);
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testRunCsvSplit() throws ParseException, IOException, SQLException {
+		if (CommonUtils.isEmpty(this.getUrl())) {
+			return;
+		}
+		final File singleDirectory = new File(directoryPath, "single");
+		final File splitDirectory = new File(directoryPath, "split");
+		HikariDataSource ds = newInternalDataSource();
+		generetaInsert(ds, dataSource -> {
+			runExport(dataSource, singleDirectory, command -> {
+			});
+			runExport(dataSource, splitDirectory, command -> {
+				command.setSplitCount(3);
+			});
+		});
+		final File manifestFile = new File(splitDirectory, "TAB1.manifest.json");
+		assertTrue(manifestFile.exists());
+		final List<String> expected = Files.readAllLines(new File(singleDirectory, "TAB1.csv").toPath());
+		final int keyIndex = getColumnIndex(expected.get(0), "INTEGER_COL");
+		final Map<String, Object> manifest = new JsonConverter().fromJsonString(manifestFile, Map.class);
+		assertEquals("INTEGER_COL", manifest.get("splitColumn"));
+		final List<Map<String, Object>> parts = (List<Map<String, Object>>) manifest.get("parts");
+		assertTrue(parts.size() > 1);
+		final List<String> actual = new ArrayList<>();
+		for (final Map<String, Object> part : parts) {
+			final File file = new File(splitDirectory, (String) part.get("file"));
+			final List<String> lines = Files.readAllLines(file.toPath());
+			assertEquals(expected.get(0), lines.get(0));
+			final List<String> rows = lines.subList(1, lines.size());
+			// 各ファイルには範囲内の行だけが含まれる
+			assertEquals(((Number) part.get("rows")).intValue(), rows.size(), file.getName());
+			final BigDecimal lower = part.get("lower") != null ? new BigDecimal((String) part.get("lower")) : null;
+			final BigDecimal upper = part.get("upper") != null ? new BigDecimal((String) part.get("upper")) : null;
+			for (final String row : rows) {
+				final BigDecimal key = new BigDecimal(getValue(row, keyIndex));
+				assertTrue(lower == null || key.compareTo(lower) >= 0, row);
+				assertTrue(upper == null || key.compareTo(upper) < 0, row);
+			}
+			actual.addAll(rows);
+		}
+		final List<String> expectedRows = new ArrayList<>(expected.subList(1, expected.size()));
+		Collections.sort(expectedRows);
+		Collections.sort(actual);
+		assertEquals(expectedRows, actual);
+	}
+
+	private int getColumnIndex(final String header, final String name) {
+		final String[] names = header.split(",");
+		for (int i = 0; i < names.length; i++) {
+			if (name.equals(unquote(names[i]))) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException(name);
+	}
+
+	private String getValue(final String row, final int index) {
+		return unquote(row.split(",")[index]);
+	}
+
+	private String unquote(final String value) {
+		final String trimmed = value.trim();
+		if (trimmed.length() > 1 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+			return trimmed.substring(1, trimmed.length() - 1);
+		}
+		return trimmed;
+	}
+
+	@Test
+	public void testRunCsvSplitConsistentSnapshot() throws ParseException, IOException, SQLException {
+		testRun(DataFormat.CSV, command -> {
+			command.setSplitCount(3);
+			command.setConsistentSnapshot(true);
+		});
+		if (CommonUtils.isEmpty(this.getUrl())) {
+			return;
+		}
+		assertTrue(new File(directoryPath, "TAB1.csv").exists());
+		assertFalse(new File(directoryPath, "TAB1.manifest.json").exists());
+	}
+
 	// @Test
 	public void testRunYaml() throws ParseException, IOException, SQLException {
 		testRun(DataFormat.YAML);
 	}
 
 	private void testRun(DataFormat outputFileType) throws ParseException, IOException, SQLException {
+		testRun(outputFileType, command -> {
+		});
+	}
+
+	private void testRun(DataFormat outputFileType, Consumer<ExportDataCommand> initializer)
+			throws ParseException, IOException, SQLException {
 		if (CommonUtils.isEmpty(this.getUrl())) {
 			return;
 		}
 		HikariDataSource ds = newInternalDataSource();
 		generetaInsert(ds, dataSource -> {
-			final ExportDataCommand command = new ExportDataCommand();
-			command.setOutputFileType(outputFileType);
-			command.setDataSource(dataSource);
-			command.setOutputDirectory(directoryPath);
-			command.setUseSchemaNameDirectory(false);
-			command.setIncludeSchemas("PUBLIC");
-			command.setIncludeTables("TAB1");
-			command.setOnlyCurrentSchema(false);
-			command.setCloseDataSource(false);
-			command.run();
+			runExport(dataSource, directoryPath, command -> {
+				command.setOutputFileType(outputFileType);
+				initializer.accept(command);
+			});
 		});
 	}
 
+	private void runExport(DataSource dataSource, File outputDirectory, Consumer<ExportDataCommand> initializer) {
+		final ExportDataCommand command = new ExportDataCommand();
+		command.setOutputFileType(DataFormat.CSV);
+		command.setDataSource(dataSource);
+		command.setOutputDirectory(outputDirectory);
+		command.setUseSchemaNameDirectory(false);
+		command.setIncludeSchemas("PUBLIC");
+		command.setIncludeTables("TAB1");
+		command.setOnlyCurrentSchema(false);
+		command.setCloseDataSource(false);
+		initializer.accept(command);
+		command.run();
+	}
+
 	private String createSql = """
 			CREATE TABLE TAB1
 			(
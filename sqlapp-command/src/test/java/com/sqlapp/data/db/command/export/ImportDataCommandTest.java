@@ -19,14 +19,26 @@
 
 package com.sqlapp.data.db.command.export;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.text.ParseException;
+import java.util.function.Consumer;
 
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import com.sqlapp.data.db.command.test.AbstractDbCommandTest;
+import com.sqlapp.data.db.sql.SqlType;
 import com.sqlapp.jdbc.SqlappDataSource;
 import com.sqlapp.util.CommonUtils;
 
@@ -60,6 +72,144 @@ public class ImportDataCommandTest extends AbstractDbCommandTest {
 		}
 	}
 
+	@TempDir
+	File importDirectory;
+
+	/**
+	 * INSERT_ROWSをSQL生成で実行する場合とPreparedStatementのバッチで実行する場合で同じ行が登録されること
+	 */
+	@Test
+	public void testRunPreparedBatch() throws IOException, SQLException {
+		final int size = 1234;
+		writeImportFile(size);
+		try (final SqlappDataSource dataSource = newDataSource()) {
+			runImport(dataSource, command -> {
+				command.setSqlType(SqlType.INSERT_ROWS);
+			});
+			assertImportedRows(dataSource, size);
+			runImport(dataSource, command -> {
+				command.setSqlType(SqlType.INSERT_ROWS);
+				command.setPreparedBatch(true);
+				// 端数のバッチも実行されること
+				command.setDmlBatchSize(100);
+			});
+			assertImportedRows(dataSource, size);
+		}
+	}
+
+	/**
+	 * INSERT_ROWSをSQL生成で実行する場合とPreparedStatementのバッチで実行する場合の性能測定
+	 */
+	@Tag("benchmark")
+	@Test
+	public void testPreparedBatchBenchMark() throws IOException, SQLException {
+		final int size = 50000;
+		writeImportFile(size);
+		try (final SqlappDataSource dataSource = newDataSource()) {
+			long start = System.currentTimeMillis();
+			runImport(dataSource, command -> {
+				command.setSqlType(SqlType.INSERT_ROWS);
+			});
+			System.out.println("INSERT_ROWS time=" + (System.currentTimeMillis() - start) + "ms/" + size);
+			assertImportedRows(dataSource, size);
+			start = System.currentTimeMillis();
+			runImport(dataSource, command -> {
+				command.setSqlType(SqlType.INSERT_ROWS);
+				command.setPreparedBatch(true);
+			});
+			System.out.println("INSERT_ROWS preparedBatch time=" + (System.currentTimeMillis() - start) + "ms/" + size);
+			assertImportedRows(dataSource, size);
+		}
+	}
+
+	/**
+	 * 読み込み、変換、実行をパイプラインで行っても同じ行が登録されること
+	 */
+	@Test
+	public void testRunPipelined() throws IOException, SQLException {
+		final int size = 1234;
+		writeImportFile(size);
+		try (final SqlappDataSource dataSource = newDataSource()) {
+			runImport(dataSource, command -> {
+				command.setSqlType(SqlType.INSERT);
+				command.setPipelined(true);
+				command.setPipelineQueueSize(10);
+				command.setDmlBatchSize(100);
+			});
+			assertImportedRows(dataSource, size);
+		}
+	}
+
+	/**
+	 * パイプラインの実行が失敗した場合に例外が返り、その後のインポートが実行できること
+	 */
+	@Test
+	public void testRunPipelinedError() throws IOException, SQLException {
+		final int size = 1234;
+		try (PrintWriter writer = new PrintWriter(new File(importDirectory, "IMPORT_BENCH.csv"),
+				StandardCharsets.UTF_8)) {
+			writer.println("ID,NAME,AMOUNT");
+			for (int i = 0; i < size; i++) {
+				// 主キーの重複
+				writer.println((i % 500) + ",name" + i + "," + (i * 10));
+			}
+		}
+		try (final SqlappDataSource dataSource = newDataSource()) {
+			assertThrows(RuntimeException.class, () -> runImport(dataSource, command -> {
+				command.setSqlType(SqlType.INSERT);
+				command.setPipelined(true);
+				command.setPipelineQueueSize(10);
+				command.setDmlBatchSize(100);
+			}));
+			writeImportFile(size);
+			runImport(dataSource, command -> {
+				command.setSqlType(SqlType.INSERT);
+				command.setPipelined(true);
+				command.setPipelineQueueSize(10);
+			});
+			assertImportedRows(dataSource, size);
+		}
+	}
+
+	private void writeImportFile(final int size) throws IOException {
+		try (PrintWriter writer = new PrintWriter(new File(importDirectory, "IMPORT_BENCH.csv"),
+				StandardCharsets.UTF_8)) {
+			writer.println("ID,NAME,AMOUNT");
+			for (int i = 0; i < size; i++) {
+				writer.println(i + ",name" + i + "," + (i * 10));
+			}
+		}
+	}
+
+	private void assertImportedRows(final SqlappDataSource dataSource, final int size) throws SQLException {
+		try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement();
+				ResultSet rs = stmt.executeQuery("SELECT ID, NAME, AMOUNT FROM IMPORT_BENCH ORDER BY ID")) {
+			int i = 0;
+			while (rs.next()) {
+				assertEquals(i, rs.getInt(1));
+				assertEquals("name" + i, rs.getString(2));
+				assertEquals(i * 10L, rs.getLong(3));
+				i++;
+			}
+			assertEquals(size, i);
+		}
+	}
+
+	private void runImport(final SqlappDataSource dataSource, final Consumer<ImportDataCommand> initializer)
+			throws SQLException {
+		dropTables(dataSource, "IMPORT_BENCH");
+		executeSql(dataSource,
+				"CREATE TABLE IMPORT_BENCH (ID INT PRIMARY KEY, NAME VARCHAR(50), AMOUNT DECIMAL(18,0))");
+		final ImportDataCommand command = new ImportDataCommand();
+		command.setDataSource(dataSource);
+		command.setCloseDataSource(false);
+		command.setDirectory(importDirectory);
+		command.setUseSchemaNameDirectory(false);
+		command.setIncludeTables("IMPORT_BENCH");
+		initializer.accept(command);
+		command.run();
+	}
+
 	/**
 	 * @return the url
 	 */
@@ -0,0 +1,266 @@
+/**
+ * Copyright (C) 2007-2017 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-command.
+ *
+ * sqlapp-command is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-command is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-command.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+
+package com.sqlapp.data.db.command.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sqlapp.data.db.command.test.AbstractDbCommandTest;
+import com.sqlapp.data.db.dialect.Dialect;
+import com.sqlapp.data.db.dialect.DialectResolver;
+import com.sqlapp.data.db.dialect.hsql.metadata.HsqlTableReader;
+import com.sqlapp.data.db.metadata.ReaderOptions;
+import com.sqlapp.data.db.metadata.TableReader;
+import com.sqlapp.data.parameter.ParametersContext;
+import com.sqlapp.data.schemas.Catalog;
+import com.sqlapp.data.schemas.Schema;
+import com.sqlapp.data.schemas.Table;
+import com.sqlapp.jdbc.SqlappDataSource;
+import com.sqlapp.util.CommonUtils;
+import com.sqlapp.util.DoubleKeyMap;
+
+public class MetadataSnapshotCacheTest extends AbstractDbCommandTest {
+
+	@TempDir
+	Path tempDir;
+
+	private Timestamp lastAlteredAt = Timestamp.valueOf("2020-01-01 00:00:00");
+
+	@Test
+	public void testGetTables() throws SQLException {
+		try (SqlappDataSource dataSource = newDataSource(); Connection conn = dataSource.getConnection()) {
+			dropTables(conn, "CACHE_TAB1", "CACHE_TAB2");
+			executeSql(conn, "CREATE TABLE CACHE_TAB1 (ID INT PRIMARY KEY)");
+			executeSql(conn, "CREATE TABLE CACHE_TAB2 (ID INT PRIMARY KEY)");
+			final Dialect dialect = DialectResolver.getInstance().getDialect(conn);
+			final TableReader tableReader = new HsqlTableReader(dialect) {
+				@Override
+				public List<Table> getAll(final Connection connection, final ParametersContext context) {
+					final List<Table> tables = super.getAll(connection, context);
+					tables.forEach(t -> t.setLastAlteredAt(t.getName().equals("CACHE_TAB2") ? lastAlteredAt : null));
+					return tables;
+				}
+
+				@Override
+				public boolean isDdlTimestampSupported() {
+					return true;
+				}
+			};
+			tableReader.setReaderOptions(new ReaderOptions());
+			final MetadataSnapshotCache cache = new MetadataSnapshotCache(tempDir.toFile());
+			final File file = cache.getSnapshotFile(conn, CommonUtils.treeSet("PUBLIC"), CommonUtils.treeSet("PUBLIC"));
+			assertNotNull(file);
+			// 1st: no snapshot
+			List<Table> tables = cache.getTables(conn, tableReader, newContext(), file);
+			assertEquals(1, getTable(tables, "CACHE_TAB2").getColumns().size());
+			cache.save(file, toCatalog(tables));
+			assertTrue(file.exists());
+			// 2nd: CACHE_TAB2 is read from the snapshot, CACHE_TAB1 is refreshed
+			executeSql(conn, "ALTER TABLE CACHE_TAB1 ADD COLUMN NAME VARCHAR(10)");
+			executeSql(conn, "ALTER TABLE CACHE_TAB2 ADD COLUMN NAME VARCHAR(10)");
+			tables = cache.getTables(conn, tableReader, newContext(), file);
+			assertEquals(2, getTable(tables, "CACHE_TAB1").getColumns().size());
+			assertEquals(1, getTable(tables, "CACHE_TAB2").getColumns().size());
+			// 3rd: CACHE_TAB2 has been altered
+			lastAlteredAt = Timestamp.valueOf("2020-01-02 00:00:00");
+			tables = cache.getTables(conn, tableReader, newContext(), file);
+			assertEquals(2, getTable(tables, "CACHE_TAB1").getColumns().size());
+			assertEquals(2, getTable(tables, "CACHE_TAB2").getColumns().size());
+			dropTables(conn, "CACHE_TAB1", "CACHE_TAB2");
+		}
+	}
+
+	@Test
+	public void testGetTablesWithoutDdlTimestamp() throws SQLException {
+		try (SqlappDataSource dataSource = newDataSource(); Connection conn = dataSource.getConnection()) {
+			dropTables(conn, "CACHE_TAB3");
+			executeSql(conn, "CREATE TABLE CACHE_TAB3 (ID INT PRIMARY KEY)");
+			final Dialect dialect = DialectResolver.getInstance().getDialect(conn);
+			// lastAlteredAt is not changed by DDL (e.g. MySQL UPDATE_TIME)
+			final TableReader tableReader = new HsqlTableReader(dialect) {
+				@Override
+				public List<Table> getAll(final Connection connection, final ParametersContext context) {
+					final List<Table> tables = super.getAll(connection, context);
+					tables.forEach(t -> t.setLastAlteredAt(lastAlteredAt));
+					return tables;
+				}
+			};
+			tableReader.setReaderOptions(new ReaderOptions());
+			final MetadataSnapshotCache cache = new MetadataSnapshotCache(tempDir.toFile());
+			final File file = cache.getSnapshotFile(conn, CommonUtils.treeSet("PUBLIC"), CommonUtils.treeSet("PUBLIC"));
+			List<Table> tables = cache.getTables(conn, tableReader, newContext(), file);
+			cache.save(file, toCatalog(tables));
+			executeSql(conn, "ALTER TABLE CACHE_TAB3 ADD COLUMN NAME VARCHAR(10)");
+			tables = cache.getTables(conn, tableReader, newContext(), file);
+			assertEquals(2, getTable(tables, "CACHE_TAB3").getColumns().size());
+			dropTables(conn, "CACHE_TAB3");
+		}
+	}
+
+	/**
+	 * スキーマの異なる同名のテーブルは変更されたテーブルのみ読み込むこと
+	 */
+	@Test
+	public void testGetTablesSameNameInSchemas() throws SQLException {
+		try (SqlappDataSource dataSource = newDataSource(); Connection conn = dataSource.getConnection()) {
+			dropTables(conn, "CACHE_TAB4", "CACHE_TAB5");
+			executeSql(conn, "DROP SCHEMA CACHE_S2 IF EXISTS CASCADE");
+			executeSql(conn, "CREATE SCHEMA CACHE_S2 AUTHORIZATION DBA");
+			executeSql(conn, "CREATE TABLE PUBLIC.CACHE_TAB4 (ID INT PRIMARY KEY)");
+			executeSql(conn, "CREATE TABLE PUBLIC.CACHE_TAB5 (ID INT PRIMARY KEY)");
+			executeSql(conn, "CREATE TABLE CACHE_S2.CACHE_TAB4 (ID INT PRIMARY KEY)");
+			final Dialect dialect = DialectResolver.getInstance().getDialect(conn);
+			final TableReader tableReader = new HsqlTableReader(dialect) {
+				@Override
+				public List<Table> getAll(final Connection connection, final ParametersContext context) {
+					final List<Table> tables = super.getAll(connection, context);
+					tables.forEach(t -> t.setLastAlteredAt(
+							"PUBLIC".equals(t.getSchemaName()) && "CACHE_TAB4".equals(t.getName()) ? lastAlteredAt
+									: Timestamp.valueOf("2020-01-01 00:00:00")));
+					return tables;
+				}
+
+				@Override
+				public boolean isDdlTimestampSupported() {
+					return true;
+				}
+			};
+			tableReader.setReaderOptions(new ReaderOptions());
+			final MetadataSnapshotCache cache = new MetadataSnapshotCache(tempDir.toFile());
+			final File file = cache.getSnapshotFile(conn, CommonUtils.treeSet("PUBLIC"),
+					CommonUtils.treeSet("CACHE_S2", "PUBLIC"));
+			final ParametersContext context = new ParametersContext();
+			context.put("schemaName", CommonUtils.treeSet("CACHE_S2", "PUBLIC"));
+			List<Table> tables = cache.getTables(conn, tableReader, context, file);
+			cache.save(file, toCatalog(tables));
+			executeSql(conn, "ALTER TABLE PUBLIC.CACHE_TAB4 ADD COLUMN NAME VARCHAR(10)");
+			executeSql(conn, "ALTER TABLE CACHE_S2.CACHE_TAB4 ADD COLUMN NAME VARCHAR(10)");
+			lastAlteredAt = Timestamp.valueOf("2020-01-02 00:00:00");
+			tables = cache.getTables(conn, tableReader, context, file);
+			assertEquals(2, getTable(tables, "PUBLIC", "CACHE_TAB4").getColumns().size());
+			assertEquals(1, getTable(tables, "CACHE_S2", "CACHE_TAB4").getColumns().size());
+			dropTables(conn, "CACHE_TAB4", "CACHE_TAB5");
+			executeSql(conn, "DROP SCHEMA CACHE_S2 IF EXISTS CASCADE");
+		}
+	}
+
+	/**
+	 * 最終更新日時に反映されないメタデータを持つテーブルはスナップショットを使用しないこと
+	 */
+	@Test
+	public void testGetTablesUntracked() throws SQLException {
+		try (SqlappDataSource dataSource = newDataSource(); Connection conn = dataSource.getConnection()) {
+			dropTables(conn, "CACHE_TAB6", "CACHE_TAB7", "CACHE_TAB8");
+			executeSql(conn, "CREATE TABLE CACHE_TAB6 (ID INT PRIMARY KEY)");
+			executeSql(conn, "CREATE TABLE CACHE_TAB7 (ID INT PRIMARY KEY)");
+			executeSql(conn, "CREATE TABLE CACHE_TAB8 (ID INT PRIMARY KEY)");
+			executeSql(conn, "COMMENT ON TABLE CACHE_TAB7 IS 'comment'");
+			final Dialect dialect = DialectResolver.getInstance().getDialect(conn);
+			final TableReader tableReader = new HsqlTableReader(dialect) {
+				@Override
+				public List<Table> getAll(final Connection connection, final ParametersContext context) {
+					final List<Table> tables = super.getAll(connection, context);
+					tables.forEach(t -> t.setLastAlteredAt(lastAlteredAt));
+					return tables;
+				}
+
+				@Override
+				public boolean isDdlTimestampSupported() {
+					return true;
+				}
+
+				// CACHE_TAB6 has a trigger
+				@Override
+				public DoubleKeyMap<String, String, Table> getUntrackedTables(final Connection connection,
+						final ParametersContext context) {
+					final DoubleKeyMap<String, String, Table> result = CommonUtils.doubleKeyMap();
+					result.put("PUBLIC", "CACHE_TAB6", new Table("CACHE_TAB6"));
+					return result;
+				}
+
+				@Override
+				public boolean hasUntrackedMetadata(final Table table) {
+					return table.getRemarks() != null;
+				}
+			};
+			tableReader.setReaderOptions(new ReaderOptions());
+			final MetadataSnapshotCache cache = new MetadataSnapshotCache(tempDir.toFile());
+			final File file = cache.getSnapshotFile(conn, CommonUtils.treeSet("PUBLIC"), CommonUtils.treeSet("PUBLIC"));
+			List<Table> tables = cache.getTables(conn, tableReader, newContext(), file);
+			cache.save(file, toCatalog(tables));
+			executeSql(conn, "ALTER TABLE CACHE_TAB6 ADD COLUMN NAME VARCHAR(10)");
+			executeSql(conn, "ALTER TABLE CACHE_TAB7 ADD COLUMN NAME VARCHAR(10)");
+			executeSql(conn, "ALTER TABLE CACHE_TAB8 ADD COLUMN NAME VARCHAR(10)");
+			tables = cache.getTables(conn, tableReader, newContext(), file);
+			assertEquals(2, getTable(tables, "CACHE_TAB6").getColumns().size());
+			assertEquals(2, getTable(tables, "CACHE_TAB7").getColumns().size());
+			assertEquals(1, getTable(tables, "CACHE_TAB8").getColumns().size());
+			dropTables(conn, "CACHE_TAB6", "CACHE_TAB7", "CACHE_TAB8");
+		}
+	}
+
+	private ParametersContext newContext() {
+		final ParametersContext context = new ParametersContext();
+		context.put("schemaName", "PUBLIC");
+		return context;
+	}
+
+	private Table getTable(final List<Table> tables, final String name) {
+		for (final Table table : tables) {
+			if (name.equals(table.getName())) {
+				return table;
+			}
+		}
+		throw new AssertionError(name);
+	}
+
+	private Table getTable(final List<Table> tables, final String schemaName, final String name) {
+		for (final Table table : tables) {
+			if (schemaName.equals(table.getSchemaName()) && name.equals(table.getName())) {
+				return table;
+			}
+		}
+		throw new AssertionError(schemaName + "." + name);
+	}
+
+	private Catalog toCatalog(final List<Table> tables) {
+		final Catalog catalog = new Catalog();
+		for (final Table table : tables) {
+			Schema schema = catalog.getSchemas().get(table.getSchemaName());
+			if (schema == null) {
+				schema = new Schema(table.getSchemaName());
+				catalog.getSchemas().add(schema);
+			}
+			schema.getTables().add(table);
+		}
+		return catalog;
+	}
+}
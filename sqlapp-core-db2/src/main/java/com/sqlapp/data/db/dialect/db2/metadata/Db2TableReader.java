@@ -55,6 +55,14 @@ public class Db2TableReader extends TableReader {
 		super(dialect);
 	}
 
+	/**
+	 * SYSCAT.TABLES.ALTER_TIMEはALTER文で更新されます
+	 */
+	@Override
+	public boolean isDdlTimestampSupported() {
+		return true;
+	}
+
 	@Override
 	protected List<Table> doGetAll(final Connection connection,
 			final ParametersContext context,
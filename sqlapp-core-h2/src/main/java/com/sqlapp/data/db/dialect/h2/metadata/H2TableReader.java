@@ -35,6 +35,7 @@ import com.sqlapp.data.db.metadata.TableReader;
 import com.sqlapp.data.db.metadata.UniqueConstraintReader;
 import com.sqlapp.data.parameter.ParametersContext;
 import com.sqlapp.data.schemas.ProductVersionInfo;
+import com.sqlapp.data.schemas.Statistics;
 import com.sqlapp.data.schemas.Table;
 import com.sqlapp.jdbc.ExResultSet;
 import com.sqlapp.jdbc.sql.ResultSetNextHandler;
@@ -68,7 +69,7 @@ public class H2TableReader extends TableReader {
 		obj.setSchemaName(getString(rs, TABLE_SCHEMA));
 		obj.setRemarks(getString(rs, REMARKS));
 		obj.setTableType(getString(rs, "STORAGE_TYPE"));
-		this.setStatistics(rs, "ROW_COUNT_ESTIMATE", obj);
+		Statistics.ROWS.setValue(rs, "ROW_COUNT_ESTIMATE", obj);
 		return obj;
 	}
 
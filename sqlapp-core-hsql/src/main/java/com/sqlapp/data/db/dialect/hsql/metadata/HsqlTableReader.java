@@ -35,6 +35,7 @@ import com.sqlapp.data.db.metadata.TableReader;
 import com.sqlapp.data.db.metadata.UniqueConstraintReader;
 import com.sqlapp.data.parameter.ParametersContext;
 import com.sqlapp.data.schemas.ProductVersionInfo;
+import com.sqlapp.data.schemas.Statistics;
 import com.sqlapp.data.schemas.Table;
 import com.sqlapp.jdbc.ExResultSet;
 import com.sqlapp.jdbc.sql.ResultSetNextHandler;
@@ -84,6 +85,7 @@ public class HsqlTableReader extends TableReader {
 		table.setTableType(getString(rs, "hsqldb_type"));
 		table.setReadonly(rs.getBoolean("read_only"));
 		setSpecifics(rs, "commit_action", table);
+		Statistics.ROWS.setValue(rs, "cardinality", table);
 		return table;
 	}
 
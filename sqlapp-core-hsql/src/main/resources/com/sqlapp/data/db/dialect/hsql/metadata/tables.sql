@@ -6,7 +6,12 @@ SELECT st.table_cat
 , st.hsqldb_type
 , st.read_only
 , st.commit_action
+, ts.cardinality
 FROM information_schema.system_tables st
+LEFT OUTER JOIN information_schema.system_tablestats ts
+  ON (st.table_cat=ts.table_catalog
+  AND st.table_schem=ts.table_schema
+  AND st.table_name=ts.table_name)
 WHERE 1=1
   /*if isNotEmpty(catalogName)*/
   AND st.table_cat IN /*catalogName*/('%')
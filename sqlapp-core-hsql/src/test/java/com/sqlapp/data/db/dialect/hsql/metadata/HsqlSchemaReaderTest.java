@@ -20,11 +20,17 @@
 package com.sqlapp.data.db.dialect.hsql.metadata;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.sql.DataSource;
 import javax.xml.stream.XMLStreamException;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -75,6 +81,77 @@ class HsqlSchemaReaderTest extends AbstractTest {
 		}
 	}
 
+	/**
+	 * スキーマとテーブルの子のReaderが同じ並列度の範囲で並列に読み込むテスト
+	 */
+	@Test
+	void testParallel() throws SQLException {
+		try (SqlappDataSource dataSource = newDataSource(); Connection conn = dataSource.getConnection()) {
+			Dialect dialect = DialectResolver.getInstance().getDialect(conn);
+			dropTables(conn);
+			executeStatement(conn, this.getResource("create_table_customers.sql"));
+			executeStatement(conn, this.getResource("create_table_orders.sql"));
+			try {
+				assertParallel(dataSource, conn, dialect);
+			} finally {
+				dropTables(conn);
+			}
+		}
+	}
+
+	private void dropTables(Connection conn) throws SQLException {
+		executeStatement(conn, "DROP TABLE orders IF EXISTS");
+		executeStatement(conn, "DROP TABLE customers IF EXISTS");
+	}
+
+	private void assertParallel(DataSource dataSource, Connection conn, Dialect dialect) {
+		SchemaReader reader = dialect.getCatalogReader().getSchemaReader();
+		reader.setSchemaName("PUBLIC");
+		String expected = CommonUtils.first(reader.getAllFull(conn)).asXml();
+		final AtomicInteger open = new AtomicInteger();
+		final AtomicInteger max = new AtomicInteger();
+		reader.setDataSource(countingDataSource(dataSource, open, max));
+		reader.setParallelism(2);
+		String actual = CommonUtils.first(reader.getAllFull(conn)).asXml();
+		assertEquals(expected, actual);
+		assertTrue(max.get() > 0);
+		assertTrue(max.get() <= 2, "max=" + max.get());
+		assertEquals(0, open.get());
+		// 子のReaderの並列度は変更されない
+		assertEquals(2, reader.getTableReader().getParallelism());
+	}
+
+	/**
+	 * 同時に取得しているコネクション数を数えるデータソース
+	 */
+	private DataSource countingDataSource(final DataSource dataSource, final AtomicInteger open,
+			final AtomicInteger max) {
+		return (DataSource) Proxy.newProxyInstance(this.getClass().getClassLoader(),
+				new Class<?>[] { DataSource.class }, (proxy, method, args) -> {
+					if (!"getConnection".equals(method.getName())) {
+						return invoke(method, dataSource, args);
+					}
+					final Connection connection = (Connection) invoke(method, dataSource, args);
+					max.accumulateAndGet(open.incrementAndGet(), Math::max);
+					return Proxy.newProxyInstance(this.getClass().getClassLoader(),
+							new Class<?>[] { Connection.class }, (p, m, a) -> {
+								if ("close".equals(m.getName())) {
+									open.decrementAndGet();
+								}
+								return invoke(m, connection, a);
+							});
+				});
+	}
+
+	private static Object invoke(final Method method, final Object target, final Object[] args)
+			throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (final InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
 	protected void executeStatement(Connection conn, String sql) throws SQLException {
 		try (Statement stmt = conn.createStatement()) {
 			stmt.execute(sql);
@@ -20,10 +20,16 @@
 package com.sqlapp.data.db.dialect.hsql.metadata;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 import javax.xml.stream.XMLStreamException;
 
@@ -33,7 +39,9 @@ import org.junit.jupiter.api.Test;
 import com.sqlapp.core.test.AbstractTest;
 import com.sqlapp.data.db.dialect.Dialect;
 import com.sqlapp.data.db.dialect.DialectResolver;
+import com.sqlapp.data.db.metadata.MetadataReaderTimings;
 import com.sqlapp.data.db.metadata.TableReader;
+import com.sqlapp.data.parameter.ParametersContext;
 import com.sqlapp.data.schemas.Column;
 import com.sqlapp.data.schemas.Table;
 import com.sqlapp.jdbc.JdbcUtils;
@@ -94,6 +102,96 @@ class HsqlTableReaderTest extends AbstractTest {
 		}
 	}
 
+	@Test
+	void testGetAllFullByNames() throws SQLException {
+		SqlappDataSource dataSource = newDataSource();
+		try (Connection conn = dataSource.getConnection()) {
+			Dialect dialect = DialectResolver.getInstance().getDialect(conn);
+			for (String name : new String[] { "TAB_A", "TAB_B", "TAB_C" }) {
+				executeStatement(conn, "DROP TABLE " + name + " IF EXISTS");
+				executeStatement(conn, "CREATE TABLE " + name + " (ID INTEGER PRIMARY KEY, NAME VARCHAR(10))");
+			}
+			TableReader reader = dialect.getCatalogReader().getSchemaReader().getTableReader();
+			reader.setSchemaName("PUBLIC");
+			List<Table> tables = reader.getAllFull(conn, Arrays.asList("TAB_A", "TAB_C"));
+			assertEquals(2, tables.size());
+			Set<String> names = CommonUtils.set();
+			for (Table table : tables) {
+				names.add(table.getName());
+				assertEquals(2, table.getColumns().size());
+			}
+			assertTrue(names.contains("TAB_A"));
+			assertTrue(names.contains("TAB_C"));
+			assertTrue(reader.getAllFull(conn, Collections.emptyList()).isEmpty());
+		}
+	}
+
+	@Test
+	void testParallel() throws SQLException {
+		SqlappDataSource dataSource = newDataSource();
+		try (Connection conn = dataSource.getConnection()) {
+			Dialect dialect = DialectResolver.getInstance().getDialect(conn);
+			for (String name : new String[] { "TAB_P1", "TAB_P2" }) {
+				executeStatement(conn, "DROP TABLE " + name + " IF EXISTS");
+				executeStatement(conn, "CREATE TABLE " + name
+						+ " (ID INTEGER PRIMARY KEY, CODE CHAR(5) NOT NULL UNIQUE, AMOUNT DECIMAL(10,2) CHECK (AMOUNT > 0))");
+			}
+			executeStatement(conn, "CREATE INDEX IDX_TAB_P1 ON TAB_P1 (AMOUNT)");
+			TableReader reader = dialect.getCatalogReader().getSchemaReader().getTableReader();
+			reader.setSchemaName("PUBLIC");
+			List<Table> expected = reader.getAllFull(conn, Arrays.asList("TAB_P1", "TAB_P2"));
+			MetadataReaderTimings timings = new MetadataReaderTimings();
+			reader.setDataSource(dataSource);
+			reader.setParallelism(4);
+			reader.setTimings(timings);
+			List<Table> actual = reader.getAllFull(conn, Arrays.asList("TAB_P1", "TAB_P2"));
+			assertEquals(expected.size(), actual.size());
+			for (int i = 0; i < expected.size(); i++) {
+				assertEquals(expected.get(i).asXml(), actual.get(i).asXml());
+			}
+			assertEquals(1, timings.get(HsqlTableReader.class.getSimpleName()).getCalls());
+			assertEquals(2, timings.get(HsqlTableReader.class.getSimpleName()).getObjects());
+			assertEquals(1, timings.get(HsqlColumnReader.class.getSimpleName()).getCalls());
+			assertEquals(6, timings.get(HsqlColumnReader.class.getSimpleName()).getObjects());
+		}
+	}
+
+	@Test
+	void testGetAllFullByManyNames() throws SQLException {
+		SqlappDataSource dataSource = newDataSource();
+		try (Connection conn = dataSource.getConnection()) {
+			Dialect dialect = DialectResolver.getInstance().getDialect(conn);
+			for (String name : new String[] { "TAB_A", "TAB_B", "TAB_C" }) {
+				executeStatement(conn, "DROP TABLE " + name + " IF EXISTS");
+				executeStatement(conn, "CREATE TABLE " + name + " (ID INTEGER PRIMARY KEY, NAME VARCHAR(10))");
+			}
+			final List<Integer> inListSizes = CommonUtils.list();
+			TableReader reader = new HsqlTableReader(dialect) {
+				@Override
+				public List<Table> getAllFull(Connection connection, ParametersContext context) {
+					inListSizes.add(((Collection<?>) context.get(getNameLabel())).size());
+					return super.getAllFull(connection, context);
+				}
+			};
+			reader.setSchemaName("PUBLIC");
+			List<String> names = CommonUtils.list();
+			names.add("TAB_A");
+			for (int i = 0; i < 1200; i++) {
+				names.add("NO_TAB_" + i);
+			}
+			names.add("TAB_C");
+			List<Table> tables = reader.getAllFull(conn, names);
+			// 500件ごとにIN条件を分割する
+			assertEquals(Arrays.asList(500, 500, 202), inListSizes);
+			Set<String> tableNames = CommonUtils.set();
+			for (Table table : tables) {
+				tableNames.add(table.getName());
+				assertEquals(2, table.getColumns().size());
+			}
+			assertEquals(CommonUtils.set("TAB_A", "TAB_C"), tableNames);
+		}
+	}
+
 	protected void executeStatement(Connection conn, String sql) throws SQLException {
 		try (Statement stmt = conn.createStatement()) {
 			stmt.execute(sql);
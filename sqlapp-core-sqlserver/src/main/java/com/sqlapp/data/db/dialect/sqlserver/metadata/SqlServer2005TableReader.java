@@ -34,6 +34,7 @@ import com.sqlapp.data.parameter.ParametersContext;
 import com.sqlapp.data.schemas.Column;
 import com.sqlapp.data.schemas.ProductVersionInfo;
 import com.sqlapp.data.schemas.ReferenceColumn;
+import com.sqlapp.data.schemas.Statistics;
 import com.sqlapp.data.schemas.Table;
 import com.sqlapp.data.schemas.TableSpace;
 import com.sqlapp.jdbc.ExResultSet;
@@ -48,6 +49,49 @@ public class SqlServer2005TableReader extends SqlServer2000TableReader {
 		super(dialect);
 	}
 
+	/**
+	 * sys.tables.modify_dateはALTER文で更新されます
+	 */
+	@Override
+	public boolean isDdlTimestampSupported() {
+		return true;
+	}
+
+	/**
+	 * 拡張プロパティ(コメント)とトリガーの変更ではsys.tables.modify_dateが更新されないため、それらを持つテーブルを返します
+	 */
+	@Override
+	public DoubleKeyMap<String, String, Table> getUntrackedTables(final Connection connection,
+			final ParametersContext context) {
+		final SqlNode node = getSqlNodeCache().getString("untrackedTables2005.sql");
+		final DoubleKeyMap<String, String, Table> result = CommonUtils.doubleKeyMap();
+		execute(connection, node, context, new ResultSetNextHandler() {
+			@Override
+			public void handleResultSetNext(final ExResultSet rs) throws SQLException {
+				final Table table = new Table(getString(rs, TABLE_NAME));
+				table.setSchemaName(getString(rs, SCHEMA_NAME));
+				result.put(table.getSchemaName(), table.getName(), table);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * コメントの削除ではsys.tables.modify_dateが更新されないため、コメントを持つテーブルはtrueを返します
+	 */
+	@Override
+	public boolean hasUntrackedMetadata(final Table table) {
+		if (!CommonUtils.isEmpty(table.getRemarks())) {
+			return true;
+		}
+		for (final Column column : table.getColumns()) {
+			if (!CommonUtils.isEmpty(column.getRemarks())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * テーブル情報を取得します
 	 * 
@@ -152,6 +196,7 @@ public class SqlServer2005TableReader extends SqlServer2000TableReader {
 	protected Table createTable(final ExResultSet rs) throws SQLException {
 		final Table table = super.createTable(rs);
 		table.setLastAlteredAt(rs.getTimestamp("modify_date"));
+		Statistics.ROWS.setValue(rs, "num_rows", table);
 		final String partitionScheme=this.getString(rs, "partition_scheme");
 		if (!CommonUtils.isEmpty(partitionScheme)){
 			table.toPartitioning().getPartitioning().setPartitionSchemeName(partitionScheme);
@@ -6,6 +6,7 @@ SELECT
 	, t.object_id AS table_id
 	, t.create_date
 	, t.modify_date
+	, (SELECT SUM(pr.rows) FROM sys.partitions pr WHERE pr.object_id = t.object_id AND pr.index_id < 2) AS num_rows
 	, text_in_row_limit
 	, large_value_types_out_of_row
 	, COALESCE(objectproperty(t.object_id, 'TableHasVarDecimalStorageFormat'),0) AS has_var_decimal
@@ -6,6 +6,7 @@ SELECT
 	, t.object_id AS table_id
 	, t.create_date
 	, t.modify_date
+	, (SELECT SUM(pr.rows) FROM sys.partitions pr WHERE pr.object_id = t.object_id AND pr.index_id < 2) AS num_rows
 	, t.lock_escalation_desc AS lock_escalation
 	, text_in_row_limit
 	, p.data_compression_desc AS data_compression
@@ -0,0 +1,15 @@
+SELECT 
+	  s.name AS schema_name
+	, t.name AS table_name
+FROM sys.tables t
+INNER JOIN sys.schemas s
+  ON (t.schema_id = s.schema_id)
+WHERE (EXISTS(SELECT 1 FROM sys.extended_properties ex WHERE ex.class = 1 AND ex.major_id = t.object_id)
+   OR EXISTS(SELECT 1 FROM sys.triggers tr WHERE tr.parent_id = t.object_id))
+  /*if isNotEmpty(schemaName) */
+  AND s.name IN /*schemaName;type=NVARCHAR*/('%')
+  /*end*/
+  /*if isNotEmpty(tableName) */
+  AND t.name IN /*tableName;type=NVARCHAR*/('%')
+  /*end*/
+ORDER BY s.name, t.Name
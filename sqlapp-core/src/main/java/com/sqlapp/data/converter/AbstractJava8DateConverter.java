@@ -86,15 +86,54 @@ public abstract class AbstractJava8DateConverter<T extends Temporal, S> extends
 	protected static final LocalDateTime EPOC_DATE = LocalDateTime.of(EPOC_DAY, EPOC_TIME);
 
 	private boolean useSystemZone = true;
+	/**
+	 * 前回解析に成功したフォーマットを優先して使用するか
+	 */
+	private boolean learnParseFormat = false;
+	/**
+	 * 前回文字列全体の解析に成功したフォーマット
+	 */
+	private transient volatile DateTimeFormatter learnedParseFormat = null;
+	/**
+	 * 解析フォーマットごとの高速パーサー
+	 */
+	private transient volatile FastParsers fastParsers = null;
 
 	protected T parseDate(final String value) {
-		final int size = parseFormats.length;
+		final DateTimeFormatter learned = this.learnedParseFormat;
+		final boolean learn = isLearnParseFormat();
+		boolean learnedParsed = false;
+		T learnedDateTime = null;
 		DateTimeParseException ext = null;
+		if (learned != null && learn) {
+			learnedParsed = true;
+			try {
+				final ParsePosition position = new ParsePosition(0);
+				learnedDateTime = parse(value, learned, position);
+				if (learnedDateTime != null && isFullMatch(value, position)) {
+					return learnedDateTime;
+				}
+			} catch (final DateTimeParseException e) {
+				ext = e;
+			}
+		}
+		final int size = parseFormats.length;
 		for (int i = 0; i < size; i++) {
+			final DateTimeFormatter dateTimeFormatter = parseFormats[i];
+			if (learnedParsed && dateTimeFormatter == learned) {
+				// 記憶したフォーマットの解析結果を再利用する
+				if (learnedDateTime != null) {
+					return learnedDateTime;
+				}
+				continue;
+			}
 			try {
-				final DateTimeFormatter dateTimeFormatter = parseFormats[i];
-				final T dateTime = parse(value, dateTimeFormatter);
+				final ParsePosition position = new ParsePosition(0);
+				final T dateTime = parse(value, dateTimeFormatter, position);
 				if (dateTime != null) {
+					if (learn && isFullMatch(value, position)) {
+						this.learnedParseFormat = dateTimeFormatter;
+					}
 					return dateTime;
 				}
 			} catch (final DateTimeParseException e) {
@@ -107,7 +146,30 @@ public abstract class AbstractJava8DateConverter<T extends Temporal, S> extends
 		throw new UnsupportedOperationException(message, ext);
 	}
 
-	protected abstract T parse(String value, DateTimeFormatter dateTimeFormatter);
+	/**
+	 * 解析で文字列全体を使用したかを判定します。
+	 * 
+	 * @param value    文字列
+	 * @param position 解析後の位置
+	 * @return 文字列全体を解析した場合true
+	 */
+	private boolean isFullMatch(final String value, final ParsePosition position) {
+		return position.getErrorIndex() < 0 && position.getIndex() == value.length();
+	}
+
+	protected T parse(final String value, final DateTimeFormatter dateTimeFormatter) {
+		return parse(value, dateTimeFormatter, new ParsePosition(0));
+	}
+
+	/**
+	 * 文字列をフォーマットで解析します。
+	 * 
+	 * @param value             文字列
+	 * @param dateTimeFormatter フォーマット
+	 * @param position          解析後の位置を設定する{@link ParsePosition}
+	 * @return 解析できない場合null
+	 */
+	protected abstract T parse(String value, DateTimeFormatter dateTimeFormatter, ParsePosition position);
 
 	public DateTimeFormatter[] getParseFormats() {
 		return parseFormats;
@@ -146,6 +208,29 @@ public abstract class AbstractJava8DateConverter<T extends Temporal, S> extends
 		return instance();
 	}
 
+	/**
+	 * @return the learnParseFormat
+	 */
+	public boolean isLearnParseFormat() {
+		return learnParseFormat;
+	}
+
+	/**
+	 * 前回文字列全体の解析に成功したフォーマットを記憶し、次回以降はそのフォーマットを先に試すかを設定します。
+	 * <p>
+	 * CSVの列のように同じ形式の値が続く場合に、失敗するフォーマットの解析を省略できます。
+	 * 記憶したフォーマットで文字列全体を解析できない場合は、parseFormatsの先頭から解析します。
+	 * 列ごとに形式が異なる場合は、列ごとにコンバーターをcloneして使用してください。
+	 * </p>
+	 * 
+	 * @param learnParseFormat the learnParseFormat to set
+	 */
+	public S setLearnParseFormat(final boolean learnParseFormat) {
+		this.learnParseFormat = learnParseFormat;
+		this.learnedParseFormat = null;
+		return instance();
+	}
+
 	public S setParseFormats(final Object... parseFormats) {
 		if (CommonUtils.isEmpty(parseFormats)) {
 			return instance();
@@ -193,6 +278,7 @@ public abstract class AbstractJava8DateConverter<T extends Temporal, S> extends
 	}
 
 	public S setParseFormats(final DateTimeFormatter... parseFormats) {
+		this.learnedParseFormat = null;
 		if (!isEmpty(parseFormats)) {
 			this.parseFormats = linkedSet(parseFormats).toArray(new DateTimeFormatter[0]);
 			if (this.getFormat() != null) {
@@ -265,6 +351,9 @@ public abstract class AbstractJava8DateConverter<T extends Temporal, S> extends
 		if (!eq(this.getFormat(), con.getFormat())) {
 			return false;
 		}
+		if (this.isLearnParseFormat() != con.isLearnParseFormat()) {
+			return false;
+		}
 		return true;
 	}
 
@@ -351,8 +440,27 @@ public abstract class AbstractJava8DateConverter<T extends Temporal, S> extends
 	}
 
 	protected Temporal parseTemporal(final String value, final DateTimeFormatter dateTimeFormatter) {
-		final ParsePosition position = new ParsePosition(0);
-		final TemporalAccessor temporalAccessor = dateTimeFormatter.parseUnresolved(value, position);
+		return parseTemporal(value, dateTimeFormatter, new ParsePosition(0));
+	}
+
+	/**
+	 * 文字列をフォーマットで解析します。
+	 * 
+	 * @param value             文字列
+	 * @param dateTimeFormatter フォーマット
+	 * @param position          解析後の位置を設定する{@link ParsePosition}。文字列全体を解析した場合は文字列の長さになります。
+	 * @return 解析できない場合null
+	 */
+	protected Temporal parseTemporal(final String value, final DateTimeFormatter dateTimeFormatter,
+			final ParsePosition position) {
+		final FastTemporalParser parser = getFastParser(dateTimeFormatter);
+		TemporalAccessor temporalAccessor = parser != null ? parser.parse(value) : null;
+		if (temporalAccessor != null) {
+			// 高速パーサーは文字列全体を解析できた場合のみ結果を返す
+			position.setIndex(value.length());
+		} else {
+			temporalAccessor = dateTimeFormatter.parseUnresolved(value, position);
+		}
 		if (position.getErrorIndex() < 0) {
 			final int year = getYear(temporalAccessor);
 			final int month = getMonth(temporalAccessor);
@@ -415,6 +523,50 @@ public abstract class AbstractJava8DateConverter<T extends Temporal, S> extends
 		}
 	}
 
+	/**
+	 * parseFormatsに含まれるフォーマットの高速パーサーを取得します。
+	 * 
+	 * @param dateTimeFormatter フォーマット
+	 * @return 高速パーサー。対応していない場合はnull
+	 */
+	private FastTemporalParser getFastParser(final DateTimeFormatter dateTimeFormatter) {
+		final DateTimeFormatter[] formats = this.parseFormats;
+		if (formats == null) {
+			return null;
+		}
+		FastParsers parsers = this.fastParsers;
+		if (parsers == null || parsers.formats != formats) {
+			parsers = new FastParsers(formats);
+			this.fastParsers = parsers;
+		}
+		return parsers.get(dateTimeFormatter);
+	}
+
+	/**
+	 * parseFormatsと対応する高速パーサーの組
+	 */
+	private static final class FastParsers {
+		private final DateTimeFormatter[] formats;
+		private final FastTemporalParser[] parsers;
+
+		FastParsers(final DateTimeFormatter[] formats) {
+			this.formats = formats;
+			this.parsers = new FastTemporalParser[formats.length];
+			for (int i = 0; i < formats.length; i++) {
+				this.parsers[i] = FastTemporalParser.of(formats[i]);
+			}
+		}
+
+		FastTemporalParser get(final DateTimeFormatter dateTimeFormatter) {
+			for (int i = 0; i < formats.length; i++) {
+				if (formats[i] == dateTimeFormatter) {
+					return parsers[i];
+				}
+			}
+			return null;
+		}
+	}
+
 	protected ZoneId getDefaultZoneId() {
 		if (isUseSystemZone()) {
 			return ZoneId.systemDefault();
@@ -533,7 +685,9 @@ public abstract class AbstractJava8DateConverter<T extends Temporal, S> extends
 	@SuppressWarnings("unchecked")
 	public AbstractJava8DateConverter<T, S> clone() {
 		try {
-			return (AbstractJava8DateConverter<T, S>) super.clone();
+			final AbstractJava8DateConverter<T, S> clone = (AbstractJava8DateConverter<T, S>) super.clone();
+			clone.learnedParseFormat = null;
+			return clone;
 		} catch (final CloneNotSupportedException e) {
 			throw new RuntimeException(e);
 		}
@@ -19,7 +19,7 @@
 
 package com.sqlapp.data.converter;
 
-import static com.sqlapp.util.CommonUtils.map;
+import static com.sqlapp.util.CommonUtils.concurrentMap;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
@@ -47,6 +47,7 @@ import java.util.OptionalLong;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.geolatte.geom.Geometry;
 
@@ -73,7 +74,6 @@ import com.sqlapp.data.interval.IntervalSecond;
 import com.sqlapp.data.interval.IntervalYear;
 import com.sqlapp.data.interval.IntervalYearToDay;
 import com.sqlapp.data.interval.IntervalYearToMonth;
-import com.sqlapp.util.CommonUtils;
 
 /**
  * 
@@ -87,7 +87,17 @@ public class Converters implements Serializable {
 	 */
 	private static final long serialVersionUID = -7044716555455402735L;
 
-	private Map<Class<?>, Converter<?>> converterMap = map();
+	private Map<Class<?>, Converter<?>> converterMap = concurrentMap();
+
+	/**
+	 * 親クラスのコンバーターを登録したクラス。{@link #put(Class, Converter)}で登録が変わった場合に削除します。
+	 */
+	private final Set<Class<?>> inheritedClasses = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * 対応するコンバーターが存在しないクラス
+	 */
+	private final Set<Class<?>> unsupportedClasses = ConcurrentHashMap.newKeySet();
 
 	private static final Converters DEFAULT_CONVERTER = new Converters();
 	/**
@@ -593,57 +603,72 @@ public class Converters implements Serializable {
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	protected <S extends Converter<T>, T> S getConverterInternal(final Class<T> clazz) {
-		Converter<?> converter = converterMap.get(clazz);
-		if (converter == null) {
-			if (clazz.isArray()) {
-				final Class<?> componentType = clazz.getComponentType();
-				if (componentType.isEnum()) {
-					final EnumConverter enumConverter = new EnumConverter(componentType);
-					enumConverter.setEmptyToNull(this.isEnumEmptyToNull());
-					final EnumArrayConverter arrayConverter = new EnumArrayConverter(clazz, enumConverter);
-					this.put(clazz, arrayConverter);
-					return (S) arrayConverter;
-				}
-			} else if (clazz.isEnum()) {
-				final EnumConverter enumConverter = new EnumConverter(clazz);
+		final Converter<?> converter = converterMap.get(clazz);
+		if (converter != null) {
+			return (S) converter;
+		}
+		if (unsupportedClasses.contains(clazz)) {
+			return null;
+		}
+		if (clazz.isArray()) {
+			final Class<?> componentType = clazz.getComponentType();
+			if (componentType.isEnum()) {
+				final EnumConverter enumConverter = new EnumConverter(componentType);
 				enumConverter.setEmptyToNull(this.isEnumEmptyToNull());
-				this.put(clazz, enumConverter);
-				return (S) enumConverter;
-			} else {
-				converter = findConverter(clazz);
+				return (S) cacheConverter(clazz, new EnumArrayConverter(clazz, enumConverter));
 			}
+		} else if (clazz.isEnum()) {
+			final EnumConverter enumConverter = new EnumConverter(clazz);
+			enumConverter.setEmptyToNull(this.isEnumEmptyToNull());
+			return (S) cacheConverter(clazz, enumConverter);
 		}
-		return (S) converter;
+		final Converter<?> inherited = findConverter(clazz);
+		if (inherited == null) {
+			unsupportedClasses.add(clazz);
+			return null;
+		}
+		inheritedClasses.add(clazz);
+		return (S) cacheConverter(clazz, inherited);
 	}
 
-	private final Set<Class<?>> unsupportedClasses = CommonUtils.set();
+	/**
+	 * 解決したコンバーターを登録します。他のスレッドが先に登録していた場合は、登録済みのコンバーターを返します。
+	 * 
+	 * @param clazz     クラス
+	 * @param converter コンバーター
+	 * @return 登録されたコンバーター
+	 */
+	private Converter<?> cacheConverter(final Class<?> clazz, final Converter<?> converter) {
+		final Converter<?> current = converterMap.putIfAbsent(clazz, converter);
+		return current != null ? current : converter;
+	}
 
 	@SuppressWarnings("unchecked")
 	protected <T> Converter<T> findConverter(final Class<T> clazz) {
-		Converter<T> converter = null;
-		if (unsupportedClasses.contains(clazz)) {
-			return null;
-		}
 		for (final Map.Entry<Class<?>, Converter<?>> entry : converterMap.entrySet()) {
 			if (entry.getKey().isAssignableFrom(clazz)) {
-				converter = (Converter<T>) entry.getValue();
-				break;
+				return (Converter<T>) entry.getValue();
 			}
 		}
-		if (converter != null) {
-			converterMap.put(clazz, converter);
-		} else {
-			unsupportedClasses.add(clazz);
-		}
-		return converter;
+		return null;
 	}
 
+	/**
+	 * 登録されたコンバーターのMapを返します。直接変更した場合は親クラスのコンバーターを使用するクラスに反映されないため、
+	 * {@link #put(Class, Converter)}を使用してください。
+	 * 
+	 * @return 登録されたコンバーターのMap
+	 */
 	public Map<Class<?>, Converter<?>> getConverterMap() {
 		return converterMap;
 	}
 
 	public void setConverterMap(final Map<Class<?>, Converter<?>> converterMap) {
-		this.converterMap = converterMap;
+		final Map<Class<?>, Converter<?>> map = concurrentMap();
+		map.putAll(converterMap);
+		this.converterMap = map;
+		inheritedClasses.clear();
+		unsupportedClasses.clear();
 	}
 
 	/**
@@ -652,11 +677,25 @@ public class Converters implements Serializable {
 	 * @param converter
 	 */
 	public Converters put(final Class<?> clazz, final Converter<?> converter) {
+		inheritedClasses.remove(clazz);
 		getConverterMap().put(clazz, converter);
-		unsupportedClasses.remove(clazz);
+		clearResolved();
 		return this;
 	}
 
+	/**
+	 * 親クラスのコンバーターの解決結果を破棄します
+	 */
+	private void clearResolved() {
+		if (!inheritedClasses.isEmpty()) {
+			for (final Class<?> clazz : inheritedClasses) {
+				converterMap.remove(clazz);
+			}
+			inheritedClasses.clear();
+		}
+		unsupportedClasses.clear();
+	}
+
 	private void puts(final Converter<?> converter, final Class<?>... clazzs) {
 		for (final Class<?> clazz : clazzs) {
 			put(clazz, converter);
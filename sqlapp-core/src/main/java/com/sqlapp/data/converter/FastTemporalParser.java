@@ -0,0 +1,443 @@
+/**
+ * Copyright (C) 2007-2017 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-core.
+ *
+ * sqlapp-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+
+
+package com.sqlapp.data.converter;
+
+import java.time.format.DateTimeFormatter;
+import java.time.format.DecimalStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 数値フィールドと1文字のリテラルだけで構成されたDateTimeFormatterを例外なしで解析する高速パーサー。
+ * <p>
+ * uuuu-MM-dd HH:mm:ss、uuuu-M-d H:m:s.SSS、ISO_LOCAL_DATE_TIMEなどの形式が対象です。
+ * 解析結果は{@link DateTimeFormatter#parseUnresolved(CharSequence, java.text.ParsePosition)}
+ * と同じフィールドを返します。 文字列全体を解析できなかった場合はnullを返すので、その場合は元のDateTimeFormatterで解析してください。
+ * </p>
+ */
+final class FastTemporalParser {
+
+	private static final String CASE_INSENSITIVE = "ParseCaseSensitive(false)";
+
+	private static final ChronoField[] SUPPORTED_FIELDS = new ChronoField[] { ChronoField.YEAR,
+			ChronoField.YEAR_OF_ERA, ChronoField.MONTH_OF_YEAR, ChronoField.DAY_OF_MONTH, ChronoField.HOUR_OF_DAY,
+			ChronoField.MINUTE_OF_HOUR, ChronoField.SECOND_OF_MINUTE, ChronoField.NANO_OF_SECOND };
+
+	private final Element[] elements;
+
+	private FastTemporalParser(final Element[] elements) {
+		this.elements = elements;
+	}
+
+	/**
+	 * DateTimeFormatterから高速パーサーを作成します。
+	 * 
+	 * @param formatter フォーマッター
+	 * @return 高速パーサー。対応していないフォーマッターの場合はnull
+	 */
+	static FastTemporalParser of(final DateTimeFormatter formatter) {
+		if (formatter == null || formatter.getZone() != null
+				|| !DecimalStyle.STANDARD.equals(formatter.getDecimalStyle())) {
+			return null;
+		}
+		String text = formatter.toString();
+		boolean caseSensitive = true;
+		if (text.startsWith(CASE_INSENSITIVE)) {
+			caseSensitive = false;
+			text = text.substring(CASE_INSENSITIVE.length());
+		}
+		final Compiler compiler = new Compiler(text, caseSensitive);
+		final Element[] elements;
+		try {
+			elements = compiler.sequence((char) 0);
+		} catch (final NumberFormatException e) {
+			return null;
+		}
+		if (elements == null || elements.length == 0) {
+			return null;
+		}
+		return new FastTemporalParser(elements);
+	}
+
+	/**
+	 * 文字列全体を解析します。
+	 * 
+	 * @param text 文字列
+	 * @return 解析結果。文字列全体を解析できなかった場合はnull
+	 */
+	TemporalAccessor parse(final CharSequence text) {
+		final Parsed parsed = new Parsed();
+		final int pos = parse(elements, text, 0, parsed);
+		if (pos != text.length()) {
+			return null;
+		}
+		return parsed;
+	}
+
+	private static int parse(final Element[] elements, final CharSequence text, int position, final Parsed parsed) {
+		for (final Element element : elements) {
+			position = element.parse(text, position, parsed);
+			if (position < 0) {
+				return position;
+			}
+		}
+		return position;
+	}
+
+	/**
+	 * toStringの表現からパーサーの要素を組み立てるクラス
+	 */
+	private static final class Compiler {
+		private final String text;
+		private final boolean caseSensitive;
+		private int index = 0;
+		/**
+		 * 直前が数値の要素か(隣接した数値の解析はDateTimeFormatterと挙動が変わるため対象外とする)
+		 */
+		private boolean previousNumber = false;
+
+		Compiler(final String text, final boolean caseSensitive) {
+			this.text = text;
+			this.caseSensitive = caseSensitive;
+		}
+
+		Element[] sequence(final char close) {
+			final List<Element> result = new ArrayList<>();
+			while (index < text.length()) {
+				final char c = text.charAt(index);
+				if (c == close) {
+					index++;
+					return result.toArray(new Element[0]);
+				}
+				if (c == '\'') {
+					final Element literal = literal();
+					if (literal == null) {
+						return null;
+					}
+					result.add(literal);
+					previousNumber = false;
+				} else if (c == '(') {
+					index++;
+					final Element[] children = sequence(')');
+					if (children == null) {
+						return null;
+					}
+					for (final Element child : children) {
+						result.add(child);
+					}
+				} else if (c == '[') {
+					index++;
+					final Element[] children = sequence(']');
+					if (children == null) {
+						return null;
+					}
+					result.add(new OptionalElement(children));
+					previousNumber = true;
+				} else if (text.startsWith("Value(", index)) {
+					final Element value = value();
+					if (value == null) {
+						return null;
+					}
+					result.add(value);
+				} else if (text.startsWith("Fraction(", index)) {
+					final Element fraction = fraction();
+					if (fraction == null) {
+						return null;
+					}
+					result.add(fraction);
+				} else {
+					return null;
+				}
+			}
+			if (close != 0) {
+				return null;
+			}
+			return result.toArray(new Element[0]);
+		}
+
+		private Element literal() {
+			if (text.startsWith("''", index)) {
+				index += 2;
+				return new LiteralElement('\'', caseSensitive);
+			}
+			if (index + 2 < text.length() && text.charAt(index + 2) == '\'') {
+				final char c = text.charAt(index + 1);
+				index += 3;
+				return new LiteralElement(c, caseSensitive);
+			}
+			return null;
+		}
+
+		private String[] arguments(final String name) {
+			final int start = index + name.length() + 1;
+			final int end = text.indexOf(')', start);
+			if (end < 0) {
+				return null;
+			}
+			index = end + 1;
+			return text.substring(start, end).split(",");
+		}
+
+		private Element value() {
+			if (previousNumber) {
+				return null;
+			}
+			final String[] args = arguments("Value");
+			if (args == null) {
+				return null;
+			}
+			final ChronoField field = toField(args[0]);
+			if (field == null) {
+				return null;
+			}
+			final ValueElement element;
+			if (args.length == 1) {
+				element = new ValueElement(field, 1, 19, false);
+			} else if (args.length == 2) {
+				final int width = Integer.parseInt(args[1]);
+				element = new ValueElement(field, width, width, false);
+			} else if (args.length == 4) {
+				final String signStyle = args[3];
+				if (!"NORMAL".equals(signStyle) && !"NOT_NEGATIVE".equals(signStyle) && !"NEVER".equals(signStyle)
+						&& !"EXCEEDS_PAD".equals(signStyle)) {
+					return null;
+				}
+				element = new ValueElement(field, Integer.parseInt(args[1]), Integer.parseInt(args[2]),
+						"EXCEEDS_PAD".equals(signStyle));
+			} else {
+				return null;
+			}
+			previousNumber = true;
+			return element;
+		}
+
+		private Element fraction() {
+			final String[] args = arguments("Fraction");
+			if (args == null || args.length < 3 || args.length > 4) {
+				return null;
+			}
+			if (toField(args[0]) != ChronoField.NANO_OF_SECOND) {
+				return null;
+			}
+			final boolean decimalPoint = args.length == 4;
+			if (decimalPoint && !"DecimalPoint".equals(args[3])) {
+				return null;
+			}
+			final int minWidth = Integer.parseInt(args[1]);
+			final int maxWidth = Integer.parseInt(args[2]);
+			if (!decimalPoint && (previousNumber || minWidth != maxWidth)) {
+				return null;
+			}
+			previousNumber = true;
+			return new FractionElement(minWidth, maxWidth, decimalPoint);
+		}
+
+		private static ChronoField toField(final String name) {
+			for (final ChronoField field : SUPPORTED_FIELDS) {
+				if (field.toString().equals(name)) {
+					return field;
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * 解析の要素
+	 */
+	private interface Element {
+		/**
+		 * @return 解析後の位置。解析できなかった場合は負の値
+		 */
+		int parse(CharSequence text, int position, Parsed parsed);
+	}
+
+	private static final class LiteralElement implements Element {
+		private final char literal;
+		private final boolean caseSensitive;
+
+		LiteralElement(final char literal, final boolean caseSensitive) {
+			this.literal = literal;
+			this.caseSensitive = caseSensitive;
+		}
+
+		@Override
+		public int parse(final CharSequence text, final int position, final Parsed parsed) {
+			if (position == text.length()) {
+				return ~position;
+			}
+			final char c = text.charAt(position);
+			if (c == literal) {
+				return position + 1;
+			}
+			if (!caseSensitive && (Character.toUpperCase(c) == Character.toUpperCase(literal)
+					|| Character.toLowerCase(c) == Character.toLowerCase(literal))) {
+				return position + 1;
+			}
+			return ~position;
+		}
+	}
+
+	private static final class ValueElement implements Element {
+		/**
+		 * longで扱える桁数
+		 */
+		private static final int MAX_DIGITS = 18;
+		private final ChronoField field;
+		private final int minWidth;
+		private final int maxWidth;
+		private final boolean exceedsPad;
+
+		ValueElement(final ChronoField field, final int minWidth, final int maxWidth, final boolean exceedsPad) {
+			this.field = field;
+			this.minWidth = minWidth;
+			this.maxWidth = Math.min(maxWidth, MAX_DIGITS);
+			this.exceedsPad = exceedsPad;
+		}
+
+		@Override
+		public int parse(final CharSequence text, final int position, final Parsed parsed) {
+			final int end = Math.min(position + maxWidth, text.length());
+			long total = 0;
+			int pos = position;
+			while (pos < end) {
+				final char c = text.charAt(pos);
+				if (c < '0' || c > '9') {
+					break;
+				}
+				total = total * 10 + (c - '0');
+				pos++;
+			}
+			final int length = pos - position;
+			if (length == 0 || length < minWidth || (exceedsPad && length > minWidth)) {
+				// 符号付き、桁あふれなどはDateTimeFormatterに任せる
+				return ~position;
+			}
+			return parsed.set(field, total) ? pos : ~position;
+		}
+	}
+
+	private static final class FractionElement implements Element {
+		private static final int[] SCALES = new int[] { 1000000000, 100000000, 10000000, 1000000, 100000, 10000,
+				1000, 100, 10, 1 };
+		private final int minWidth;
+		private final int maxWidth;
+		private final boolean decimalPoint;
+
+		FractionElement(final int minWidth, final int maxWidth, final boolean decimalPoint) {
+			this.minWidth = minWidth;
+			this.maxWidth = maxWidth;
+			this.decimalPoint = decimalPoint;
+		}
+
+		@Override
+		public int parse(final CharSequence text, int position, final Parsed parsed) {
+			final int length = text.length();
+			if (position == length) {
+				return minWidth > 0 ? ~position : position;
+			}
+			if (decimalPoint) {
+				if (text.charAt(position) != '.') {
+					return minWidth > 0 ? ~position : position;
+				}
+				position++;
+			}
+			if (position + minWidth > length) {
+				return ~position;
+			}
+			final int end = Math.min(position + maxWidth, length);
+			int total = 0;
+			int pos = position;
+			while (pos < end) {
+				final char c = text.charAt(pos);
+				if (c < '0' || c > '9') {
+					break;
+				}
+				total = total * 10 + (c - '0');
+				pos++;
+			}
+			if (pos - position < minWidth) {
+				return ~position;
+			}
+			return parsed.set(ChronoField.NANO_OF_SECOND, (long) total * SCALES[pos - position]) ? pos : ~position;
+		}
+	}
+
+	private static final class OptionalElement implements Element {
+		private final Element[] elements;
+
+		OptionalElement(final Element[] elements) {
+			this.elements = elements;
+		}
+
+		@Override
+		public int parse(final CharSequence text, final int position, final Parsed parsed) {
+			final long fields = parsed.fields;
+			final int pos = FastTemporalParser.parse(elements, text, position, parsed);
+			if (pos < 0) {
+				parsed.fields = fields;
+				return position;
+			}
+			return pos;
+		}
+	}
+
+	/**
+	 * 解析したフィールドを保持するTemporalAccessor
+	 */
+	private static final class Parsed implements TemporalAccessor {
+		private final long[] values = new long[ChronoField.values().length];
+		/**
+		 * 解析済みフィールドのビット
+		 */
+		private long fields = 0;
+
+		boolean set(final ChronoField field, final long value) {
+			final long bit = 1L << field.ordinal();
+			if ((fields & bit) != 0) {
+				return values[field.ordinal()] == value;
+			}
+			values[field.ordinal()] = value;
+			fields |= bit;
+			return true;
+		}
+
+		@Override
+		public boolean isSupported(final TemporalField field) {
+			if (field instanceof ChronoField) {
+				return (fields & (1L << ((ChronoField) field).ordinal())) != 0;
+			}
+			return false;
+		}
+
+		@Override
+		public long getLong(final TemporalField field) {
+			if (!isSupported(field)) {
+				throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+			}
+			return values[((ChronoField) field).ordinal()];
+		}
+	}
+}
@@ -21,6 +21,7 @@ package com.sqlapp.data.converter;
 
 import static com.sqlapp.util.CommonUtils.isEmpty;
 
+import java.text.ParsePosition;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
@@ -112,8 +113,9 @@ public class InstantConverter extends AbstractJava8DateConverter<Instant, Instan
 	}
 
 	@Override
-	protected Instant parse(final String value, final DateTimeFormatter dateTimeFormatter) {
-		final Temporal temporal = parseTemporal(value, dateTimeFormatter);
+	protected Instant parse(final String value, final DateTimeFormatter dateTimeFormatter,
+			final ParsePosition position) {
+		final Temporal temporal = parseTemporal(value, dateTimeFormatter, position);
 		if (temporal == null) {
 			return null;
 		}
@@ -22,6 +22,7 @@ package com.sqlapp.data.converter;
 import static com.sqlapp.util.CommonUtils.cast;
 import static com.sqlapp.util.CommonUtils.isEmpty;
 
+import java.text.ParsePosition;
 import java.time.LocalDate;
 import java.time.Period;
 import java.time.Year;
@@ -132,8 +133,9 @@ public class JapaneseDateConverter extends AbstractJava8DateConverter<JapaneseDa
 	}
 
 	@Override
-	protected JapaneseDate parse(final String value, final DateTimeFormatter dateTimeFormatter) {
-		final Temporal temporal = parseTemporal(value, dateTimeFormatter);
+	protected JapaneseDate parse(final String value, final DateTimeFormatter dateTimeFormatter,
+			final ParsePosition position) {
+		final Temporal temporal = parseTemporal(value, dateTimeFormatter, position);
 		if (temporal == null) {
 			return null;
 		}
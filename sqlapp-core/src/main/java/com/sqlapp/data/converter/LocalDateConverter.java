@@ -22,6 +22,7 @@ package com.sqlapp.data.converter;
 import static com.sqlapp.util.CommonUtils.cast;
 import static com.sqlapp.util.CommonUtils.isEmpty;
 
+import java.text.ParsePosition;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Period;
@@ -114,8 +115,9 @@ public class LocalDateConverter extends AbstractJava8DateConverter<LocalDate, Lo
 	}
 
 	@Override
-	protected LocalDate parse(final String value, final DateTimeFormatter dateTimeFormatter) {
-		final Temporal temporal = parseTemporal(value, dateTimeFormatter);
+	protected LocalDate parse(final String value, final DateTimeFormatter dateTimeFormatter,
+			final ParsePosition position) {
+		final Temporal temporal = parseTemporal(value, dateTimeFormatter, position);
 		if (temporal == null) {
 			return null;
 		}
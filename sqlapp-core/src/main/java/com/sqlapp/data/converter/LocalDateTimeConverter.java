@@ -22,6 +22,7 @@ package com.sqlapp.data.converter;
 import static com.sqlapp.util.CommonUtils.cast;
 import static com.sqlapp.util.CommonUtils.isEmpty;
 
+import java.text.ParsePosition;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -118,8 +119,8 @@ public class LocalDateTimeConverter extends AbstractJava8DateConverter<LocalDate
 	}
 
 	@Override
-	protected LocalDateTime parse(String value, DateTimeFormatter dateTimeFormatter) {
-		Temporal temporal = parseTemporal(value, dateTimeFormatter);
+	protected LocalDateTime parse(String value, DateTimeFormatter dateTimeFormatter, ParsePosition position) {
+		Temporal temporal = parseTemporal(value, dateTimeFormatter, position);
 		if (temporal == null) {
 			return null;
 		}
@@ -23,6 +23,7 @@ import static com.sqlapp.util.CommonUtils.cast;
 import static com.sqlapp.util.CommonUtils.isEmpty;
 
 import java.sql.Time;
+import java.text.ParsePosition;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalTime;
@@ -122,8 +123,9 @@ public class LocalTimeConverter extends AbstractJava8DateConverter<LocalTime, Lo
 	}
 
 	@Override
-	protected LocalTime parse(final String value, final DateTimeFormatter dateTimeFormatter) {
-		final Temporal temporal = parseTemporal(value, dateTimeFormatter);
+	protected LocalTime parse(final String value, final DateTimeFormatter dateTimeFormatter,
+			final ParsePosition position) {
+		final Temporal temporal = parseTemporal(value, dateTimeFormatter, position);
 		if (temporal == null) {
 			return null;
 		}
@@ -22,6 +22,7 @@ package com.sqlapp.data.converter;
 import static com.sqlapp.util.CommonUtils.cast;
 import static com.sqlapp.util.CommonUtils.isEmpty;
 
+import java.text.ParsePosition;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
@@ -135,8 +136,8 @@ public class OffsetDateTimeConverter extends AbstractJava8OffsetConverter<Offset
 	}
 
 	@Override
-	protected OffsetDateTime parse(String value, DateTimeFormatter dateTimeFormatter) {
-		Temporal temporal = parseTemporal(value, dateTimeFormatter);
+	protected OffsetDateTime parse(String value, DateTimeFormatter dateTimeFormatter, ParsePosition position) {
+		Temporal temporal = parseTemporal(value, dateTimeFormatter, position);
 		if (temporal == null) {
 			return null;
 		}
@@ -22,6 +22,7 @@ package com.sqlapp.data.converter;
 import static com.sqlapp.util.CommonUtils.cast;
 import static com.sqlapp.util.CommonUtils.isEmpty;
 
+import java.text.ParsePosition;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -133,8 +134,8 @@ public class OffsetTimeConverter extends AbstractJava8OffsetConverter<OffsetTime
 	}
 
 	@Override
-	protected OffsetTime parse(String value, DateTimeFormatter dateTimeFormatter) {
-		Temporal temporal = parseTemporal(value, dateTimeFormatter);
+	protected OffsetTime parse(String value, DateTimeFormatter dateTimeFormatter, ParsePosition position) {
+		Temporal temporal = parseTemporal(value, dateTimeFormatter, position);
 		if (temporal == null) {
 			return null;
 		}
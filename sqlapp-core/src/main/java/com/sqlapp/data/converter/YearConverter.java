@@ -22,6 +22,7 @@ package com.sqlapp.data.converter;
 import static com.sqlapp.util.CommonUtils.cast;
 import static com.sqlapp.util.CommonUtils.isEmpty;
 
+import java.text.ParsePosition;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
@@ -123,8 +124,9 @@ public class YearConverter extends AbstractJava8DateConverter<Year, YearConverte
 	}
 
 	@Override
-	protected Year parse(final String value, final DateTimeFormatter dateTimeFormatter) {
-		final Temporal temporal = parseTemporal(value, dateTimeFormatter);
+	protected Year parse(final String value, final DateTimeFormatter dateTimeFormatter,
+			final ParsePosition position) {
+		final Temporal temporal = parseTemporal(value, dateTimeFormatter, position);
 		if (temporal == null) {
 			return null;
 		}
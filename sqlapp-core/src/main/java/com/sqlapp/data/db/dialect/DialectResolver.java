@@ -21,6 +21,8 @@ package com.sqlapp.data.db.dialect;
 
 import static com.sqlapp.util.DbUtils.getDatabaseMetaData;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Modifier;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
@@ -32,6 +34,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
 import org.apache.logging.log4j.LogManager;
@@ -40,6 +43,7 @@ import org.apache.logging.log4j.Logger;
 import com.sqlapp.data.db.dialect.resolver.DefaultDialectResolver;
 import com.sqlapp.data.db.dialect.resolver.ProductNameDialectResolver;
 import com.sqlapp.data.schemas.ProductVersionInfo;
+import com.sqlapp.jdbc.AbstractConnection;
 import com.sqlapp.util.ClassFinder;
 import com.sqlapp.util.CommonUtils;
 import com.sqlapp.util.DbUtils;
@@ -58,6 +62,15 @@ public class DialectResolver extends AbstractDialectResolver {
 
 	private final Map<String, ProductNameDialectResolver> resolverMap = new ConcurrentHashMap<String, ProductNameDialectResolver>();
 
+	/**
+	 * コネクション毎のDB方言のキャッシュ。コネクションが参照されなくなると削除されます。
+	 */
+	private final ConnectionDialectCache connectionDialectCache = new ConnectionDialectCache();
+	/**
+	 * DatabaseMetaDataからDB方言を解決した回数
+	 */
+	private final AtomicLong metadataResolveCount = new AtomicLong();
+
 	private static volatile DialectResolver instance;
 
 	private static final Dialect DEFAULT_DIALECT = new Dialect(null);
@@ -158,12 +171,30 @@ public class DialectResolver extends AbstractDialectResolver {
 	}
 
 	/**
-	 * Dialectの取得
+	 * Dialectの取得。解決したDialectはコネクション毎にキャッシュします。
+	 * 
+	 * {@link AbstractConnection}の場合はコネクションが保持するDialectを使用するため、キャッシュを検索しません。
+	 * それ以外のコネクションのキャッシュの検索はロックを取得しませんが、検索ごとに弱参照のキーを1つ生成します。
 	 * 
 	 * @param connection
+	 * @throws RuntimeException Dialectを解決できない場合
 	 */
 	public Dialect getDialect(final Connection connection) {
-		return getDialect(getDatabaseMetaData(connection));
+		if (connection instanceof AbstractConnection) {
+			final AbstractConnection abstractConnection = (AbstractConnection) connection;
+			final Dialect dialect = abstractConnection.getDialect();
+			if (dialect != null) {
+				return dialect;
+			}
+			// AbstractConnection#getDialect()は解決の失敗をログに出力してnullを返すため、元のコネクションで解決して例外を返す
+			return getDialect(abstractConnection.getNativeObject());
+		}
+		Dialect dialect = connectionDialectCache.get(connection);
+		if (dialect == null) {
+			dialect = getDialect(getDatabaseMetaData(connection));
+			connectionDialectCache.put(connection, dialect);
+		}
+		return dialect;
 	}
 
 	/**
@@ -173,18 +204,36 @@ public class DialectResolver extends AbstractDialectResolver {
 	 */
 	public Dialect getDialect(final ResultSet rs) {
 		try {
-			return getDialect(getDatabaseMetaData(rs.getStatement().getConnection()));
+			return getDialect(rs.getStatement().getConnection());
 		} catch (SQLException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	/**
+	 * コネクションのDialectのキャッシュを削除します
+	 * 
+	 * @param connection
+	 */
+	public void removeCache(final Connection connection) {
+		connectionDialectCache.remove(connection);
+	}
+
+	/**
+	 * DatabaseMetaDataからDialectを解決した回数を返します
+	 * 
+	 */
+	public long getMetadataResolveCount() {
+		return metadataResolveCount.get();
+	}
+
 	/**
 	 * Dialectの取得
 	 * 
 	 * @param databaseMetaData
 	 */
 	public Dialect getDialect(final DatabaseMetaData databaseMetaData) {
+		metadataResolveCount.incrementAndGet();
 		final ProductVersionInfo productVersionInfo = DbUtils.getProductVersionInfo(databaseMetaData);
 		return getDialect(productVersionInfo.getName(), productVersionInfo.getMajorVersion(),
 				productVersionInfo.getMinorVersion(), productVersionInfo.getRevision());
@@ -220,4 +269,73 @@ public class DialectResolver extends AbstractDialectResolver {
 	private Map<String, ProductNameDialectResolver> getResolverMap() {
 		return resolverMap;
 	}
+
+	/**
+	 * コネクションを弱参照のキーにしたDB方言のキャッシュ。検索はロックを取得しません。
+	 */
+	static final class ConnectionDialectCache {
+
+		private final Map<ConnectionKey, Dialect> dialects = new ConcurrentHashMap<>();
+
+		private final ReferenceQueue<Connection> queue = new ReferenceQueue<>();
+
+		Dialect get(final Connection connection) {
+			return dialects.get(new ConnectionKey(connection, null));
+		}
+
+		void put(final Connection connection, final Dialect dialect) {
+			expunge();
+			dialects.put(new ConnectionKey(connection, queue), dialect);
+		}
+
+		void remove(final Connection connection) {
+			dialects.remove(new ConnectionKey(connection, null));
+			expunge();
+		}
+
+		int size() {
+			expunge();
+			return dialects.size();
+		}
+
+		/**
+		 * 参照されなくなったコネクションのキャッシュを削除します
+		 */
+		private void expunge() {
+			Object key;
+			while ((key = queue.poll()) != null) {
+				dialects.remove(key);
+			}
+		}
+	}
+
+	/**
+	 * コネクションの同一性で比較する弱参照のキー
+	 */
+	static final class ConnectionKey extends WeakReference<Connection> {
+
+		private final int hash;
+
+		ConnectionKey(final Connection connection, final ReferenceQueue<Connection> queue) {
+			super(connection, queue);
+			this.hash = System.identityHashCode(connection);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ConnectionKey)) {
+				return false;
+			}
+			final Connection connection = get();
+			return connection != null && connection == ((ConnectionKey) obj).get();
+		}
+	}
 }
@@ -20,10 +20,14 @@
 package com.sqlapp.data.db.metadata;
 
 import java.sql.Connection;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 import com.sqlapp.data.db.dialect.Dialect;
 import com.sqlapp.data.parameter.ParametersContext;
 import com.sqlapp.data.schemas.AbstractNamedObject;
+import com.sqlapp.util.CommonUtils;
 
 public abstract class AbstractNamedMetadataReader<T extends AbstractNamedObject<?>, S> extends MetadataReader<T, S> {
 
@@ -50,6 +54,53 @@ public abstract class AbstractNamedMetadataReader<T extends AbstractNamedObject<
 		this.objectName = objectName;
 	}
 
+	/**
+	 * IN条件に指定する名前の最大件数(Oracleは1000件、SQL Serverはパラメタ2100個が上限)
+	 */
+	public static final int MAX_IN_LIST_SIZE = 500;
+
+	/**
+	 * 指定した名前のオブジェクトの全メタデータをまとめて取得します。名前は{@link #MAX_IN_LIST_SIZE}件ごとのIN条件で検索します。
+	 * 
+	 * @param connection
+	 * @param objectNames オブジェクト名
+	 */
+	public List<T> getAllFull(final Connection connection, final Collection<String> objectNames) {
+		if (CommonUtils.isEmpty(objectNames)) {
+			return CommonUtils.list();
+		}
+		final ParametersContext context = defaultParametersContext(connection);
+		final Set<String> names = CommonUtils.linkedSet();
+		for (final String name : objectNames) {
+			names.add(nativeCaseString(connection, name));
+		}
+		return getAllFull(connection, context, names);
+	}
+
+	/**
+	 * 指定したコンテキストで、指定した名前のオブジェクトの全メタデータをまとめて取得します。名前は{@link #MAX_IN_LIST_SIZE}件ごとのIN条件で検索します。
+	 * 
+	 * @param connection
+	 * @param context     パラメタコンテキスト
+	 * @param objectNames オブジェクト名
+	 */
+	public List<T> getAllFull(final Connection connection, final ParametersContext context,
+			final Collection<String> objectNames) {
+		final List<T> result = CommonUtils.list();
+		if (CommonUtils.isEmpty(objectNames)) {
+			return result;
+		}
+		final List<String> names = CommonUtils.list(objectNames.size());
+		names.addAll(objectNames);
+		for (int i = 0; i < names.size(); i += MAX_IN_LIST_SIZE) {
+			final ParametersContext chunkContext = context.clone();
+			chunkContext.put(getNameLabel(), CommonUtils.linkedSet(names.subList(i,
+					Math.min(i + MAX_IN_LIST_SIZE, names.size()))));
+			result.addAll(getAllFull(connection, chunkContext));
+		}
+		return result;
+	}
+
 	public abstract void loadFull(Connection connection, S target);
 
 	public abstract void load(Connection connection, S target);
@@ -77,6 +77,16 @@ public abstract class AbstractSchemaObjectReader<T extends AbstractSchemaObject<
 	@Override
 	public void loadFull(final Connection connection, final Schema schema) {
 		final List<T> list=getAllFull(connection);
+		addAll(schema, list);
+	}
+
+	/**
+	 * 読み込んだオブジェクトをスキーマに追加します
+	 * 
+	 * @param schema
+	 * @param list
+	 */
+	void addAll(final Schema schema, final List<T> list){
 		final int size=list.size();
 		final AbstractSchemaObjectCollection<T> c=getSchemaObjectList(schema);
 		for(int i=0;i<size;i++){
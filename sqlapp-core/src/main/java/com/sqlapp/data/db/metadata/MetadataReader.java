@@ -31,8 +31,17 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
+import javax.sql.DataSource;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -362,17 +371,189 @@ public abstract class MetadataReader<T extends DbObject<?>, S> {
 		return getAllFull(connection, context);
 	}
 
+	/**
+	 * 並列読み込み時にコネクションを取得するデータソース
+	 */
+	private DataSource dataSource = null;
+	/**
+	 * 並列読み込みの並列度
+	 */
+	private Integer parallelism = null;
+	/**
+	 * 並列読み込みでデータソースから同時に取得するコネクション数の上限
+	 */
+	private volatile Semaphore parallelBudget = null;
+	/**
+	 * 読み込み時間の集計
+	 */
+	private MetadataReaderTimings timings = null;
+
+	/**
+	 * @return 並列読み込み時にコネクションを取得するデータソース
+	 */
+	public DataSource getDataSource() {
+		if (dataSource != null) {
+			return dataSource;
+		}
+		if (this.getParent() != null) {
+			return this.getParent().getDataSource();
+		}
+		return null;
+	}
+
+	/**
+	 * 並列読み込み時にコネクションを取得するデータソースを設定します。
+	 * 
+	 * @param dataSource データソース
+	 */
+	public void setDataSource(final DataSource dataSource) {
+		this.dataSource = dataSource;
+	}
+
+	/**
+	 * @return 並列読み込みの並列度
+	 */
+	public int getParallelism() {
+		if (parallelism != null) {
+			return parallelism.intValue();
+		}
+		if (this.getParent() != null) {
+			return this.getParent().getParallelism();
+		}
+		return 1;
+	}
+
+	/**
+	 * 並列読み込みの並列度を設定します。データソースを設定し、2以上を指定した場合に、独立した子のReaderを並列に実行します。
+	 * <p>
+	 * 並列度はこのReaderと並列度を設定していない子孫のReaderで共有する、データソースから同時に取得するコネクション数の上限です。
+	 * 並列に実行する処理は呼び出し元とは別のコネクションを使用するため、呼び出し元のコネクションで設定したカレントスキーマなどのセッションの状態は引き継がれません。
+	 * </p>
+	 * 
+	 * @param parallelism 並列度
+	 */
+	public void setParallelism(final int parallelism) {
+		this.parallelism = parallelism;
+		this.parallelBudget = null;
+	}
+
+	/**
+	 * 並列読み込みでデータソースから同時に取得するコネクション数の上限を返します。
+	 * 並列度を設定していない場合は親のReaderと共有します。
+	 */
+	private Semaphore getParallelBudget() {
+		final MetadataReader<?, ?> parent = this.getParent();
+		if (parallelism == null && parent != null) {
+			return parent.getParallelBudget();
+		}
+		Semaphore budget = parallelBudget;
+		if (budget == null) {
+			synchronized (this) {
+				budget = parallelBudget;
+				if (budget == null) {
+					budget = new Semaphore(getParallelism());
+					parallelBudget = budget;
+				}
+			}
+		}
+		return budget;
+	}
+
+	/**
+	 * @return 読み込み時間の集計
+	 */
+	public MetadataReaderTimings getTimings() {
+		if (timings != null) {
+			return timings;
+		}
+		if (this.getParent() != null) {
+			return this.getParent().getTimings();
+		}
+		return null;
+	}
+
+	/**
+	 * 読み込み時間の集計を設定します。
+	 * 
+	 * @param timings 読み込み時間の集計
+	 */
+	public void setTimings(final MetadataReaderTimings timings) {
+		this.timings = timings;
+	}
+
+	/**
+	 * 並列読み込みを行うかを返します
+	 */
+	protected boolean isParallel() {
+		return getParallelism() > 1 && getDataSource() != null;
+	}
+
+	/**
+	 * データソースから取得したコネクションで処理を並列に実行します。
+	 * <p>
+	 * 並列に実行する処理の数は、親子のReaderで共有する並列度の範囲に制限します。並列度に空きがない場合は、待たずに呼び出し元のスレッドとコネクションで実行します。
+	 * このため、並列に実行中の処理から子のReaderが並列読み込みを行ってもコネクションの取得待ちにはなりません。
+	 * </p>
+	 * 
+	 * @param connection 並列度に空きがない場合に使用する呼び出し元のコネクション
+	 * @param tasks      処理
+	 * @return 処理の結果(処理と同じ順序)
+	 */
+	protected <R> List<R> executeParallel(final Connection connection, final List<Function<Connection, R>> tasks) {
+		final DataSource dataSource = getDataSource();
+		final Semaphore budget = getParallelBudget();
+		final ExecutorService executor = Executors
+				.newFixedThreadPool(Math.max(1, Math.min(getParallelism(), tasks.size())));
+		try {
+			final List<Future<R>> futures = CommonUtils.list(tasks.size());
+			for (final Function<Connection, R> task : tasks) {
+				if (!budget.tryAcquire()) {
+					futures.add(CompletableFuture.completedFuture(task.apply(connection)));
+					continue;
+				}
+				futures.add(executor.submit(() -> {
+					try (Connection conn = dataSource.getConnection()) {
+						return task.apply(conn);
+					} finally {
+						budget.release();
+					}
+				}));
+			}
+			final List<R> result = CommonUtils.list(tasks.size());
+			for (final Future<R> future : futures) {
+				result.add(future.get());
+			}
+			return result;
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (final ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new RuntimeException(cause);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
 	/**
 	 * 全メタデータを取得します
 	 * 
 	 * @param connection
 	 */
 	public List<T> getAllFull(final Connection connection, final ParametersContext context) {
+		final long start = System.nanoTime();
 		final List<T> result = getAll(connection, context);
 		executeSetMetadataDetail(connection, context, result);
 		for (final T obj : result) {
 			executeSetMetadataDetail(connection, obj);
 		}
+		final MetadataReaderTimings timings = getTimings();
+		if (timings != null) {
+			timings.add(this.getClass().getSimpleName(), System.nanoTime() - start, result.size());
+		}
 		return result;
 	}
 
@@ -0,0 +1,145 @@
+/**
+ * Copyright (C) 2007-2017 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-core.
+ *
+ * sqlapp-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+
+
+package com.sqlapp.data.db.metadata;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sqlapp.util.CommonUtils;
+
+/**
+ * Reader毎の読み込み時間の集計
+ * 
+ * 時間は{@link MetadataReader#getAllFull(java.sql.Connection, com.sqlapp.data.parameter.ParametersContext)}
+ * の呼び出し単位で計測されるため、子のReaderの時間を含みます。複数スレッドから同時に記録できます。
+ */
+public class MetadataReaderTimings {
+
+	private final ConcurrentMap<String, Entry> entries = CommonUtils.concurrentMap();
+
+	/**
+	 * 読み込み時間を記録します
+	 * 
+	 * @param name  Reader名
+	 * @param nanos 経過時間(ナノ秒)
+	 * @param count 読み込んだオブジェクト数
+	 */
+	public void add(final String name, final long nanos, final int count) {
+		final Entry entry = entries.computeIfAbsent(name, Entry::new);
+		entry.calls.incrementAndGet();
+		entry.nanos.addAndGet(nanos);
+		entry.objects.addAndGet(count);
+	}
+
+	/**
+	 * 指定したReader名の集計を取得します
+	 * 
+	 * @param name Reader名
+	 * @return 集計(記録が無い場合はnull)
+	 */
+	public Entry get(final String name) {
+		return entries.get(name);
+	}
+
+	/**
+	 * 経過時間の降順で集計を取得します
+	 */
+	public List<Entry> getEntries() {
+		final List<Entry> list = new ArrayList<>(entries.values());
+		list.sort((a, b) -> Long.compare(b.getNanos(), a.getNanos()));
+		return list;
+	}
+
+	/**
+	 * 記録を消去します
+	 */
+	public void clear() {
+		entries.clear();
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		for (final Entry entry : getEntries()) {
+			if (builder.length() > 0) {
+				builder.append('\n');
+			}
+			builder.append(entry);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Reader毎の集計
+	 */
+	public static class Entry {
+		private final String name;
+		private final AtomicLong calls = new AtomicLong();
+		private final AtomicLong nanos = new AtomicLong();
+		private final AtomicLong objects = new AtomicLong();
+
+		Entry(final String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Reader名
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * 呼び出し回数
+		 */
+		public long getCalls() {
+			return calls.get();
+		}
+
+		/**
+		 * 経過時間(ナノ秒)
+		 */
+		public long getNanos() {
+			return nanos.get();
+		}
+
+		/**
+		 * 経過時間(ミリ秒)
+		 */
+		public long getMillis() {
+			return nanos.get() / 1000000L;
+		}
+
+		/**
+		 * 読み込んだオブジェクト数
+		 */
+		public long getObjects() {
+			return objects.get();
+		}
+
+		@Override
+		public String toString() {
+			return name + ": " + getMillis() + "ms, calls=" + getCalls() + ", objects=" + getObjects();
+		}
+	}
+}
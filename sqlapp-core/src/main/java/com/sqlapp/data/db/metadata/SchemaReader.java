@@ -22,9 +22,11 @@ package com.sqlapp.data.db.metadata;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.function.Function;
 
 import com.sqlapp.data.db.dialect.Dialect;
 import com.sqlapp.data.parameter.ParametersContext;
+import com.sqlapp.data.schemas.AbstractSchemaObject;
 import com.sqlapp.data.schemas.Catalog;
 import com.sqlapp.data.schemas.Schema;
 import com.sqlapp.data.schemas.SchemaCollection;
@@ -33,6 +35,7 @@ import com.sqlapp.data.schemas.SchemaProperties;
 import com.sqlapp.data.schemas.SchemaUtils;
 import com.sqlapp.data.schemas.Setting;
 import com.sqlapp.data.schemas.SettingCollection;
+import com.sqlapp.util.CommonUtils;
 
 /**
  * スキーマ読み込み
@@ -77,35 +80,80 @@ public abstract class SchemaReader extends AbstractCatalogNamedObjectMetadataRea
 		schema.setDialect(this.getDialect());
 		CatalogReader.setProductInfo(connection, this.getDialect(), schema);
 		setSchemaBefore(connection, schema);
-		loadFull(connection, getDomainReader(), schema);
-		loadFull(connection, getTypeReader(), schema);
-		loadFull(connection, getTypeBodyReader(), schema);
-		loadFull(connection, getTableReader(), schema);
-		loadFull(connection, getViewReader(), schema);
-		loadFull(connection, getMviewReader(), schema);
-		loadFull(connection, getMviewLogReader(), schema);
-		loadFull(connection, getMaskReader(), schema);
-		loadFull(connection, getSequenceReader(), schema);
-		loadFull(connection, getTriggerReader(), schema);
-		loadFull(connection, getDbLinkReader(), schema);
-		loadFull(connection, getRuleReader(), schema);
-		loadFull(connection, getTableLinkReader(), schema);
-		loadFull(connection, getFunctionReader(), schema);
-		loadFull(connection, getProcedureReader(), schema);
-		loadFull(connection, getPackageReader(), schema);
-		loadFull(connection, getPackageBodyReader(), schema);
-		loadFull(connection, getConstantReader(), schema);
-		loadFull(connection, getXmlSchemaReader(), schema);
-		loadFull(connection, getOperatorReader(), schema);
-		loadFull(connection, getOperatorClassReader(), schema);
-		loadFull(connection, getExternalTableReader(), schema);
-		loadFull(connection, getEventReader(), schema);
-		loadFull(connection, getDimensionReader(), schema);
-		loadFull(connection, getSynonymReader(), schema);
+		if (isParallel()) {
+			loadFullParallel(connection, schema);
+		} else {
+			loadFull(connection, getDomainReader(), schema);
+			loadFull(connection, getTypeReader(), schema);
+			loadFull(connection, getTypeBodyReader(), schema);
+			loadFull(connection, getTableReader(), schema);
+			loadFull(connection, getViewReader(), schema);
+			loadFull(connection, getMviewReader(), schema);
+			loadFull(connection, getMviewLogReader(), schema);
+			loadFull(connection, getMaskReader(), schema);
+			loadFull(connection, getSequenceReader(), schema);
+			loadFull(connection, getTriggerReader(), schema);
+			loadFull(connection, getDbLinkReader(), schema);
+			loadFull(connection, getRuleReader(), schema);
+			loadFull(connection, getTableLinkReader(), schema);
+			loadFull(connection, getFunctionReader(), schema);
+			loadFull(connection, getProcedureReader(), schema);
+			loadFull(connection, getPackageReader(), schema);
+			loadFull(connection, getPackageBodyReader(), schema);
+			loadFull(connection, getConstantReader(), schema);
+			loadFull(connection, getXmlSchemaReader(), schema);
+			loadFull(connection, getOperatorReader(), schema);
+			loadFull(connection, getOperatorClassReader(), schema);
+			loadFull(connection, getExternalTableReader(), schema);
+			loadFull(connection, getEventReader(), schema);
+			loadFull(connection, getDimensionReader(), schema);
+			loadFull(connection, getSynonymReader(), schema);
+		}
 		setSchemaAfter(connection, schema);
 		SchemaUtils.validate(schema);
 	}
 
+	/**
+	 * スキーマ内のオブジェクトを、データソースから取得したコネクションで種類毎に並列に読み込みます。
+	 * 子のReader(テーブルのカラム、インデックス、制約など)も同じ並列度の範囲で並列に読み込み、結果は逐次読み込み時と同じ順序でスキーマに追加します。
+	 * <p>
+	 * {@link #setCommonBefore(Connection)}と{@link #setSchemaBefore(Connection, Schema)}は呼び出し元のコネクションでのみ実行します。
+	 * データソースから取得したコネクションにはカレントスキーマなどのセッションの状態が設定されないため、
+	 * セッションの状態に依存するReaderは並列度を1にしてください。
+	 * </p>
+	 * 
+	 * @param connection 呼び出し元のコネクション
+	 * @param schema
+	 */
+	protected void loadFullParallel(Connection connection, Schema schema) {
+		List<AbstractSchemaObjectReader<?>> readers = CommonUtils.list(getDomainReader(), getTypeReader(),
+				getTypeBodyReader(), getTableReader(), getViewReader(), getMviewReader(), getMviewLogReader(),
+				getMaskReader(), getSequenceReader(), getTriggerReader(), getDbLinkReader(), getRuleReader(),
+				getTableLinkReader(), getFunctionReader(), getProcedureReader(), getPackageReader(),
+				getPackageBodyReader(), getConstantReader(), getXmlSchemaReader(), getOperatorReader(),
+				getOperatorClassReader(), getExternalTableReader(), getEventReader(), getDimensionReader(),
+				getSynonymReader());
+		List<Function<Connection, Runnable>> tasks = CommonUtils.list(readers.size());
+		for (AbstractSchemaObjectReader<?> reader : readers) {
+			if (reader != null) {
+				tasks.add(loadFullTask(reader, schema));
+			}
+		}
+		for (Runnable addAll : executeParallel(connection, tasks)) {
+			addAll.run();
+		}
+	}
+
+	private <T extends AbstractSchemaObject<? super T>> Function<Connection, Runnable> loadFullTask(
+			AbstractSchemaObjectReader<T> reader, Schema schema) {
+		reader.setCatalogName(schema.getCatalogName());
+		reader.setSchemaName(schema.getName());
+		return conn -> {
+			List<T> list = reader.getAllFull(conn);
+			return () -> reader.addAll(schema, list);
+		};
+	}
+
 	/**
 	 * スキーマ内のオブジェクトを読み込みます。
 	 * 
@@ -175,6 +223,11 @@ public abstract class SchemaReader extends AbstractCatalogNamedObjectMetadataRea
 		this.settings = settings;
 	}
 
+	/**
+	 * 読み込み前の共通の処理です。呼び出し元のコネクションでのみ実行し、並列読み込みでデータソースから取得したコネクションでは実行しません。
+	 * 
+	 * @param connection 呼び出し元のコネクション
+	 */
 	protected void setCommonBefore(Connection connection) {
 		if (this.settings == null) {
 			CatalogReader catalogReader = this.getParent();
@@ -187,6 +240,13 @@ public abstract class SchemaReader extends AbstractCatalogNamedObjectMetadataRea
 		}
 	}
 
+	/**
+	 * スキーマの読み込み前の処理です。子クラスでのオーバーライドを想定しています。
+	 * 呼び出し元のコネクションでのみ実行するため、ここで設定したセッションの状態は並列読み込みでデータソースから取得したコネクションには設定されません。
+	 * 
+	 * @param connection 呼び出し元のコネクション
+	 * @param schema
+	 */
 	protected void setSchemaBefore(Connection connection, Schema schema) {
 
 	}
@@ -25,6 +25,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 import com.sqlapp.data.db.dialect.Dialect;
 import com.sqlapp.data.parameter.ParametersContext;
@@ -39,6 +40,7 @@ import com.sqlapp.data.schemas.SchemaProperties;
 import com.sqlapp.data.schemas.Table;
 import com.sqlapp.data.schemas.UniqueConstraint;
 import com.sqlapp.util.CommonUtils;
+import com.sqlapp.util.DoubleKeyMap;
 import com.sqlapp.util.TripleKeyMap;
 
 /**
@@ -58,12 +60,45 @@ public abstract class TableReader extends AbstractSchemaObjectReader<Table> {
 		return SchemaObjectProperties.TABLES;
 	}
 
+	/**
+	 * 読み込んだテーブルの最終更新日時(lastAlteredAt)がDDLによる変更日時かを返します。
+	 * データの更新日時やDDLを反映しない日時の場合はfalseを返します。
+	 * 
+	 * @return 最終更新日時がDDLによる変更日時の場合はtrue
+	 */
+	public boolean isDdlTimestampSupported(){
+		return false;
+	}
+
+	/**
+	 * 最終更新日時(lastAlteredAt)に反映されないメタデータ(コメントやトリガーなど)を現在持つテーブルを取得します。
+	 * 
+	 * @param connection
+	 * @param context
+	 * @return スキーマ名、テーブル名毎のテーブル。対象が無い場合は空
+	 */
+	public DoubleKeyMap<String, String, Table> getUntrackedTables(final Connection connection,
+			final ParametersContext context){
+		return CommonUtils.doubleKeyMap();
+	}
+
+	/**
+	 * 読み込み済みのテーブルが最終更新日時(lastAlteredAt)に反映されないメタデータを持つかを返します。
+	 * 
+	 * @param table 読み込み済みのテーブル
+	 * @return 最終更新日時に反映されないメタデータを持つ場合はtrue
+	 */
+	public boolean hasUntrackedMetadata(final Table table){
+		return false;
+	}
+
 	/**
 	 * メタデータの詳細情報を設定するためのメソッドです。子クラスでのオーバーライドを想定しています。
 	 * 
 	 * @param connection
 	 * @param obj
 	 */
+	@SuppressWarnings("unchecked")
 	@Override
 	protected void setMetadataDetail(Connection connection,
 			ParametersContext context, List<Table> tableList) throws SQLException {
@@ -71,18 +106,22 @@ public abstract class TableReader extends AbstractSchemaObjectReader<Table> {
 			return;
 		}
 		setFilter(tableList, context);
-		TripleKeyMap<String, String, String, List<Column>> columnMap = getTableObjectKeyMap(
-				connection, context, getColumnReader());
-		TripleKeyMap<String, String, String, List<Index>> indexMap = getTableObjectKeyMap(
-				connection, context, getIndexReader());
-		TripleKeyMap<String, String, String, List<UniqueConstraint>> ucMap = getTableObjectKeyMap(
-				connection, context, getUniqueConstraintReader());
-		TripleKeyMap<String, String, String, List<ExcludeConstraint>> ecMap = getTableObjectKeyMap(
-				connection, context, getExcludeConstraintReader());
-		TripleKeyMap<String, String, String, List<CheckConstraint>> ccMap = getTableObjectKeyMap(
-				connection, context, getCheckConstraintReader());
-		TripleKeyMap<String, String, String, List<ForeignKeyConstraint>> fcMap = getTableObjectKeyMap(
-				connection, context, getForeignKeyConstraintReader());
+		List<TripleKeyMap<String, String, String, ?>> maps = getTableObjectKeyMaps(connection, context,
+				getColumnReader(), getIndexReader(), getUniqueConstraintReader(),
+				getExcludeConstraintReader(), getCheckConstraintReader(),
+				getForeignKeyConstraintReader());
+		TripleKeyMap<String, String, String, List<Column>> columnMap = (TripleKeyMap<String, String, String, List<Column>>) maps
+				.get(0);
+		TripleKeyMap<String, String, String, List<Index>> indexMap = (TripleKeyMap<String, String, String, List<Index>>) maps
+				.get(1);
+		TripleKeyMap<String, String, String, List<UniqueConstraint>> ucMap = (TripleKeyMap<String, String, String, List<UniqueConstraint>>) maps
+				.get(2);
+		TripleKeyMap<String, String, String, List<ExcludeConstraint>> ecMap = (TripleKeyMap<String, String, String, List<ExcludeConstraint>>) maps
+				.get(3);
+		TripleKeyMap<String, String, String, List<CheckConstraint>> ccMap = (TripleKeyMap<String, String, String, List<CheckConstraint>>) maps
+				.get(4);
+		TripleKeyMap<String, String, String, List<ForeignKeyConstraint>> fcMap = (TripleKeyMap<String, String, String, List<ForeignKeyConstraint>>) maps
+				.get(5);
 		for (Table table : tableList) {
 			table.setDialect(this.getDialect());
 			List<Column> columns = columnMap.get(table.getCatalogName(),
@@ -152,6 +191,32 @@ public abstract class TableReader extends AbstractSchemaObjectReader<Table> {
 		}
 	}
 	
+	/**
+	 * 子のReaderでテーブルのオブジェクトを読み込みます。並列読み込みが有効な場合は、データソースから取得したコネクションで並列に読み込みます。
+	 * 
+	 * @param connection コネクション
+	 * @param context    パラメタコンテキスト
+	 * @param readers    子のReader
+	 * @return 子のReader毎の読み込み結果(Readerと同じ順序)
+	 */
+	protected List<TripleKeyMap<String, String, String, ?>> getTableObjectKeyMaps(Connection connection,
+			ParametersContext context, TableObjectReader<?>... readers) {
+		List<TripleKeyMap<String, String, String, ?>> result = CommonUtils.list(readers.length);
+		if (!isParallel()) {
+			for (TableObjectReader<?> reader : readers) {
+				result.add(getTableObjectKeyMap(connection, context, reader));
+			}
+			return result;
+		}
+		List<Function<Connection, TripleKeyMap<String, String, String, ?>>> tasks = CommonUtils
+				.list(readers.length);
+		for (TableObjectReader<?> reader : readers) {
+			ParametersContext taskContext = context.clone();
+			tasks.add(conn -> getTableObjectKeyMap(conn, taskContext, reader));
+		}
+		return executeParallel(connection, tasks);
+	}
+
 	protected <T extends AbstractSchemaObject<? super T>> TripleKeyMap<String, String, String, List<T>> getTableObjectKeyMap(
 			Connection connection, ParametersContext context, TableObjectReader<T> reader) {
 		if (reader == null) {
@@ -0,0 +1,69 @@
+/**
+ * Copyright (C) 2007-2017 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-core.
+ *
+ * sqlapp-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+
+
+package com.sqlapp.data.schemas;
+
+/**
+ * DBオブジェクトのバイナリ形式の定数
+ * 
+ * <pre>
+ * ヘッダー : MAGIC(4byte) バージョン(varint)
+ * ノード   : クラス名(文字列) { プロパティ種別(1byte) プロパティ名(文字列) 値 }* PROPERTY_END [要素数(varint) ノード*]
+ * 行       : クラス名(文字列) { プロパティ種別(1byte) プロパティ名(文字列) 値 }* PROPERTY_END 値の数(varint) 値* コメント(文字列配列) オプション(文字列配列)
+ * 文字列配列 : 0=null, それ以外=要素数+1 文字列*
+ * 文字列   : 0=null, 文字列表のサイズ+1=新規(長さ(varint) UTF-8), それ以外=文字列表の位置+1
+ * </pre>
+ * 
+ * プロパティは{@link SchemaProperties}と{@link SchemaObjectProperties}の名前で保存し、整数はvarintで保存します。
+ */
+final class DbObjectBinaryFormat {
+
+	private DbObjectBinaryFormat() {
+	}
+
+	static final byte[] MAGIC = new byte[] { 'S', 'Q', 'A', 'B' };
+
+	/**
+	 * 2: 行のコメントとオプションを追加
+	 */
+	static final int VERSION = 2;
+
+	static final int PROPERTY_END = 0;
+	static final int SCHEMA_PROPERTY = 1;
+	static final int SCHEMA_OBJECT_PROPERTY = 2;
+
+	static final int NULL = 0;
+	static final int STRING = 1;
+	static final int TRUE = 2;
+	static final int FALSE = 3;
+	static final int INT = 4;
+	static final int LONG = 5;
+	static final int BIG_INTEGER = 6;
+	static final int BIG_DECIMAL = 7;
+	static final int TIMESTAMP = 8;
+	static final int BYTES = 9;
+	static final int ENUM = 10;
+	static final int LIST = 11;
+	static final int SET = 12;
+	static final int MAP = 13;
+	static final int NODE = 14;
+	static final int CONVERTED = 15;
+	static final int DOUBLE = 16;
+}
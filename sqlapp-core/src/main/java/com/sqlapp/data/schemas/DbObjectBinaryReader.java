@@ -0,0 +1,324 @@
+/**
+ * Copyright (C) 2007-2017 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-core.
+ *
+ * sqlapp-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+
+
+package com.sqlapp.data.schemas;
+
+import static com.sqlapp.data.schemas.DbObjectBinaryFormat.*;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.sqlapp.data.converter.Converters;
+import com.sqlapp.data.schemas.properties.ISchemaProperty;
+import com.sqlapp.util.CommonUtils;
+
+/**
+ * {@link DbObjectBinaryWriter}で書き込んだDBオブジェクトを読み込みます。
+ * 
+ * 現在のバージョンに存在しないプロパティは読み飛ばします。
+ */
+public final class DbObjectBinaryReader {
+
+	private final DataInputStream in;
+
+	private final List<String> strings = CommonUtils.list();
+
+	private final Map<String, Constructor<?>> constructors = CommonUtils.map();
+
+	private int version;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param in 入力元
+	 */
+	public DbObjectBinaryReader(final InputStream in) {
+		this.in = new DataInputStream(in);
+	}
+
+	/**
+	 * DBオブジェクトを読み込みます
+	 * 
+	 * @return DBオブジェクト
+	 * @throws IOException
+	 */
+	@SuppressWarnings("unchecked")
+	public <V extends DbCommonObject<?>> V read() throws IOException {
+		final byte[] magic = new byte[MAGIC.length];
+		in.readFully(magic);
+		if (!Arrays.equals(MAGIC, magic)) {
+			throw new IOException("Invalid binary format.");
+		}
+		version = readVarint();
+		if (version > VERSION) {
+			throw new IOException("Unsupported binary format version. version=" + version);
+		}
+		return (V) readNode(null);
+	}
+
+	private Object readNode(final Object instance) throws IOException {
+		final String className = readString();
+		final Object obj = instance != null ? instance : newInstance(className);
+		while (true) {
+			final int kind = in.readUnsignedByte();
+			if (kind == PROPERTY_END) {
+				break;
+			}
+			final String name = readString();
+			final ISchemaProperty prop = getProperty(kind, name);
+			if (prop == null) {
+				readValue(null, null);
+				continue;
+			}
+			final Object value = readValue(obj, prop);
+			if (value != null) {
+				prop.setValue(obj, value);
+			}
+		}
+		if (obj instanceof Row) {
+			final Row row = (Row) obj;
+			final int size = readVarint();
+			for (int i = 0; i < size; i++) {
+				final Object value = readValue(null, null);
+				if (value != null) {
+					row.put(i, value);
+				}
+			}
+			if (version >= 2) {
+				readRowStrings(row);
+			}
+		} else if (obj instanceof DbObjectCollection) {
+			readElements(obj);
+		}
+		if (obj instanceof AbstractBaseDbObject) {
+			((AbstractBaseDbObject<?>) obj).validate();
+		}
+		return obj;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void readElements(final Object obj) throws IOException {
+		final List<Object> list = (List<Object>) obj;
+		final int size = readVarint();
+		for (int i = 0; i < size; i++) {
+			if (obj instanceof RowCollection) {
+				list.add(readNode(((RowCollection) obj).newElement()));
+			} else {
+				list.add(readNode(null));
+			}
+		}
+	}
+
+	private void readRowStrings(final Row row) throws IOException {
+		final String[] remarks = readStrings();
+		if (remarks != null) {
+			for (int i = 0; i < remarks.length; i++) {
+				if (remarks[i] != null) {
+					row.putRemarks(i, remarks[i]);
+				}
+			}
+		}
+		final String[] options = readStrings();
+		if (options != null) {
+			for (int i = 0; i < options.length; i++) {
+				if (options[i] != null) {
+					row.putOption(i, options[i]);
+				}
+			}
+		}
+	}
+
+	private static ISchemaProperty getProperty(final int kind, final String name) throws IOException {
+		try {
+			if (kind == SCHEMA_PROPERTY) {
+				return SchemaProperties.valueOf(name);
+			} else if (kind == SCHEMA_OBJECT_PROPERTY) {
+				return SchemaObjectProperties.valueOf(name);
+			}
+		} catch (final IllegalArgumentException e) {
+			return null;
+		}
+		throw new IOException("Invalid property kind. kind=" + kind);
+	}
+
+	private Object readValue(final Object owner, final ISchemaProperty prop) throws IOException {
+		final int tag = in.readUnsignedByte();
+		switch (tag) {
+		case NULL:
+			return null;
+		case STRING:
+			return readString();
+		case TRUE:
+			return Boolean.TRUE;
+		case FALSE:
+			return Boolean.FALSE;
+		case INT:
+			return Integer.valueOf((int) unZigZag(readVarlong()));
+		case LONG:
+			return Long.valueOf(unZigZag(readVarlong()));
+		case BIG_INTEGER:
+			return new BigInteger(readBytes());
+		case BIG_DECIMAL:
+			final int scale = (int) unZigZag(readVarlong());
+			return new BigDecimal(new BigInteger(readBytes()), scale);
+		case TIMESTAMP:
+			final Timestamp timestamp = new Timestamp(unZigZag(readVarlong()));
+			timestamp.setNanos(readVarint());
+			return timestamp;
+		case BYTES:
+			return readBytes();
+		case DOUBLE:
+			return Double.valueOf(in.readDouble());
+		case ENUM:
+			return readEnum(readString(), readString());
+		case NODE:
+			final Object current = owner != null ? prop.getValue(owner) : null;
+			if (current instanceof DbObjectCollection) {
+				readNode(current);
+				return null;
+			}
+			return readNode(null);
+		case MAP:
+			final int mapSize = readVarint();
+			final Map<Object, Object> map = CommonUtils.linkedMap(mapSize);
+			for (int i = 0; i < mapSize; i++) {
+				final Object key = readValue(null, null);
+				map.put(key, readValue(null, null));
+			}
+			return map;
+		case SET:
+			return readValues(CommonUtils.linkedSet());
+		case LIST:
+			return readValues(CommonUtils.list());
+		case CONVERTED:
+			final Class<?> clazz = loadClass(readString());
+			return Converters.getDefault().convertObject(readString(), clazz);
+		default:
+			throw new IOException("Invalid value tag. tag=" + tag);
+		}
+	}
+
+	private Collection<Object> readValues(final Collection<Object> values) throws IOException {
+		final int size = readVarint();
+		for (int i = 0; i < size; i++) {
+			values.add(readValue(null, null));
+		}
+		return values;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object readEnum(final String className, final String name) throws IOException {
+		final Class<?> clazz = loadClass(className);
+		if (!clazz.isEnum()) {
+			throw new IOException("Not enum class. class=" + className);
+		}
+		return Enum.valueOf((Class<? extends Enum>) clazz, name);
+	}
+
+	private Object newInstance(final String className) throws IOException {
+		Constructor<?> constructor = constructors.get(className);
+		try {
+			if (constructor == null) {
+				final Class<?> clazz = loadClass(className);
+				if (!DbCommonObject.class.isAssignableFrom(clazz)) {
+					throw new IOException("Not DbCommonObject class. class=" + className);
+				}
+				constructor = clazz.getDeclaredConstructor();
+				constructor.setAccessible(true);
+				constructors.put(className, constructor);
+			}
+			return constructor.newInstance();
+		} catch (final ReflectiveOperationException e) {
+			throw new IOException("Instance creation failed. class=" + className, e);
+		}
+	}
+
+	private static Class<?> loadClass(final String className) throws IOException {
+		try {
+			return Class.forName(className, false, DbObjectBinaryReader.class.getClassLoader());
+		} catch (final ClassNotFoundException e) {
+			throw new IOException(e);
+		}
+	}
+
+	private String[] readStrings() throws IOException {
+		final int size = readVarint();
+		if (size == 0) {
+			return null;
+		}
+		final String[] values = new String[size - 1];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = readString();
+		}
+		return values;
+	}
+
+	private String readString() throws IOException {
+		final int ref = readVarint();
+		if (ref == 0) {
+			return null;
+		}
+		if (ref <= strings.size()) {
+			return strings.get(ref - 1);
+		}
+		if (ref != strings.size() + 1) {
+			throw new IOException("Invalid string reference. ref=" + ref);
+		}
+		final String value = new String(readBytes(), StandardCharsets.UTF_8);
+		strings.add(value);
+		return value;
+	}
+
+	private byte[] readBytes() throws IOException {
+		final byte[] bytes = new byte[readVarint()];
+		in.readFully(bytes);
+		return bytes;
+	}
+
+	private static long unZigZag(final long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private int readVarint() throws IOException {
+		return (int) readVarlong();
+	}
+
+	private long readVarlong() throws IOException {
+		long result = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			final int b = in.readUnsignedByte();
+			result |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+		}
+		throw new IOException("Malformed varint.");
+	}
+}
@@ -0,0 +1,232 @@
+/**
+ * Copyright (C) 2007-2017 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-core.
+ *
+ * sqlapp-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+
+
+package com.sqlapp.data.schemas;
+
+import static com.sqlapp.data.schemas.DbObjectBinaryFormat.*;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.sqlapp.data.converter.Converters;
+import com.sqlapp.data.schemas.properties.ISchemaProperty;
+import com.sqlapp.util.CommonUtils;
+
+/**
+ * DBオブジェクトをバイナリ形式で書き込みます。
+ * 
+ * {@link AbstractBaseDbObject#clone()}と同じく{@link SchemaUtils#getAllSchemaProperties(Class)}のプロパティを対象とします。
+ * 
+ * @see DbObjectBinaryReader
+ */
+public final class DbObjectBinaryWriter {
+
+	private final DataOutputStream out;
+
+	private final Map<String, Integer> strings = CommonUtils.map();
+
+	private final Map<Object, Object> writing = new IdentityHashMap<>();
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param out 出力先
+	 */
+	public DbObjectBinaryWriter(final OutputStream out) {
+		this.out = new DataOutputStream(out);
+	}
+
+	/**
+	 * DBオブジェクトを書き込みます
+	 * 
+	 * @param obj DBオブジェクト
+	 * @throws IOException
+	 */
+	public void write(final DbCommonObject<?> obj) throws IOException {
+		out.write(MAGIC);
+		writeVarint(VERSION);
+		writeNode(obj);
+		out.flush();
+	}
+
+	private void writeNode(final Object obj) throws IOException {
+		if (writing.put(obj, obj) != null) {
+			throw new IOException("Circular reference. class=" + obj.getClass().getName());
+		}
+		writeString(obj.getClass().getName());
+		for (final ISchemaProperty prop : SchemaUtils.getAllSchemaProperties(obj.getClass())) {
+			final Object value = prop.getValue(obj);
+			if (value == null) {
+				continue;
+			}
+			out.writeByte(prop instanceof SchemaObjectProperties ? SCHEMA_OBJECT_PROPERTY : SCHEMA_PROPERTY);
+			writeString(((Enum<?>) prop).name());
+			writeValue(value);
+		}
+		out.writeByte(PROPERTY_END);
+		if (obj instanceof Row) {
+			final Object[] values = ((Row) obj).getValues();
+			final int size = values == null ? 0 : values.length;
+			writeVarint(size);
+			for (int i = 0; i < size; i++) {
+				writeValue(values[i]);
+			}
+			writeStrings(((Row) obj).getRemarksValues());
+			writeStrings(((Row) obj).getOptionValues());
+		} else if (obj instanceof DbObjectCollection) {
+			final List<?> list = (List<?>) obj;
+			final int size = list.size();
+			writeVarint(size);
+			for (int i = 0; i < size; i++) {
+				writeNode(list.get(i));
+			}
+		}
+		writing.remove(obj);
+	}
+
+	private void writeValue(final Object value) throws IOException {
+		if (value == null) {
+			out.writeByte(NULL);
+		} else if (value instanceof String) {
+			out.writeByte(STRING);
+			writeString((String) value);
+		} else if (value instanceof Boolean) {
+			out.writeByte(((Boolean) value).booleanValue() ? TRUE : FALSE);
+		} else if (value instanceof Integer) {
+			out.writeByte(INT);
+			writeVarlong(zigZag(((Integer) value).longValue()));
+		} else if (value instanceof Long) {
+			out.writeByte(LONG);
+			writeVarlong(zigZag(((Long) value).longValue()));
+		} else if (value instanceof BigInteger) {
+			out.writeByte(BIG_INTEGER);
+			writeBytes(((BigInteger) value).toByteArray());
+		} else if (value instanceof BigDecimal) {
+			final BigDecimal dec = (BigDecimal) value;
+			out.writeByte(BIG_DECIMAL);
+			writeVarlong(zigZag(dec.scale()));
+			writeBytes(dec.unscaledValue().toByteArray());
+		} else if (value instanceof Timestamp) {
+			final Timestamp timestamp = (Timestamp) value;
+			out.writeByte(TIMESTAMP);
+			writeVarlong(zigZag(timestamp.getTime()));
+			writeVarint(timestamp.getNanos());
+		} else if (value instanceof byte[]) {
+			out.writeByte(BYTES);
+			writeBytes((byte[]) value);
+		} else if (value instanceof Double) {
+			out.writeByte(DOUBLE);
+			out.writeDouble(((Double) value).doubleValue());
+		} else if (value instanceof Enum) {
+			final Enum<?> enm = (Enum<?>) value;
+			out.writeByte(ENUM);
+			writeString(enm.getDeclaringClass().getName());
+			writeString(enm.name());
+		} else if (value instanceof DbCommonObject) {
+			out.writeByte(NODE);
+			writeNode(value);
+		} else if (value instanceof Map) {
+			final Map<?, ?> map = (Map<?, ?>) value;
+			out.writeByte(MAP);
+			writeVarint(map.size());
+			for (final Map.Entry<?, ?> entry : map.entrySet()) {
+				writeValue(entry.getKey());
+				writeValue(entry.getValue());
+			}
+		} else if (value instanceof Set) {
+			out.writeByte(SET);
+			writeValues((Set<?>) value);
+		} else if (value instanceof List) {
+			out.writeByte(LIST);
+			writeValues((List<?>) value);
+		} else if (Converters.getDefault().isConvertable(value.getClass())) {
+			out.writeByte(CONVERTED);
+			writeString(value.getClass().getName());
+			writeString(Converters.getDefault().convertString(value));
+		} else {
+			throw new IOException("Unsupported value. class=" + value.getClass().getName());
+		}
+	}
+
+	private void writeValues(final Collection<?> values) throws IOException {
+		writeVarint(values.size());
+		for (final Object value : values) {
+			writeValue(value);
+		}
+	}
+
+	private void writeStrings(final String[] values) throws IOException {
+		if (values == null) {
+			writeVarint(0);
+			return;
+		}
+		writeVarint(values.length + 1);
+		for (final String value : values) {
+			writeString(value);
+		}
+	}
+
+	private void writeString(final String value) throws IOException {
+		if (value == null) {
+			writeVarint(0);
+			return;
+		}
+		final Integer index = strings.get(value);
+		if (index != null) {
+			writeVarint(index.intValue() + 1);
+			return;
+		}
+		final int size = strings.size();
+		strings.put(value, size);
+		writeVarint(size + 1);
+		writeBytes(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void writeBytes(final byte[] bytes) throws IOException {
+		writeVarint(bytes.length);
+		out.write(bytes);
+	}
+
+	private static long zigZag(final long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private void writeVarint(final int value) throws IOException {
+		writeVarlong(value & 0xFFFFFFFFL);
+	}
+
+	private void writeVarlong(long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+}
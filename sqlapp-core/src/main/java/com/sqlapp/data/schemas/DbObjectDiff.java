@@ -20,30 +20,62 @@
 package com.sqlapp.data.schemas;
 
 import java.util.List;
+import java.util.Map;
 
+import com.sqlapp.util.CommonUtils;
 import com.sqlapp.util.Diff;
 /**
  * DbObjectのDIFFを行います。
+ * 
+ * 要素の対応付けは{@link DbObject#like(Object)}で行います。対応付けた要素のプロパティの比較にequalsHandlerを使用します。
+ * 名前のみで比較する要素は名前をキーとして対応付けます。
  *
  * @param <T>
  */
 public class DbObjectDiff<T extends DbObject<?>> extends Diff<T> {
 
-	private EqualsHandler equalsHandler;
+	private final EqualsHandler equalsHandler;
 	
 	public DbObjectDiff(List<T> a, List<T> b, EqualsHandler equalsHandler) {
 		super(a, b);
 		this.equalsHandler=equalsHandler;
 	}
 
+	/**
+	 * @return プロパティの比較に使用するEqualsHandler
+	 */
+	public EqualsHandler getEqualsHandler() {
+		return equalsHandler;
+	}
+
 	@Override
 	protected boolean eq(T a, T b) {
-		boolean bool;
-		if (equalsHandler==null){
-			bool= ((DbObject<?>) a).like(b);
-		} else{
-			bool= ((DbObject<?>) a).like(b,equalsHandler);
+		return ((DbObject<?>) a).like(b);
+	}
+
+	/**
+	 * 名前のみで比較する要素の場合は名前をキーとして返します。
+	 */
+	@Override
+	protected Object getKey(T obj) {
+		if (!(obj instanceof AbstractNamedObject)) {
+			return null;
 		}
-		return bool;
+		if (!isLikeByName(obj.getClass())) {
+			return null;
+		}
+		return ((AbstractNamedObject<?>) obj).getName();
+	}
+
+	private static final Map<Class<?>, Boolean> LIKE_BY_NAME_CACHE = CommonUtils.concurrentMap();
+
+	private static boolean isLikeByName(Class<?> clazz) {
+		return LIKE_BY_NAME_CACHE.computeIfAbsent(clazz, c -> {
+			try {
+				return c.getMethod("like", Object.class).getDeclaringClass() == AbstractNamedObject.class;
+			} catch (NoSuchMethodException e) {
+				return false;
+			}
+		});
 	}
 }
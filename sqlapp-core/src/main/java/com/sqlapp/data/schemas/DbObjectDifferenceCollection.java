@@ -24,6 +24,8 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.BiPredicate;
 
 import com.sqlapp.data.db.dialect.Dialect;
@@ -120,6 +122,7 @@ public class DbObjectDifferenceCollection extends
 				(List<DbObject<?>>) this.getTarget(), this.getEqualsHandler());
 		int osize = this.getOriginal().size();
 		int tsize = this.getTarget().size();
+		List<DbObjectDifference> modifiedCandidates = CommonUtils.list();
 		int i = 0, j = 0;
 		while (i < osize || j < tsize) {
 			DbObject<?> oobj = null;
@@ -154,14 +157,38 @@ public class DbObjectDifferenceCollection extends
 				addDbObjectDifference(dbObjectDifference);
 			}
 			if (oobj!=null&&tobj != null){
-				DbObjectDifference dbObjectDifference = new DbObjectDifference(
-						oobj, tobj, this.getEqualsHandler());
+				DbObjectDifference dbObjectDifference = new DbObjectDifference(null,
+						oobj, tobj, this.getEqualsHandler(), true);
 				addDbObjectDifference(dbObjectDifference);
+				modifiedCandidates.add(dbObjectDifference);
 				continue;
 			}
 		}
+		diffAll(modifiedCandidates);
 		this.setState(getState(list));
 	}
+
+	/**
+	 * 対応付けたオブジェクトの差分を計算します。
+	 * 専用のForkJoinPool内で実行された場合は、要素(スキーマ、テーブル等)ごとに分割して並列に計算します。
+	 * 
+	 * @param differences
+	 *            差分を計算していないオブジェクト差分
+	 */
+	private void diffAll(List<DbObjectDifference> differences) {
+		if (differences.size() > 1 && ForkJoinTask.inForkJoinPool()
+				&& ForkJoinTask.getPool() != ForkJoinPool.commonPool()) {
+			List<ForkJoinTask<?>> tasks = CommonUtils.list(differences.size());
+			for (DbObjectDifference difference : differences) {
+				tasks.add(ForkJoinTask.adapt(difference::diff));
+			}
+			ForkJoinTask.invokeAll(tasks);
+			return;
+		}
+		for (DbObjectDifference difference : differences) {
+			difference.diff();
+		}
+	}
 	
 	@SuppressWarnings("unchecked")
 	protected void diffColumns() {
@@ -36,4 +36,9 @@ public class DefaultSchemaEqualsHandler extends ExcludeFilterEqualsHandler {
 				SchemaProperties.OCTET_LENGTH.getLabel(), SchemaObjectProperties.ROWS.getLabel());
 	}
 
+	@Override
+	protected boolean isStructuralHashSupported() {
+		return getClass() == DefaultSchemaEqualsHandler.class && hasDefaultPredicates();
+	}
+
 }
@@ -30,9 +30,7 @@ import java.util.function.BooleanSupplier;
  */
 public class EqualsHandler implements Cloneable {
 
-	public static final EqualsHandler DEFAULT_INSTANCE = new EqualsHandler();
-
-	private BiPredicate<Object, Object> referenceEqualsPredicate = (object1, object2) -> {
+	private static final BiPredicate<Object, Object> DEFAULT_REFERENCE_EQUALS_PREDICATE = (object1, object2) -> {
 		if (object1 == object2) {
 			return true;
 		}
@@ -42,14 +40,23 @@ public class EqualsHandler implements Cloneable {
 		return false;
 	};
 
-	private EqualsPredicate valueEqualsPredicate = (propertyName, eq, object1, object2, value1, value2) -> {
+	private static final EqualsPredicate DEFAULT_VALUE_EQUALS_PREDICATE = (propertyName, eq, object1, object2,
+			value1, value2) -> {
 		return eq;
 	};
 
-	private BiPredicate<Object, Object> equalsLastPredicate = (object1, object2) -> {
+	private static final BiPredicate<Object, Object> DEFAULT_EQUALS_LAST_PREDICATE = (object1, object2) -> {
 		return true;
 	};
 
+	public static final EqualsHandler DEFAULT_INSTANCE = new EqualsHandler();
+
+	private BiPredicate<Object, Object> referenceEqualsPredicate = DEFAULT_REFERENCE_EQUALS_PREDICATE;
+
+	private EqualsPredicate valueEqualsPredicate = DEFAULT_VALUE_EQUALS_PREDICATE;
+
+	private BiPredicate<Object, Object> equalsLastPredicate = DEFAULT_EQUALS_LAST_PREDICATE;
+
 	/**
 	 * @return the referenceEqualsPredicate
 	 */
@@ -143,6 +150,37 @@ public class EqualsHandler implements Cloneable {
 		return getEqualsLastPredicate().test(object1, object2);
 	}
 
+	/**
+	 * 構造ハッシュの計算対象のプロパティかを返します
+	 * 
+	 * @param propertyName プロパティ名
+	 * @return 比較対象のプロパティの場合はtrue
+	 */
+	protected boolean isHashTarget(String propertyName) {
+		return true;
+	}
+
+	/**
+	 * 構造ハッシュが一致した場合に比較を省略できるかを返します。
+	 * 
+	 * 比較がプロパティの値のみで決まる場合(述語を変更していない場合)のみtrueを返します。
+	 * 
+	 * @return 構造ハッシュで比較を省略できる場合はtrue
+	 * @see StructuralHashEqualsHandler
+	 */
+	protected boolean isStructuralHashSupported() {
+		return getClass() == EqualsHandler.class && hasDefaultPredicates();
+	}
+
+	/**
+	 * 述語が初期値のままかを返します
+	 */
+	protected final boolean hasDefaultPredicates() {
+		return referenceEqualsPredicate == DEFAULT_REFERENCE_EQUALS_PREDICATE
+				&& valueEqualsPredicate == DEFAULT_VALUE_EQUALS_PREDICATE
+				&& equalsLastPredicate == DEFAULT_EQUALS_LAST_PREDICATE;
+	}
+
 	@Override
 	public EqualsHandler clone() {
 		EqualsHandler clone;
@@ -66,6 +66,16 @@ public class ExcludeFilterEqualsHandler extends EqualsHandler {
 		return super.valueEquals(propertyName, object1, object2, value1, value2, p);
 	}
 
+	@Override
+	protected boolean isHashTarget(String propertyName) {
+		return !excludeProperties.contains(propertyName);
+	}
+
+	@Override
+	protected boolean isStructuralHashSupported() {
+		return getClass() == ExcludeFilterEqualsHandler.class && hasDefaultPredicates();
+	}
+
 	public void setExcludeProperties(String... names){
 		this.excludeProperties = CommonUtils.set(names);
 	}
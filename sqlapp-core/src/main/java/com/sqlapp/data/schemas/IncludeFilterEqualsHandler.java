@@ -64,6 +64,16 @@ public class IncludeFilterEqualsHandler extends EqualsHandler {
 		return true;
 	}
 
+	@Override
+	protected boolean isHashTarget(String propertyName) {
+		return includeProperties.contains(propertyName);
+	}
+
+	@Override
+	protected boolean isStructuralHashSupported() {
+		return getClass() == IncludeFilterEqualsHandler.class && hasDefaultPredicates();
+	}
+
 	@Override
 	public IncludeFilterEqualsHandler clone() {
 		IncludeFilterEqualsHandler clone = (IncludeFilterEqualsHandler) super.clone();
@@ -390,11 +390,13 @@ public final class Row implements DbObject<Row>, Comparable<Row>, HasParent<RowC
 		final Column column = getTable().getColumns().get(index);
 		if (value instanceof Supplier) {
 			this.values[index] = value;
-			return (T) oldValue;
 		} else {
 			this.values[index] = column.getConverter().convertObject(value);
-			return (T) oldValue;
 		}
+		if (parent != null) {
+			parent.valueChanged(this, index, oldValue == UNSET ? null : oldValue);
+		}
+		return (T) oldValue;
 	}
 
 	/**
@@ -415,6 +417,9 @@ public final class Row implements DbObject<Row>, Comparable<Row>, HasParent<RowC
 		}
 		final Object oldValue = this.values[column.getOrdinal()];
 		this.values[column.getOrdinal()] = value;
+		if (parent != null) {
+			parent.valueChanged(this, column.getOrdinal(), oldValue == UNSET ? null : oldValue);
+		}
 		return (T) oldValue;
 	}
 
@@ -861,6 +866,14 @@ public final class Row implements DbObject<Row>, Comparable<Row>, HasParent<RowC
 		return toString();
 	}
 
+	/**
+	 * 行に格納されたオプションの取得
+	 * 
+	 */
+	String[] getOptionValues() {
+		return options;
+	}
+
 	/**
 	 * 行に格納された値の取得
 	 * 
@@ -879,6 +892,24 @@ public final class Row implements DbObject<Row>, Comparable<Row>, HasParent<RowC
 		return vals;
 	}
 
+	/**
+	 * 値に対するコメントの配列を取得します。配列の拡張は行いません。
+	 * 
+	 * @return 値に対するコメントの配列。未設定の場合null
+	 */
+	String[] getRemarksValues() {
+		return remarks;
+	}
+
+	/**
+	 * 値に対するオプションの配列を取得します。配列の拡張は行いません。
+	 * 
+	 * @return 値に対するオプションの配列。未設定の場合null
+	 */
+	String[] getOptionValues() {
+		return options;
+	}
+
 	/**
 	 * XML書き出し
 	 * 
@@ -88,6 +88,14 @@ public final class RowCollection
 	 * RowIteratorHandler
 	 */
 	private transient RowIteratorHandler rowIteratorHandler = null;
+	/**
+	 * find(Row)で索引を使用する行数の閾値
+	 */
+	static final int INDEX_THRESHOLD = 32;
+	/**
+	 * カラムごとのハッシュ索引
+	 */
+	private transient List<RowIndex> indexes = null;
 	/**
 	 * 追加対象オブジェクト判定ハンドラー
 	 */
@@ -148,7 +156,11 @@ public final class RowCollection
 			return false;
 		}
 		row.setParent(this);
-		return getRowList().add(row);
+		final boolean ret = getRowList().add(row);
+		if (ret) {
+			addToIndexes(row);
+		}
+		return ret;
 	}
 
 	/**
@@ -162,6 +174,7 @@ public final class RowCollection
 		for (int i = 0; i < inner.size(); i++) {
 			inner.get(i).compactionColumn(colArray);
 		}
+		invalidateIndexes();
 	}
 
 	/**
@@ -175,6 +188,7 @@ public final class RowCollection
 		for (int i = 0; i < inner.size(); i++) {
 			inner.get(i).compactionColumn(colArray);
 		}
+		invalidateIndexes();
 	}
 
 	/**
@@ -268,6 +282,7 @@ public final class RowCollection
 	 */
 	public void clear() {
 		getRowList().clear();
+		invalidateIndexes();
 	}
 
 	public boolean contains(Row o) {
@@ -285,7 +300,11 @@ public final class RowCollection
 
 	public boolean remove(Row row) {
 		row.setParent(null);
-		return getRowList().remove(row);
+		final boolean ret = getRowList().remove(row);
+		if (ret) {
+			invalidateIndexes();
+		}
+		return ret;
 	}
 
 	public int size() {
@@ -319,6 +338,7 @@ public final class RowCollection
 		for (int i = 0; i < inner.size(); i++) {
 			inner.get(i).addColumn(columns);
 		}
+		invalidateIndexes();
 	}
 
 	/**
@@ -331,6 +351,7 @@ public final class RowCollection
 		}
 		row.setParent(this);
 		getRowList().add(index, row);
+		invalidateIndexes();
 	}
 
 	public boolean addAll(List<? extends Row> rows) {
@@ -346,7 +367,11 @@ public final class RowCollection
 			row.setParent(this);
 			targets.add(row);
 		}
-		return getRowList().addAll(targets);
+		final boolean ret = getRowList().addAll(targets);
+		for (final Row row : targets) {
+			addToIndexes(row);
+		}
+		return ret;
 	}
 
 	@Override
@@ -359,7 +384,11 @@ public final class RowCollection
 			row.setParent(this);
 			targets.add(row);
 		}
-		return getRowList().addAll(targets);
+		final boolean ret = getRowList().addAll(targets);
+		for (final Row row : targets) {
+			addToIndexes(row);
+		}
+		return ret;
 	}
 
 	@Override
@@ -372,7 +401,9 @@ public final class RowCollection
 			row.setParent(this);
 			targets.add(row);
 		}
-		return getRowList().addAll(index, targets);
+		final boolean ret = getRowList().addAll(index, targets);
+		invalidateIndexes();
+		return ret;
 	}
 
 	@Override
@@ -401,6 +432,7 @@ public final class RowCollection
 		if (bool) {
 			Row row = cast(o);
 			row.setParent(null);
+			invalidateIndexes();
 		}
 		return bool;
 	}
@@ -414,6 +446,7 @@ public final class RowCollection
 		if (row != null) {
 			row.setParent(null);
 		}
+		invalidateIndexes();
 		return row;
 	}
 
@@ -423,6 +456,7 @@ public final class RowCollection
 			Row row = cast(obj);
 			row.setParent(null);
 		}
+		invalidateIndexes();
 		return getRowList().removeAll(c);
 	}
 
@@ -436,13 +470,16 @@ public final class RowCollection
 
 	@Override
 	public boolean retainAll(Collection<?> c) {
+		invalidateIndexes();
 		return getRowList().removeAll(c);
 	}
 
 	@Override
 	public Row set(int index, Row row) {
 		row.setParent(this);
-		return getRowList().set(index, row);
+		final Row ret = getRowList().set(index, row);
+		invalidateIndexes();
+		return ret;
 	}
 
 	@Override
@@ -694,6 +731,12 @@ public final class RowCollection
 			return null;
 		}
 		UniqueConstraint uc = CommonUtils.first(ucs);
+		if (this.size() >= INDEX_THRESHOLD && (this.getRowIteratorHandler() instanceof DefaultRowIteratorHandler)) {
+			final RowIndex index = getIndex(uc.getColumns());
+			if (index != null) {
+				return index.find(obj);
+			}
+		}
 		Object[] keyValues = new Object[uc.getColumns().size()];
 		ReferenceColumnCollection rcc = uc.getColumns();
 		int size = rcc.size();
@@ -723,6 +766,89 @@ public final class RowCollection
 		return this.find((Row) obj);
 	}
 
+	/**
+	 * 指定したカラムをキーとするハッシュ索引を取得します。索引は最初の検索時に作成されます。
+	 * 
+	 * @param columnNames キーとなるカラム名
+	 * @return ハッシュ索引。カラムが存在しない場合はnull
+	 */
+	public RowIndex getIndex(String... columnNames) {
+		final List<Column> columns = CommonUtils.list(columnNames.length);
+		for (final String columnName : columnNames) {
+			final Column column = parent.getColumns().get(columnName);
+			if (column == null) {
+				return null;
+			}
+			columns.add(column);
+		}
+		return getIndex(columns);
+	}
+
+	private RowIndex getIndex(ReferenceColumnCollection referenceColumns) {
+		final int size = referenceColumns.size();
+		final List<Column> columns = CommonUtils.list(size);
+		for (int i = 0; i < size; i++) {
+			final ReferenceColumn rc = referenceColumns.get(i);
+			final Column column = parent.getColumns().get(rc.getName());
+			if (column == null) {
+				return null;
+			}
+			columns.add(column);
+		}
+		return getIndex(columns);
+	}
+
+	private RowIndex getIndex(final List<Column> columns) {
+		if (columns.isEmpty()) {
+			return null;
+		}
+		if (indexes == null) {
+			indexes = CommonUtils.list();
+		}
+		for (final RowIndex index : indexes) {
+			if (index.isColumns(columns)) {
+				return index;
+			}
+		}
+		final RowIndex index = new RowIndex(this, columns);
+		indexes.add(index);
+		return index;
+	}
+
+	private void addToIndexes(final Row row) {
+		if (indexes == null) {
+			return;
+		}
+		for (final RowIndex index : indexes) {
+			index.add(row);
+		}
+	}
+
+	/**
+	 * 行の値が変更された場合に、その行を含む索引を破棄します
+	 * 
+	 * @param row      値が変更された行
+	 * @param ordinal  変更されたカラムの位置
+	 * @param oldValue 変更前の値
+	 */
+	void valueChanged(final Row row, final int ordinal, final Object oldValue) {
+		if (indexes == null) {
+			return;
+		}
+		for (final RowIndex index : indexes) {
+			index.valueChanged(row, ordinal, oldValue);
+		}
+	}
+
+	private void invalidateIndexes() {
+		if (indexes == null) {
+			return;
+		}
+		for (final RowIndex index : indexes) {
+			index.invalidate();
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -0,0 +1,201 @@
+/**
+ * Copyright (C) 2007-2017 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-core.
+ *
+ * sqlapp-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+
+package com.sqlapp.data.schemas;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.sqlapp.util.CommonUtils;
+
+/**
+ * RowCollectionのキーとなるカラムの値によるハッシュ索引
+ * 
+ * 索引は最初の検索時に作成し、行の追加では更新、行の削除やキーとなるカラムの値の変更では破棄して次の検索時に再作成します。
+ */
+public final class RowIndex {
+
+	private final RowCollection rows;
+
+	private final List<Column> columns;
+
+	private Map<Key, Row> index = null;
+
+	private int indexedSize = 0;
+
+	private boolean duplicated = false;
+
+	RowIndex(final RowCollection rows, final List<Column> columns) {
+		this.rows = rows;
+		this.columns = Collections.unmodifiableList(columns);
+	}
+
+	/**
+	 * @return キーとなるカラム
+	 */
+	public List<Column> getColumns() {
+		return columns;
+	}
+
+	/**
+	 * キーの値に一致する最初の行を返します。
+	 * 
+	 * @param keyValues キーとなるカラムの順の値
+	 * @return 一致する行。存在しない場合はnull
+	 */
+	public Row find(final Object... keyValues) {
+		if (keyValues.length != columns.size()) {
+			throw new IllegalArgumentException(
+					"keyValues.length=" + keyValues.length + ", columns.size()=" + columns.size());
+		}
+		return getIndex().get(new Key(keyValues));
+	}
+
+	/**
+	 * 指定した行とキーの値が一致する最初の行を返します。値はカラム名で取得するため、別のテーブルの行も指定できます。
+	 * 
+	 * @param row 行
+	 * @return 一致する行。存在しない場合はnull
+	 */
+	public Row find(final Row row) {
+		final Object[] keyValues = new Object[columns.size()];
+		for (int i = 0; i < keyValues.length; i++) {
+			keyValues[i] = row.get(columns.get(i).getName());
+		}
+		return getIndex().get(new Key(keyValues));
+	}
+
+	private Map<Key, Row> getIndex() {
+		final List<Row> list = rows.getRowList();
+		if (index == null || indexedSize != list.size()) {
+			final Map<Key, Row> map = CommonUtils.map(list.size() * 4 / 3 + 1);
+			duplicated = false;
+			for (final Row row : list) {
+				if (map.putIfAbsent(createKey(row), row) != null) {
+					duplicated = true;
+				}
+			}
+			index = map;
+			indexedSize = list.size();
+		}
+		return index;
+	}
+
+	private Key createKey(final Row row) {
+		return new Key(createKeyValues(row));
+	}
+
+	private Object[] createKeyValues(final Row row) {
+		final Object[] keyValues = new Object[columns.size()];
+		for (int i = 0; i < keyValues.length; i++) {
+			keyValues[i] = row.get(columns.get(i));
+		}
+		return keyValues;
+	}
+
+	/**
+	 * 末尾に追加された行を索引に追加します
+	 */
+	void add(final Row row) {
+		if (index == null) {
+			return;
+		}
+		if (index.putIfAbsent(createKey(row), row) != null) {
+			duplicated = true;
+		}
+		indexedSize++;
+	}
+
+	/**
+	 * キーとなるカラムの値が変更された行が索引に含まれる場合に索引を破棄します。
+	 * 
+	 * Table#newRow()で作成した検索用の行は親が設定されるため、変更前のキーで索引に登録された行のみを対象とします。
+	 */
+	void valueChanged(final Row row, final int ordinal, final Object oldValue) {
+		if (index == null) {
+			return;
+		}
+		final int size = columns.size();
+		for (int i = 0; i < size; i++) {
+			if (columns.get(i).getOrdinal() != ordinal) {
+				continue;
+			}
+			if (duplicated || oldValue instanceof Supplier) {
+				invalidate();
+				return;
+			}
+			final Object[] keyValues = createKeyValues(row);
+			keyValues[i] = oldValue;
+			if (index.get(new Key(keyValues)) == row) {
+				invalidate();
+			}
+			return;
+		}
+	}
+
+	/**
+	 * 索引を破棄します
+	 */
+	void invalidate() {
+		index = null;
+		indexedSize = 0;
+		duplicated = false;
+	}
+
+	boolean isColumns(final List<Column> columns) {
+		if (this.columns.size() != columns.size()) {
+			return false;
+		}
+		for (int i = 0; i < columns.size(); i++) {
+			if (this.columns.get(i) != columns.get(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static final class Key {
+		private final Object[] values;
+		private final int hashCode;
+
+		Key(final Object[] values) {
+			this.values = values;
+			this.hashCode = Arrays.hashCode(values);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			return Arrays.equals(values, ((Key) obj).values);
+		}
+	}
+}
@@ -171,6 +171,54 @@ public class SchemaUtils {
 		return readXml(new FileInputStream(file));
 	}
 
+	/**
+	 * 指定したInputStreamのバイナリ形式の内容からDBオブジェクトを返します。
+	 * 
+	 * @param is 入力になるバイナリ形式のストリーム
+	 * @throws IOException
+	 * @see DbObjectBinaryReader
+	 */
+	public static <V extends DbCommonObject<?>> V readBinary(final InputStream is) throws IOException {
+		try (BufferedInputStream bis = new BufferedInputStream(is)) {
+			return new DbObjectBinaryReader(bis).read();
+		}
+	}
+
+	/**
+	 * 指定したファイルのバイナリ形式の内容からDBオブジェクトを返します。
+	 * 
+	 * @param file File
+	 * @throws IOException
+	 */
+	public static <V extends DbCommonObject<?>> V readBinary(final File file) throws IOException {
+		return readBinary(new FileInputStream(file));
+	}
+
+	/**
+	 * DBオブジェクトをバイナリ形式で書き込みます。
+	 * 
+	 * @param obj    DBオブジェクト
+	 * @param stream 出力先のストリーム
+	 * @throws IOException
+	 * @see DbObjectBinaryWriter
+	 */
+	public static void writeBinary(final DbCommonObject<?> obj, final OutputStream stream) throws IOException {
+		new DbObjectBinaryWriter(new BufferedOutputStream(stream)).write(obj);
+	}
+
+	/**
+	 * DBオブジェクトをバイナリ形式でファイルに書き込みます。
+	 * 
+	 * @param obj  DBオブジェクト
+	 * @param file 出力先のファイル
+	 * @throws IOException
+	 */
+	public static void writeBinary(final DbCommonObject<?> obj, final File file) throws IOException {
+		try (FileOutputStream fos = new FileOutputStream(file)) {
+			writeBinary(obj, fos);
+		}
+	}
+
 	/**
 	 * SchemaをTableのリストに変換します
 	 * 
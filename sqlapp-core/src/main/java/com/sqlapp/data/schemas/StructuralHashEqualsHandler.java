@@ -0,0 +1,344 @@
+/**
+ * Copyright (C) 2007-2017 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-core.
+ *
+ * sqlapp-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+
+
+package com.sqlapp.data.schemas;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import com.sqlapp.data.converter.Converters;
+import com.sqlapp.data.schemas.properties.ISchemaProperty;
+
+/**
+ * 構造ハッシュ(Merkle木)で同一の部分木の比較を省略するEqualsHandler
+ * 
+ * 子要素を含めたオブジェクトのハッシュを元のハンドラーの比較対象のプロパティのみで計算し、ハッシュが一致する部分木は比較を省略します。
+ * ハッシュが一致しない場合は元のハンドラーと同じ比較を行います。
+ * 
+ * ハッシュは比較中のオブジェクトの参照ごとにキャッシュします。比較対象のオブジェクトを変更した場合は{@link #clearCache()}を呼び出してください。
+ * 元のハンドラーの述語を変更している場合等、比較がプロパティの値のみで決まらない場合は比較を省略しません。
+ * 
+ * @see EqualsHandler#isStructuralHashSupported()
+ */
+public class StructuralHashEqualsHandler extends EqualsHandler {
+
+	private static final long PRIME = 0x9E3779B97F4A7C15L;
+
+	private static final long NULL_HASH = 0x632BE59BD9B4E019L;
+
+	private final EqualsHandler equalsHandler;
+
+	private final boolean supported;
+
+	/**
+	 * ハッシュを計算できないオブジェクト
+	 */
+	private static final Object UNHASHABLE = new Object();
+
+	private final Map<Object, Object> hashCache = Collections.synchronizedMap(new IdentityHashMap<>());
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param equalsHandler 元のハンドラー
+	 */
+	public StructuralHashEqualsHandler(final EqualsHandler equalsHandler) {
+		this.equalsHandler = equalsHandler;
+		this.supported = equalsHandler.isStructuralHashSupported();
+	}
+
+	/**
+	 * 構造ハッシュの比較を行うハンドラーを返します。
+	 * 
+	 * @param equalsHandler 元のハンドラー
+	 * @return 構造ハッシュの比較を行うハンドラー
+	 */
+	public static StructuralHashEqualsHandler wrap(final EqualsHandler equalsHandler) {
+		if (equalsHandler instanceof StructuralHashEqualsHandler) {
+			return (StructuralHashEqualsHandler) equalsHandler;
+		}
+		return new StructuralHashEqualsHandler(equalsHandler);
+	}
+
+	/**
+	 * 2つのオブジェクトを比較します。構造ハッシュが一致する場合は要素の比較を省略します。
+	 * 
+	 * @param obj1 比較対象オブジェクト1
+	 * @param obj2 比較対象オブジェクト2
+	 * @return 同じ場合はtrue、それ以外はfalse
+	 */
+	public boolean equals(final DbCommonObject<?> obj1, final Object obj2) {
+		if (hashEquals(obj1, obj2)) {
+			return true;
+		}
+		return obj1.equals(obj2, this);
+	}
+
+	/**
+	 * 構造ハッシュを返します。
+	 * 
+	 * @param obj 対象のオブジェクト
+	 * @return 構造ハッシュ。計算できない場合はnull
+	 */
+	public Long getHash(final DbCommonObject<?> obj) {
+		if (!supported || obj == null) {
+			return null;
+		}
+		return nodeHash(obj, Collections.newSetFromMap(new IdentityHashMap<>()));
+	}
+
+	/**
+	 * キャッシュした構造ハッシュを破棄します
+	 */
+	public void clearCache() {
+		hashCache.clear();
+	}
+
+	/**
+	 * @return 元のハンドラー
+	 */
+	public EqualsHandler getEqualsHandler() {
+		return equalsHandler;
+	}
+
+	@Override
+	protected boolean referenceEquals(final Object object1, final Object object2) {
+		return equalsHandler.referenceEquals(object1, object2);
+	}
+
+	@Override
+	protected boolean valueEquals(final String propertyName, final Object object1, final Object object2,
+			final Object value1, final Object value2, final BooleanSupplier p) {
+		if (!supported || !(value1 instanceof DbCommonObject) || !equalsHandler.isHashTarget(propertyName)) {
+			return equalsHandler.valueEquals(propertyName, object1, object2, value1, value2, p);
+		}
+		return equals((DbCommonObject<?>) value1, value2);
+	}
+
+	@Override
+	protected boolean equalsResult(final Object object1, final Object object2) {
+		return equalsHandler.equalsResult(object1, object2);
+	}
+
+	@Override
+	protected boolean isHashTarget(final String propertyName) {
+		return equalsHandler.isHashTarget(propertyName);
+	}
+
+	@Override
+	protected boolean isStructuralHashSupported() {
+		return supported;
+	}
+
+	@Override
+	public StructuralHashEqualsHandler clone() {
+		return new StructuralHashEqualsHandler(equalsHandler.clone());
+	}
+
+	private boolean hashEquals(final DbCommonObject<?> obj1, final Object obj2) {
+		if (!(obj2 instanceof DbCommonObject) || obj1.getClass() != obj2.getClass()) {
+			return false;
+		}
+		final Long hash1 = getHash(obj1);
+		if (hash1 == null) {
+			return false;
+		}
+		return hash1.equals(getHash((DbCommonObject<?>) obj2));
+	}
+
+	private Long nodeHash(final Object obj, final Set<Object> visiting) {
+		final Object cached = hashCache.get(obj);
+		if (cached != null) {
+			return cached == UNHASHABLE ? null : (Long) cached;
+		}
+		if (!visiting.add(obj)) {
+			// 循環参照
+			return null;
+		}
+		final Long hash = computeNodeHash(obj, visiting);
+		visiting.remove(obj);
+		hashCache.put(obj, hash == null ? UNHASHABLE : hash);
+		return hash;
+	}
+
+	private Long computeNodeHash(final Object obj, final Set<Object> visiting) {
+		long hash = stringHash(obj.getClass().getName());
+		for (final ISchemaProperty prop : SchemaUtils.getAllSchemaProperties(obj.getClass())) {
+			if (!equalsHandler.isHashTarget(prop.getLabel())) {
+				continue;
+			}
+			final Long value = valueHash(prop.getValue(obj), visiting);
+			if (value == null) {
+				return null;
+			}
+			hash = combine(combine(hash, stringHash(prop.getLabel())), value.longValue());
+		}
+		if (obj instanceof Row) {
+			final Row row = (Row) obj;
+			final Long values = valueHash(row.getValues(), visiting);
+			final Long options = valueHash(row.getOptionValues(), visiting);
+			if (values == null || options == null) {
+				return null;
+			}
+			hash = combine(combine(hash, values.longValue()), options.longValue());
+		} else if (obj instanceof DbObjectCollection) {
+			final List<?> list = (List<?>) obj;
+			final int size = list.size();
+			hash = combine(hash, size);
+			for (int i = 0; i < size; i++) {
+				final Long value = valueHash(list.get(i), visiting);
+				if (value == null) {
+					return null;
+				}
+				hash = combine(hash, value.longValue());
+			}
+		}
+		return Long.valueOf(mix(hash));
+	}
+
+	private Long valueHash(final Object value, final Set<Object> visiting) {
+		if (value == null) {
+			return Long.valueOf(NULL_HASH);
+		}
+		if (value instanceof DbCommonObject) {
+			return nodeHash(value, visiting);
+		}
+		long hash = stringHash(value.getClass().getName());
+		if (value instanceof String) {
+			hash = combine(hash, stringHash((String) value));
+		} else if (value instanceof Boolean || value instanceof Character) {
+			hash = combine(hash, value.hashCode());
+		} else if (value instanceof Byte || value instanceof Short || value instanceof Integer
+				|| value instanceof Long) {
+			hash = combine(hash, ((Number) value).longValue());
+		} else if (value instanceof Double) {
+			hash = combine(hash, Double.doubleToLongBits(((Double) value).doubleValue()));
+		} else if (value instanceof Float) {
+			hash = combine(hash, Float.floatToIntBits(((Float) value).floatValue()));
+		} else if (value instanceof BigDecimal) {
+			final BigDecimal dec = (BigDecimal) value;
+			hash = combine(combine(hash, dec.scale()), bytesHash(dec.unscaledValue().toByteArray()));
+		} else if (value instanceof BigInteger) {
+			hash = combine(hash, bytesHash(((BigInteger) value).toByteArray()));
+		} else if (value instanceof java.sql.Timestamp) {
+			final java.sql.Timestamp timestamp = (java.sql.Timestamp) value;
+			hash = combine(combine(hash, timestamp.getTime()), timestamp.getNanos());
+		} else if (value instanceof java.util.Date) {
+			hash = combine(hash, ((java.util.Date) value).getTime());
+		} else if (value instanceof TemporalAccessor || value instanceof UUID) {
+			hash = combine(hash, stringHash(value.toString()));
+		} else if (value instanceof Enum) {
+			hash = combine(hash, stringHash(((Enum<?>) value).name()));
+		} else if (value instanceof byte[]) {
+			hash = combine(hash, bytesHash((byte[]) value));
+		} else if (value instanceof Object[]) {
+			final Object[] values = (Object[]) value;
+			hash = combine(hash, values.length);
+			for (final Object val : values) {
+				final Long valHash = valueHash(val, visiting);
+				if (valHash == null) {
+					return null;
+				}
+				hash = combine(hash, valHash.longValue());
+			}
+		} else if (value instanceof List) {
+			final List<?> values = (List<?>) value;
+			hash = combine(hash, values.size());
+			for (final Object val : values) {
+				final Long valHash = valueHash(val, visiting);
+				if (valHash == null) {
+					return null;
+				}
+				hash = combine(hash, valHash.longValue());
+			}
+		} else if (value instanceof Set) {
+			final Long valHash = unorderedHash((Set<?>) value, visiting);
+			if (valHash == null) {
+				return null;
+			}
+			hash = combine(hash, valHash.longValue());
+		} else if (value instanceof Map) {
+			long sum = 0;
+			for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				final Long key = valueHash(entry.getKey(), visiting);
+				final Long val = valueHash(entry.getValue(), visiting);
+				if (key == null || val == null) {
+					return null;
+				}
+				sum += mix(combine(key.longValue(), val.longValue()));
+			}
+			hash = combine(combine(hash, ((Map<?, ?>) value).size()), sum);
+		} else if (Converters.getDefault().isConvertable(value.getClass())) {
+			hash = combine(hash, stringHash(Converters.getDefault().convertString(value)));
+		} else {
+			// 値の等価性をハッシュで表せない
+			return null;
+		}
+		return Long.valueOf(mix(hash));
+	}
+
+	private Long unorderedHash(final Collection<?> values, final Set<Object> visiting) {
+		long sum = 0;
+		for (final Object val : values) {
+			final Long valHash = valueHash(val, visiting);
+			if (valHash == null) {
+				return null;
+			}
+			sum += mix(valHash.longValue());
+		}
+		return Long.valueOf(combine(values.size(), sum));
+	}
+
+	private static long combine(final long hash, final long value) {
+		return (hash ^ value) * PRIME + (value >>> 29);
+	}
+
+	private static long stringHash(final String value) {
+		return bytesHash(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * FNV-1a(64bit)
+	 */
+	private static long bytesHash(final byte[] bytes) {
+		long hash = 0xCBF29CE484222325L;
+		for (final byte b : bytes) {
+			hash ^= (b & 0xFF);
+			hash *= 0x100000001B3L;
+		}
+		return hash;
+	}
+
+	private static long mix(long hash) {
+		hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+		hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+		return hash ^ (hash >>> 31);
+	}
+}
@@ -36,6 +36,7 @@ import org.apache.poi.EncryptedDocumentException;
 import org.apache.poi.ooxml.POIXMLException;
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.openxml4j.util.ZipSecureFile;
+import org.apache.poi.ss.SpreadsheetVersion;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookProvider;
 
@@ -66,6 +67,11 @@ public enum DataFormat {
 			return new org.apache.poi.hssf.usermodel.HSSFWorkbook();
 		}
 
+		@Override
+		public SpreadsheetVersion getSpreadsheetVersion() {
+			return SpreadsheetVersion.EXCEL97;
+		}
+
 		@Override
 		public boolean isWorkbook() {
 			return true;
@@ -96,6 +102,18 @@ public enum DataFormat {
 			return new org.apache.poi.xssf.usermodel.XSSFWorkbook();
 		}
 
+		@Override
+		public Workbook createStreamingWorkbook(final int rowAccessWindowSize, final boolean compressTmpFiles,
+				final boolean useSharedStringsTable) {
+			return new org.apache.poi.xssf.streaming.SXSSFWorkbook(null, rowAccessWindowSize, compressTmpFiles,
+					useSharedStringsTable);
+		}
+
+		@Override
+		public SpreadsheetVersion getSpreadsheetVersion() {
+			return SpreadsheetVersion.EXCEL2007;
+		}
+
 		@Override
 		public boolean isWorkbook() {
 			return true;
@@ -459,6 +477,28 @@ public enum DataFormat {
 		return null;
 	}
 
+	/**
+	 * 書き込み専用のストリーミングワークブックを作成します。
+	 * 
+	 * メモリ上にはrowAccessWindowSize行のみ保持し、それ以前の行は一時ファイルに書き出します。
+	 * ストリーミングに対応しない形式では{@link #createWorkbook()}と同じです。
+	 * 
+	 * @param rowAccessWindowSize   メモリ上に保持する行数
+	 * @param compressTmpFiles      一時ファイルを圧縮する場合true
+	 * @param useSharedStringsTable 共有文字列テーブルを使用する場合true
+	 */
+	public Workbook createStreamingWorkbook(final int rowAccessWindowSize, final boolean compressTmpFiles,
+			final boolean useSharedStringsTable) {
+		return createWorkbook();
+	}
+
+	/**
+	 * ワークブックの形式(最大行数、最大列数)を取得します。
+	 */
+	public SpreadsheetVersion getSpreadsheetVersion() {
+		return null;
+	}
+
 	public FileType getFileType() {
 		return null;
 	}
@@ -31,6 +31,7 @@ import com.sqlapp.data.schemas.Column;
 import com.sqlapp.data.schemas.Row;
 import com.sqlapp.data.schemas.RowCollection;
 import com.sqlapp.data.schemas.function.RowValueConverter;
+import com.sqlapp.data.schemas.rowiterator.ExcelStreamingReader.ExcelStreamingRow;
 import com.sqlapp.util.CommonUtils;
 
 /**
@@ -42,7 +43,18 @@ import com.sqlapp.util.CommonUtils;
 public class ExcelRowIteratorHandler extends AbstractRowIteratorHandler {
 
 	private final File file;
+	/**
+	 * 先頭の読み飛ばす行数。Excelでは通常読み込み、逐次読み込みのどちらも先頭行をヘッダーとして扱います。
+	 */
 	private final int skipHeaderRowsSize;
+	/**
+	 * xlsxをSAXで逐次読み込む場合true
+	 */
+	private boolean streaming = false;
+	/**
+	 * 逐次読み込み時に先読みする行数
+	 */
+	private int streamingQueueSize = 100;
 
 	public ExcelRowIteratorHandler(final File file, final int skipHeaderRowsSize,
 			final RowValueConverter valueConverter) {
@@ -67,9 +79,41 @@ public class ExcelRowIteratorHandler extends AbstractRowIteratorHandler {
 
 	@Override
 	public Iterator<Row> iterator(final RowCollection c) {
+		if (streaming && DataFormat.parse(file) == DataFormat.EXCEL) {
+			return new ExcelStreamingIterator(c, file, 0L, this.getRowValueConverter(), this.skipHeaderRowsSize,
+					this.streamingQueueSize);
+		}
 		return new ExcelIterator(c, file, 0L, this.getRowValueConverter(), this.skipHeaderRowsSize);
 	}
 
+	/**
+	 * @return the streaming
+	 */
+	public boolean isStreaming() {
+		return streaming;
+	}
+
+	/**
+	 * @param streaming the streaming to set
+	 */
+	public void setStreaming(final boolean streaming) {
+		this.streaming = streaming;
+	}
+
+	/**
+	 * @return the streamingQueueSize
+	 */
+	public int getStreamingQueueSize() {
+		return streamingQueueSize;
+	}
+
+	/**
+	 * @param streamingQueueSize the streamingQueueSize to set
+	 */
+	public void setStreamingQueueSize(final int streamingQueueSize) {
+		this.streamingQueueSize = streamingQueueSize;
+	}
+
 	public static class ExcelIterator extends AbstractRowIterator<org.apache.poi.ss.usermodel.Row> {
 
 		ExcelIterator(final RowCollection c, final File file, final long index, final RowValueConverter valueConverter,
@@ -186,4 +230,111 @@ public class ExcelRowIteratorHandler extends AbstractRowIteratorHandler {
 		}
 	}
 
+	/**
+	 * xlsxをSAXで逐次読み込むIterator
+	 * 
+	 * @author tatsuo satoh
+	 *
+	 */
+	public static class ExcelStreamingIterator extends AbstractRowIterator<ExcelStreamingRow> {
+
+		ExcelStreamingIterator(final RowCollection c, final File file, final long index,
+				final RowValueConverter valueConverter, final int skipHeaderRowsSize, final int queueSize) {
+			super(c, index, valueConverter);
+			this.file = file;
+			this.filename = file.getAbsolutePath();
+			this.queueSize = queueSize;
+		}
+
+		private final File file;
+		private final String filename;
+		private final int queueSize;
+
+		private final Map<Integer, Column> columnIndexColumnMap = CommonUtils.map();
+
+		private final Map<Integer, Boolean> columnIndexFixedTypeMap = CommonUtils.map();
+
+		private Iterator<ExcelStreamingRow> rowIterator;
+
+		@Override
+		protected void preInitialize() throws Exception {
+			this.rowIterator = new ExcelStreamingReader(file).iterator(queueSize);
+		}
+
+		@Override
+		protected ExcelStreamingRow read() {
+			return rowIterator.next();
+		}
+
+		@Override
+		protected boolean hasNextInternal() {
+			return rowIterator.hasNext();
+		}
+
+		/**
+		 * ExcelIteratorと同様に先頭行をヘッダーとして列を対応付けます。
+		 */
+		@Override
+		protected void initializeColumn() {
+			if (!hasNextInternal()) {
+				return;
+			}
+			final ExcelStreamingRow headerRow = read();
+			final boolean addColumn = CommonUtils.isEmpty(table.getColumns());
+			headerRow.getValues().forEach((columnIndex, obj) -> {
+				if (!(obj instanceof String)) {
+					return;
+				}
+				final String columnName = (String) obj;
+				if (addColumn) {
+					final Column column = new Column(columnName);
+					columnIndexColumnMap.put(columnIndex, column);
+					columnIndexFixedTypeMap.put(columnIndex, false);
+					table.getColumns().add(column);
+				} else {
+					final Column column = searchColumn(table, columnName);
+					if (column != null) {
+						columnIndexFixedTypeMap.put(columnIndex, column.getDataType() != null);
+						columnIndexColumnMap.put(columnIndex, column);
+					}
+				}
+			});
+		}
+
+		@Override
+		protected void set(final ExcelStreamingRow excelRow, final Row row) throws Exception {
+			row.setDataSourceInfo(filename);
+			row.setDataSourceDetailInfo(excelRow.getSheetName());
+			row.setDataSourceRowNumber(excelRow.getRowNum() + 1);
+			for (final Map.Entry<Integer, Object> entry : excelRow.getValues().entrySet()) {
+				final Column column = columnIndexColumnMap.get(entry.getKey());
+				if (column == null) {
+					continue;
+				}
+				final Object value = entry.getValue();
+				if (!columnIndexFixedTypeMap.get(entry.getKey()).booleanValue()) {
+					ExcelUtils.setColumnType(value, column);
+					if (value instanceof String) {
+						if (column.getLength() != null) {
+							column.setLength(Math.max(this.getTypeLength((String) value), column.getLength()));
+						} else {
+							column.setLength(this.getTypeLength((String) value));
+						}
+					}
+				}
+				put(row, column, value);
+			}
+		}
+
+		@Override
+		protected void doClose() {
+			if (rowIterator instanceof AutoCloseable) {
+				try {
+					((AutoCloseable) rowIterator).close();
+				} catch (final Exception e) {
+				}
+			}
+		}
+	}
+
 }
@@ -0,0 +1,274 @@
+/**
+ * Copyright (C) 2026-2026 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-core.
+ *
+ * sqlapp-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+
+package com.sqlapp.data.schemas.rowiterator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import com.sqlapp.iterable.VirtualThreadIterable;
+import com.sqlapp.util.CommonUtils;
+
+/**
+ * xlsxの最初のシートをSAXで逐次読み込むリーダー
+ * 
+ * ワークブック全体をメモリに展開せず、シートのXMLを読み込みながら1行ずつ通知します。
+ * 
+ * @author tatsuo satoh
+ * 
+ */
+public class ExcelStreamingReader {
+
+	private final File file;
+
+	private final InputStream inputStream;
+
+	public ExcelStreamingReader(final File file) {
+		this.file = file;
+		this.inputStream = null;
+	}
+
+	public ExcelStreamingReader(final InputStream inputStream) {
+		this.file = null;
+		this.inputStream = inputStream;
+	}
+
+	/**
+	 * 最初のシートの行を順に読み込みます
+	 * 
+	 * @param consumer 行の処理
+	 */
+	public void read(final Consumer<ExcelStreamingRow> consumer)
+			throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+		final OPCPackage pkg = open();
+		try {
+			final XSSFReader reader = new XSSFReader(pkg);
+			final ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+			final StylesTable styles = reader.getStylesTable();
+			final XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+			if (!sheets.hasNext()) {
+				return;
+			}
+			try (InputStream sheet = sheets.next()) {
+				final XMLReader xmlReader = XMLHelper.newXMLReader();
+				xmlReader.setContentHandler(new SheetHandler(sheets.getSheetName(), sharedStrings, styles, consumer));
+				xmlReader.parse(new InputSource(sheet));
+			}
+		} finally {
+			pkg.revert();
+		}
+	}
+
+	/**
+	 * 最初のシートの行を順に返すIteratorを作成します。
+	 * 
+	 * 読み込みは仮想スレッドで行い、queueSize行を超えて先読みしません。
+	 * 
+	 * @param queueSize 先読みする行数
+	 */
+	public Iterator<ExcelStreamingRow> iterator(final int queueSize) {
+		final VirtualThreadIterable<ExcelStreamingRow> iterable = new VirtualThreadIterable<>(consumer -> {
+			try {
+				read(consumer);
+			} catch (IOException | OpenXML4JException | SAXException | ParserConfigurationException e) {
+				throw new RuntimeException(e);
+			}
+		}, () -> {
+		}, queueSize);
+		return iterable.iterator();
+	}
+
+	private OPCPackage open() throws IOException, OpenXML4JException {
+		if (file != null) {
+			return OPCPackage.open(file, PackageAccess.READ);
+		}
+		return OPCPackage.open(inputStream);
+	}
+
+	/**
+	 * SAXで読み込んだ行
+	 */
+	public static class ExcelStreamingRow {
+		private final String sheetName;
+		private final int rowNum;
+		private final Map<Integer, Object> values = CommonUtils.linkedMap();
+
+		ExcelStreamingRow(final String sheetName, final int rowNum) {
+			this.sheetName = sheetName;
+			this.rowNum = rowNum;
+		}
+
+		/**
+		 * @return シート名
+		 */
+		public String getSheetName() {
+			return sheetName;
+		}
+
+		/**
+		 * @return 0始まりの行番号
+		 */
+		public int getRowNum() {
+			return rowNum;
+		}
+
+		/**
+		 * @return 0始まりの列番号とセルの値
+		 */
+		public Map<Integer, Object> getValues() {
+			return values;
+		}
+	}
+
+	private static class SheetHandler extends DefaultHandler {
+		private final String sheetName;
+		private final ReadOnlySharedStringsTable sharedStrings;
+		private final StylesTable styles;
+		private final Consumer<ExcelStreamingRow> consumer;
+		private final StringBuilder text = new StringBuilder();
+
+		private ExcelStreamingRow row;
+		private int rowNum = -1;
+		private int columnIndex = -1;
+		private String cellType;
+		private String cellStyle;
+		private boolean inValue;
+		private boolean inInlineString;
+
+		SheetHandler(final String sheetName, final ReadOnlySharedStringsTable sharedStrings,
+				final StylesTable styles, final Consumer<ExcelStreamingRow> consumer) {
+			this.sheetName = sheetName;
+			this.sharedStrings = sharedStrings;
+			this.styles = styles;
+			this.consumer = consumer;
+		}
+
+		@Override
+		public void startElement(final String uri, final String localName, final String qName,
+				final Attributes attributes) {
+			switch (localName) {
+			case "row":
+				final String r = attributes.getValue("r");
+				rowNum = r != null ? Integer.parseInt(r) - 1 : rowNum + 1;
+				row = new ExcelStreamingRow(sheetName, rowNum);
+				columnIndex = -1;
+				break;
+			case "c":
+				final String ref = attributes.getValue("r");
+				columnIndex = ref != null ? new CellReference(ref).getCol() : columnIndex + 1;
+				cellType = attributes.getValue("t");
+				cellStyle = attributes.getValue("s");
+				text.setLength(0);
+				break;
+			case "v":
+				inValue = true;
+				break;
+			case "is":
+				inInlineString = true;
+				break;
+			case "t":
+				if (inInlineString) {
+					inValue = true;
+				}
+				break;
+			default:
+			}
+		}
+
+		@Override
+		public void characters(final char[] ch, final int start, final int length) {
+			if (inValue) {
+				text.append(ch, start, length);
+			}
+		}
+
+		@Override
+		public void endElement(final String uri, final String localName, final String qName) {
+			switch (localName) {
+			case "v":
+			case "t":
+				inValue = false;
+				break;
+			case "is":
+				inInlineString = false;
+				break;
+			case "c":
+				final Object value = getValue();
+				if (value != null && row != null) {
+					row.getValues().put(columnIndex, value);
+				}
+				break;
+			case "row":
+				consumer.accept(row);
+				row = null;
+				break;
+			default:
+			}
+		}
+
+		private Object getValue() {
+			final String value = text.toString();
+			if ("inlineStr".equals(cellType) || "str".equals(cellType)) {
+				return value;
+			}
+			if (value.isEmpty()) {
+				return null;
+			}
+			if ("s".equals(cellType)) {
+				return sharedStrings.getItemAt(Integer.parseInt(value)).getString();
+			}
+			if ("b".equals(cellType)) {
+				return "1".equals(value);
+			}
+			if ("e".equals(cellType)) {
+				return null;
+			}
+			final double number = Double.parseDouble(value);
+			if (cellStyle != null && styles != null) {
+				final XSSFCellStyle style = styles.getStyleAt(Integer.parseInt(cellStyle));
+				if (style != null && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString())) {
+					return DateUtil.getJavaDate(number);
+				}
+			}
+			return ExcelUtils.toNumber(number);
+		}
+	}
+}
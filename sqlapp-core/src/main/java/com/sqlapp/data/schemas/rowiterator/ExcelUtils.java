@@ -53,6 +53,7 @@ import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
 import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
 import com.sqlapp.data.converter.Converters;
 import com.sqlapp.data.db.datatype.DataType;
@@ -158,7 +159,7 @@ public class ExcelUtils {
 		return null;
 	}
 
-	private static Object toNumber(double n) {
+	static Object toNumber(double n) {
 		int i = (int) n;
 		if (n == (double) i) {
 			return i;
@@ -289,6 +290,35 @@ public class ExcelUtils {
 		}
 	}
 
+	/**
+	 * 値からカラムの型を設定します
+	 * 
+	 * @param value  セルの値
+	 * @param column カラム
+	 */
+	public static void setColumnType(final Object value, final Column column) {
+		if (value instanceof Boolean) {
+			if (column.getDataType() != null && column.getDataType() != DataType.BOOLEAN) {
+				return;
+			}
+			column.setDataType(DataType.BOOLEAN);
+		} else if (value instanceof Date) {
+			if (column.getDataType() != null && column.getDataType() != DataType.DATETIME) {
+				return;
+			}
+			column.setDataType(DataType.DATETIME);
+		} else if (value instanceof Double) {
+			column.setDataType(DataType.DOUBLE);
+		} else if (value instanceof Number) {
+			if (column.getDataType() != DataType.DOUBLE) {
+				column.setDataType(DataType.BIGINT);
+			}
+		} else if (value instanceof String) {
+			column.setDataType(DataType.NVARCHAR);
+			column.setLength(DialectUtils.getDefaultTypeLength(null));
+		}
+	}
+
 	private static boolean hasDecimalPoint(final Cell cell) {
 		final double dbValue = cell.getNumericCellValue();
 		final double dbValue2 = Math.round(dbValue);
@@ -495,6 +525,54 @@ public class ExcelUtils {
 		setCell(converters, cell.getSheet().getWorkbook(), cell, obj);
 	}
 
+	/**
+	 * セルに値を設定します。日付の場合は指定したスタイルを使用します。
+	 * 
+	 * 行ごとにスタイルを作成しないため、大量の行を書き込む場合に使用します。
+	 * 
+	 * @param converters    コンバーター
+	 * @param cell          セル
+	 * @param obj           設定する値
+	 * @param dateCellStyle 日付用のセルスタイル
+	 */
+	public static void setCell(final Converters converters, final Cell cell, final Object obj,
+			final CellStyle dateCellStyle) {
+		if (obj instanceof LocalDate || obj instanceof LocalDateTime || obj instanceof Calendar
+				|| obj instanceof Date) {
+			cell.setCellStyle(dateCellStyle);
+		}
+		setCell(converters, cell.getSheet().getWorkbook(), cell, obj);
+	}
+
+	/**
+	 * 日付用のセルスタイルを作成します
+	 * 
+	 * @param workbook Workbook
+	 * @return 日付用のセルスタイル
+	 */
+	public static CellStyle createDateCellStyle(final Workbook workbook) {
+		final DataFormat format = workbook.createDataFormat();
+		final CellStyle style = workbook.createCellStyle();
+		style.setDataFormat(format.getFormat("yyyy-mm-dd"));
+		return style;
+	}
+
+	/**
+	 * ワークブックをクローズし、ストリーミングワークブックの一時ファイルを削除します。
+	 * 
+	 * @param workbook Workbook
+	 * @throws IOException
+	 */
+	public static void closeWorkbook(final Workbook workbook) throws IOException {
+		try {
+			workbook.close();
+		} finally {
+			if (workbook instanceof SXSSFWorkbook) {
+				((SXSSFWorkbook) workbook).dispose();
+			}
+		}
+	}
+
 	private static void setDateFormat(final Workbook workbook, final Cell cell) {
 		if (0 == cell.getCellStyle().getDataFormat()) {
 			// データフォーマットが標準の場合、年月日書式に変更
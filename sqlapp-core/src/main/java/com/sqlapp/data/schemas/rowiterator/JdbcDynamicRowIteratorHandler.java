@@ -291,6 +291,9 @@ public class JdbcDynamicRowIteratorHandler implements RowIteratorHandler {
 			}
 			options.setDecorateSchemaName(true);
 			sqlFactory.setOptions(options);
+			if (this.tableOptions != null) {
+				sqlFactory.setTableOptions(this.tableOptions);
+			}
 			final List<SqlOperation> operationTexts = sqlFactory.createSql(table);
 			final SqlOperation operationText = CommonUtils.first(operationTexts);
 			sql = operationText != null ? operationText.getSqlText() : null;
@@ -32,6 +32,10 @@ import com.sqlapp.data.schemas.function.RowValueConverter;
 import com.sqlapp.util.CommonUtils;
 import com.sqlapp.util.JsonConverter;
 
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectMapper;
+
 /**
  * CSVの行のIterator
  * 
@@ -94,6 +98,22 @@ public class JsonRowIteratorHandler extends AbstractRowIteratorHandler {
 		private Map<String, Object> current = null;
 
 		private boolean hasColumn = false;
+		/**
+		 * 配列を要素ごとに読み込むパーサー
+		 */
+		private JsonParser parser;
+		/**
+		 * 先読みしたトークン
+		 */
+		private JsonToken nextToken;
+		/**
+		 * 読み込み中の要素のオブジェクトが残っているか
+		 */
+		private boolean pending = false;
+		/**
+		 * キーごとに解決したカラム
+		 */
+		private final Map<String, Column> columnMap = CommonUtils.map();
 
 		protected JsonConverter getJsonConverter() {
 			return this.jsonConverter;
@@ -111,11 +131,15 @@ public class JsonRowIteratorHandler extends AbstractRowIteratorHandler {
 			this.iterator = iterator;
 		}
 
-		@SuppressWarnings("unchecked")
+		/**
+		 * ファイル全体を読み込まずに、配列の要素を1件ずつ読み込みます。
+		 */
 		@Override
 		protected void preInitialize() throws Exception {
-			list = jsonConverter.fromJsonString(file, List.class);
-			iterator = list.iterator();
+			parser = jsonConverter.getObjectMapper().createParser(file);
+			if (parser.nextToken() != JsonToken.START_ARRAY) {
+				throw new IllegalArgumentException("File is not JSON array format.file=" + filename);
+			}
 		}
 
 		@Override
@@ -127,12 +151,43 @@ public class JsonRowIteratorHandler extends AbstractRowIteratorHandler {
 
 		@Override
 		protected boolean hasNextInternal() throws Exception {
-			return iterator.hasNext();
+			if (iterator != null) {
+				return iterator.hasNext();
+			}
+			if (parser == null) {
+				return false;
+			}
+			if (nextToken == null) {
+				if (pending) {
+					// 読み飛ばした要素
+					parser.skipChildren();
+					pending = false;
+				}
+				nextToken = parser.nextToken();
+				if (nextToken == null) {
+					nextToken = JsonToken.END_ARRAY;
+				}
+			}
+			if (nextToken == JsonToken.START_OBJECT) {
+				return true;
+			}
+			if (nextToken == JsonToken.END_ARRAY) {
+				return false;
+			}
+			throw new IllegalArgumentException(
+					"JSON array element is not object.file=" + filename + ", token=" + nextToken);
 		}
 
 		@Override
 		protected Map<String, Object> read() throws Exception {
-			current = iterator.next();
+			if (iterator != null) {
+				current = iterator.next();
+				return current;
+			}
+			// 要素はsetで直接Rowに読み込む
+			nextToken = null;
+			pending = true;
+			current = null;
 			return current;
 		}
 
@@ -140,21 +195,49 @@ public class JsonRowIteratorHandler extends AbstractRowIteratorHandler {
 		protected void set(final Map<String, Object> map, final Row row) throws Exception {
 			row.setDataSourceInfo(filename);
 			row.setDataSourceRowNumber(count + 1);
+			if (map == null) {
+				readObject(row);
+				return;
+			}
 			map.forEach((columnName, value) -> {
-				Column column = searchColumn(table, columnName);
-				if (!hasColumn) {
-					if (column == null) {
-						column = new Column(columnName);
-						table.getColumns().add(column);
-					}
+				setValue(row, columnName, value);
+			});
+		}
+
+		private void readObject(final Row row) {
+			final ObjectMapper objectMapper = jsonConverter.getObjectMapper();
+			while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+				final String columnName = parser.currentName();
+				parser.nextToken();
+				setValue(row, columnName, objectMapper.readValue(parser, Object.class));
+			}
+			pending = false;
+		}
+
+		private void setValue(final Row row, final String columnName, final Object value) {
+			final Column column = getColumn(columnName);
+			if (column != null) {
+				if (value != null) {
+					setType(column, value);
+					put(row, column, value);
 				}
-				if (column != null) {
-					if (value != null) {
-						setType(column, value);
-						put(row, column, value);
-					}
+			}
+		}
+
+		private Column getColumn(final String columnName) {
+			Column column = columnMap.get(columnName);
+			if (column != null || columnMap.containsKey(columnName)) {
+				return column;
+			}
+			column = searchColumn(table, columnName);
+			if (!hasColumn) {
+				if (column == null) {
+					column = new Column(columnName);
+					table.getColumns().add(column);
 				}
-			});
+			}
+			columnMap.put(columnName, column);
+			return column;
 		}
 
 		private void setType(final Column column, final Object value) {
@@ -192,6 +275,10 @@ public class JsonRowIteratorHandler extends AbstractRowIteratorHandler {
 		@Override
 		protected void doClose() {
 			this.iterator = null;
+			if (this.parser != null) {
+				this.parser.close();
+				this.parser = null;
+			}
 		}
 
 	}
@@ -38,6 +38,8 @@ import com.sqlapp.data.schemas.Column;
 import com.sqlapp.data.schemas.Table;
 import com.sqlapp.data.schemas.XmlReaderOptions;
 import com.sqlapp.data.schemas.rowiterator.DataFormat;
+import com.sqlapp.data.schemas.rowiterator.ExcelStreamingReader;
+import com.sqlapp.data.schemas.rowiterator.ExcelStreamingReader.ExcelStreamingRow;
 import com.sqlapp.data.schemas.rowiterator.ExcelUtils;
 import com.sqlapp.util.CommonUtils;
 import com.sqlapp.util.FileUtils;
@@ -66,8 +68,51 @@ public class ExcelIterable extends AbstractMapIterable {
 		super(reader);
 	}
 
+	/**
+	 * xlsxをSAXで逐次読み込む場合true
+	 */
+	private boolean streaming = false;
+
+	/**
+	 * @return the streaming
+	 */
+	public boolean isStreaming() {
+		return streaming;
+	}
+
+	/**
+	 * @param streaming the streaming to set
+	 */
+	public ExcelIterable setStreaming(boolean streaming) {
+		this.streaming = streaming;
+		return this;
+	}
+
+	/**
+	 * SAXで逐次読み込む場合に先読みする行数
+	 */
+	private int streamingQueueSize = 100;
+
+	/**
+	 * @return the streamingQueueSize
+	 */
+	public int getStreamingQueueSize() {
+		return streamingQueueSize;
+	}
+
+	/**
+	 * @param streamingQueueSize the streamingQueueSize to set
+	 */
+	public ExcelIterable setStreamingQueueSize(int streamingQueueSize) {
+		this.streamingQueueSize = streamingQueueSize;
+		return this;
+	}
+
 	@Override
 	protected Iterator<Map<String, Object>> iterator(File file) {
+		if (streaming && DataFormat.parse(file) == DataFormat.EXCEL) {
+			return new ExcelStreamingIterator(new ExcelStreamingReader(file), streamingQueueSize);
+		}
 		return new ExcelIterator(file);
 	}
 
@@ -95,11 +140,17 @@ public class ExcelIterable extends AbstractMapIterable {
 
 	@Override
 	protected Iterator<Map<String, Object>> iterator(Path path) {
+		if (streaming) {
+			return iterator(path.toFile());
+		}
 		return new ExcelIterator(path);
 	}
 
 	@Override
 	protected Iterator<Map<String, Object>> iterator(InputStream inputStream) {
+		if (streaming) {
+			return new ExcelStreamingIterator(new ExcelStreamingReader(inputStream), streamingQueueSize);
+		}
 		return new ExcelIterator(inputStream);
 	}
 
@@ -225,4 +276,65 @@ public class ExcelIterable extends AbstractMapIterable {
 			return map;
 		}
 	}
+
+	/**
+	 * xlsxをSAXで逐次読み込むIterator
+	 */
+	public static class ExcelStreamingIterator implements Iterator<Map<String, Object>>, AutoCloseable {
+
+		ExcelStreamingIterator(final ExcelStreamingReader reader, final int queueSize) {
+			this.reader = reader;
+			this.queueSize = queueSize;
+		}
+
+		private final ExcelStreamingReader reader;
+		private final int queueSize;
+		private boolean initialized = false;
+
+		private final Map<Integer, String> columnIndexNameMap = CommonUtils.map();
+
+		private Iterator<ExcelStreamingRow> rowIterator;
+
+		private void initialize() {
+			if (initialized) {
+				return;
+			}
+			rowIterator = reader.iterator(queueSize);
+			if (rowIterator.hasNext()) {
+				rowIterator.next().getValues().forEach((columnIndex, obj) -> {
+					if (obj instanceof String) {
+						columnIndexNameMap.put(columnIndex, (String) obj);
+					}
+				});
+			}
+			initialized = true;
+		}
+
+		@Override
+		public boolean hasNext() {
+			initialize();
+			return rowIterator.hasNext();
+		}
+
+		@Override
+		public Map<String, Object> next() {
+			initialize();
+			final ExcelStreamingRow row = rowIterator.next();
+			final Map<String, Object> map = CommonUtils.linkedMap();
+			row.getValues().forEach((columnIndex, value) -> {
+				final String name = columnIndexNameMap.get(columnIndex);
+				if (name != null && value != null) {
+					map.put(name, value);
+				}
+			});
+			return map;
+		}
+
+		@Override
+		public void close() throws Exception {
+			if (rowIterator instanceof AutoCloseable) {
+				((AutoCloseable) rowIterator).close();
+			}
+		}
+	}
 }
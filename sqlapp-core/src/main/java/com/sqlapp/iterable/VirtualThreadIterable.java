@@ -24,6 +24,8 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 public class VirtualThreadIterable<T> implements Iterable<T> {
@@ -49,10 +51,14 @@ public class VirtualThreadIterable<T> implements Iterable<T> {
 	@Override
 	public Iterator<T> iterator() {
 		BlockingQueue<Message<T>> queue = new ArrayBlockingQueue<>(queueSize);
+		AtomicBoolean closed = new AtomicBoolean(false);
 
 		Thread producerThread = Thread.ofVirtual().start(() -> {
 			try {
 				producer.accept(value -> {
+					if (closed.get()) {
+						throw new ProducerInterruptedException(null);
+					}
 					try {
 						queue.put(new Value<>(value));
 					} catch (InterruptedException e) {
@@ -63,30 +69,33 @@ public class VirtualThreadIterable<T> implements Iterable<T> {
 			} catch (ProducerInterruptedException e) {
 				// Consumerが途中終了してProducerをinterruptしたケース
 			} catch (Throwable e) {
-				offerTerminalMessage(queue, new Failure<>(e));
+				offerTerminalMessage(queue, new Failure<>(e), closed);
 			} finally {
 				try {
 					finalizer.run();
 				} catch (Throwable e) {
-					offerTerminalMessage(queue, new Failure<>(e));
+					offerTerminalMessage(queue, new Failure<>(e), closed);
 				} finally {
-					offerTerminalMessage(queue, End.instance());
+					offerTerminalMessage(queue, End.instance(), closed);
 				}
 			}
 		});
 
-		return new VirtualThreadIterator<>(queue, producerThread);
+		return new VirtualThreadIterator<>(queue, producerThread, closed);
 	}
 
-	private static <T> void offerTerminalMessage(BlockingQueue<Message<T>> queue, Message<T> message) {
+	private static <T> void offerTerminalMessage(BlockingQueue<Message<T>> queue, Message<T> message,
+			AtomicBoolean closed) {
 		/*
-		 * Producerが正常に完了した場合、Consumerはキューを消費中なので、 通常はputで問題ない。
+		 * Producerが正常に完了した場合、Consumerはキューを消費中なので、 通常は空きができる。
+		 * Consumerがcloseした後はキューが消費されないため、終了メッセージは不要。
 		 */
 		boolean interrupted = false;
-		for (;;) {
+		while (!closed.get()) {
 			try {
-				queue.put(message);
-				break;
+				if (queue.offer(message, 100, TimeUnit.MILLISECONDS)) {
+					break;
+				}
 			} catch (InterruptedException e) {
 				interrupted = true;
 			}
@@ -127,15 +136,17 @@ public class VirtualThreadIterable<T> implements Iterable<T> {
 
 		private final BlockingQueue<Message<T>> queue;
 		private final Thread producerThread;
+		private final AtomicBoolean producerClosed;
 
 		private T next;
 		private boolean nextReady;
 		private boolean finished;
 		private boolean closed;
 
-		VirtualThreadIterator(BlockingQueue<Message<T>> queue, Thread producerThread) {
+		VirtualThreadIterator(BlockingQueue<Message<T>> queue, Thread producerThread, AtomicBoolean producerClosed) {
 			this.queue = queue;
 			this.producerThread = producerThread;
+			this.producerClosed = producerClosed;
 		}
 
 		@Override
@@ -183,6 +194,9 @@ public class VirtualThreadIterable<T> implements Iterable<T> {
 			return result;
 		}
 
+		/**
+		 * Producerを中断し、Producerのfinalizerが終わるまで待ちます。
+		 */
 		@Override
 		public void close() {
 			if (closed) {
@@ -192,7 +206,22 @@ public class VirtualThreadIterable<T> implements Iterable<T> {
 			finished = true;
 			next = null;
 			nextReady = false;
+			producerClosed.set(true);
 			producerThread.interrupt();
+			queue.clear();
+			boolean interrupted = false;
+			for (;;) {
+				try {
+					producerThread.join();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			queue.clear();
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
 		}
 
 		private static RuntimeException propagate(Throwable cause) {
@@ -49,7 +49,9 @@ import com.sqlapp.data.db.dialect.DialectResolver;
  */
 public abstract class AbstractConnection extends AbstractJdbc<Connection> implements Connection {
 
-	private Dialect dialect = null;
+	private volatile Dialect dialect = null;
+
+	private AbstractDataSource dataSource = null;
 
 	/**
 	 * コンストラクタ
@@ -66,16 +68,32 @@ public abstract class AbstractConnection extends AbstractJdbc<Connection> implem
 	 */
 	public Dialect getDialect() {
 		if (dialect == null) {
-			try {
-				final DatabaseMetaData databaseMetaData = nativeObject.getMetaData();
-				dialect = DialectResolver.getInstance().getDialect(databaseMetaData);
-			} catch (final SQLException e) {
-				error(this.getClass().getSimpleName() + "#getDialect()", e);
+			if (dataSource != null) {
+				dialect = dataSource.getDialect();
+			}
+			if (dialect == null) {
+				try {
+					dialect = DialectResolver.getInstance().getDialect(nativeObject);
+				} catch (final RuntimeException e) {
+					error(this.getClass().getSimpleName() + "#getDialect()", e);
+				}
+				if (dataSource != null && dialect != null) {
+					dataSource.setDialect(dialect);
+				}
 			}
 		}
 		return dialect;
 	}
 
+	/**
+	 * 取得元のデータソースを設定します。DB方言はデータソース単位で共有します。
+	 * 
+	 * @param dataSource 取得元のデータソース
+	 */
+	void setDataSource(final AbstractDataSource dataSource) {
+		this.dataSource = dataSource;
+	}
+
 	/**
 	 * ログ出力前の処理
 	 */
@@ -103,6 +121,7 @@ public abstract class AbstractConnection extends AbstractJdbc<Connection> implem
 	 */
 	@Override
 	public void close() throws SQLException {
+		DialectResolver.getInstance().removeCache(nativeObject);
 		nativeObject.close();
 	}
 
@@ -267,9 +286,7 @@ public abstract class AbstractConnection extends AbstractJdbc<Connection> implem
 	@Override
 	public DatabaseMetaData getMetaData() throws SQLException {
 		final DatabaseMetaData databaseMetaData = nativeObject.getMetaData();
-		if (dialect == null) {
-			dialect = DialectResolver.getInstance().getDialect(databaseMetaData);
-		}
+		getDialect();
 		if (databaseMetaData instanceof SqlappDatabaseMetaData) {
 			return databaseMetaData;
 		}
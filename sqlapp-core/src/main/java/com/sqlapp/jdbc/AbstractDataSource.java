@@ -29,6 +29,7 @@ import java.util.logging.Logger;
 
 import javax.sql.DataSource;
 
+import com.sqlapp.data.db.dialect.Dialect;
 import com.sqlapp.util.FileUtils;
 
 /**
@@ -39,10 +40,27 @@ import com.sqlapp.util.FileUtils;
  */
 public abstract class AbstractDataSource extends AbstractJdbc<DataSource> implements DataSource, Closeable {
 
+	/**
+	 * 最初のコネクションで解決したDB方言
+	 */
+	private volatile Dialect dialect = null;
+
 	public AbstractDataSource(final DataSource nativeObject) {
 		super(nativeObject);
 	}
 
+	/**
+	 * DB方言を取得します。コネクションから解決されるまでは<code>null</code>を返します。
+	 * 
+	 */
+	public Dialect getDialect() {
+		return dialect;
+	}
+
+	void setDialect(final Dialect dialect) {
+		this.dialect = dialect;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -51,7 +69,12 @@ public abstract class AbstractDataSource extends AbstractJdbc<DataSource> implem
 	@Override
 	public Connection getConnection() throws SQLException {
 		final Connection connection = nativeObject.getConnection();
-		return getConnection(connection);
+		return initializeConnection(getConnection(connection));
+	}
+
+	private AbstractConnection initializeConnection(final AbstractConnection connection) {
+		connection.setDataSource(this);
+		return connection;
 	}
 
 	protected abstract AbstractConnection getConnection(Connection connection);
@@ -64,7 +87,7 @@ public abstract class AbstractDataSource extends AbstractJdbc<DataSource> implem
 	@Override
 	public Connection getConnection(final String username, final String password) throws SQLException {
 		final Connection connection = nativeObject.getConnection(username, password);
-		return getConnection(connection);
+		return initializeConnection(getConnection(connection));
 	}
 
 	/*
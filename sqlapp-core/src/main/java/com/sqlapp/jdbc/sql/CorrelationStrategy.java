@@ -24,8 +24,12 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -114,34 +118,25 @@ public enum CorrelationStrategy {
 				throws SQLException {
 			final ResultSetMetaData metaData = resultSet.getMetaData();
 			int count = metaData.getColumnCount();
-			final Set<Integer> rowNums = getRowNoSet(table.getRows());
 			final Set<String> resultSetColumnNames = DbUtils.getColumnNames(metaData);
+			final List<Set<Column>> keyColumnsList = new ArrayList<>(sqlSignature.getUniqueKey().getAllKeyColumnsList());
+			keyColumnsList.add(sqlSignature.getPrimaryKey().getKeyColumns());
+			final RowKeyIndex rowKeyIndex = new RowKeyIndex(table.getRows(), keyColumnsList);
 			while (resultSet.next()) {
 				final Row compareRow = table.newRow();
 				for (String columnName : resultSetColumnNames) {
 					compareRow.put(columnName, resultSet.getObject(columnName));
 				}
-				Row row = null;
-				boolean find = false;
-				for (final Set<Column> columns : sqlSignature.getUniqueKey().getAllKeyColumnsList()) {
-					row = find(compareRow, table, columns, resultSetColumnNames, rowNums);
-					if (row != null) {
-						find = true;
-						break;
-					}
+				final Row row = rowKeyIndex.find(compareRow);
+				if (row == null) {
+					throw new CorrelationRowNotFoundException(table, compareRow);
 				}
-				if (!find) {
-					row = find(compareRow, table, sqlSignature.getPrimaryKey().getKeyColumns(), resultSetColumnNames,
-							rowNums);
-					if (row == null) {
-						throw new CorrelationRowNotFoundException(table, compareRow);
-					}
+				for (String name : resultSetColumnNames) {
+					row.put(name, compareRow.get(name));
 				}
-				if (row != null) {
-					for (int i = 1; i <= count; i++) {
-						String name = metaData.getColumnLabel(i);
-						row.put(name, resultSet.getObject(i));
-					}
+				for (int i = 1; i <= count; i++) {
+					String name = metaData.getColumnLabel(i);
+					row.put(name, resultSet.getObject(i));
 				}
 			}
 		}
@@ -218,4 +213,79 @@ public enum CorrelationStrategy {
 		}
 		return set;
 	}
+
+	/**
+	 * キーカラムの値から未対応の行を検索するためのインデックス。
+	 * 
+	 * キーカラムの組み合わせ毎に、初めて使用した時点で行番号のハッシュインデックスを作成します。同じキーの行が複数ある場合は行番号の小さい順に対応付けます。
+	 */
+	static final class RowKeyIndex {
+
+		private final List<Row> rows;
+
+		private final List<Set<Column>> keyColumnsList;
+
+		private final List<Map<List<Object>, ArrayDeque<Integer>>> indexes;
+
+		private final boolean[] matched;
+
+		RowKeyIndex(final List<Row> rows, final List<Set<Column>> keyColumnsList) {
+			this.rows = rows;
+			this.keyColumnsList = keyColumnsList;
+			this.indexes = CommonUtils.list(keyColumnsList.size());
+			for (int i = 0; i < keyColumnsList.size(); i++) {
+				indexes.add(null);
+			}
+			this.matched = new boolean[rows.size()];
+		}
+
+		/**
+		 * キーカラムの組み合わせを順に使用して、値が一致する未対応の行を返します
+		 * 
+		 * @param compareRow 比較する行
+		 * @return 一致した行。存在しない場合は<code>null</code>
+		 */
+		Row find(final Row compareRow) {
+			for (int i = 0; i < keyColumnsList.size(); i++) {
+				final Set<Column> columns = keyColumnsList.get(i);
+				final ArrayDeque<Integer> rowNums = getIndex(i).get(getKey(compareRow, columns));
+				if (rowNums == null) {
+					continue;
+				}
+				while (!rowNums.isEmpty()) {
+					final int rowNum = rowNums.pollFirst();
+					if (!matched[rowNum]) {
+						matched[rowNum] = true;
+						return rows.get(rowNum);
+					}
+				}
+			}
+			return null;
+		}
+
+		private Map<List<Object>, ArrayDeque<Integer>> getIndex(final int i) {
+			Map<List<Object>, ArrayDeque<Integer>> index = indexes.get(i);
+			if (index == null) {
+				final Set<Column> columns = keyColumnsList.get(i);
+				index = CommonUtils.map(rows.size());
+				for (int rowNum = 0; rowNum < rows.size(); rowNum++) {
+					if (matched[rowNum]) {
+						continue;
+					}
+					index.computeIfAbsent(getKey(rows.get(rowNum), columns), k -> new ArrayDeque<>()).add(rowNum);
+				}
+				indexes.set(i, index);
+			}
+			return index;
+		}
+
+		private static List<Object> getKey(final Row row, final Set<Column> columns) {
+			final Object[] values = new Object[columns.size()];
+			int i = 0;
+			for (final Column column : columns) {
+				values[i++] = row.get(column);
+			}
+			return Arrays.asList(values);
+		}
+	}
 }
@@ -33,6 +33,7 @@ import com.sqlapp.data.db.dialect.DialectResolver;
 import com.sqlapp.jdbc.function.SQLConsumer;
 import com.sqlapp.jdbc.sql.node.SqlNode;
 import com.sqlapp.util.CommonUtils;
+import com.sqlapp.util.FileUtils;
 
 /**
  * IterableなデータでBatch更新をするためのクラス
@@ -57,6 +58,8 @@ public class JdbcBatchIterateHander implements AutoCloseable {
 
 	private boolean initialized = false;
 
+	private PreparedStatementCache statementCache = null;
+
 	public static record ValueHolder(Object value, Object converted) {
 	}
 
@@ -89,6 +92,22 @@ public class JdbcBatchIterateHander implements AutoCloseable {
 		this.batchUpdateResultHandler = batchUpdateResultHandler;
 	}
 
+	/**
+	 * 同じSQLのPreparedStatementを再利用するためのキャッシュを設定します。
+	 * 
+	 * @param statementCache PreparedStatementCache
+	 */
+	public void setStatementCache(PreparedStatementCache statementCache) {
+		this.statementCache = statementCache;
+	}
+
+	/**
+	 * @return the statementCache
+	 */
+	public PreparedStatementCache getStatementCache() {
+		return statementCache;
+	}
+
 	public JdbcBatchIterateHander(SqlNode sqlNode, int batchSize) {
 		this.sqlNodes = List.of(sqlNode);
 		this.batchSize = batchSize;
@@ -168,9 +187,9 @@ public class JdbcBatchIterateHander implements AutoCloseable {
 		final int columnSize = 1;
 		final int rowSize = values.size();
 		for (ValueHolder obj : values) {
-			if (holder.getSqlParameters(columnSize, rowSize) == null) {
+			if (!isPrepared(holder, columnSize, rowSize)) {
 				sqlParameters = holder.getSqlNode().eval(obj.converted);
-				statement = sqlParameters.createStatement(connection);
+				statement = createStatement(connection, holder, sqlParameters);
 				holder.setSqlParameters(columnSize, rowSize, sqlParameters, statement);
 				sqlParameters.setBind(statement);
 			} else {
@@ -208,9 +227,9 @@ public class JdbcBatchIterateHander implements AutoCloseable {
 		for (final Object obj : itr) {
 			final ValueHolder valueHolder = new ValueHolder(obj, this.valueConverter.apply(obj));
 			for (final StatementHolder holder : holders) {
-				if (holder.getSqlParameters(columnSize, rowSize) == null) {
+				if (!isPrepared(holder, columnSize, rowSize)) {
 					sqlParameters = holder.getSqlNode().eval(valueHolder.converted());
-					statement = sqlParameters.createStatement(connection);
+					statement = createStatement(connection, holder, sqlParameters);
 					holder.setSqlParameters(columnSize, rowSize, sqlParameters, statement);
 					sqlParameters.setBind(statement);
 				} else {
@@ -240,6 +259,29 @@ public class JdbcBatchIterateHander implements AutoCloseable {
 		return i;
 	}
 
+	private boolean isPrepared(final StatementHolder holder, final int columnSize, final int rowSize)
+			throws SQLException {
+		final SqlParameterCollection sqlParameters = holder.getSqlParameters(columnSize, rowSize);
+		if (sqlParameters == null) {
+			return false;
+		}
+		if (statementCache == null || !holder.getPreparedStatement(columnSize, rowSize).isClosed()) {
+			return true;
+		}
+		// キャッシュから閉じられている場合は再生成する
+		FileUtils.close(sqlParameters);
+		return false;
+	}
+
+	private PreparedStatement createStatement(final Connection connection, final StatementHolder holder,
+			final SqlParameterCollection sqlParameters) throws SQLException {
+		if (statementCache != null && statementCache.isFor(connection)) {
+			// 同じSQLでもStatementHolderごとにバッチを溜めるため、StatementHolder単位でキャッシュする
+			return statementCache.get(holder, sqlParameters, false, () -> sqlParameters.createStatement(connection));
+		}
+		return sqlParameters.createStatement(connection);
+	}
+
 	private void handleBatchResult(StatementHolder holder) throws SQLException {
 		if (batchUpdateResultHandler == null) {
 			return;
@@ -250,7 +292,13 @@ public class JdbcBatchIterateHander implements AutoCloseable {
 	@Override
 	public void close() {
 		for (final StatementHolder holder : holders) {
-			holder.close();
+			holder.getHolders().values().forEach(h -> {
+				// キャッシュしたPreparedStatementはキャッシュで閉じる
+				if (statementCache == null || !statementCache.contains(h.statement)) {
+					h.close();
+				}
+				FileUtils.close(h.sqlParameters);
+			});
 		}
 	}
 }
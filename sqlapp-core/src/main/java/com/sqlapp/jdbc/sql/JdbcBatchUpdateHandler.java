@@ -77,28 +77,27 @@ public class JdbcBatchUpdateHandler extends JdbcHandler {
 
 			@Override
 			protected void handle(Object obj, int index) throws SQLException {
-				try {
-					sqlParameters = getNode().eval(obj);
-					String currentSql = sqlParameters.getSql();
-					if (!currentSql.equals(sql)) {
-						close(statement, sqlParameters);
-					}
-					if (statement == null) {
-						statement = getStatement(connection, sqlParameters, null);
-					} else {
-						statement.clearParameters();
-					}
-					setBind(statement, sqlParameters);
-					handlePreparedStatement(statement);
-					sql = currentSql;
-				} finally {
-					close(this.statement, sqlParameters);
-					this.statement = null;
+				final SqlParameterCollection currentParameters = getNode().eval(obj);
+				final String currentSql = currentParameters.getSql();
+				if (statement != null && !currentSql.equals(sql)) {
+					close(statement, sqlParameters);
+					statement = null;
+				} else {
+					close(null, sqlParameters);
 				}
+				sqlParameters = currentParameters;
+				sql = currentSql;
+				if (statement == null) {
+					statement = getStatement(connection, sqlParameters, null);
+				} else {
+					statement.clearParameters();
+				}
+				setBind(statement, sqlParameters);
+				handlePreparedStatement(statement);
 			}
 
 			@Override
-			protected void callStepLast(int length) throws Exception {
+			protected void executeFinally() {
 				close(statement, sqlParameters);
 			}
 		};
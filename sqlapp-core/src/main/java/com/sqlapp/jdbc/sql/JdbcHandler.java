@@ -51,6 +51,10 @@ public class JdbcHandler {
 	 */
 	private Integer queryTimeout = null;
 	private Dialect dialect = null;
+	/**
+	 * PreparedStatementのキャッシュ
+	 */
+	private PreparedStatementCache statementCache = null;
 	/**
 	 * フェッチしたサイズの結果
 	 */
@@ -219,7 +223,9 @@ public class JdbcHandler {
 	}
 
 	protected void close(final PreparedStatement statement, final SqlParameterCollection sqlParameters) {
-		DbUtils.close(statement);
+		if (statementCache == null || !statementCache.contains(statement)) {
+			DbUtils.close(statement);
+		}
 		if (sqlParameters != null) {
 			FileUtils.close(sqlParameters);
 		}
@@ -386,6 +392,31 @@ public class JdbcHandler {
 
 	protected PreparedStatement getStatement(final Connection connection, final SqlParameterCollection sqlParameters,
 			final Integer limit) throws SQLException {
+		final PreparedStatement statement;
+		if (statementCache != null && statementCache.isFor(connection)) {
+			statement = statementCache.get(sqlParameters, generatedKeyHandler != null,
+					() -> prepareStatement(connection, sqlParameters));
+		} else {
+			statement = prepareStatement(connection, sqlParameters);
+		}
+		if (sqlParameters.getFetchSize() != null) {
+			statement.setFetchSize(sqlParameters.getFetchSize());
+		} else {
+			if (limit != null && limit.intValue() > 0) {
+				if (limit.intValue() < 1024) {
+					statement.setFetchSize(limit);
+				} else {
+					statement.setFetchSize(1024);
+				}
+			} else {
+				statement.setFetchSize(256);
+			}
+		}
+		return statement;
+	}
+
+	private PreparedStatement prepareStatement(final Connection connection, final SqlParameterCollection sqlParameters)
+			throws SQLException {
 		PreparedStatement statement = null;
 		if (generatedKeyHandler != null) {
 			statement = connection.prepareStatement(sqlParameters.getSql(), Statement.RETURN_GENERATED_KEYS);
@@ -403,19 +434,6 @@ public class JdbcHandler {
 				statement = connection.prepareStatement(sqlParameters.getSql());
 			}
 		}
-		if (sqlParameters.getFetchSize() != null) {
-			statement.setFetchSize(sqlParameters.getFetchSize());
-		} else {
-			if (limit != null && limit.intValue() > 0) {
-				if (limit.intValue() < 1024) {
-					statement.setFetchSize(limit);
-				} else {
-					statement.setFetchSize(1024);
-				}
-			} else {
-				statement.setFetchSize(256);
-			}
-		}
 		return statement;
 	}
 
@@ -458,6 +476,23 @@ public class JdbcHandler {
 		this.dialect = dialect;
 	}
 
+	/**
+	 * @return the statementCache
+	 */
+	public PreparedStatementCache getStatementCache() {
+		return statementCache;
+	}
+
+	/**
+	 * 同じSQLのPreparedStatementを再利用するためのキャッシュを設定します。
+	 * キャッシュしたPreparedStatementはキャッシュを閉じるまで閉じません。
+	 * 
+	 * @param statementCache the statementCache to set
+	 */
+	public void setStatementCache(final PreparedStatementCache statementCache) {
+		this.statementCache = statementCache;
+	}
+
 	/**
 	 * @return the fetchSizeResult
 	 */
@@ -0,0 +1,232 @@
+/**
+ * Copyright (C) 2007-2025 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-core.
+ *
+ * sqlapp-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+package com.sqlapp.jdbc.sql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.sqlapp.jdbc.function.SQLConsumer;
+import com.sqlapp.jdbc.function.SQLSupplier;
+import com.sqlapp.util.DbUtils;
+
+/**
+ * 1つのConnectionで生成したPreparedStatementを再利用するためのキャッシュ
+ * 
+ * SQLとステートメントの生成条件をキーに、最大件数を超えた場合は最も古く使用されたものから閉じます。
+ * バッチを溜めたまま複数の利用者が同じSQLを使う場合は、利用者ごとに別のPreparedStatementを使用します。
+ * スレッドセーフではないため、Connectionと同じスレッドで使用してください。
+ */
+public class PreparedStatementCache implements AutoCloseable {
+
+	private final Connection connection;
+
+	private final int maxSize;
+
+	private final Map<StatementKey, PreparedStatement> statements;
+
+	private final Set<PreparedStatement> managedStatements = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	private long prepareCount = 0;
+
+	private long reuseCount = 0;
+
+	public PreparedStatementCache(final Connection connection) {
+		this(connection, 64);
+	}
+
+	public PreparedStatementCache(final Connection connection, final int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSize must be greater than zero: " + maxSize);
+		}
+		this.connection = connection;
+		this.maxSize = maxSize;
+		this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<StatementKey, PreparedStatement> eldest) {
+				if (size() <= PreparedStatementCache.this.maxSize) {
+					return false;
+				}
+				managedStatements.remove(eldest.getValue());
+				DbUtils.close(eldest.getValue());
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * キャッシュ済のPreparedStatementを返します。存在しない場合は生成してキャッシュします。
+	 * 
+	 * @param sqlParameters       SqlParameterCollection
+	 * @param returnGeneratedKeys 生成されたキーを取得する場合true
+	 * @param supplier            PreparedStatementの生成
+	 * @return PreparedStatement
+	 * @throws SQLException
+	 */
+	public PreparedStatement get(final SqlParameterCollection sqlParameters, final boolean returnGeneratedKeys,
+			final SQLSupplier<PreparedStatement> supplier) throws SQLException {
+		return get(null, sqlParameters, returnGeneratedKeys, supplier);
+	}
+
+	/**
+	 * 利用者ごとにキャッシュ済のPreparedStatementを返します。存在しない場合は生成してキャッシュします。
+	 * 
+	 * @param owner               PreparedStatementの利用者。同じSQLでも利用者が異なる場合は別のPreparedStatementを返します。
+	 * @param sqlParameters       SqlParameterCollection
+	 * @param returnGeneratedKeys 生成されたキーを取得する場合true
+	 * @param supplier            PreparedStatementの生成
+	 * @return PreparedStatement
+	 * @throws SQLException
+	 */
+	public PreparedStatement get(final Object owner, final SqlParameterCollection sqlParameters,
+			final boolean returnGeneratedKeys, final SQLSupplier<PreparedStatement> supplier) throws SQLException {
+		final StatementKey key = new StatementKey(owner, sqlParameters.getSql(),
+				returnGeneratedKeys || sqlParameters.getGeneratedKey() != null, sqlParameters.getResultSetType(),
+				sqlParameters.getResultSetConcurrency(), sqlParameters.getResultSetHoldability());
+		PreparedStatement statement = statements.get(key);
+		if (statement != null) {
+			if (!statement.isClosed()) {
+				statement.clearParameters();
+				reuseCount++;
+				return statement;
+			}
+			statements.remove(key);
+			managedStatements.remove(statement);
+		}
+		statement = supplier.get();
+		prepareCount++;
+		managedStatements.add(statement);
+		statements.put(key, statement);
+		return statement;
+	}
+
+	/**
+	 * 指定したPreparedStatementがキャッシュで管理されているかを返します。
+	 * 
+	 * @param statement PreparedStatement
+	 */
+	public boolean contains(final PreparedStatement statement) {
+		if (statement == null) {
+			return false;
+		}
+		return managedStatements.contains(statement);
+	}
+
+	/**
+	 * このキャッシュが指定したConnectionのものかを返します。
+	 * 
+	 * @param connection Connection
+	 */
+	public boolean isFor(final Connection connection) {
+		return this.connection == connection;
+	}
+
+	/**
+	 * コミットしてキャッシュしたPreparedStatementを閉じます。
+	 * 
+	 * @param connection Connection
+	 * @throws SQLException
+	 */
+	public void commit(final Connection connection) throws SQLException {
+		commit(connection, Connection::commit);
+	}
+
+	/**
+	 * 指定した処理でコミットしてキャッシュしたPreparedStatementを閉じます。
+	 * 
+	 * @param connection    Connection
+	 * @param commitHandler コミット処理
+	 * @throws SQLException
+	 */
+	public void commit(final Connection connection, final SQLConsumer<Connection> commitHandler) throws SQLException {
+		try {
+			commitHandler.accept(connection);
+		} finally {
+			clear();
+		}
+	}
+
+	/**
+	 * キャッシュしたPreparedStatementを閉じます。
+	 */
+	public void clear() {
+		for (final PreparedStatement statement : statements.values()) {
+			DbUtils.close(statement);
+		}
+		statements.clear();
+		managedStatements.clear();
+	}
+
+	@Override
+	public void close() {
+		clear();
+	}
+
+	/**
+	 * @return the connection
+	 */
+	public Connection getConnection() {
+		return connection;
+	}
+
+	/**
+	 * @return the maxSize
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * @return キャッシュしているPreparedStatementの件数
+	 */
+	public int size() {
+		return statements.size();
+	}
+
+	/**
+	 * @return PreparedStatementを生成した回数
+	 */
+	public long getPrepareCount() {
+		return prepareCount;
+	}
+
+	/**
+	 * @return PreparedStatementを再利用した回数
+	 */
+	public long getReuseCount() {
+		return reuseCount;
+	}
+
+	@Override
+	public String toString() {
+		return "PreparedStatementCache[size=" + statements.size() + ", prepareCount=" + prepareCount
+				+ ", reuseCount=" + reuseCount + "]";
+	}
+
+	private record StatementKey(Object owner, String sql, boolean generatedKeys, ResultSetType resultSetType,
+			ResultSetConcurrency resultSetConcurrency, ResultSetHoldability resultSetHoldability) {
+	}
+}
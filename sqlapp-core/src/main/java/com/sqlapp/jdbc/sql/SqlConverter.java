@@ -51,14 +51,37 @@ public class SqlConverter {
 	 * @return 解析済みSQL
 	 */
 	public SqlNode parseSql(Dialect dialect, ParametersContext context, String sql) {
+		return parseSql(dialect, context, sql, true);
+	}
+
+	/**
+	 * 行の値から生成した一度しか使用しないSQLを解析します。
+	 * {@link SqlTemplateCache}の他のエントリを押し出さないようにキャッシュを使用しません。
+	 * 
+	 * @param dialect Dialect
+	 * @param sql     解析前のSQL
+	 * @return 解析済みSQL
+	 */
+	public SqlNode parseGeneratedSql(Dialect dialect, ParametersContext context, String sql) {
+		return parseSql(dialect, context, sql, false);
+	}
+
+	private SqlNode parseSql(Dialect dialect, ParametersContext context, String sql, boolean cached) {
 		if (getExpressionConverter().isPlaceholders()) {
-			return parseSqlInternal(dialect, context, sql);
+			return parseSqlInternal(dialect, context, sql, cached);
 		} else {
-			return SqlParser.getInstance().parse(dialect, sql);
+			return parse(dialect, sql, cached);
+		}
+	}
+
+	private SqlNode parse(Dialect dialect, String sql, boolean cached) {
+		if (cached) {
+			return SqlParser.getInstance().parseCached(dialect, sql);
 		}
+		return SqlParser.getInstance().parse(dialect, sql);
 	}
 
-	private SqlNode parseSqlInternal(Dialect dialect, ParametersContext context, String sql) {
+	private SqlNode parseSqlInternal(Dialect dialect, ParametersContext context, String sql, boolean cached) {
 		final StringBuilder builder = new StringBuilder(sql.length());
 		int pos = 0;
 		boolean find = false;
@@ -84,9 +107,9 @@ public class SqlConverter {
 		}
 		SqlNode node;
 		if (find) {
-			node = SqlParser.getInstance().parse(dialect, builder.toString());
+			node = parse(dialect, builder.toString(), cached);
 		} else {
-			node = SqlParser.getInstance().parse(dialect, sql);
+			node = parse(dialect, sql, cached);
 		}
 		return node;
 	}
@@ -122,6 +122,22 @@ public class SqlParser {
 		return rootNode;
 	}
 
+	/**
+	 * SQLの解析メソッド。解析済みのSqlNodeを{@link SqlTemplateCache}で共有します。
+	 * 共有するSqlNodeは変更できません。
+	 */
+	public SqlNode parseCached(final Dialect dialect, final String sql) {
+		return SqlTemplateCache.getInstance().get(dialect, null, sql, () -> parse(dialect, sql));
+	}
+
+	/**
+	 * SQLの解析メソッド。解析済みのSqlNodeを{@link SqlTemplateCache}で共有します。
+	 * 共有するSqlNodeは変更できません。
+	 */
+	public SqlNode parseCached(final Dialect dialect, final SqlType sqlType, final String sql) {
+		return SqlTemplateCache.getInstance().get(dialect, sqlType, sql, () -> parse(dialect, sqlType, sql));
+	}
+
 	/**
 	 * SQLの解析メソッド
 	 */
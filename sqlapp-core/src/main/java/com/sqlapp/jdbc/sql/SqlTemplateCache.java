@@ -0,0 +1,202 @@
+/**
+ * Copyright (C) 2007-2025 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-core.
+ *
+ * sqlapp-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+package com.sqlapp.jdbc.sql;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.sqlapp.data.db.dialect.Dialect;
+import com.sqlapp.data.db.sql.SqlType;
+import com.sqlapp.jdbc.sql.node.SqlNode;
+
+/**
+ * 解析済みのSqlNodeをDialectとSQLをキーに共有するためのキャッシュ
+ * 
+ * 件数とSQLの文字数の合計で上限を持ち、上限を超えた場合は最も古く使用されたものから破棄します。
+ * キャッシュしたSqlNodeは{@link SqlNode#toReadOnly()}で変更できなくするため、複数のスレッドで同時に評価できます。
+ * 変更する場合は{@link SqlNode#clone()}したノードを使用してください。
+ */
+public class SqlTemplateCache {
+
+	private static final SqlTemplateCache instance = new SqlTemplateCache(1024, 4 * 1024 * 1024);
+
+	public static SqlTemplateCache getInstance() {
+		return instance;
+	}
+
+	private final Map<Key, SqlNode> nodes = new LinkedHashMap<>(16, 0.75f, true);
+
+	private int maxSize;
+
+	private long maxWeight;
+
+	private long weight = 0;
+
+	private long hitCount = 0;
+
+	private long missCount = 0;
+
+	private long evictionCount = 0;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param maxSize   最大件数
+	 * @param maxWeight SQLの文字数の合計の上限
+	 */
+	public SqlTemplateCache(final int maxSize, final long maxWeight) {
+		setLimit(maxSize, maxWeight);
+	}
+
+	/**
+	 * キャッシュ済のSqlNodeを返します。存在しない場合は解析してキャッシュします。
+	 * 
+	 * @param dialect Dialect
+	 * @param sqlType SqlType
+	 * @param sql     SQL
+	 * @param parser  SQLの解析
+	 * @return SqlNode
+	 */
+	public SqlNode get(final Dialect dialect, final SqlType sqlType, final String sql,
+			final Supplier<SqlNode> parser) {
+		final Key key = new Key(dialect, sqlType, sql);
+		synchronized (this) {
+			final SqlNode node = nodes.get(key);
+			if (node != null) {
+				hitCount++;
+				return node;
+			}
+			missCount++;
+		}
+		final SqlNode node = parser.get();
+		final long nodeWeight = sql.length();
+		synchronized (this) {
+			if (nodeWeight > maxWeight / 16) {
+				// 巨大なSQLは他のエントリを押し出すためキャッシュしない
+				return node;
+			}
+			final SqlNode current = nodes.get(key);
+			if (current != null) {
+				return current;
+			}
+			node.toReadOnly();
+			nodes.put(key, node);
+			weight += nodeWeight;
+			evict();
+		}
+		return node;
+	}
+
+	private void evict() {
+		final Iterator<Key> itr = nodes.keySet().iterator();
+		while ((nodes.size() > maxSize || weight > maxWeight) && itr.hasNext()) {
+			final Key key = itr.next();
+			itr.remove();
+			weight -= key.sql().length();
+			evictionCount++;
+		}
+	}
+
+	/**
+	 * 上限を設定します。
+	 * 
+	 * @param maxSize   最大件数
+	 * @param maxWeight SQLの文字数の合計の上限
+	 */
+	public synchronized void setLimit(final int maxSize, final long maxWeight) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("maxSize must not be negative: " + maxSize);
+		}
+		if (maxWeight < 0) {
+			throw new IllegalArgumentException("maxWeight must not be negative: " + maxWeight);
+		}
+		this.maxSize = maxSize;
+		this.maxWeight = maxWeight;
+		evict();
+	}
+
+	/**
+	 * キャッシュをクリアします。
+	 */
+	public synchronized void clear() {
+		nodes.clear();
+		weight = 0;
+	}
+
+	/**
+	 * 統計情報を取得します。
+	 */
+	public synchronized Statistics getStatistics() {
+		return new Statistics(nodes.size(), weight, hitCount, missCount, evictionCount);
+	}
+
+	/**
+	 * 統計情報をリセットします。
+	 */
+	public synchronized void resetStatistics() {
+		hitCount = 0;
+		missCount = 0;
+		evictionCount = 0;
+	}
+
+	/**
+	 * キャッシュの統計情報
+	 * 
+	 * @param size          件数
+	 * @param weight        SQLの文字数の合計
+	 * @param hitCount      ヒット件数
+	 * @param missCount     ミス件数
+	 * @param evictionCount 破棄件数
+	 */
+	public static record Statistics(int size, long weight, long hitCount, long missCount, long evictionCount) {
+
+		public double getHitRate() {
+			final long total = hitCount + missCount;
+			if (total == 0) {
+				return 0;
+			}
+			return (double) hitCount / total;
+		}
+	}
+
+	/**
+	 * Dialectはインスタンスの同一性で比較します。
+	 */
+	private record Key(Dialect dialect, SqlType sqlType, String sql) {
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			final Key val = (Key) obj;
+			return dialect == val.dialect && sqlType == val.sqlType && sql.equals(val.sql);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * System.identityHashCode(dialect) + (sqlType == null ? 0 : sqlType.hashCode()))
+					+ sql.hashCode();
+		}
+	}
+}
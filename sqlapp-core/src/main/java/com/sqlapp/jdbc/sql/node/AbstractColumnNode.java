@@ -60,6 +60,7 @@ public abstract class AbstractColumnNode extends CommentNode implements Cloneabl
 	 * @param column the column to set
 	 */
     public void setColumn(String column) {
+        checkModifiable();
 		this.column = column;
 	}
 
@@ -75,6 +76,7 @@ public abstract class AbstractColumnNode extends CommentNode implements Cloneabl
 	 * @param operator the operator to set
 	 */
 	public void setOperator(String operator) {
+		checkModifiable();
 		this.operator = operator;
 	}
 	
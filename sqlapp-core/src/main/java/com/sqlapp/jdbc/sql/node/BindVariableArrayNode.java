@@ -46,6 +46,7 @@ public class BindVariableArrayNode extends AbstractColumnNode {
 
 	@Override
 	public void setExpression(final String expression) {
+		checkModifiable();
 		this.setParameterDefinition(BindVariableNode.parse(bindParameter, expression));
 		if (this.getParameterDefinition() != null) {
 			this.expression = this.getParameterDefinition().getName();
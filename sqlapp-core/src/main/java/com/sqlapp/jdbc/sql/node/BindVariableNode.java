@@ -60,6 +60,7 @@ public class BindVariableNode extends AbstractColumnNode {
 
 	@Override
 	public void setExpression(String expression) {
+		checkModifiable();
 		this.setParameterDefinition(parse(bindParameter, expression));
 		if (this.getParameterDefinition() != null) {
 			this.expression = this.getParameterDefinition().getName();
@@ -55,6 +55,7 @@ public class CommentNode extends Node {
 	}
 
 	public void setMatchText(String matchText) {
+		checkModifiable();
 		this.matchText = matchText;
 	}
 
@@ -63,6 +64,7 @@ public class CommentNode extends Node {
 	}
 
 	public void setExpression(String expression) {
+		checkModifiable();
 		this.expression = trim(expression);
 	}
 
@@ -102,6 +104,7 @@ public class CommentNode extends Node {
 	private ParameterDefinition parameterDefinition;
 
 	protected void setParameterDefinition(ParameterDefinition parameterDefinition) {
+		checkModifiable();
 		if (parameterDefinition != null && parameterDefinition.getName() == null) {
 			this.parameterDefinition = null;
 		} else {
@@ -132,6 +132,7 @@ public class ForNode extends NeedsEndNode implements Cloneable {
 	 * @param variableName the variableName to set
 	 */
 	protected void setVariableName(String variableName) {
+		checkModifiable();
 		this.variableName = variableName;
 		this.setParameterDefinition(new ParameterDefinition(variableName));
 	}
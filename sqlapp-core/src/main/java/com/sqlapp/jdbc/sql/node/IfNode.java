@@ -21,6 +21,7 @@ package com.sqlapp.jdbc.sql.node;
 
 import static com.sqlapp.util.CommonUtils.list;
 
+import java.util.Collections;
 import java.util.List;
 
 import com.sqlapp.data.parameter.ParameterDefinition;
@@ -64,9 +65,23 @@ public class IfNode extends NeedsEndNode {
 	}
 
 	public List<ElseIfNode> getElseIfNodes() {
+		if (isReadOnly()) {
+			return Collections.unmodifiableList(elseIfNodes);
+		}
 		return elseIfNodes;
 	}
 
+	@Override
+	public void toReadOnly() {
+		for (ElseIfNode elseIfNode : elseIfNodes) {
+			elseIfNode.toReadOnly();
+		}
+		if (elseNode != null) {
+			elseNode.toReadOnly();
+		}
+		super.toReadOnly();
+	}
+
 	protected boolean evalBoolean(Object context) {
 		try {
 			return getEvaluator().evalBoolean(this.getExpression(), context);
@@ -80,6 +95,7 @@ public class IfNode extends NeedsEndNode {
 	}
 
 	public void setElseNode(ElseNode elseNode) {
+		checkModifiable();
 		this.elseNode = elseNode;
 	}
 
@@ -90,11 +106,20 @@ public class IfNode extends NeedsEndNode {
 	 */
 	@Override
 	public IfNode clone() {
-		return (IfNode) super.clone();
+		IfNode clone = (IfNode) super.clone();
+		clone.elseIfNodes = list();
+		for (ElseIfNode elseIfNode : elseIfNodes) {
+			clone.elseIfNodes.add(elseIfNode.clone());
+		}
+		if (elseNode != null) {
+			clone.elseNode = elseNode.clone();
+		}
+		return clone;
 	}
 
 	@Override
 	public void setExpression(String expression) {
+		checkModifiable();
 		super.setExpression(expression);
 		this.setParameterDefinition(new ParameterDefinition(expression));
 	}
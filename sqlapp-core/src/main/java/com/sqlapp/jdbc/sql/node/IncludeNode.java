@@ -43,6 +43,7 @@ public class IncludeNode extends CommentNode {
 
 	@Override
 	public void setExpression(String expression) {
+		checkModifiable();
 		this.expression = CommonUtils.trim(CommonUtils.substring(
 				CommonUtils.trim(expression), 1, expression.length() - 1));
 	}
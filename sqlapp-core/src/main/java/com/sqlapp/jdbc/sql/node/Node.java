@@ -21,6 +21,7 @@ package com.sqlapp.jdbc.sql.node;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -68,6 +69,7 @@ public abstract class Node implements Comparator<Node>, Serializable, Cloneable,
 	}
 
 	public void setDialect(Dialect dialect) {
+		checkModifiable();
 		this.dialect = dialect;
 	}
 
@@ -85,15 +87,55 @@ public abstract class Node implements Comparator<Node>, Serializable, Cloneable,
 	 */
 	private transient CachedEvaluator evaluator = CachedMvelEvaluator.getInstance();
 
+	/**
+	 * 複数のスレッドで共有するため変更できない場合true
+	 */
+	private boolean readOnly = false;
+
 	public List<Node> getChildNodes() {
+		if (readOnly) {
+			return Collections.unmodifiableList(childNodeList);
+		}
 		return childNodeList;
 	}
 
+	/**
+	 * このノードが変更できないかを返します。
+	 * 
+	 * @return 変更できない場合true
+	 */
+	public boolean isReadOnly() {
+		return readOnly;
+	}
+
+	/**
+	 * このノードと子ノードを変更できないようにします。
+	 * {@link com.sqlapp.jdbc.sql.SqlTemplateCache}で共有するノードに使用します。変更する場合は{@link #clone()}したノードを使用してください。
+	 */
+	public void toReadOnly() {
+		for (Node node : childNodeList) {
+			node.toReadOnly();
+		}
+		this.readOnly = true;
+	}
+
+	/**
+	 * 変更できないノードの場合は例外をスローします。
+	 */
+	protected void checkModifiable() {
+		if (readOnly) {
+			throw new UnsupportedOperationException(
+					"This node is shared by SqlTemplateCache and is read-only. Use clone() to modify it. node="
+							+ this.getClass().getSimpleName());
+		}
+	}
+
 	private int nestedLevel = 0;
 
 	private int index = 0;
 
 	public void addChildNode(Node node) {
+		checkModifiable();
 		node.setParent(this);
 		childNodeList.add(node);
 	}
@@ -470,6 +512,7 @@ public abstract class Node implements Comparator<Node>, Serializable, Cloneable,
 	}
 
 	protected void setEvaluator(CachedEvaluator evaluator) {
+		checkModifiable();
 		this.evaluator = evaluator;
 	}
 
@@ -478,6 +521,7 @@ public abstract class Node implements Comparator<Node>, Serializable, Cloneable,
 	}
 
 	public void setNestedLevel(int nestedLevel) {
+		checkModifiable();
 		this.nestedLevel = nestedLevel;
 	}
 
@@ -486,6 +530,7 @@ public abstract class Node implements Comparator<Node>, Serializable, Cloneable,
 	}
 
 	public void setIndex(int index) {
+		checkModifiable();
 		this.index = index;
 	}
 
@@ -500,6 +545,7 @@ public abstract class Node implements Comparator<Node>, Serializable, Cloneable,
 	 * @param sql the sql to set
 	 */
 	public void setSql(String sql) {
+		checkModifiable();
 		this.sql = sql;
 	}
 
@@ -514,6 +560,7 @@ public abstract class Node implements Comparator<Node>, Serializable, Cloneable,
 	 * @param parent the parent to set
 	 */
 	public void setParent(Node parent) {
+		checkModifiable();
 		this.parent = parent;
 	}
 
@@ -548,6 +595,7 @@ public abstract class Node implements Comparator<Node>, Serializable, Cloneable,
 	 * @param sqlRegistry the sqlRegistry to set
 	 */
 	public void setSqlRegistry(SqlRegistry sqlRegistry) {
+		checkModifiable();
 		this.sqlRegistry = sqlRegistry;
 	}
 
@@ -578,8 +626,9 @@ public abstract class Node implements Comparator<Node>, Serializable, Cloneable,
 	public Node clone() {
 		try {
 			Node clone = (Node) super.clone();
+			clone.readOnly = false;
 			if (this.childNodeList != null) {
-				clone.childNodeList.clear();
+				clone.childNodeList = new ArrayList<Node>(this.childNodeList.size());
 				for (Node node : childNodeList) {
 					clone.addChildNode(node.clone());
 				}
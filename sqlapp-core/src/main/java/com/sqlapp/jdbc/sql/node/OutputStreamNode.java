@@ -41,6 +41,7 @@ public class OutputStreamNode extends CommentNode {
 
 	@Override
 	public void setExpression(String expression) {
+		checkModifiable();
 		super.setExpression(expression);
 	}
 
@@ -52,6 +52,7 @@ public class ParameterMarkerNode extends CommentNode {
 
 	@Override
 	public void setExpression(String expression) {
+		checkModifiable();
 		Map<String, String> map = parseKeyValue(expression);
 		for (Map.Entry<String, String> entry : map.entrySet()) {
 			if ("name".equalsIgnoreCase(entry.getKey())) {
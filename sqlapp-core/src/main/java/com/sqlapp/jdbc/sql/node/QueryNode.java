@@ -92,6 +92,7 @@ public class QueryNode extends CommentNode {
 	 * @param fetchSize the fetchSize to set
 	 */
 	public void setFetchSize(Integer fetchSize) {
+		checkModifiable();
 		this.fetchSize = fetchSize;
 	}
 
@@ -106,6 +107,7 @@ public class QueryNode extends CommentNode {
 	 * @param resultSetType the resultSetType to set
 	 */
 	public void setResultSetType(ResultSetType resultSetType) {
+		checkModifiable();
 		this.resultSetType = resultSetType;
 	}
 
@@ -120,6 +122,7 @@ public class QueryNode extends CommentNode {
 	 * @param resultSetConcurrency the resultSetConcurrency to set
 	 */
 	public void setResultSetConcurrency(ResultSetConcurrency resultSetConcurrency) {
+		checkModifiable();
 		this.resultSetConcurrency = resultSetConcurrency;
 	}
 
@@ -134,6 +137,7 @@ public class QueryNode extends CommentNode {
 	 * @param resultSetHoldability the resultSetHoldability to set
 	 */
 	public void setResultSetHoldability(ResultSetHoldability resultSetHoldability) {
+		checkModifiable();
 		this.resultSetHoldability = resultSetHoldability;
 	}
 
@@ -148,6 +152,7 @@ public class QueryNode extends CommentNode {
 	 * @param fetchDirection the fetchDirection to set
 	 */
 	public void setFetchDirection(FetchDirection fetchDirection) {
+		checkModifiable();
 		this.fetchDirection = fetchDirection;
 	}
 
@@ -162,6 +167,7 @@ public class QueryNode extends CommentNode {
 	 * @param generatedKey the generatedKey to set
 	 */
 	public void setGeneratedKey(GeneratedKey generatedKey) {
+		checkModifiable();
 		this.generatedKey = generatedKey;
 	}
 
@@ -78,6 +78,7 @@ public class ReplaceVariableNode extends CommentNode {
 
 	@Override
 	public void setExpression(String expression) {
+		checkModifiable();
 		String[] splits = expression.split(";");
 		this.expression = trim(splits[0]);
 		Map<String, String> map = parseKeyValue(expression);
@@ -113,6 +114,7 @@ public class ReplaceVariableNode extends CommentNode {
 	 * @param sqlKeywordCheck the sqlKeywordCheck to set
 	 */
 	public void setSqlKeywordCheck(Boolean sqlKeywordCheck) {
+		checkModifiable();
 		this.sqlKeywordCheck = sqlKeywordCheck;
 	}
 
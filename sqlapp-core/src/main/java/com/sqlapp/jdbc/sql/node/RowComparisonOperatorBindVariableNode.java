@@ -60,6 +60,7 @@ public class RowComparisonOperatorBindVariableNode extends CommentNode {
 	}
 
 	public void setRowComparisonOperator(RowComparisonOperator rowComparisonOperator) {
+		checkModifiable();
 		this.rowComparisonOperator = rowComparisonOperator;
 	}
 
@@ -68,6 +69,7 @@ public class RowComparisonOperatorBindVariableNode extends CommentNode {
 	}
 
 	public void setTarget(String target) {
+		checkModifiable();
 		this.target = target;
 	}
 
@@ -78,6 +80,7 @@ public class RowComparisonOperatorBindVariableNode extends CommentNode {
 	}
 
 	public void setKeyType(ColumnSelectionStrategy keyType) {
+		checkModifiable();
 		this.keyType = keyType;
 	}
 
@@ -86,6 +89,7 @@ public class RowComparisonOperatorBindVariableNode extends CommentNode {
 	}
 
 	public void setPrefix(String prefix) {
+		checkModifiable();
 		this.prefix = prefix;
 	}
 
@@ -94,11 +98,13 @@ public class RowComparisonOperatorBindVariableNode extends CommentNode {
 	}
 
 	public void setColumns(Set<String> columns) {
+		checkModifiable();
 		this.columns = columns;
 	}
 
 	@Override
 	public void setExpression(final String expression) {
+		checkModifiable();
 		this.expression = expression;
 	}
 
@@ -61,6 +61,7 @@ public class RowsEqualsBindVariableNode extends CommentNode {
 	}
 
 	public void setTarget(String target) {
+		checkModifiable();
 		this.target = target;
 	}
 
@@ -71,6 +72,7 @@ public class RowsEqualsBindVariableNode extends CommentNode {
 	}
 
 	public void setKeyType(ColumnSelectionStrategy keyType) {
+		checkModifiable();
 		this.keyType = keyType;
 	}
 
@@ -79,6 +81,7 @@ public class RowsEqualsBindVariableNode extends CommentNode {
 	}
 
 	public void setPrefix(String prefix) {
+		checkModifiable();
 		this.prefix = prefix;
 	}
 
@@ -87,6 +90,7 @@ public class RowsEqualsBindVariableNode extends CommentNode {
 	}
 
 	public void setColumns(List<String> columns) {
+		checkModifiable();
 		this.columns = columns;
 	}
 
@@ -95,11 +99,13 @@ public class RowsEqualsBindVariableNode extends CommentNode {
 	}
 
 	public void setMapping(Map<String, String> mapping) {
+		checkModifiable();
 		this.mapping = mapping;
 	}
 
 	@Override
 	public void setExpression(final String expression) {
+		checkModifiable();
 		this.expression = expression;
 	}
 
@@ -19,6 +19,7 @@
 
 package com.sqlapp.jdbc.sql.node;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -76,6 +77,9 @@ public class SqlNode extends Node {
 	 * @return the parameters
 	 */
 	public Set<ParameterDefinition> getParameters() {
+		if (isReadOnly() && parameters != null) {
+			return Collections.unmodifiableSet(parameters);
+		}
 		return parameters;
 	}
 
@@ -83,6 +87,7 @@ public class SqlNode extends Node {
 	 * @param parameters the parameters to set
 	 */
 	public void setParameters(Set<ParameterDefinition> parameters) {
+		checkModifiable();
 		this.parameters = parameters;
 	}
 
@@ -45,6 +45,7 @@ public class ValuesBindVariableNode extends NeedsEndNode {
 
 	@Override
 	public void setExpression(final String expression) {
+		checkModifiable();
 		this.expression = expression;
 	}
 
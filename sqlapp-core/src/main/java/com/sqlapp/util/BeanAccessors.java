@@ -0,0 +1,134 @@
+/**
+ * Copyright (C) 2007-2017 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-core.
+ *
+ * sqlapp-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+
+
+package com.sqlapp.util;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * ゲッター、セッターを呼び出す関数を生成します。
+ * 
+ * {@link LambdaMetafactory}で直接呼び出す関数を生成し、生成できない場合はリフレクションで呼び出します。
+ */
+final class BeanAccessors {
+
+	private static final Logger logger = LogManager.getLogger(BeanAccessors.class);
+
+	private BeanAccessors() {
+	}
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	/**
+	 * ゲッターを呼び出す関数を生成します
+	 * 
+	 * @param method ゲッター
+	 * @return ゲッターを呼び出す関数
+	 */
+	@SuppressWarnings("unchecked")
+	static Function<Object, Object> getter(final Method method) {
+		if (!Modifier.isStatic(method.getModifiers())) {
+			try {
+				final MethodHandles.Lookup lookup = lookup(method);
+				final MethodHandle handle = lookup.unreflect(method);
+				final CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+						MethodType.methodType(Function.class), GETTER_TYPE, handle, handle.type().wrap());
+				return (Function<Object, Object>) newInstance(site);
+			} catch (final ReflectiveOperationException | LambdaConversionException e) {
+				logger.debug("Use reflection for getter. method=" + method, e);
+			}
+		}
+		return obj -> {
+			try {
+				return method.invoke(obj);
+			} catch (final InvocationTargetException e) {
+				throw SimpleBeanUtils.throwInvocationTargetException(e);
+			} catch (final IllegalAccessException e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	/**
+	 * セッターを呼び出す関数を生成します
+	 * 
+	 * @param method セッター
+	 * @return セッターを呼び出す関数
+	 */
+	@SuppressWarnings("unchecked")
+	static BiConsumer<Object, Object> setter(final Method method) {
+		if (!Modifier.isStatic(method.getModifiers())) {
+			try {
+				final MethodHandles.Lookup lookup = lookup(method);
+				final MethodHandle handle = lookup.unreflect(method);
+				final CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+						MethodType.methodType(BiConsumer.class), SETTER_TYPE, handle,
+						handle.type().wrap().changeReturnType(void.class));
+				return (BiConsumer<Object, Object>) newInstance(site);
+			} catch (final ReflectiveOperationException | LambdaConversionException e) {
+				logger.debug("Use reflection for setter. method=" + method, e);
+			}
+		}
+		return (obj, value) -> {
+			try {
+				method.invoke(obj, value);
+			} catch (final InvocationTargetException e) {
+				throw SimpleBeanUtils.throwInvocationTargetException(e);
+			} catch (final IllegalAccessException e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	/**
+	 * 生成した関数のインスタンスを取得します
+	 * 
+	 * @param site 関数を生成するCallSite
+	 * @return 関数
+	 */
+	private static Object newInstance(final CallSite site) {
+		try {
+			return site.getTarget().invoke();
+		} catch (final RuntimeException | Error e) {
+			throw e;
+		} catch (final Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static MethodHandles.Lookup lookup(final Method method) throws IllegalAccessException {
+		return MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+	}
+}
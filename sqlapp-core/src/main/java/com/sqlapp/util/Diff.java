@@ -22,13 +22,23 @@ package com.sqlapp.util;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
- * DIFF 
+ * DIFF
+ * 
+ * 要素のキー({@link #getKey(Object)})が両方のリストで一意な場合は、キーで対応付けた要素の最長増加部分列からLCSを求めます。
+ * それ以外の場合は先頭の一致部分を除いた残りをLCSの表で比較し、表が大きすぎる場合は表を行の範囲に分けて作成します。
+ * どの場合もLCSの表全体を作成した場合と同じ要素を選択します。
  *
  * @param <T>
  */
 public class Diff<T> {
+	/**
+	 * LCSの表を作成する最大のセル数
+	 */
+	private static final long MAX_TABLE_CELLS = 1L << 24;
+
 	protected final List<T> list1;
 
 	protected final List<T> list2;
@@ -60,13 +70,34 @@ public class Diff<T> {
 	}
 
 	private void initLongestCommonSubSequences(List<T> list1, List<T> list2) {
+		if (initByKey(list1, list2)) {
+			return;
+		}
 		int size1 = list1.size();
 		int size2 = list2.size();
+		int start = 0;
+		while (start < size1 && start < size2 && eq(list1.get(start), list2.get(start))) {
+			add(start, start);
+			start++;
+		}
+		if ((long) (size1 - start) * (size2 - start) <= getMaxTableCells()) {
+			initByTable(start, size1, start, size2);
+		} else {
+			initByRowBlocks(start, size1, start, size2);
+		}
+	}
+
+	/**
+	 * LCSの表を使用して比較します
+	 */
+	private void initByTable(int start1, int end1, int start2, int end2) {
+		int size1 = end1 - start1;
+		int size2 = end2 - start2;
 		int[][] lengths = new int[size1 + 1][size2 + 1];
 		for (int i = size1-1; i >= 0; i--) {
-			T obj1 = list1.get(i);
+			T obj1 = list1.get(start1 + i);
 			for (int j = size2-1; j >= 0; j--) {
-				T obj2 = list2.get(j);
+				T obj2 = list2.get(start2 + j);
 				if (eq(obj1, obj2)) {
 					lengths[i][j] = lengths[i+1][j+1]+1;
 				} else {
@@ -77,12 +108,10 @@ public class Diff<T> {
 		}
 		int i = 0, j = 0;
 		while(i < size1 && j < size2) {
-			T obj1 = list1.get(i);
-			T obj2 = list2.get(j);
+			T obj1 = list1.get(start1 + i);
+			T obj2 = list2.get(start2 + j);
 			if (eq(obj1, obj2)) {
-				this.lcs.add(obj1);
-				map1.put(i, obj1);
-				map2.put(j, obj2);
+				add(start1 + i, start2 + j);
 				i++;
 				j++;
 			} else if (lengths[i+1][j] >= lengths[i][j+1]){
@@ -93,6 +122,198 @@ public class Diff<T> {
 		}
 	}
 
+	/**
+	 * キーが一意な場合にキーで対応付けて比較します。結果は{@link #initByTable}と同じになります。
+	 * 
+	 * @return キーで比較できた場合は<code>true</code>
+	 */
+	private boolean initByKey(List<T> list1, List<T> list2) {
+		int size1 = list1.size();
+		int size2 = list2.size();
+		if (size1 == 0 || size2 == 0) {
+			return true;
+		}
+		Map<Object, Integer> index2 = CommonUtils.map(size2);
+		for (int j = 0; j < size2; j++) {
+			Object key = getKey(list2.get(j));
+			if (key == null || index2.put(key, j) != null) {
+				return false;
+			}
+		}
+		Set<Object> keys1 = CommonUtils.set();
+		int[] partners = new int[size1];
+		for (int i = 0; i < size1; i++) {
+			Object key = getKey(list1.get(i));
+			if (key == null || !keys1.add(key)) {
+				return false;
+			}
+			Integer j = index2.get(key);
+			partners[i] = (j != null && eq(list1.get(i), list2.get(j))) ? j.intValue() : -1;
+		}
+		// chainLengths[i]:対応付けた要素iから始まる最長増加部分列の長さ
+		int[] chainLengths = new int[size1];
+		MaxTree tree = new MaxTree(size2);
+		for (int i = size1 - 1; i >= 0; i--) {
+			int partner = partners[i];
+			if (partner >= 0) {
+				chainLengths[i] = tree.max(partner + 1) + 1;
+				tree.set(partner, chainLengths[i]);
+			}
+		}
+		// LCSの表で後ろの要素を優先して読み飛ばす場合と同じ要素を選択する
+		int j = 0;
+		for (int i = 0; i < size1 && j < size2; i++) {
+			int partner = partners[i];
+			if (partner >= 0) {
+				tree.set(partner, 0);
+			}
+			if (partner < j) {
+				continue;
+			}
+			if (partner == j || chainLengths[i] > tree.max(j)) {
+				add(i, partner);
+				j = partner + 1;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * LCSの表を行の範囲に分けて作成して比較します。結果は{@link #initByTable}と同じになります。
+	 */
+	private void initByRowBlocks(int start1, int end1, int start2, int end2) {
+		walk(start1, end1, start2, start2, end2, new int[end2 - start2 + 1]);
+	}
+
+	/**
+	 * start1行目のstart列からend1行目までLCSの表をたどります。
+	 * 行数が多い場合は中央の行の長さを求めて、上下の範囲に分けてたどります。
+	 * 
+	 * @param lower end1行目のLCSの長さ
+	 * @return end1行目に到達した列
+	 */
+	private int walk(int start1, int end1, int start, int start2, int end2, int[] lower) {
+		int width = end2 - start2;
+		int rows = end1 - start1;
+		int from = start - start2;
+		if (rows <= 1 || (long) rows * (width + 1) <= getMaxTableCells()) {
+			int[][] lengths = new int[rows + 1][];
+			lengths[rows] = lower;
+			for (int r = rows - 1; r >= 0; r--) {
+				lengths[r] = new int[width + 1];
+				upperLengths(start1 + r, from, start2, lengths[r + 1], lengths[r]);
+			}
+			int r = 0, k = from;
+			while (r < rows && k < width) {
+				if (eq(list1.get(start1 + r), list2.get(start2 + k))) {
+					add(start1 + r, start2 + k);
+					r++;
+					k++;
+				} else if (lengths[r + 1][k] >= lengths[r][k + 1]) {
+					r++;
+				} else {
+					k++;
+				}
+			}
+			return start2 + k;
+		}
+		int middle = (start1 + end1) >>> 1;
+		int[] current = lower;
+		int[] buffer1 = new int[width + 1];
+		int[] buffer2 = new int[width + 1];
+		for (int i = end1 - 1; i >= middle; i--) {
+			int[] upper = current == buffer1 ? buffer2 : buffer1;
+			upperLengths(i, from, start2, current, upper);
+			current = upper;
+		}
+		int column = walk(start1, middle, start, start2, end2, current);
+		return walk(middle, end1, column, start2, end2, lower);
+	}
+
+	/**
+	 * 1つ下の行のLCSの長さからi行目の長さを求めます。from列より前は計算しません。
+	 */
+	private void upperLengths(int i, int from, int start2, int[] lower, int[] upper) {
+		int width = lower.length - 1;
+		T obj1 = list1.get(i);
+		upper[width] = 0;
+		for (int k = width - 1; k >= from; k--) {
+			if (eq(obj1, list2.get(start2 + k))) {
+				upper[k] = lower[k + 1] + 1;
+			} else {
+				upper[k] = Math.max(lower[k], upper[k + 1]);
+			}
+		}
+	}
+
+	private void add(int i, int j) {
+		T obj1 = list1.get(i);
+		this.lcs.add(obj1);
+		map1.put(i, obj1);
+		map2.put(j, list2.get(j));
+	}
+
+	/**
+	 * LCSの表を作成する最大のセル数を返します
+	 */
+	protected long getMaxTableCells() {
+		return MAX_TABLE_CELLS;
+	}
+
+	/**
+	 * 要素の対応付けに使用するキーを返します。{@link #eq(Object, Object)}が<code>true</code>となる要素は同じキーを返す必要があります。
+	 * <code>null</code>を返した場合はキーでの対応付けを行いません。
+	 * 
+	 * @param obj 要素
+	 * @return キー
+	 */
+	protected Object getKey(T obj) {
+		if (comparator != null) {
+			return null;
+		}
+		return obj;
+	}
+
+	/**
+	 * 区間の最大値を保持する木
+	 */
+	private static final class MaxTree {
+		private final int size;
+		private final int[] values;
+
+		MaxTree(int size) {
+			this.size = size;
+			this.values = new int[size * 2];
+		}
+
+		void set(int index, int value) {
+			int i = index + size;
+			values[i] = value;
+			for (i >>>= 1; i > 0; i >>>= 1) {
+				values[i] = Math.max(values[i * 2], values[i * 2 + 1]);
+			}
+		}
+
+		/**
+		 * index以降の最大値
+		 */
+		int max(int index) {
+			int result = 0;
+			int left = index + size;
+			int right = size * 2;
+			while (left < right) {
+				if ((left & 1) == 1) {
+					result = Math.max(result, values[left++]);
+				}
+				if ((right & 1) == 1) {
+					result = Math.max(result, values[--right]);
+				}
+				left >>>= 1;
+				right >>>= 1;
+			}
+			return result;
+		}
+	}
 	/**
 	 * @return the lcs
 	 */
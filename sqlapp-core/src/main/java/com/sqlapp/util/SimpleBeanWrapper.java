@@ -35,6 +35,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -68,6 +70,14 @@ public class SimpleBeanWrapper {
 	private final Map<String, Field> fieldMap = CommonUtils.linkedMap();
 
 	private final Map<String, Field> protectedFieldMap = CommonUtils.linkedMap();
+	/**
+	 * ゲッターを呼び出す関数のキャッシュ
+	 */
+	private final Map<Method, Function<Object, Object>> getterAccessorMap = CommonUtils.concurrentMap();
+	/**
+	 * セッターを呼び出す関数のキャッシュ
+	 */
+	private final Map<Method, BiConsumer<Object, Object>> setterAccessorMap = CommonUtils.concurrentMap();
 
 	private boolean initialized = false;
 
@@ -344,13 +354,13 @@ public class SimpleBeanWrapper {
 			if (isRecord()) {
 				RecordComponent recordComponent = this.recordComonentMap.get(propertyName);
 				if (recordComponent != null) {
-					return (T) recordComponent.getAccessor().invoke(obj);
+					return (T) invokeGetter(recordComponent.getAccessor(), obj);
 				}
 				return null;
 			}
 			final Method method = getterMap.get(propertyName);
 			if (method != null) {
-				return (T) method.invoke(obj);
+				return (T) invokeGetter(method, obj);
 			}
 			final Field field = fieldMap.get(propertyName);
 			if (field != null) {
@@ -358,8 +368,6 @@ public class SimpleBeanWrapper {
 			} else {
 				return null;
 			}
-		} catch (final InvocationTargetException e) {
-			throw SimpleBeanUtils.throwInvocationTargetException(e);
 		} catch (final IllegalAccessException e) {
 			throw new RuntimeException(e);
 		} catch (final IllegalArgumentException e) {
@@ -687,14 +695,14 @@ public class SimpleBeanWrapper {
 				if (classMap != null) {
 					Method method = classMap.get(valueClass);
 					if (method != null) {
-						method.invoke(obj, value);
+						invokeSetter(method, obj, value);
 						return true;
 					} else {
 						for (final Map.Entry<Class<?>, Method> entry : classMap.entrySet()) {
 							if (entry.getKey().isAssignableFrom(valueClass)) {
 								method = entry.getValue();
 								classMap.put(valueClass, method);
-								method.invoke(obj, value);
+								invokeSetter(method, obj, value);
 								return true;
 							}
 						}
@@ -710,7 +718,7 @@ public class SimpleBeanWrapper {
 						return false;
 					} else {
 						try {
-							method.invoke(obj, converters.convertObject(value, parameterType));
+							invokeSetter(method, obj, converters.convertObject(value, parameterType));
 							return true;
 						} catch (final Exception e) {
 							return false;
@@ -718,12 +726,12 @@ public class SimpleBeanWrapper {
 					}
 				} else {
 					if (value == null) {
-						method.invoke(obj, value);
+						invokeSetter(method, obj, value);
 					} else if (CommonUtils.isAssignableFrom(parameterType, value.getClass())) {
-						method.invoke(obj, value);
+						invokeSetter(method, obj, value);
 					} else {
 						final Object toObj = SimpleBeanUtils.convert(value, parameterType);
-						method.invoke(obj, toObj);
+						invokeSetter(method, obj, toObj);
 					}
 				}
 				return true;
@@ -768,6 +776,22 @@ public class SimpleBeanWrapper {
 		}
 	}
 
+	private Object invokeGetter(final Method method, final Object obj) {
+		Function<Object, Object> accessor = getterAccessorMap.get(method);
+		if (accessor == null) {
+			accessor = getterAccessorMap.computeIfAbsent(method, BeanAccessors::getter);
+		}
+		return accessor.apply(obj);
+	}
+
+	private void invokeSetter(final Method method, final Object obj, final Object value) {
+		BiConsumer<Object, Object> accessor = setterAccessorMap.get(method);
+		if (accessor == null) {
+			accessor = setterAccessorMap.computeIfAbsent(method, BeanAccessors::setter);
+		}
+		accessor.accept(obj, value);
+	}
+
 	private Method getSetterMethod(final String propertyName, final Class<?> argClass) {
 		final Map<Class<?>, Method> classMap = setterOverloadMap.get(propertyName);
 		if (classMap != null) {
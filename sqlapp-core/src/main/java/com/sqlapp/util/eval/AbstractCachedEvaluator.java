@@ -16,101 +16,309 @@
  * You should have received a copy of the GNU Lesser General Public License
  * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
  */
-
 package com.sqlapp.util.eval;
 
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
 
 import com.sqlapp.data.parameter.ParametersContext;
+import com.sqlapp.util.CommonUtils;
 
+/**
+ * 式の評価オブジェクトをキャッシュする評価クラス
+ * 
+ * コンテキストの型ごとに{@link ClassValue}で分けたキャッシュを式の文字列で検索するため、評価ごとにキーの文字列を生成しません。
+ * キャッシュの検索はロックを取得しません。キャッシュが最大件数を超えた場合は、前回の破棄以降に使用されていない式から破棄します(近似的なLRU)。
+ */
 public abstract class AbstractCachedEvaluator implements CachedEvaluator {
 
-	private Map<String, Evaluator> evaluatorMap = new ConcurrentHashMap<String, Evaluator>();
+	/**
+	 * コンテキストの型ごとのキャッシュの最大件数
+	 */
+	private volatile int maxCacheSize = 4096;
+
+	private final LongAdder evictionCount = new LongAdder();
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private volatile EvaluatorCaches evaluatorCaches = new EvaluatorCaches();
+
+	/**
+	 * キャッシュを選択するためのコンテキストの型を返します。
+	 * 
+	 * @param context コンテキスト
+	 */
+	protected Class<?> getCacheKeyType(final Object context) {
+		if (context == null) {
+			return Void.class;
+		}
+		return context.getClass();
+	}
+
+	/**
+	 * キャッシュを選択するためのコンテキストの型を返します。
+	 * 
+	 * @param context コンテキスト
+	 */
+	protected Class<?> getCacheKeyType(final Map<?, ?> context) {
+		if (context == null) {
+			return Void.class;
+		}
+		return Map.class;
+	}
 
-	protected abstract String getCacheKey(String expression, Object context);
+	/**
+	 * キャッシュのキーを返します。
+	 * 
+	 * @param expression 式
+	 * @param context    コンテキスト
+	 * @deprecated キャッシュは{@link #getCacheKeyType(Object)}の型と式で検索するため、このメソッドは使用されません。
+	 */
+	@Deprecated
+	protected String getCacheKey(final String expression, final Object context) {
+		return expression + ":" + getCacheKeyType(context).getName();
+	}
 
-	protected abstract String getCacheKey(String expression, Map<?, ?> context);
+	/**
+	 * キャッシュのキーを返します。
+	 * 
+	 * @param expression 式
+	 * @param context    コンテキスト
+	 * @deprecated キャッシュは{@link #getCacheKeyType(Map)}の型と式で検索するため、このメソッドは使用されません。
+	 */
+	@Deprecated
+	protected String getCacheKey(final String expression, final Map<?, ?> context) {
+		return expression + ":" + getCacheKeyType(context).getName();
+	}
 
+	/**
+	 * キャッシュされている評価オブジェクトを返します。
+	 * 
+	 * @return 「式:コンテキストの型名」をキーにしたキャッシュの複製
+	 * @deprecated キャッシュはコンテキストの型ごとに分かれているため、変更しても反映されない複製を返します。
+	 */
+	@Deprecated
 	protected Map<String, Evaluator> getEvaluatorMap() {
-		return evaluatorMap;
+		final Map<String, Evaluator> result = CommonUtils.map();
+		for (final EvaluatorCache cache : evaluatorCaches.caches) {
+			cache.evaluatorMap.forEach((expression, entry) -> result.put(expression + ":" + cache.typeName,
+					entry.evaluator));
+		}
+		return result;
+	}
+
+	/**
+	 * 評価オブジェクトを作成してキャッシュに追加します。
+	 * 
+	 * @param expression 式
+	 * @param cacheKey   キャッシュのキー
+	 * @deprecated {@link Object}型のコンテキストのキャッシュに追加します。{@link #getEvaluator(String, Class)}を使用してください。
+	 */
+	@Deprecated
+	protected Evaluator putIfAbsent(final String expression, final String cacheKey) {
+		return getEvaluator(expression, Object.class);
 	}
 
 	protected abstract Evaluator createEvalExecutor(String expression);
 
-	@Override
-	public <T> T eval(String expression, ParametersContext context) {
-		final String key = getCacheKey(expression, context);
-		Evaluator evaluator = getEvaluatorMap().get(key);
-		if (evaluator == null) {
-			return putIfAbsent(expression, key).eval(context);
+	protected Evaluator getEvaluator(final String expression, final Class<?> type) {
+		final EvaluatorCache cache = evaluatorCaches.get(type);
+		final Evaluator evaluator = cache.get(expression);
+		if (evaluator != null) {
+			hitCount.increment();
+			return evaluator;
 		}
-		return evaluator.eval(context);
+		return cache.putIfAbsent(expression, createEvalExecutor(expression));
 	}
 
-	protected Evaluator putIfAbsent(String expression, String cacheKey) {
-		Evaluator evaluator = createEvalExecutor(expression);
-		Evaluator oldEvaluator = getEvaluatorMap().putIfAbsent(cacheKey, evaluator);
-		return oldEvaluator != null ? oldEvaluator : evaluator;
+	@Override
+	public <T> T eval(String expression, ParametersContext context) {
+		return getEvaluator(expression, getCacheKeyType((Map<?, ?>) context)).eval(context);
 	}
 
 	@Override
 	public <T> T eval(String expression, ParametersContext context, Class<T> clazz) {
-		final String key = getCacheKey(expression, context);
-		Evaluator evaluator = getEvaluatorMap().get(key);
-		if (evaluator == null) {
-			return putIfAbsent(expression, key).eval(context, clazz);
-		}
-		return evaluator.eval(context, clazz);
+		return getEvaluator(expression, getCacheKeyType((Map<?, ?>) context)).eval(context, clazz);
 	}
 
 	@Override
 	public <T> T eval(String expression, Object context) {
-		final String key = getCacheKey(expression, context);
-		Evaluator evaluator = getEvaluatorMap().get(key);
-		if (evaluator == null) {
-			return putIfAbsent(expression, key).eval(context);
-		}
-		return evaluator.eval(context);
+		return getEvaluator(expression, getCacheKeyType(context)).eval(context);
 	}
 
 	@Override
 	public boolean evalBoolean(String expression, Object context) {
-		final String key = getCacheKey(expression, context);
-		Evaluator evaluator = getEvaluatorMap().get(key);
-		if (evaluator == null) {
-			return putIfAbsent(expression, key).evalBoolean(context);
-		}
-		return evaluator.evalBoolean(context);
+		return getEvaluator(expression, getCacheKeyType(context)).evalBoolean(context);
 	}
 
 	@Override
 	public <T> T eval(String expression, Map<?, ?> context) {
-		final String key = getCacheKey(expression, context);
-		Evaluator evaluator = getEvaluatorMap().get(key);
-		if (evaluator == null) {
-			return putIfAbsent(expression, key).eval(context);
-		}
-		return evaluator.eval(context);
+		return getEvaluator(expression, getCacheKeyType(context)).eval(context);
 	}
 
 	@Override
 	public boolean evalBoolean(String expression, Map<?, ?> context) {
-		final String key = getCacheKey(expression, context);
-		Evaluator evaluator = getEvaluatorMap().get(key);
-		if (evaluator == null) {
-			return putIfAbsent(expression, expression).evalBoolean(context);
-		}
-		return evaluator.evalBoolean(context);
+		return getEvaluator(expression, getCacheKeyType(context)).evalBoolean(context);
 	}
 
 	@Override
 	public boolean evalBoolean(String expression, ParametersContext context) {
-		final String key = getCacheKey(expression, context);
-		Evaluator evaluator = getEvaluatorMap().get(key);
-		if (evaluator == null) {
-			return putIfAbsent(expression, key).evalBoolean(context);
+		return getEvaluator(expression, getCacheKeyType((Map<?, ?>) context)).evalBoolean(context);
+	}
+
+	/**
+	 * @return コンテキストの型ごとのキャッシュの最大件数
+	 */
+	public int getMaxCacheSize() {
+		return maxCacheSize;
+	}
+
+	/**
+	 * コンテキストの型ごとのキャッシュの最大件数を設定します。作成済のキャッシュには次に式を追加した時に反映されます。
+	 * 
+	 * @param maxCacheSize コンテキストの型ごとのキャッシュの最大件数
+	 */
+	public void setMaxCacheSize(final int maxCacheSize) {
+		if (maxCacheSize <= 0) {
+			throw new IllegalArgumentException("maxCacheSize must be greater than zero: " + maxCacheSize);
+		}
+		this.maxCacheSize = maxCacheSize;
+	}
+
+	/**
+	 * @return キャッシュから破棄された件数
+	 */
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	/**
+	 * @return キャッシュから評価オブジェクトを取得できた件数
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * キャッシュをクリアします。
+	 */
+	public void clearCache() {
+		this.evaluatorCaches = new EvaluatorCaches();
+	}
+
+	/**
+	 * コンテキストの型ごとのキャッシュ
+	 */
+	private class EvaluatorCaches extends ClassValue<EvaluatorCache> {
+
+		/**
+		 * 作成したキャッシュの一覧({@link #getEvaluatorMap()}用)
+		 */
+		private final Queue<EvaluatorCache> caches = new ConcurrentLinkedQueue<>();
+
+		@Override
+		protected EvaluatorCache computeValue(final Class<?> type) {
+			final EvaluatorCache cache = new EvaluatorCache(type.getName(), () -> maxCacheSize, evictionCount);
+			caches.add(cache);
+			return cache;
+		}
+	}
+
+	/**
+	 * 式をキーにした件数上限付きのキャッシュ
+	 * 
+	 * 検索はロックを取得せず、使用済のフラグを立てるだけです。追加で最大件数を超えた場合のみロックを取得し、
+	 * 使用済のフラグを落としながら、フラグの立っていない式を破棄します(セカンドチャンス方式)。
+	 */
+	static class EvaluatorCache {
+
+		private final String typeName;
+
+		private final Map<String, Entry> evaluatorMap = new ConcurrentHashMap<>();
+
+		private final IntSupplier maxSize;
+
+		private final LongAdder evictionCount;
+
+		EvaluatorCache(final String typeName, final IntSupplier maxSize, final LongAdder evictionCount) {
+			this.typeName = typeName;
+			this.maxSize = maxSize;
+			this.evictionCount = evictionCount;
+		}
+
+		Evaluator get(final String expression) {
+			final Entry entry = evaluatorMap.get(expression);
+			if (entry == null) {
+				return null;
+			}
+			// 既にフラグが立っている場合は書き込まない
+			if (!entry.referenced) {
+				entry.referenced = true;
+			}
+			return entry.evaluator;
+		}
+
+		Evaluator putIfAbsent(final String expression, final Evaluator evaluator) {
+			final Entry oldEntry = evaluatorMap.putIfAbsent(expression, new Entry(evaluator));
+			if (oldEntry != null) {
+				return oldEntry.evaluator;
+			}
+			if (evaluatorMap.size() > maxSize.getAsInt()) {
+				evict(expression);
+			}
+			return evaluator;
+		}
+
+		/**
+		 * 最大件数以下になるまで破棄します。最大件数が小さく変更された場合は超えた分をまとめて破棄します。
+		 * 
+		 * @param added 追加した式(破棄の対象外)
+		 */
+		private synchronized void evict(final String added) {
+			// 最大件数は破棄する時点の設定を使用する
+			final int max = maxSize.getAsInt();
+			// 1周目で使用済のフラグを落とすため、2周で必ず最大件数以下になる
+			for (int i = 0; i < 2 && evaluatorMap.size() > max; i++) {
+				for (final Map.Entry<String, Entry> mapEntry : evaluatorMap.entrySet()) {
+					if (evaluatorMap.size() <= max) {
+						return;
+					}
+					if (added.equals(mapEntry.getKey())) {
+						continue;
+					}
+					final Entry entry = mapEntry.getValue();
+					if (entry.referenced) {
+						entry.referenced = false;
+					} else if (evaluatorMap.remove(mapEntry.getKey(), entry)) {
+						evictionCount.increment();
+					}
+				}
+			}
+		}
+
+		int size() {
+			return evaluatorMap.size();
+		}
+	}
+
+	/**
+	 * キャッシュの値
+	 */
+	static class Entry {
+
+		private final Evaluator evaluator;
+
+		/**
+		 * 前回の破棄以降に使用されたか
+		 */
+		private volatile boolean referenced;
+
+		Entry(final Evaluator evaluator) {
+			this.evaluator = evaluator;
 		}
-		return evaluator.evalBoolean(context);
 	}
 }
@@ -24,7 +24,6 @@ import static com.sqlapp.util.CommonUtils.list;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.List;
-import java.util.Map;
 
 import org.mvel2.ParserContext;
 
@@ -141,24 +140,4 @@ public class CachedMvelEvaluator extends AbstractCachedEvaluator {
 	protected Evaluator createEvalExecutor(String expression) {
 		return new MvelCompiledEvaluator(expression, this.parserContext);
 	}
-
-	@Override
-	protected String getCacheKey(String expression, Object context) {
-		StringBuilder builder = new StringBuilder(expression);
-		builder.append(":");
-		if (context != null) {
-			builder.append(context.getClass().toGenericString());
-		}
-		return builder.toString();
-	}
-
-	@Override
-	protected String getCacheKey(String expression, Map<?, ?> context) {
-		StringBuilder builder = new StringBuilder(expression);
-		builder.append(":");
-		if (context != null) {
-			builder.append(Map.class.toString());
-		}
-		return builder.toString();
-	}
 }
@@ -72,12 +72,12 @@ public class CachedScriptEvaluator extends AbstractCachedEvaluator {
 	}
 
 	@Override
-	protected String getCacheKey(String expression, Object context) {
-		return expression;
+	protected Class<?> getCacheKeyType(Object context) {
+		return Object.class;
 	}
 
 	@Override
-	protected String getCacheKey(String expression, Map<?, ?> context) {
-		return expression;
+	protected Class<?> getCacheKeyType(Map<?, ?> context) {
+		return Object.class;
 	}
 }
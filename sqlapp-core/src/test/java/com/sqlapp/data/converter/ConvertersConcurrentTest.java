@@ -0,0 +1,203 @@
+/**
+ * Copyright (C) 2007-2017 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-core.
+ *
+ * sqlapp-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+
+
+package com.sqlapp.data.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.sqlapp.data.db.datatype.DataType;
+import com.sqlapp.util.AbstractBenchMark;
+import com.sqlapp.util.CommonUtils;
+
+public class ConvertersConcurrentTest {
+
+	/**
+	 * 複数スレッドから同時にコンバーターを解決するテスト
+	 */
+	@Test
+	public void testConcurrentConvert() throws Exception {
+		final Converters converters = new Converters();
+		final int threads = 8;
+		final CountDownLatch latch = new CountDownLatch(1);
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			final List<Future<Integer>> futures = CommonUtils.list();
+			for (int i = 0; i < threads; i++) {
+				futures.add(executor.submit(() -> {
+					latch.await();
+					int count = 0;
+					for (int j = 0; j < 1000; j++) {
+						assertEquals(Integer.valueOf(j), converters.convertObject(String.valueOf(j), Integer.class));
+						assertEquals(Long.valueOf(j), converters.convertObject(j, Long.class));
+						assertEquals(new BigDecimal(j), converters.convertObject(String.valueOf(j), BigDecimal.class));
+						assertEquals(LocalDate.of(2020, 1, 2), converters.convertObject("2020-01-02", LocalDate.class));
+						assertEquals(DataType.INT, converters.convertObject("INT", DataType.class));
+						assertEquals(String.valueOf(j), converters.convertString(j));
+						assertNull(converters.getConverterInternal(ConvertersConcurrentTest.class));
+						count++;
+					}
+					return count;
+				}));
+			}
+			latch.countDown();
+			for (final Future<Integer> future : futures) {
+				assertEquals(1000, future.get().intValue());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertSame(converters.getConverter(DataType.class), converters.getConverter(DataType.class));
+		assertSame(converters.getConverter(java.sql.Date.class), converters.getConverter(java.sql.Date.class));
+	}
+
+	/**
+	 * 登録後に解決済みのコンバーターが置き換わるテスト
+	 */
+	@Test
+	public void testPutAfterResolve() {
+		final Converters converters = new Converters();
+		final Converter<UUID> converter = converters.getConverter(UUID.class);
+		final UUIDConverter newConverter = new UUIDConverter();
+		converters.put(UUID.class, newConverter);
+		assertSame(newConverter, converters.getConverter(UUID.class));
+		assertSame(converter.getClass(), newConverter.getClass());
+	}
+
+	/**
+	 * 複数スレッドから同時に解決したEnumのコンバーターが同じインスタンスになるテスト
+	 */
+	@Test
+	public void testConcurrentEnumConverter() throws Exception {
+		final Converters converters = new Converters();
+		final int threads = 8;
+		final CountDownLatch latch = new CountDownLatch(1);
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			final List<Future<Converter<?>>> futures = CommonUtils.list();
+			for (int i = 0; i < threads; i++) {
+				futures.add(executor.submit(() -> {
+					latch.await();
+					converters.getConverter(DataType[].class);
+					final Converter<?> converter = converters.getConverter(DataType.class);
+					return converter;
+				}));
+			}
+			latch.countDown();
+			final Converter<?> converter = converters.getConverter(DataType.class);
+			for (final Future<Converter<?>> future : futures) {
+				assertSame(converter, future.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertSame(converters.getConverter(DataType[].class), converters.getConverter(DataType[].class));
+	}
+
+	/**
+	 * 解決済みのEnumのコンバーターへの設定が維持されるテスト
+	 */
+	@Test
+	public void testEnumConverterCustomization() {
+		final Converters converters = new Converters();
+		final EnumConverter<DataType> converter = converters.getConverter(DataType.class);
+		converter.setEmptyToNull(true);
+		assertSame(converter, converters.getConverter(DataType.class));
+		assertTrue(((EnumConverter<?>) converters.getConverter(DataType.class)).isEmptyToNull());
+		converters.put(UUID.class, new UUIDConverter());
+		assertSame(converter, converters.getConverter(DataType.class));
+	}
+
+	/**
+	 * 親クラスのコンバーターを使用するクラスのテスト
+	 */
+	@Test
+	public void testInheritedConverter() {
+		final Converters converters = new Converters();
+		assertNull(converters.getConverterInternal(SubBean.class));
+		final UUIDConverter converter = new UUIDConverter();
+		converters.put(Bean.class, converter);
+		assertSame(converter, converters.getConverter(SubBean.class));
+		assertSame(converter, converters.getConverter(SubBean.class));
+		final UUIDConverter newConverter = new UUIDConverter();
+		converters.put(Bean.class, newConverter);
+		assertSame(newConverter, converters.getConverter(SubBean.class));
+		final UUIDConverter subConverter = new UUIDConverter();
+		converters.put(SubBean.class, subConverter);
+		converters.put(Bean.class, converter);
+		assertSame(subConverter, converters.getConverter(SubBean.class));
+	}
+
+	/**
+	 * convertObjectの性能測定
+	 */
+	@Tag("benchmark")
+	@Test
+	public void testBenchMark() {
+		final Converters converters = Converters.getDefault();
+		final Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+		final int count = 100000;
+		final Runnable convert = () -> {
+			converters.convertObject("1", Integer.class);
+			converters.convertObject(1L, BigDecimal.class);
+			converters.convertObject(timestamp, LocalDateTime.class);
+			converters.convertObject("VARCHAR", DataType.class);
+			converters.convertString(timestamp);
+		};
+		final long time = new AbstractBenchMark(count) {
+			@Override
+			protected void handle() {
+				convert.run();
+			}
+		}.execute();
+		System.out.println("convertObject time=" + time + "ms/" + count);
+		// 共有のインスタンスを複数スレッドから使用する
+		final long parallelTime = new AbstractBenchMark(1) {
+			@Override
+			protected void handle() {
+				IntStream.range(0, count).parallel().forEach(i -> convert.run());
+			}
+		}.execute();
+		System.out.println("parallel convertObject time=" + parallelTime + "ms/" + count);
+	}
+
+	static class Bean {
+	}
+
+	static class SubBean extends Bean {
+	}
+}
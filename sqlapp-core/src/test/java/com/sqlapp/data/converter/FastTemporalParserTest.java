@@ -0,0 +1,139 @@
+/**
+ * Copyright (C) 2007-2017 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-core.
+ *
+ * sqlapp-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+
+
+package com.sqlapp.data.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.text.ParsePosition;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class FastTemporalParserTest {
+
+	private static final String[] VALUES = new String[] { "2020-01-02 03:04:05", "2020-1-2 3:4:5", "2020-01-02",
+			"2020-01-02T03:04:05", "2020-01-02t03:04", "2020-01-02T03:04:05.123456789", "2020-01-02T03:04:05.",
+			"2020-13-45 25:61:61", "12020-01-02", "+2020-01-02", "-2020-01-02", "03:04:05", "3:4:5", "03:04:05.123456",
+			"2020-01-02 03:04:05.123", "2020-01-02 03:04:05.000000001", "2020-01-02 03:04:05xyz", "20200102", "2020",
+			"2020-1", "", "2020-01-02T03:04:05.1234567891" };
+
+	private static final DateTimeFormatter[] FORMATTERS = new DateTimeFormatter[] {
+			DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss"), DateTimeFormatter.ofPattern("uuuu-MM-dd"),
+			DateTimeFormatter.ofPattern("yyyy-MM-dd"), DateTimeFormatter.ofPattern("uuuu-M-d H:m:s"),
+			DateTimeFormatter.ofPattern("uuuu-M-d"), DateTimeFormatter.ofPattern("uuuu-M-d'T'H:m:s.SSS"),
+			DateTimeFormatter.ofPattern("uuuu-M-d H:m:s.SSS"), DateTimeFormatter.ofPattern("uuuu-M-d H:m:s.nnnnnnnnn"),
+			DateTimeFormatter.ofPattern("H:m:s"), DateTimeFormatter.ofPattern("HH:mm:ss.SSSSSS"),
+			DateTimeFormatter.ofPattern("uuuu-M"), DateTimeFormatter.ofPattern("uuuu"),
+			DateTimeFormatter.ISO_LOCAL_DATE_TIME, DateTimeFormatter.ISO_LOCAL_DATE, DateTimeFormatter.ISO_LOCAL_TIME };
+
+	/**
+	 * 高速パーサーの結果がparseUnresolvedと一致するテスト
+	 */
+	@Test
+	public void testParse() {
+		final List<String> values = new ArrayList<>(List.of(VALUES));
+		final Random random = new Random(1);
+		final String chars = "0123456789-: T.t";
+		for (int i = 0; i < 20000; i++) {
+			final StringBuilder builder = new StringBuilder(VALUES[random.nextInt(VALUES.length)]);
+			for (int j = random.nextInt(3); j > 0 && builder.length() > 0; j--) {
+				builder.setCharAt(random.nextInt(builder.length()), chars.charAt(random.nextInt(chars.length())));
+			}
+			values.add(builder.toString());
+		}
+		for (final DateTimeFormatter formatter : FORMATTERS) {
+			final FastTemporalParser parser = FastTemporalParser.of(formatter);
+			assertNotNull(parser, formatter.toString());
+			for (final String value : values) {
+				final TemporalAccessor actual = parser.parse(value);
+				if (actual == null) {
+					continue;
+				}
+				final ParsePosition position = new ParsePosition(0);
+				final TemporalAccessor expected = formatter.parseUnresolved(value, position);
+				assertNotNull(expected, value);
+				assertEquals(value.length(), position.getIndex(), value);
+				assertEquals(toString(expected), toString(actual), formatter + " " + value);
+			}
+		}
+	}
+
+	/**
+	 * 代表的な形式を高速パーサーで解析できるテスト
+	 */
+	@Test
+	public void testParseCommonFormats() {
+		TemporalAccessor temporal = FastTemporalParser.of(DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss"))
+				.parse("2020-01-02 03:04:05");
+		assertEquals(2020, temporal.get(ChronoField.YEAR));
+		assertEquals(1, temporal.get(ChronoField.MONTH_OF_YEAR));
+		assertEquals(2, temporal.get(ChronoField.DAY_OF_MONTH));
+		assertEquals(3, temporal.get(ChronoField.HOUR_OF_DAY));
+		assertEquals(4, temporal.get(ChronoField.MINUTE_OF_HOUR));
+		assertEquals(5, temporal.get(ChronoField.SECOND_OF_MINUTE));
+		assertFalse(temporal.isSupported(ChronoField.NANO_OF_SECOND));
+		//
+		temporal = FastTemporalParser.of(DateTimeFormatter.ISO_LOCAL_DATE_TIME).parse("2020-01-02t03:04:05.12");
+		assertEquals(5, temporal.get(ChronoField.SECOND_OF_MINUTE));
+		assertEquals(120000000, temporal.get(ChronoField.NANO_OF_SECOND));
+		//
+		temporal = FastTemporalParser.of(DateTimeFormatter.ISO_LOCAL_DATE_TIME).parse("2020-01-02T03:04");
+		assertEquals(4, temporal.get(ChronoField.MINUTE_OF_HOUR));
+		assertFalse(temporal.isSupported(ChronoField.SECOND_OF_MINUTE));
+		// 文字列全体を解析できない場合
+		assertNull(FastTemporalParser.of(DateTimeFormatter.ofPattern("uuuu-MM-dd")).parse("2020-01-02 03:04:05"));
+		assertNull(FastTemporalParser.of(DateTimeFormatter.ofPattern("uuuu-MM-dd")).parse("+2020-01-02"));
+	}
+
+	/**
+	 * 対応していないフォーマットのテスト
+	 */
+	@Test
+	public void testUnsupported() {
+		assertNull(FastTemporalParser.of(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+		assertNull(FastTemporalParser.of(DateTimeFormatter.RFC_1123_DATE_TIME));
+		assertNull(FastTemporalParser.of(DateTimeFormatter.ofPattern("uuuu-M-d H:m:s XXXX")));
+		assertNull(FastTemporalParser.of(DateTimeFormatter.ofPattern("uuuuMMdd")));
+		assertNull(FastTemporalParser.of(DateTimeFormatter.ofPattern("yy-MM-dd")));
+		assertNull(FastTemporalParser.of(DateTimeFormatter.ofPattern("uuuu-MM-dd").withZone(ZoneId.of("UTC"))));
+	}
+
+	private static String toString(final TemporalAccessor temporalAccessor) {
+		final StringBuilder builder = new StringBuilder();
+		for (final ChronoField field : ChronoField.values()) {
+			if (temporalAccessor.isSupported(field)) {
+				builder.append(field).append('=').append(temporalAccessor.getLong(field)).append(',');
+			}
+		}
+		builder.append(temporalAccessor.query(TemporalQueries.zoneId()));
+		return builder.toString();
+	}
+}
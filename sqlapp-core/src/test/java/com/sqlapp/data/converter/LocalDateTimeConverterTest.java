@@ -20,15 +20,19 @@
 package com.sqlapp.data.converter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import com.sqlapp.TestCaseBase;
+import com.sqlapp.util.AbstractBenchMark;
 
 public class LocalDateTimeConverterTest extends TestCaseBase {
 
@@ -106,4 +110,112 @@ public class LocalDateTimeConverterTest extends TestCaseBase {
 		assertEquals(date.getTime(), Converters.getDefault()
 				.convertObject(converter.convertObject("+" + date.getTime()), Date.class).getTime());
 	}
+
+	/**
+	 * 解析に成功したフォーマットを記憶するテスト
+	 */
+	@Test
+	public void testLearnParseFormat() {
+		final LocalDateTimeConverter expected = LocalDateTimeConverter.newInstance().setParseFormats("uuuu-M-d H:m:s",
+				"uuuu/M/d H:m:s", "uuuu-M-d");
+		final LocalDateTimeConverter converter = LocalDateTimeConverter.newInstance()
+				.setParseFormats("uuuu-M-d H:m:s", "uuuu/M/d H:m:s", "uuuu-M-d").setLearnParseFormat(true);
+		final String[] values = new String[] { "2020/1/2 3:4:5", "2020/01/03 03:04:05", "2020-01-02",
+				"2020-01-02 03:04:05", "2020-1-3", "2020/1/4 13:14:15", "2020-01-05 03:04:05.123" };
+		for (final String value : values) {
+			assertEquals(expected.convertObject(value), converter.convertObject(value), value);
+		}
+		assertEquals(LocalDateTime.of(2020, 1, 2, 3, 4, 5), converter.convertObject("2020-01-02 03:04:05"));
+		assertEquals(LocalDateTime.of(2020, 1, 3, 0, 0), converter.convertObject("2020-01-03"));
+		converter.setLearnParseFormat(false);
+		for (final String value : values) {
+			assertEquals(expected.convertObject(value), converter.convertObject(value), value);
+		}
+	}
+
+	/**
+	 * CSVの日時列を想定して、列ごとにフォーマットを記憶した解析が記憶しない解析と同じになるテスト
+	 */
+	@Test
+	public void testLearnParseFormatColumns() {
+		final LocalDateTimeConverter converter = Converters.getDefault().getConverter(LocalDateTime.class);
+		final DateTimeFormatter[] formats = new DateTimeFormatter[] {
+				DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss"),
+				DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSS") };
+		final LocalDateTime[] expected = new LocalDateTime[1000];
+		final String[][] columns = new String[formats.length][expected.length];
+		for (int j = 0; j < expected.length; j++) {
+			expected[j] = LocalDateTime.of(2020, 1, 1, 0, 0).plusSeconds(j * 3607L).plusNanos(j * 1000000L);
+			columns[0][j] = expected[j].format(formats[0]);
+			columns[1][j] = expected[j].format(formats[1]);
+		}
+		// 列ごとにコンバーターを用意する
+		final LocalDateTimeConverter[] learned = new LocalDateTimeConverter[columns.length];
+		for (int i = 0; i < columns.length; i++) {
+			learned[i] = ((LocalDateTimeConverter) converter.clone()).setLearnParseFormat(true);
+			assertTrue(learned[i].isLearnParseFormat());
+		}
+		assertFalse(converter.isLearnParseFormat());
+		// 行ごとに各列を解析する
+		for (int j = 0; j < expected.length; j++) {
+			assertEquals(expected[j].withNano(0), converter.convertObject(columns[0][j]), columns[0][j]);
+			assertEquals(expected[j], converter.convertObject(columns[1][j]), columns[1][j]);
+			for (int i = 0; i < columns.length; i++) {
+				assertEquals(converter.convertObject(columns[i][j]), learned[i].convertObject(columns[i][j]),
+						columns[i][j]);
+			}
+		}
+		// 記憶したフォーマットと異なる列の値も解析できる
+		for (int j = 0; j < expected.length; j++) {
+			assertEquals(converter.convertObject(columns[1][j]), learned[0].convertObject(columns[1][j]),
+					columns[1][j]);
+			assertEquals(converter.convertObject(columns[0][j]), learned[0].convertObject(columns[0][j]),
+					columns[0][j]);
+		}
+	}
+
+	/**
+	 * CSVの日時列を想定した解析の性能測定
+	 */
+	@Tag("benchmark")
+	@Test
+	public void testParseBenchMark() {
+		final LocalDateTimeConverter converter = Converters.getDefault().getConverter(LocalDateTime.class);
+		final String[][] columns = new String[2][1000];
+		final DateTimeFormatter[] formats = new DateTimeFormatter[] {
+				DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss"),
+				DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSS") };
+		for (int i = 0; i < columns.length; i++) {
+			for (int j = 0; j < columns[i].length; j++) {
+				columns[i][j] = LocalDateTime.of(2020, 1, 1, 0, 0).plusSeconds(j * 3607L).format(formats[i]);
+			}
+		}
+		// 列ごとにコンバーターを用意する
+		final LocalDateTimeConverter[] learned = new LocalDateTimeConverter[columns.length];
+		for (int i = 0; i < columns.length; i++) {
+			learned[i] = ((LocalDateTimeConverter) converter.clone()).setLearnParseFormat(true);
+		}
+		final long time = new AbstractBenchMark(100) {
+			@Override
+			protected void handle() {
+				for (int j = 0; j < columns[0].length; j++) {
+					for (int i = 0; i < columns.length; i++) {
+						converter.convertObject(columns[i][j]);
+					}
+				}
+			}
+		}.execute();
+		System.out.println("parse time=" + time + "ms");
+		final long learnedTime = new AbstractBenchMark(100) {
+			@Override
+			protected void handle() {
+				for (int j = 0; j < columns[0].length; j++) {
+					for (int i = 0; i < columns.length; i++) {
+						learned[i].convertObject(columns[i][j]);
+					}
+				}
+			}
+		}.execute();
+		System.out.println("learned parse time=" + learnedTime + "ms");
+	}
 }
@@ -0,0 +1,257 @@
+/**
+ * Copyright (C) 2007-2017 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-core.
+ *
+ * sqlapp-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+
+
+package com.sqlapp.data.schemas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.sqlapp.data.db.datatype.DataType;
+import com.sqlapp.util.AbstractBenchMark;
+
+public class DbObjectBinaryTest {
+
+	@Test
+	public void testCatalog() throws IOException {
+		final Catalog catalog = CatalogTest.getCatalog("CatalogA");
+		final Catalog result = roundTrip(catalog);
+		assertEquals(catalog, result);
+	}
+
+	@Test
+	public void testCatalogXml() throws IOException {
+		final Catalog catalog = SchemaUtils.readXml(this.getClass(), "catalog.xml");
+		final Catalog result = roundTrip(catalog);
+		assertEquals(catalog, result);
+	}
+
+	@Test
+	public void testRows() throws IOException {
+		final Table table = new Table("TABA");
+		table.getColumns().add(c -> {
+			c.setName("ID");
+			c.setDataType(DataType.INT);
+		});
+		table.getColumns().add(c -> {
+			c.setName("NAME");
+			c.setDataType(DataType.VARCHAR);
+			c.setLength(50);
+		});
+		table.getColumns().add(c -> {
+			c.setName("AMOUNT");
+			c.setDataType(DataType.DECIMAL);
+			c.setLength(10);
+			c.setScale(2);
+		});
+		table.setPrimaryKey(table.getColumns().get("ID"));
+		for (int i = 0; i < 100; i++) {
+			final Row row = table.newRow();
+			row.put("ID", i);
+			row.put("NAME", i % 10 == 0 ? null : "name" + i);
+			row.put("AMOUNT", new BigDecimal("-" + i + ".25"));
+			table.getRows().add(row);
+		}
+		final Table result = roundTrip(table);
+		assertEquals(table, result);
+		assertEquals(100, result.getRows().size());
+		assertEquals(Integer.valueOf(99), result.getRows().get(99).get("ID"));
+		assertEquals(new BigDecimal("-99.25"), result.getRows().get(99).get("AMOUNT"));
+	}
+
+	@Test
+	public void testRowRemarksAndOptions() throws IOException {
+		final Table table = new Table("TABA");
+		table.getColumns().add(c -> {
+			c.setName("ID");
+			c.setDataType(DataType.INT);
+		});
+		table.getColumns().add(c -> {
+			c.setName("NAME");
+			c.setDataType(DataType.VARCHAR);
+			c.setLength(50);
+		});
+		final Row row = table.newRow();
+		row.put("ID", 1);
+		row.putRemarks(table.getColumns().get("NAME"), "comment1");
+		row.putOption(table.getColumns().get("ID"), "<SQL>");
+		table.getRows().add(row);
+		final Row row2 = table.newRow();
+		row2.put("ID", 2);
+		table.getRows().add(row2);
+		final Table result = roundTrip(table);
+		final Row resultRow = result.getRows().get(0);
+		assertEquals("comment1", resultRow.getRemarks("NAME"));
+		assertNull(resultRow.getRemarks("ID"));
+		assertEquals("<SQL>", resultRow.getOption("ID"));
+		assertNull(resultRow.getOption("NAME"));
+		assertNull(result.getRows().get(1).getRemarks("NAME"));
+		assertNull(result.getRows().get(1).getOption("ID"));
+	}
+
+	@Test
+	public void testInvalidFormat() {
+		assertThrows(IOException.class,
+				() -> SchemaUtils.readBinary(new ByteArrayInputStream(new byte[] { '<', '?', 'x', 'm' })));
+		assertThrows(IOException.class, () -> SchemaUtils
+				.readBinary(new ByteArrayInputStream(new byte[] { 'S', 'Q', 'A', 'B', (byte) (DbObjectBinaryFormat.VERSION + 1) })));
+	}
+
+	/**
+	 * バイナリ形式はXMLより小さく、XMLから読み込んだ場合と同じオブジェクトになる
+	 */
+	@Test
+	public void testSize() throws IOException, XMLStreamException {
+		final Catalog catalog = SchemaUtils.readXml(this.getClass(), "catalog.xml");
+		final StringWriter writer = new StringWriter();
+		catalog.writeXml(writer);
+		final byte[] xml = writer.toString().getBytes(StandardCharsets.UTF_8);
+		final byte[] binary = toBinary(catalog);
+		assertTrue(binary.length < xml.length, "binary=" + binary.length + ", xml=" + xml.length);
+		final Catalog fromXml = new Catalog();
+		fromXml.loadXml(new StringReader(writer.toString()));
+		assertEquals(fromXml, SchemaUtils.readBinary(new ByteArrayInputStream(binary)));
+	}
+
+	@Test
+	public void testConstraintColumns() throws IOException {
+		final Table table = new Table("TABA");
+		table.getColumns().add(c -> {
+			c.setName("ID");
+			c.setDataType(DataType.INT);
+		});
+		table.getColumns().add(c -> {
+			c.setName("NAME");
+			c.setDataType(DataType.VARCHAR);
+			c.setLength(50);
+		});
+		table.getColumns().add(c -> {
+			c.setName("AMOUNT");
+			c.setDataType(DataType.INT);
+		});
+		table.setPrimaryKey(table.getColumns().get("ID"));
+		final Table result = roundTrip(table);
+		final UniqueConstraint pk = result.getPrimaryKeyConstraint();
+		// 制約のカラムは読み込んだテーブルのカラムを参照する
+		assertSame(result.getColumns().get("ID"), pk.getColumns().get("ID").getColumn());
+		final ReferenceColumn added = pk.getColumns().add("NAME");
+		assertSame(result.getColumns().get("NAME"), added.getColumn());
+		added.setOrder(Order.Desc);
+		added.setName("AMOUNT");
+		assertEquals("AMOUNT", pk.getColumns().get(1).getName());
+		assertEquals(Order.Desc, pk.getColumns().get(1).getOrder());
+		// 読み込み元と読み込んだテーブルのカラムは変更されない
+		assertEquals("NAME", result.getColumns().get(1).getName());
+		assertEquals(1, table.getPrimaryKeyConstraint().getColumns().size());
+		assertEquals(2, pk.getColumns().size());
+		assertEquals(result, result.clone());
+	}
+
+	/**
+	 * XMLとバイナリ形式の読み込み時間とヒープ使用量の測定
+	 */
+	@Tag("benchmark")
+	@Test
+	public void testLoadBenchMark() throws IOException, XMLStreamException {
+		final Catalog catalog = SchemaUtils.readXml(this.getClass(), "catalog.xml");
+		final StringWriter writer = new StringWriter();
+		catalog.writeXml(writer);
+		final String xml = writer.toString();
+		final byte[] binary = toBinary(catalog);
+		System.out.println("size xml=" + xml.getBytes(StandardCharsets.UTF_8).length + ", binary=" + binary.length);
+		final long xmlTime = new AbstractBenchMark(1000) {
+			@Override
+			protected void handle() {
+				try {
+					new Catalog().loadXml(new StringReader(xml));
+				} catch (final XMLStreamException e) {
+					throw new RuntimeException(e);
+				}
+			}
+		}.execute();
+		System.out.println("xml load time=" + xmlTime + "ms");
+		final long binaryTime = new AbstractBenchMark(1000) {
+			@Override
+			protected void handle() {
+				try {
+					SchemaUtils.readBinary(new ByteArrayInputStream(binary));
+				} catch (final IOException e) {
+					throw new RuntimeException(e);
+				}
+			}
+		}.execute();
+		System.out.println("binary load time=" + binaryTime + "ms");
+		final Catalog[] fromXml = new Catalog[100];
+		final long xmlHeap = usedHeap(() -> {
+			for (int i = 0; i < fromXml.length; i++) {
+				fromXml[i] = new Catalog();
+				fromXml[i].loadXml(new StringReader(xml));
+			}
+		});
+		System.out.println("xml heap=" + xmlHeap / fromXml.length + "bytes/catalog");
+		final Catalog[] fromBinary = new Catalog[100];
+		final long binaryHeap = usedHeap(() -> {
+			for (int i = 0; i < fromBinary.length; i++) {
+				fromBinary[i] = SchemaUtils.readBinary(new ByteArrayInputStream(binary));
+			}
+		});
+		System.out.println("binary heap=" + binaryHeap / fromBinary.length + "bytes/catalog");
+		assertEquals(fromXml[0], fromBinary[0]);
+	}
+
+	@FunctionalInterface
+	private interface Loader {
+		void load() throws IOException, XMLStreamException;
+	}
+
+	private static long usedHeap(final Loader loader) throws IOException, XMLStreamException {
+		final Runtime runtime = Runtime.getRuntime();
+		System.gc();
+		final long before = runtime.totalMemory() - runtime.freeMemory();
+		loader.load();
+		System.gc();
+		return runtime.totalMemory() - runtime.freeMemory() - before;
+	}
+
+	private static byte[] toBinary(final DbCommonObject<?> obj) throws IOException {
+		final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		SchemaUtils.writeBinary(obj, bos);
+		return bos.toByteArray();
+	}
+
+	private static <T extends DbCommonObject<?>> T roundTrip(final T obj) throws IOException {
+		return SchemaUtils.readBinary(new ByteArrayInputStream(toBinary(obj)));
+	}
+}
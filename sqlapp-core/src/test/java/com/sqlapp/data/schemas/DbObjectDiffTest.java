@@ -0,0 +1,211 @@
+/**
+ * Copyright (C) 2007-2017 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-core.
+ *
+ * sqlapp-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+
+package com.sqlapp.data.schemas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import com.sqlapp.util.CommonUtils;
+
+public class DbObjectDiffTest {
+
+	private static final EqualsHandler[] HANDLERS = new EqualsHandler[] { null, new EqualsHandler(),
+			DefaultSchemaEqualsHandler.DEFAULT_INSTANCE };
+
+	/**
+	 * 並べ替え、追加、削除、変更した要素の対応付けがLCSの表と同じになるテスト
+	 */
+	@Test
+	public void testReorderInsertDelete() {
+		final Random random = new Random(1);
+		for (int n = 0; n < 300; n++) {
+			final List<Sequence> list1 = getSequences(random, "S", 30);
+			final List<Sequence> list2 = change(random, list1);
+			for (final EqualsHandler handler : HANDLERS) {
+				assertSameLcs(list1, list2, new DbObjectDiff<Sequence>(list1, list2, handler));
+				assertSameLcs(list1, list2, new DbObjectDiff<Sequence>(list1, list2, handler) {
+					@Override
+					protected Object getKey(final Sequence obj) {
+						return null;
+					}
+
+					@Override
+					protected long getMaxTableCells() {
+						return 40;
+					}
+				});
+			}
+		}
+	}
+
+	/**
+	 * 名前が重複する場合のテスト
+	 */
+	@Test
+	public void testDuplicateNames() {
+		final Random random = new Random(2);
+		for (int n = 0; n < 300; n++) {
+			final List<Sequence> list1 = getSequences(random, "S", 20);
+			final List<Sequence> list2 = change(random, list1);
+			list1.add(new Sequence(list1.isEmpty() ? "S0" : list1.get(0).getName()));
+			for (final EqualsHandler handler : HANDLERS) {
+				assertSameLcs(list1, list2, new DbObjectDiff<Sequence>(list1, list2, handler));
+			}
+		}
+	}
+
+	/**
+	 * EqualsHandlerを指定した場合も名前で対応付けて、変更された要素をModifiedとするテスト
+	 */
+	@Test
+	public void testDifferenceCollection() {
+		final Schema schema1 = new Schema("SCHEMA1");
+		final Schema schema2 = new Schema("SCHEMA1");
+		for (final String name : new String[] { "SEQ_A", "SEQ_B", "SEQ_C" }) {
+			schema1.getSequences().add(new Sequence(name).setIncrementBy(BigInteger.ONE));
+		}
+		for (final String name : new String[] { "SEQ_A", "SEQ_B", "SEQ_D" }) {
+			schema2.getSequences().add(new Sequence(name).setIncrementBy(BigInteger.ONE));
+		}
+		schema2.getSequences().get("SEQ_B").setIncrementBy(BigInteger.TEN);
+		for (final EqualsHandler handler : HANDLERS) {
+			final DbObjectDifferenceCollection diff = handler == null
+					? schema1.getSequences().diff(schema2.getSequences())
+					: schema1.getSequences().diff(schema2.getSequences(), handler);
+			assertEquals("SEQ_B", getName(diff.getList(State.Modified)));
+			assertEquals("SEQ_C", getName(diff.getList(State.Deleted)));
+			assertEquals("SEQ_D", getName(diff.getList(State.Added)));
+		}
+	}
+
+	/**
+	 * ForkJoinPool内で要素ごとに並列に計算した差分が逐次の差分と同じになるテスト
+	 */
+	@Test
+	public void testDifferenceCollectionInForkJoinPool() throws InterruptedException, ExecutionException {
+		final Random random = new Random(3);
+		final ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+		try {
+			for (int n = 0; n < 50; n++) {
+				final Schema schema1 = new Schema("SCHEMA1");
+				schema1.getSequences().addAll(getSequences(random, "S", 30));
+				final Schema schema2 = new Schema("SCHEMA1");
+				schema2.getSequences().addAll(change(random, schema1.getSequences()));
+				for (final EqualsHandler handler : HANDLERS) {
+					final EqualsHandler equalsHandler = handler == null ? new EqualsHandler() : handler;
+					final DbObjectDifference expected = schema1.diff(schema2, equalsHandler);
+					final DbObjectDifference actual = forkJoinPool.submit(() -> schema1.diff(schema2, equalsHandler))
+							.get();
+					assertEquals(expected.toString(), actual.toString());
+					assertEquals(expected.getState(), actual.getState());
+				}
+			}
+		} finally {
+			forkJoinPool.shutdownNow();
+		}
+	}
+
+	private String getName(final List<DbObjectDifference> list) {
+		assertEquals(1, list.size());
+		final DbObjectDifference difference = list.get(0);
+		final DbObject<?> obj = difference.getOriginal() != null ? difference.getOriginal() : difference.getTarget();
+		return ((Sequence) obj).getName();
+	}
+
+	private void assertSameLcs(final List<Sequence> list1, final List<Sequence> list2,
+			final DbObjectDiff<Sequence> diff) {
+		final Map<Integer, Integer> expected = getLcs(list1, list2);
+		assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(diff.getLcs1().keySet()));
+		assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(diff.getLcs2().keySet()));
+	}
+
+	/**
+	 * like(Object)で比較したLCSの表による対応付け(list1の位置、list2の位置)
+	 */
+	private Map<Integer, Integer> getLcs(final List<Sequence> list1, final List<Sequence> list2) {
+		final int size1 = list1.size();
+		final int size2 = list2.size();
+		final int[][] lengths = new int[size1 + 1][size2 + 1];
+		for (int i = size1 - 1; i >= 0; i--) {
+			for (int j = size2 - 1; j >= 0; j--) {
+				if (list1.get(i).like(list2.get(j))) {
+					lengths[i][j] = lengths[i + 1][j + 1] + 1;
+				} else {
+					lengths[i][j] = Math.max(lengths[i + 1][j], lengths[i][j + 1]);
+				}
+			}
+		}
+		final Map<Integer, Integer> result = CommonUtils.linkedMap();
+		int i = 0, j = 0;
+		while (i < size1 && j < size2) {
+			if (list1.get(i).like(list2.get(j))) {
+				result.put(i++, j++);
+			} else if (lengths[i + 1][j] >= lengths[i][j + 1]) {
+				i++;
+			} else {
+				j++;
+			}
+		}
+		return result;
+	}
+
+	private List<Sequence> getSequences(final Random random, final String prefix, final int max) {
+		final List<Sequence> list = CommonUtils.list();
+		final int size = random.nextInt(max);
+		for (int i = 0; i < size; i++) {
+			list.add(new Sequence(prefix + i).setIncrementBy(BigInteger.ONE));
+		}
+		return list;
+	}
+
+	/**
+	 * 要素の並べ替え、追加、削除、プロパティの変更を行います
+	 */
+	private List<Sequence> change(final Random random, final List<Sequence> list) {
+		final List<Sequence> result = CommonUtils.list();
+		for (final Sequence sequence : list) {
+			if (random.nextInt(5) == 0) {
+				continue;
+			}
+			final Sequence clone = sequence.clone();
+			if (random.nextInt(4) == 0) {
+				clone.setIncrementBy(BigInteger.valueOf(2));
+			}
+			result.add(clone);
+		}
+		for (final Sequence sequence : getSequences(random, "T", 5)) {
+			result.add(random.nextInt(result.size() + 1), sequence);
+		}
+		if (result.size() > 1 && random.nextBoolean()) {
+			Collections.swap(result, random.nextInt(result.size()), random.nextInt(result.size()));
+		}
+		return result;
+	}
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright (C) 2007-2017 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-core.
+ *
+ * sqlapp-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+
+package com.sqlapp.data.schemas;
+package com.sqlapp.data.schemas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import com.sqlapp.data.db.datatype.DataType;
+
+public class RowCollectionTest {
+
+	private static final int SIZE = RowCollection.INDEX_THRESHOLD * 4;
+
+	private Table createTable() {
+		Table table = new Table("TABA");
+		table.getColumns().add(c -> {
+			c.setName("ID");
+			c.setDataType(DataType.INT);
+		});
+		table.getColumns().add(c -> {
+			c.setName("CODE");
+			c.setDataType(DataType.VARCHAR);
+			c.setLength(10);
+		});
+		table.getColumns().add(c -> {
+			c.setName("NAME");
+			c.setDataType(DataType.VARCHAR);
+			c.setLength(50);
+		});
+		table.setPrimaryKey(table.getColumns().get("ID"), table.getColumns().get("CODE"));
+		for (int i = 0; i < SIZE; i++) {
+			Row row = table.newRow();
+			row.put("ID", i);
+			row.put("CODE", "C" + i);
+			row.put("NAME", "name" + i);
+			table.getRows().add(row);
+		}
+		return table;
+	}
+
+	private Row keyRow(Table table, int id, String code) {
+		Row row = table.newRow();
+		row.put("ID", id);
+		row.put("CODE", code);
+		return row;
+	}
+
+	@Test
+	public void testFind() {
+		Table table = createTable();
+		RowCollection rows = table.getRows();
+		for (int i = 0; i < SIZE; i++) {
+			assertSame(rows.get(i), rows.find(keyRow(table, i, "C" + i)));
+		}
+		assertNull(rows.find(keyRow(table, 1, "C2")));
+		assertNull(rows.find(keyRow(table, SIZE, "C" + SIZE)));
+	}
+
+	@Test
+	public void testFindAfterAdd() {
+		Table table = createTable();
+		RowCollection rows = table.getRows();
+		assertNull(rows.find(keyRow(table, SIZE, "C" + SIZE)));
+		Row row = table.newRow();
+		row.put("ID", SIZE);
+		row.put("CODE", "C" + SIZE);
+		rows.add(row);
+		assertSame(row, rows.find(keyRow(table, SIZE, "C" + SIZE)));
+	}
+
+	@Test
+	public void testFindAfterChange() {
+		Table table = createTable();
+		RowCollection rows = table.getRows();
+		Row row = rows.get(5);
+		assertSame(row, rows.find(keyRow(table, 5, "C5")));
+		row.put("CODE", "X5");
+		assertNull(rows.find(keyRow(table, 5, "C5")));
+		assertSame(row, rows.find(keyRow(table, 5, "X5")));
+		rows.get(6).put("NAME", "changed");
+		assertSame(row, rows.find(keyRow(table, 5, "X5")));
+	}
+
+	@Test
+	public void testFindAfterRemove() {
+		Table table = createTable();
+		RowCollection rows = table.getRows();
+		Row row = rows.get(5);
+		assertSame(row, rows.find(keyRow(table, 5, "C5")));
+		rows.remove(5);
+		assertNull(rows.find(keyRow(table, 5, "C5")));
+		assertSame(rows.get(5), rows.find(keyRow(table, 6, "C6")));
+	}
+
+	@Test
+	public void testGetIndex() {
+		Table table = createTable();
+		RowCollection rows = table.getRows();
+		RowIndex index = rows.getIndex("NAME");
+		assertSame(index, rows.getIndex("NAME"));
+		assertEquals(1, index.getColumns().size());
+		assertSame(rows.get(10), index.find("name10"));
+		assertNull(index.find("name" + SIZE));
+		assertNull(rows.getIndex("UNKNOWN"));
+	}
+}
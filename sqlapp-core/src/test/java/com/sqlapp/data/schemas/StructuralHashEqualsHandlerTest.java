@@ -0,0 +1,107 @@
+/**
+ * Copyright (C) 2007-2017 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-core.
+ *
+ * sqlapp-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+
+
+package com.sqlapp.data.schemas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class StructuralHashEqualsHandlerTest {
+
+	@Test
+	public void testSameTable() {
+		final Table table1 = TableTest.getTable("TableA");
+		final Table table2 = TableTest.getTable("TableA");
+		final StructuralHashEqualsHandler handler = new StructuralHashEqualsHandler(new DefaultSchemaEqualsHandler());
+		assertNotNull(handler.getHash(table1));
+		assertEquals(handler.getHash(table1), handler.getHash(table2));
+		assertTrue(handler.equals(table1, table2));
+		assertEquals(handler.getHash(table1.getColumns()), handler.getHash(table2.getColumns()));
+	}
+
+	@Test
+	public void testModifiedColumn() {
+		final Table table1 = TableTest.getTable("TableA");
+		final Table table2 = TableTest.getTable("TableA");
+		table2.getColumns().get("B").setDefaultValue("'1'");
+		final EqualsHandler equalsHandler = new DefaultSchemaEqualsHandler();
+		final StructuralHashEqualsHandler handler = new StructuralHashEqualsHandler(equalsHandler);
+		assertNotEquals(handler.getHash(table1), handler.getHash(table2));
+		assertEquals(handler.getHash(table1.getColumns().get("A")), handler.getHash(table2.getColumns().get("A")));
+		assertFalse(handler.equals(table1, table2));
+		assertEquals(table1.diff(table2, equalsHandler).toString(), table1.diff(table2, handler).toString());
+		assertEquals(table1.getColumns().diff(table2.getColumns(), equalsHandler).toString(),
+				table1.getColumns().diff(table2.getColumns(), handler).toString());
+	}
+
+	@Test
+	public void testFilter() {
+		final Table table1 = TableTest.getTable("TableA");
+		final Table table2 = TableTest.getTable("TableA");
+		table2.getColumns().get("A").setRemarks("Remarks");
+		final StructuralHashEqualsHandler handler = new StructuralHashEqualsHandler(
+				new ExcludeFilterEqualsHandler(SchemaProperties.REMARKS.getLabel()));
+		assertEquals(handler.getHash(table1), handler.getHash(table2));
+		assertTrue(handler.equals(table1, table2));
+		final StructuralHashEqualsHandler nameHandler = new StructuralHashEqualsHandler(
+				IncludeFilterEqualsHandler.EQUALS_NAME_HANDLER);
+		table2.getColumns().get("B").setDefaultValue("'1'");
+		assertEquals(nameHandler.getHash(table1), nameHandler.getHash(table2));
+		table2.setName("TableB");
+		assertNotEquals(nameHandler.getHash(table1), nameHandler.getHash(table2));
+	}
+
+	@Test
+	public void testUnsupportedHandler() {
+		final Table table1 = TableTest.getTable("TableA");
+		final Table table2 = TableTest.getTable("TableA");
+		final EqualsHandler equalsHandler = new EqualsHandler();
+		equalsHandler.setValueEqualsPredicate((propertyName, eq, object1, object2, value1, value2) -> {
+			if (SchemaProperties.REMARKS.getLabel().equals(propertyName)) {
+				return true;
+			}
+			return eq;
+		});
+		final StructuralHashEqualsHandler handler = new StructuralHashEqualsHandler(equalsHandler);
+		assertNull(handler.getHash(table1));
+		table2.getColumns().get("A").setRemarks("Remarks");
+		assertTrue(handler.equals(table1, table2));
+		table2.getColumns().get("B").setDefaultValue("'1'");
+		assertFalse(handler.equals(table1, table2));
+	}
+
+	@Test
+	public void testClearCache() {
+		final Table table1 = TableTest.getTable("TableA");
+		final Table table2 = TableTest.getTable("TableA");
+		final StructuralHashEqualsHandler handler = new StructuralHashEqualsHandler(new EqualsHandler());
+		assertTrue(handler.equals(table1, table2));
+		table2.getColumns().get("B").setDefaultValue("'1'");
+		handler.clearCache();
+		assertNotEquals(handler.getHash(table1), handler.getHash(table2));
+		assertFalse(handler.equals(table1, table2));
+	}
+}
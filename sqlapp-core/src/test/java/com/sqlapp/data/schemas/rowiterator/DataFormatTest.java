@@ -20,7 +20,15 @@
 package com.sqlapp.data.schemas.rowiterator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.junit.jupiter.api.Test;
 
 class DataFormatTest {
@@ -42,6 +50,20 @@ class DataFormatTest {
 		parseFileTest("tsv", DataFormat.TSV);
 	}
 
+	@Test
+	void testCreateStreamingWorkbook() throws IOException {
+		try (Workbook workbook = DataFormat.EXCEL.createStreamingWorkbook(10, true, false)) {
+			assertTrue(workbook instanceof SXSSFWorkbook);
+			ExcelUtils.closeWorkbook(workbook);
+		}
+		try (Workbook workbook = DataFormat.EXCEL2003.createStreamingWorkbook(10, true, false)) {
+			assertTrue(workbook instanceof HSSFWorkbook);
+		}
+		assertEquals(SpreadsheetVersion.EXCEL2007, DataFormat.EXCEL.getSpreadsheetVersion());
+		assertEquals(SpreadsheetVersion.EXCEL97, DataFormat.EXCEL2003.getSpreadsheetVersion());
+		assertNull(DataFormat.CSV.getSpreadsheetVersion());
+	}
+
 	private void parseFileTest(String text, DataFormat enm) {
 		assertEquals(enm, DataFormat.parse(text));
 	}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2007-2017 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-core.
+ *
+ * sqlapp-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+
+package com.sqlapp.data.schemas.rowiterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.sqlapp.data.schemas.Column;
+import com.sqlapp.data.schemas.Row;
+import com.sqlapp.data.schemas.RowIteratorHandler;
+import com.sqlapp.data.schemas.Table;
+import com.sqlapp.iterable.ExcelIterable;
+import com.sqlapp.util.CommonUtils;
+
+public class ExcelStreamingRowIteratorHandlerTest extends AbstractRowExcelIteratorHandlerTest {
+
+	@Override
+	protected RowIteratorHandler getRowIteratorHandler() {
+		final ExcelRowIteratorHandler handler = new ExcelRowIteratorHandler(new File("src/test/resources/test.xlsx"));
+		handler.setStreaming(true);
+		return handler;
+	}
+
+	@Test
+	public void testColumns() {
+		Table table = getTable();
+		table.setRowIteratorHandler(new CombinedRowIteratorHandler(getRowIteratorHandler(), getRowIteratorHandler()));
+		int i = 0;
+		int count = 0;
+		for (Row row : table.getRows()) {
+			assertNotNull(row.get(0));
+			count++;
+		}
+		assertEquals(46, count);
+		Column column = table.getColumns().get(i++);
+		assertEquals("id", column.getName());
+	}
+
+	/**
+	 * skipHeaderRowsSizeに関わらず逐次読み込みと通常読み込みが同じ行を返すテスト
+	 */
+	@Test
+	public void testSameRowsAsExcelIterator() {
+		final File file = new File("src/test/resources/testWithoutHeader.xlsx");
+		for (final int skipHeaderRowsSize : new int[] { 0, 1, 2 }) {
+			final ExcelRowIteratorHandler handler = new ExcelRowIteratorHandler(file, skipHeaderRowsSize);
+			final ExcelRowIteratorHandler streamingHandler = new ExcelRowIteratorHandler(file, skipHeaderRowsSize);
+			streamingHandler.setStreaming(true);
+			final List<Map<String, Object>> expected = getValues(handler);
+			assertEquals(23, expected.size());
+			assertEquals(expected, getValues(streamingHandler));
+		}
+	}
+
+	private List<Map<String, Object>> getValues(final RowIteratorHandler handler) {
+		final Table table = new Table();
+		table.setRowIteratorHandler(handler);
+		final List<Map<String, Object>> result = CommonUtils.list();
+		for (final Row row : table.getRows()) {
+			result.add(row.getValuesAsMap());
+		}
+		return result;
+	}
+
+	@Test
+	public void testExcelIterable() {
+		final ExcelIterable iterable = new ExcelIterable(new File("src/test/resources/test.xlsx")).setStreaming(true);
+		int count = 0;
+		final Iterator<Map<String, Object>> itr = iterable.iterator();
+		while (itr.hasNext()) {
+			final Map<String, Object> map = itr.next();
+			assertEquals("name" + (count + 1), map.get("name"));
+			count++;
+		}
+		assertEquals(23, count);
+	}
+
+}
@@ -19,15 +19,89 @@
 
 package com.sqlapp.data.schemas.rowiterator;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Iterator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import com.sqlapp.data.schemas.Row;
 import com.sqlapp.data.schemas.RowIteratorHandler;
+import com.sqlapp.data.schemas.Table;
+import com.sqlapp.data.schemas.rowiterator.JsonRowIteratorHandler.JsonRowIterator;
+import com.sqlapp.util.JsonConverter;
 
 public class JsonRowIteratorHandlerTest extends AbstractRowJsonIteratorHandlerTest {
 
+	@TempDir
+	File tempDir;
+
 	@Override
 	protected RowIteratorHandler getRowIteratorHandler() {
 		return new JsonRowIteratorHandler(new File("src/test/resources/test.json"));
 	}
 
+	@Test
+	public void testLargeFile() throws IOException {
+		final int size = 200000;
+		final File file = new File(tempDir, "large.json");
+		try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+			writer.write("[");
+			for (int i = 0; i < size; i++) {
+				if (i > 0) {
+					writer.write(",");
+				}
+				writer.write("\n{\"id\":" + i + ",\"name\":\"name" + i + "\",\"description\":null}");
+			}
+			writer.write("\n]");
+		}
+		final Table table = new Table();
+		table.setRowIteratorHandler(new JsonRowIteratorHandler(file));
+		int i = 0;
+		for (final Row row : table.getRows()) {
+			final Number id = row.get("id");
+			assertEquals(i, id.intValue());
+			assertEquals("name" + i, row.get("name"));
+			assertEquals(i + 1L, row.getDataSourceRowNumber());
+			i++;
+		}
+		assertEquals(size, i);
+		assertEquals(3, table.getColumns().size());
+	}
+
+	@Test
+	public void testIndex() {
+		final Table table = new Table();
+		final Iterator<Row> iterator = new JsonRowIterator(table.getRows(), new File("src/test/resources/test.json"),
+				new JsonConverter(), 2L, (r, c, v) -> v);
+		int i = 2;
+		while (iterator.hasNext()) {
+			assertEquals("name" + (i + 1), iterator.next().get("name"));
+			i++;
+		}
+		assertEquals(count(), i);
+	}
+
+	@Test
+	public void testNotArray() throws IOException {
+		final File file = new File(tempDir, "object.json");
+		Files.write(file.toPath(), "{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+		final Table table = new Table();
+		table.setRowIteratorHandler(new JsonRowIteratorHandler(file));
+		assertThrows(RuntimeException.class, () -> table.getRows().iterator().hasNext());
+		final File empty = new File(tempDir, "empty.json");
+		Files.write(empty.toPath(), "[]".getBytes(StandardCharsets.UTF_8));
+		final Table emptyTable = new Table();
+		emptyTable.setRowIteratorHandler(new JsonRowIteratorHandler(empty));
+		assertFalse(emptyTable.getRows().iterator().hasNext());
+	}
+
 }
@@ -20,6 +20,12 @@
 package com.sqlapp.iterable;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -46,4 +52,26 @@ class VirtualThreadIterableTest {
 		assertEquals(count, i);
 	}
 
+	@Test
+	void testCloseEarly() throws Exception {
+		AtomicBoolean finalized = new AtomicBoolean(false);
+		AtomicInteger produced = new AtomicInteger();
+		VirtualThreadIterable<Integer> iterable = new VirtualThreadIterable<Integer>(cons -> {
+			for (int i = 0;; i++) {
+				cons.accept(i);
+				produced.incrementAndGet();
+			}
+		}, () -> finalized.set(true), 2);
+		Iterator<Integer> itr = iterable.iterator();
+		assertTrue(itr.hasNext());
+		assertEquals(0, itr.next().intValue());
+		((AutoCloseable) itr).close();
+		// closeはProducerのfinalizerが終わるまで待つ
+		assertTrue(finalized.get());
+		int count = produced.get();
+		Thread.sleep(50);
+		assertEquals(count, produced.get());
+		assertFalse(itr.hasNext());
+	}
+
 }
@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2007-2017 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-core.
+ *
+ * sqlapp-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+
+
+package com.sqlapp.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+
+import com.sqlapp.AbstractDbTest;
+import com.sqlapp.data.db.dialect.Dialect;
+import com.sqlapp.data.db.dialect.DialectResolver;
+
+public class SqlappDataSourceTest extends AbstractDbTest {
+
+	/**
+	 * コネクション毎にDB方言が1回だけ解決されることのテスト
+	 */
+	@Test
+	public void testConnectionDialectCache() throws SQLException {
+		final DialectResolver resolver = DialectResolver.getInstance();
+		try (Connection connection = DriverManager.getConnection("jdbc:hsqldb:mem:dialectCache;shutdown=true")) {
+			final long count = resolver.getMetadataResolveCount();
+			final Dialect dialect = resolver.getDialect(connection);
+			assertNotNull(dialect);
+			assertSame(dialect, resolver.getDialect(connection));
+			try (Statement stmt = connection.createStatement();
+					ResultSet rs = stmt.executeQuery("VALUES(1)")) {
+				assertSame(dialect, resolver.getDialect(rs));
+			}
+			assertEquals(count + 1, resolver.getMetadataResolveCount());
+			resolver.removeCache(connection);
+			assertEquals(dialect.getClass(), resolver.getDialect(connection).getClass());
+			assertEquals(count + 2, resolver.getMetadataResolveCount());
+		}
+	}
+
+	/**
+	 * データソース毎にDB方言が1回だけ解決されることのテスト
+	 */
+	@Test
+	public void testDataSourceDialectCache() throws SQLException {
+		final DialectResolver resolver = DialectResolver.getInstance();
+		try (SqlappDataSource dataSource = (SqlappDataSource) createDataSource()) {
+			final long count = resolver.getMetadataResolveCount();
+			Dialect dialect;
+			try (Connection connection = dataSource.getConnection()) {
+				dialect = resolver.getDialect(connection);
+				assertSame(dialect, ((SqlappConnection) connection).getDialect());
+				connection.getMetaData();
+			}
+			for (int i = 0; i < 3; i++) {
+				try (Connection connection = dataSource.getConnection()) {
+					assertSame(dialect, resolver.getDialect(connection));
+				}
+			}
+			assertSame(dialect, dataSource.getDialect());
+			assertEquals(count + 1, resolver.getMetadataResolveCount());
+		}
+	}
+
+	/**
+	 * DB方言を解決できないコネクションで例外になることのテスト
+	 */
+	@Test
+	public void testDialectResolveError() {
+		final Connection nativeConnection = (Connection) Proxy.newProxyInstance(this.getClass().getClassLoader(),
+				new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+					if ("getMetaData".equals(method.getName())) {
+						throw new SQLException("getMetaData failed.");
+					}
+					return null;
+				});
+		final SqlappConnection connection = new SqlappConnection(nativeConnection);
+		assertThrows(RuntimeException.class, () -> DialectResolver.getInstance().getDialect(connection));
+	}
+}
@@ -0,0 +1,145 @@
+/**
+ * Copyright (C) 2007-2017 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-core.
+ *
+ * sqlapp-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+
+
+package com.sqlapp.jdbc.sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+
+import com.sqlapp.data.db.datatype.DataType;
+import com.sqlapp.data.db.sql.SqlSignature;
+import com.sqlapp.data.schemas.Row;
+import com.sqlapp.data.schemas.Table;
+import com.sqlapp.exceptions.CorrelationRowNotFoundException;
+
+public class CorrelationStrategyTest {
+
+	private static final int SIZE = 100000;
+
+	private Table createTable(final boolean key) {
+		final Table table = new Table("CORR");
+		table.getColumns().add(c -> {
+			c.setName("ID");
+			c.setDataType(DataType.BIGINT);
+		});
+		table.getColumns().add(c -> {
+			c.setName("CODE");
+			c.setDataType(DataType.VARCHAR);
+			c.setLength(20);
+		});
+		if (key) {
+			table.setPrimaryKey(table.getColumns().get("ID"));
+			table.getConstraints().addUniqueConstraint("UK_CORR", table.getColumns().get("CODE"));
+		}
+		return table;
+	}
+
+	private void insert(final Connection connection, final Table table) throws SQLException {
+		try (Statement stmt = connection.createStatement()) {
+			stmt.execute("CREATE TABLE CORR (ID BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, CODE VARCHAR(20))");
+		}
+		try (PreparedStatement stmt = connection.prepareStatement("INSERT INTO CORR(CODE) VALUES(?)")) {
+			for (final Row row : table.getRows()) {
+				stmt.setString(1, row.get("CODE"));
+				stmt.addBatch();
+			}
+			stmt.executeBatch();
+		}
+	}
+
+	/**
+	 * 大量の行を一意キーで対応付けるテスト
+	 */
+	@Test
+	public void testByKey() throws SQLException {
+		final Table table = createTable(true);
+		for (int i = 0; i < SIZE; i++) {
+			final Row row = table.newRow();
+			row.put("CODE", "C" + i);
+			table.getRows().add(row);
+		}
+		try (Connection connection = DriverManager.getConnection("jdbc:hsqldb:mem:correlationByKey;shutdown=true")) {
+			insert(connection, table);
+			final SqlSignature sqlSignature = new SqlSignature(table, table.getRows());
+			try (Statement stmt = connection.createStatement();
+					ResultSet rs = stmt.executeQuery("SELECT ID, CODE FROM CORR ORDER BY ID DESC")) {
+				CorrelationStrategy.BY_KEY.setResultSet(rs, table, sqlSignature);
+			}
+		}
+		for (int i = 0; i < SIZE; i++) {
+			final Row row = table.getRows().get(i);
+			assertEquals(Long.valueOf(i), row.get("ID"));
+			assertEquals("C" + i, row.get("CODE"));
+		}
+	}
+
+	/**
+	 * キーが存在しない場合は行の順番で対応付けるテスト
+	 */
+	@Test
+	public void testByKeyWithoutKey() throws SQLException {
+		final Table table = createTable(false);
+		for (int i = 0; i < 10; i++) {
+			final Row row = table.newRow();
+			row.put("CODE", "C" + i);
+			table.getRows().add(row);
+		}
+		try (Connection connection = DriverManager.getConnection("jdbc:hsqldb:mem:correlationNoKey;shutdown=true")) {
+			insert(connection, table);
+			final SqlSignature sqlSignature = new SqlSignature(table, table.getRows());
+			try (Statement stmt = connection.createStatement();
+					ResultSet rs = stmt.executeQuery("SELECT ID FROM CORR ORDER BY ID")) {
+				CorrelationStrategy.BY_KEY.setResultSet(rs, table, sqlSignature);
+			}
+		}
+		for (int i = 0; i < 10; i++) {
+			assertEquals(Long.valueOf(i), table.getRows().get(i).get("ID"));
+		}
+	}
+
+	/**
+	 * 対応する行が存在しない場合のテスト
+	 */
+	@Test
+	public void testByKeyNotFound() throws SQLException {
+		final Table table = createTable(true);
+		final Row row = table.newRow();
+		row.put("CODE", "C0");
+		table.getRows().add(row);
+		try (Connection connection = DriverManager.getConnection("jdbc:hsqldb:mem:correlationNotFound;shutdown=true")) {
+			insert(connection, table);
+			final SqlSignature sqlSignature = new SqlSignature(table, table.getRows());
+			try (Statement stmt = connection.createStatement();
+					ResultSet rs = stmt.executeQuery("SELECT ID, 'X' AS CODE FROM CORR")) {
+				assertThrows(CorrelationRowNotFoundException.class,
+						() -> CorrelationStrategy.BY_KEY.setResultSet(rs, table, sqlSignature));
+			}
+		}
+	}
+}
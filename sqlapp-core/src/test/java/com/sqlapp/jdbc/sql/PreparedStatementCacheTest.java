@@ -0,0 +1,218 @@
+/**
+ * Copyright (C) 2007-2025 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-core.
+ *
+ * sqlapp-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+package com.sqlapp.jdbc.sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.sqlapp.AbstractDbTest;
+import com.sqlapp.data.db.dialect.Dialect;
+import com.sqlapp.data.db.dialect.DialectResolver;
+import com.sqlapp.data.parameter.ParametersContext;
+import com.sqlapp.jdbc.sql.node.SqlNode;
+import com.sqlapp.util.CommonUtils;
+
+class PreparedStatementCacheTest extends AbstractDbTest {
+
+	@Test
+	void testReuse() throws SQLException {
+		final String sql = this.getResource("create_table1.sql");
+		final SqlConverter con = new SqlConverter();
+		final Dialect dialect = DialectResolver.getInstance().getDefaultDialect();
+		final SqlNode insert = con.parseSql(dialect, new ParametersContext(),
+				"INSERT INTO TABA (ID, TXT) VALUES (NULL, /*TXT*/'aaa')");
+		testDb(connection -> {
+			this.dropTables(connection, "TABA");
+			executeSql(connection, sql);
+			try (PreparedStatementCache cache = new PreparedStatementCache(connection, 2)) {
+				for (int i = 0; i < 5; i++) {
+					final JdbcHandler handler = new JdbcHandler(insert);
+					handler.setStatementCache(cache);
+					final ParametersContext context = new ParametersContext();
+					context.put("TXT", "abc" + i);
+					handler.execute(connection, context);
+				}
+				assertEquals(1, cache.getPrepareCount());
+				assertEquals(4, cache.getReuseCount());
+				assertEquals(1, cache.size());
+				//
+				final List<ParametersContext> contexts = CommonUtils.list();
+				for (int i = 0; i < 10; i++) {
+					final ParametersContext context = new ParametersContext();
+					context.put("TXT", "def" + i);
+					contexts.add(context);
+				}
+				final JdbcBatchUpdateHandler batchHandler = new JdbcBatchUpdateHandler(insert);
+				batchHandler.setBatchSize(1);
+				batchHandler.setStatementCache(cache);
+				batchHandler.execute(connection, contexts);
+				assertEquals(10, batchHandler.getUpdateCount());
+				assertEquals(1, cache.getPrepareCount());
+				assertEquals(5, cache.getReuseCount());
+				//
+				final SqlParameterCollection parameters = insert.eval(new ParametersContext());
+				final PreparedStatement statement = cache.get(parameters, false, () -> {
+					throw new SQLException("not cached");
+				});
+				assertTrue(cache.contains(statement));
+				cache.commit(connection);
+				assertEquals(0, cache.size());
+				assertTrue(statement.isClosed());
+			}
+		}, (connection) -> {
+			this.dropTables(connection, "TABA");
+		});
+	}
+
+	@Test
+	void testEvict() throws SQLException {
+		final SqlConverter con = new SqlConverter();
+		final Dialect dialect = DialectResolver.getInstance().getDefaultDialect();
+		testDb(connection -> {
+			try (PreparedStatementCache cache = new PreparedStatementCache(connection, 2)) {
+				final PreparedStatement first = cache.get(
+						con.parseSql(dialect, new ParametersContext(), "VALUES(1)").eval(new ParametersContext()),
+						false, () -> connection.prepareStatement("VALUES(1)"));
+				for (int i = 2; i <= 3; i++) {
+					final String text = "VALUES(" + i + ")";
+					cache.get(con.parseSql(dialect, new ParametersContext(), text).eval(new ParametersContext()),
+							false, () -> connection.prepareStatement(text));
+				}
+				assertEquals(2, cache.size());
+				assertEquals(3, cache.getPrepareCount());
+				assertTrue(first.isClosed());
+				assertFalse(cache.contains(first));
+			}
+		});
+	}
+
+	@Test
+	void testEvictLeastRecentlyUsed() throws SQLException {
+		final SqlConverter con = new SqlConverter();
+		final Dialect dialect = DialectResolver.getInstance().getDefaultDialect();
+		testDb(connection -> {
+			try (PreparedStatementCache cache = new PreparedStatementCache(connection, 2)) {
+				final SqlParameterCollection parameters1 = con.parseSql(dialect, new ParametersContext(), "VALUES(1)")
+						.eval(new ParametersContext());
+				final SqlParameterCollection parameters2 = con.parseSql(dialect, new ParametersContext(), "VALUES(2)")
+						.eval(new ParametersContext());
+				final SqlParameterCollection parameters3 = con.parseSql(dialect, new ParametersContext(), "VALUES(3)")
+						.eval(new ParametersContext());
+				final PreparedStatement first = cache.get(parameters1, false,
+						() -> connection.prepareStatement("VALUES(1)"));
+				final PreparedStatement second = cache.get(parameters2, false,
+						() -> connection.prepareStatement("VALUES(2)"));
+				// 1を使用したので2が最も古くなる
+				assertSame(first, cache.get(parameters1, false, () -> {
+					throw new SQLException("not cached");
+				}));
+				final PreparedStatement third = cache.get(parameters3, false,
+						() -> connection.prepareStatement("VALUES(3)"));
+				assertEquals(2, cache.size());
+				assertFalse(first.isClosed());
+				assertTrue(second.isClosed());
+				assertTrue(cache.contains(first));
+				assertFalse(cache.contains(second));
+				assertTrue(cache.contains(third));
+			}
+		});
+	}
+
+	@Test
+	void testOwner() throws SQLException {
+		final SqlConverter con = new SqlConverter();
+		final Dialect dialect = DialectResolver.getInstance().getDefaultDialect();
+		testDb(connection -> {
+			try (PreparedStatementCache cache = new PreparedStatementCache(connection)) {
+				final SqlParameterCollection parameters = con.parseSql(dialect, new ParametersContext(), "VALUES(1)")
+						.eval(new ParametersContext());
+				final Object owner1 = new Object();
+				final Object owner2 = new Object();
+				final PreparedStatement statement1 = cache.get(owner1, parameters, false,
+						() -> connection.prepareStatement("VALUES(1)"));
+				final PreparedStatement statement2 = cache.get(owner2, parameters, false,
+						() -> connection.prepareStatement("VALUES(1)"));
+				assertNotSame(statement1, statement2);
+				assertSame(statement1, cache.get(owner1, parameters, false, () -> {
+					throw new SQLException("not cached");
+				}));
+				assertEquals(2, cache.getPrepareCount());
+				assertEquals(1, cache.getReuseCount());
+			}
+		});
+	}
+
+	@Test
+	void testBatchIterateHandler() throws SQLException {
+		final String sql = this.getResource("create_table1.sql");
+		final SqlConverter con = new SqlConverter();
+		final Dialect dialect = DialectResolver.getInstance().getDefaultDialect();
+		// 同じSQLの2つのStatementHolderがバッチを混在させないこと
+		final String insert = "INSERT INTO TABA (ID, TXT) VALUES (NULL, /*TXT*/'aaa')";
+		final List<SqlNode> nodes = CommonUtils.list();
+		nodes.add(con.parseSql(dialect, new ParametersContext(), insert));
+		nodes.add(con.parseSql(dialect, new ParametersContext(), insert));
+		testDb(connection -> {
+			this.dropTables(connection, "TABA");
+			executeSql(connection, sql);
+			final List<ParametersContext> contexts = CommonUtils.list();
+			for (int i = 0; i < 25; i++) {
+				final ParametersContext context = new ParametersContext();
+				context.put("TXT", "abc" + i);
+				contexts.add(context);
+			}
+			try (PreparedStatementCache cache = new PreparedStatementCache(connection)) {
+				final List<Integer> updateCounts = CommonUtils.list();
+				try (JdbcBatchIterateHander handler = new JdbcBatchIterateHander(nodes, 10, Integer.MAX_VALUE)) {
+					handler.setStatementCache(cache);
+					handler.setBatchUpdateResultHandler(result -> {
+						int count = 0;
+						for (final int ret : result.getResult()) {
+							count += ret;
+						}
+						updateCounts.add(count);
+					});
+					assertEquals(25, handler.execute(connection, contexts));
+				}
+				assertEquals(2, cache.getPrepareCount());
+				assertEquals(2, cache.size());
+				// StatementHolderごとに10, 10, 5件のバッチ
+				assertEquals(List.of(10, 10, 10, 10, 5, 5), updateCounts);
+				try (Statement stmt = connection.createStatement();
+						ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM TABA")) {
+					rs.next();
+					assertEquals(50, rs.getInt(1));
+				}
+			}
+		}, (connection) -> {
+			this.dropTables(connection, "TABA");
+		});
+	}
+}
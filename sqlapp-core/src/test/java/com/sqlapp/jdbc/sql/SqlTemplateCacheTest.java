@@ -0,0 +1,153 @@
+/**
+ * Copyright (C) 2007-2017 Tatsuo Satoh &lt;multisqllib@gmail.com&gt;
+ *
+ * This file is part of sqlapp-core.
+ *
+ * sqlapp-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * sqlapp-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with sqlapp-core.  If not, see &lt;http://www.gnu.org/licenses/&gt;.
+ */
+package com.sqlapp.jdbc.sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.sqlapp.data.db.dialect.Dialect;
+import com.sqlapp.data.db.dialect.DialectResolver;
+import com.sqlapp.data.db.sql.SqlType;
+import com.sqlapp.data.parameter.ParametersContext;
+import com.sqlapp.jdbc.sql.node.SqlNode;
+import com.sqlapp.util.CommonUtils;
+
+public class SqlTemplateCacheTest {
+
+	private final SqlParser parser = SqlParser.getInstance();
+	private final Dialect dialect = DialectResolver.getInstance().getDefaultDialect();
+
+	@Test
+	public void testGet() {
+		final SqlTemplateCache cache = new SqlTemplateCache(2, 1000);
+		final String sql1 = "select * from test where a=/*a*/1";
+		final String sql2 = "select * from test where b=/*b*/1";
+		final String sql3 = "select * from test where c=/*c*/1";
+		final SqlNode node1 = cache.get(dialect, null, sql1, () -> parser.parse(dialect, sql1));
+		assertSame(node1, cache.get(dialect, null, sql1, () -> parser.parse(dialect, sql1)));
+		cache.get(dialect, null, sql2, () -> parser.parse(dialect, sql2));
+		cache.get(dialect, null, sql3, () -> parser.parse(dialect, sql3));
+		SqlTemplateCache.Statistics statistics = cache.getStatistics();
+		assertEquals(2, statistics.size());
+		assertEquals(1, statistics.hitCount());
+		assertEquals(3, statistics.missCount());
+		assertEquals(1, statistics.evictionCount());
+		assertEquals(sql2.length() + sql3.length(), statistics.weight());
+		// LRUで最も古いsql1が破棄されている
+		assertNotSame(node1, cache.get(dialect, null, sql1, () -> parser.parse(dialect, sql1)));
+		//
+		cache.clear();
+		cache.resetStatistics();
+		statistics = cache.getStatistics();
+		assertEquals(0, statistics.size());
+		assertEquals(0, statistics.missCount());
+	}
+
+	@Test
+	public void testWeight() {
+		final SqlTemplateCache cache = new SqlTemplateCache(100, 160);
+		final String sql = "select * from test where a=/*a*/1";
+		cache.get(dialect, null, sql, () -> parser.parse(dialect, sql));
+		// 上限の1/16を超えるSQLはキャッシュしない
+		assertEquals(0, cache.getStatistics().size());
+	}
+
+	@Test
+	public void testSqlType() {
+		final SqlTemplateCache cache = new SqlTemplateCache(100, 10000);
+		final String sql = "select * from test where a=/*a*/1";
+		final SqlNode node1 = cache.get(dialect, null, sql, () -> parser.parse(dialect, sql));
+		final SqlNode node2 = cache.get(dialect, SqlType.SELECT, sql,
+				() -> parser.parse(dialect, SqlType.SELECT, sql));
+		assertNotSame(node1, node2);
+	}
+
+	@Test
+	public void testReadOnly() {
+		final SqlTemplateCache cache = new SqlTemplateCache(100, 10000);
+		final String sql = "select * from test where a=/*a*/1 /*if b!=null*/and b=/*b*/1/*end*/";
+		final SqlNode node = cache.get(dialect, null, sql, () -> parser.parse(dialect, sql));
+		assertTrue(node.isReadOnly());
+		assertThrows(UnsupportedOperationException.class, () -> node.setDialect(dialect));
+		assertThrows(UnsupportedOperationException.class, () -> node.setParameters(null));
+		assertThrows(UnsupportedOperationException.class, () -> node.getChildNodes().clear());
+		assertThrows(UnsupportedOperationException.class, () -> node.getChildNodes().get(0).setParent(null));
+		// 複製したノードは変更できる
+		final SqlNode clone = node.clone();
+		assertFalse(clone.isReadOnly());
+		assertEquals(node.getChildNodes().size(), clone.getChildNodes().size());
+		assertFalse(clone.getChildNodes().get(0).isReadOnly());
+		clone.setDialect(dialect);
+		assertEquals(node.eval(createContext(2)).getSql(), clone.eval(createContext(2)).getSql());
+		// 複製元は変更されない
+		assertEquals(clone.getChildNodes().size(), node.getChildNodes().size());
+	}
+
+	@Test
+	public void testParseGeneratedSql() {
+		final String sql = "insert into test(a) values(1)";
+		final SqlTemplateCache cache = SqlTemplateCache.getInstance();
+		final long missCount = cache.getStatistics().missCount();
+		final SqlNode node = new SqlConverter().parseGeneratedSql(dialect, new ParametersContext(), sql);
+		assertFalse(node.isReadOnly());
+		assertNotSame(node, new SqlConverter().parseGeneratedSql(dialect, new ParametersContext(), sql));
+		assertEquals(missCount, cache.getStatistics().missCount());
+	}
+
+	@Test
+	public void testConcurrentEval() throws Exception {
+		final String sql = "select * from test where a=/*a*/1 /*if b!=null*/and b=/*b*/1/*end*/";
+		final SqlNode node = new SqlConverter().parseSql(dialect, new ParametersContext(), sql);
+		assertSame(node, new SqlConverter().parseSql(dialect, new ParametersContext(), sql));
+		final SqlNode other = parser.parse(dialect, sql);
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final List<Future<String>> futures = CommonUtils.list();
+			for (int i = 0; i < 100; i++) {
+				final int value = i;
+				futures.add(executor.submit(() -> node.eval(createContext(value)).getSql()));
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				assertEquals(other.eval(createContext(i)).getSql(), futures.get(i).get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private ParametersContext createContext(final int value) {
+		final ParametersContext context = new ParametersContext();
+		context.put("a", value);
+		if (value % 2 == 0) {
+			context.put("b", value);
+		}
+		return context;
+	}
+}
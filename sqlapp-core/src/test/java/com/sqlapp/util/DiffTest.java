@@ -21,9 +21,13 @@ package com.sqlapp.util;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 /**
  * Diffクラステスト
@@ -76,6 +80,168 @@ public class DiffTest {
 		assertEquals("abc", getString(diff.getLcs()));
 	}
 
+	@Test
+	public void testGetLcsUniqueKeys() {
+		final Random random = new Random(1);
+		for (int n = 0; n < 500; n++) {
+			final List<Integer> list1 = getUniqueList(random, random.nextInt(30));
+			final List<Integer> list2 = getUniqueList(random, random.nextInt(30));
+			assertSameLcs(list1, list2, new Diff<Integer>(list1, list2));
+		}
+	}
+
+	@Test
+	public void testGetLcsDuplicateKeys() {
+		final Random random = new Random(2);
+		for (int n = 0; n < 500; n++) {
+			final List<Integer> list1 = getRandomList(random, random.nextInt(30));
+			final List<Integer> list2 = getRandomList(random, random.nextInt(30));
+			assertSameLcs(list1, list2, new Diff<Integer>(list1, list2));
+		}
+	}
+
+	@Test
+	public void testGetLcsComparator() {
+		final Random random = new Random(3);
+		for (int n = 0; n < 200; n++) {
+			final List<Integer> list1 = getUniqueList(random, random.nextInt(30));
+			final List<Integer> list2 = getUniqueList(random, random.nextInt(30));
+			assertSameLcs(list1, list2, new Diff<Integer>(list1, list2, Integer::compare));
+		}
+	}
+
+	@Test
+	public void testGetLcsRowBlocks() {
+		final Random random = new Random(4);
+		for (int n = 0; n < 500; n++) {
+			final List<Integer> list1 = getRandomList(random, random.nextInt(40));
+			final List<Integer> list2 = getRandomList(random, random.nextInt(40));
+			final long maxTableCells = n % 2 == 0 ? 0 : 50;
+			final Diff<Integer> diff = new Diff<Integer>(list1, list2) {
+				@Override
+				protected Object getKey(final Integer obj) {
+					return null;
+				}
+
+				@Override
+				protected long getMaxTableCells() {
+					return maxTableCells;
+				}
+			};
+			assertSameLcs(list1, list2, diff);
+		}
+	}
+
+	@Test
+	public void testGetLcsLargeList() {
+		final List<Integer> list1 = getUniqueList(new Random(5), 40000);
+		final int size = list1.size();
+		final List<Integer> list2 = new ArrayList<>(list1);
+		Collections.swap(list2, 10, size - 10);
+		list2.remove(size / 2);
+		list2.add(-1);
+		final Diff<Integer> diff = new Diff<Integer>(list1, list2);
+		assertEquals(size - 3, diff.getLcs().size());
+		assertEquals(size - 3, diff.getLcs2().size());
+		assertFalse(diff.getLcs1().containsKey(10) && diff.getLcs1().containsKey(size - 10));
+		assertFalse(diff.getLcs1().containsKey(size / 2));
+	}
+
+	/**
+	 * LCSの表による比較との性能測定
+	 */
+	@Tag("benchmark")
+	@Test
+	public void testBenchMark() {
+		final List<Integer> list1 = getUniqueList(new Random(6), 2700);
+		final int size = list1.size();
+		final List<Integer> list2 = new ArrayList<>(list1);
+		Collections.swap(list2, 10, size - 10);
+		list2.remove(size / 2);
+		list2.add(-1);
+		final int count = 10;
+		final long tableTime = new AbstractBenchMark(count) {
+			@Override
+			protected void handle() {
+				getLcs(list1, list2);
+			}
+		}.execute();
+		System.out.println("LCS table time=" + tableTime + "ms/" + count + ", size=" + size);
+		final long keyTime = new AbstractBenchMark(count) {
+			@Override
+			protected void handle() {
+				new Diff<Integer>(list1, list2).getLcs();
+			}
+		}.execute();
+		System.out.println("Diff time=" + keyTime + "ms/" + count + ", size=" + size);
+		final long noKeyTime = new AbstractBenchMark(count) {
+			@Override
+			protected void handle() {
+				new Diff<Integer>(list1, list2) {
+					@Override
+					protected Object getKey(final Integer obj) {
+						return null;
+					}
+				}.getLcs();
+			}
+		}.execute();
+		System.out.println("Diff without key time=" + noKeyTime + "ms/" + count + ", size=" + size);
+		assertSameLcs(list1, list2, new Diff<Integer>(list1, list2));
+	}
+
+	private void assertSameLcs(final List<Integer> list1, final List<Integer> list2, final Diff<Integer> diff) {
+		final Map<Integer, Integer> expected = getLcs(list1, list2);
+		assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(diff.getLcs1().keySet()));
+		assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(diff.getLcs2().keySet()));
+	}
+
+	/**
+	 * LCSの表による比較結果(list1の位置、list2の位置)
+	 */
+	private Map<Integer, Integer> getLcs(final List<Integer> list1, final List<Integer> list2) {
+		final int size1 = list1.size();
+		final int size2 = list2.size();
+		final int[][] lengths = new int[size1 + 1][size2 + 1];
+		for (int i = size1 - 1; i >= 0; i--) {
+			for (int j = size2 - 1; j >= 0; j--) {
+				if (list1.get(i).equals(list2.get(j))) {
+					lengths[i][j] = lengths[i + 1][j + 1] + 1;
+				} else {
+					lengths[i][j] = Math.max(lengths[i + 1][j], lengths[i][j + 1]);
+				}
+			}
+		}
+		final Map<Integer, Integer> result = CommonUtils.linkedMap();
+		int i = 0, j = 0;
+		while (i < size1 && j < size2) {
+			if (list1.get(i).equals(list2.get(j))) {
+				result.put(i++, j++);
+			} else if (lengths[i + 1][j] >= lengths[i][j + 1]) {
+				i++;
+			} else {
+				j++;
+			}
+		}
+		return result;
+	}
+
+	private List<Integer> getUniqueList(final Random random, final int size) {
+		final List<Integer> list = CommonUtils.list();
+		for (int i = 0; i < size; i++) {
+			list.add(i);
+		}
+		Collections.shuffle(list, random);
+		return new ArrayList<>(list.subList(0, size - size / 4));
+	}
+
+	private List<Integer> getRandomList(final Random random, final int size) {
+		final List<Integer> list = CommonUtils.list();
+		for (int i = 0; i < size; i++) {
+			list.add(random.nextInt(6));
+		}
+		return list;
+	}
+
 	private List<String> getList(String val){
 		List<String> list=CommonUtils.list();
 		for(int i=0;i<val.length();i++){
@@ -19,8 +19,16 @@
 
 package com.sqlapp.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import com.sqlapp.data.interval.Interval;
@@ -63,4 +71,130 @@ public class SimpleBeanWrapperTest {
 		assertTrue(interval2.equals(interval1));
 	}
 
+	@Test
+	public void testAccessor() {
+		final SimpleBeanWrapper wrapper = new SimpleBeanWrapper(Bean.class);
+		final Bean bean = new Bean();
+		assertTrue(wrapper.setValue(bean, "id", 10));
+		assertTrue(wrapper.setValue(bean, "name", "abc"));
+		assertTrue(wrapper.setValue(bean, "value", 1L));
+		assertTrue(wrapper.setValue(bean, "value", "x"));
+		assertEquals(Integer.valueOf(10), wrapper.getValue(bean, "id"));
+		assertEquals("abc", wrapper.getValue(bean, "name"));
+		assertEquals("long:1,string:x", wrapper.getValue(bean, "value"));
+		assertTrue(wrapper.setValue(bean, "id", "20"));
+		assertEquals(Integer.valueOf(20), wrapper.getValue(bean, "id"));
+		assertThrows(IllegalStateException.class, () -> wrapper.getValue(bean, "error"));
+	}
+
+	@Test
+	public void testRecordAccessor() {
+		final SimpleBeanWrapper wrapper = new SimpleBeanWrapper(BeanRecord.class);
+		final BeanRecord bean = new BeanRecord(1, "abc");
+		assertEquals(Integer.valueOf(1), wrapper.getValue(bean, "id"));
+		assertEquals("abc", wrapper.getValue(bean, "name"));
+	}
+
+	/**
+	 * 生成した関数とリフレクションへのフォールバックのテスト
+	 */
+	@Test
+	public void testBeanAccessors() throws Exception {
+		final Bean bean = new Bean();
+		final BiConsumer<Object, Object> setter = BeanAccessors.setter(Bean.class.getMethod("setName", String.class));
+		final Function<Object, Object> getter = BeanAccessors.getter(Bean.class.getMethod("getName"));
+		setter.accept(bean, "abc");
+		assertEquals("abc", getter.apply(bean));
+		// LambdaMetafactoryで生成した関数はBeanクラスに定義される
+		assertTrue(getter.getClass().getName().startsWith(Bean.class.getName() + "$$Lambda"));
+		assertTrue(setter.getClass().getName().startsWith(Bean.class.getName() + "$$Lambda"));
+		// staticメソッドはリフレクションで呼び出す
+		final Function<Object, Object> staticGetter = BeanAccessors.getter(Bean.class.getMethod("getDefaultName"));
+		assertFalse(staticGetter.getClass().getName().startsWith(Bean.class.getName()));
+		assertEquals("default", staticGetter.apply(null));
+		// 開かれていないモジュールのクラスはリフレクションで呼び出す
+		final Function<Object, Object> hashCode = BeanAccessors.getter(Object.class.getMethod("hashCode"));
+		assertEquals(Integer.valueOf(bean.hashCode()), hashCode.apply(bean));
+		assertThrows(IllegalStateException.class,
+				() -> BeanAccessors.getter(Bean.class.getMethod("getError")).apply(bean));
+	}
+
+	/**
+	 * プロパティの取得、設定の性能測定
+	 */
+	@Tag("benchmark")
+	@Test
+	public void testBenchMark() throws Exception {
+		final SimpleBeanWrapper wrapper = new SimpleBeanWrapper(Bean.class);
+		final Bean bean = new Bean();
+		final Method getter = Bean.class.getMethod("getName");
+		final Method setter = Bean.class.getMethod("setName", String.class);
+		final int count = 1000000;
+		final long reflectionTime = new AbstractBenchMark(count) {
+			@Override
+			protected void handle() {
+				try {
+					setter.invoke(bean, "abc");
+					getter.invoke(bean);
+				} catch (final Exception e) {
+					throw new RuntimeException(e);
+				}
+			}
+		}.execute();
+		final long wrapperTime = new AbstractBenchMark(count) {
+			@Override
+			protected void handle() {
+				wrapper.setValue(bean, "name", "abc");
+				wrapper.getValue(bean, "name");
+			}
+		}.execute();
+		System.out.println("Method.invoke time=" + reflectionTime + "ms/" + count);
+		System.out.println("SimpleBeanWrapper time=" + wrapperTime + "ms/" + count);
+	}
+
+	public static class Bean {
+		private int id;
+		private String name;
+		private String value;
+
+		public int getId() {
+			return id;
+		}
+
+		public void setId(final int id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Bean setName(final String name) {
+			this.name = name;
+			return this;
+		}
+
+		public String getValue() {
+			return value;
+		}
+
+		public void setValue(final Long value) {
+			this.value = "long:" + value;
+		}
+
+		public void setValue(final String value) {
+			this.value = this.value + ",string:" + value;
+		}
+
+		public String getError() {
+			throw new IllegalStateException();
+		}
+
+		public static String getDefaultName() {
+			return "default";
+		}
+	}
+
+	public record BeanRecord(int id, String name) {
+	}
 }
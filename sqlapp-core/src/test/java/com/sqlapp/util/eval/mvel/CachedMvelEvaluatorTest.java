@@ -23,13 +23,17 @@ import static com.sqlapp.util.CommonUtils.list;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.util.Map;
+import java.util.stream.IntStream;
 
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import com.sqlapp.data.parameter.ParametersContext;
+import com.sqlapp.util.AbstractBenchMark;
 import com.sqlapp.util.CommonUtils;
 import com.sqlapp.util.SimpleBeanUtils;
 
@@ -59,6 +63,109 @@ class CachedMvelEvaluatorTest {
 		assertEquals(4, (Integer) SimpleBeanUtils.getValue(obj, "d"));
 	}
 
+	@Test
+	void testCacheSize() {
+		final CachedMvelEvaluator evaluator = new CachedMvelEvaluator();
+		evaluator.setMaxCacheSize(2);
+		final Map<String, Object> map = CommonUtils.map();
+		map.put("a", 1);
+		map.put("b", 2);
+		assertEquals(3, (Integer) evaluator.eval("a+b", map));
+		assertEquals(-1, (Integer) evaluator.eval("a-b", map));
+		assertEquals(0, evaluator.getEvictionCount());
+		assertEquals(2, (Integer) evaluator.eval("a*b", map));
+		assertEquals(1, evaluator.getEvictionCount());
+		// コンテキストの型ごとにキャッシュされる
+		assertEquals(3, (Integer) evaluator.eval("a+b", new Dummy()));
+		assertEquals(1, evaluator.getEvictionCount());
+		evaluator.clearCache();
+		assertEquals(3, (Integer) evaluator.eval("a+b", map));
+	}
+
+	@Test
+	void testCacheHit() {
+		final CachedMvelEvaluator evaluator = new CachedMvelEvaluator();
+		final ParametersContext context = new ParametersContext();
+		context.put("a", 3);
+		context.put("b", 2);
+		assertTrue(evaluator.evalBoolean("a>b", context));
+		assertEquals(0, evaluator.getHitCount());
+		for (int i = 0; i < 10; i++) {
+			assertTrue(evaluator.evalBoolean("a>b", context));
+		}
+		assertEquals(10, evaluator.getHitCount());
+		assertEquals(0, evaluator.getEvictionCount());
+	}
+
+	@Test
+	void testEvictLeastRecentlyUsed() {
+		final CachedMvelEvaluator evaluator = new CachedMvelEvaluator();
+		evaluator.setMaxCacheSize(2);
+		final Map<String, Object> map = CommonUtils.map();
+		map.put("a", 1);
+		map.put("b", 2);
+		evaluator.eval("a+b", map);
+		evaluator.eval("a-b", map);
+		// a+bを使用したので、使用されていないa-bが破棄される
+		evaluator.eval("a+b", map);
+		assertEquals(1, evaluator.getHitCount());
+		evaluator.eval("a*b", map);
+		assertEquals(1, evaluator.getEvictionCount());
+		evaluator.eval("a+b", map);
+		assertEquals(2, evaluator.getHitCount());
+		evaluator.eval("a-b", map);
+		assertEquals(2, evaluator.getHitCount());
+		assertEquals(2, evaluator.getEvictionCount());
+	}
+
+	@Test
+	void testSetMaxCacheSizeAfterUse() {
+		final CachedMvelEvaluator evaluator = new CachedMvelEvaluator();
+		final Map<String, Object> map = CommonUtils.map();
+		map.put("a", 1);
+		map.put("b", 2);
+		evaluator.eval("a+b", map);
+		evaluator.eval("a-b", map);
+		evaluator.eval("a*b", map);
+		assertEquals(0, evaluator.getEvictionCount());
+		// 作成済のキャッシュにも反映される
+		evaluator.setMaxCacheSize(1);
+		evaluator.eval("a/b", map);
+		assertEquals(3, evaluator.getEvictionCount());
+		evaluator.eval("a/b", map);
+		assertEquals(1, evaluator.getHitCount());
+		evaluator.eval("a+b", map);
+		assertEquals(1, evaluator.getHitCount());
+		assertEquals(4, evaluator.getEvictionCount());
+	}
+
+	@Tag("benchmark")
+	@Test
+	void testBenchMark() {
+		final CachedMvelEvaluator evaluator = new CachedMvelEvaluator();
+		final ParametersContext context = new ParametersContext();
+		context.put("a", 3);
+		context.put("b", 2);
+		evaluator.evalBoolean("a>b", context);
+		final int count = 1000000;
+		final long single = new AbstractBenchMark(count) {
+			@Override
+			protected void handle() {
+				evaluator.evalBoolean("a>b", context);
+			}
+		}.execute();
+		System.out.println("single thread: " + single + "ms/" + count);
+		// キャッシュの検索はロックを取得しないため、並列に評価しても待ちが発生しない
+		final long parallel = new AbstractBenchMark(1) {
+			@Override
+			protected void handle() {
+				IntStream.range(0, count).parallel().forEach(i -> evaluator.evalBoolean("a>b", context));
+			}
+		}.execute();
+		System.out.println("parallel: " + parallel + "ms/" + count);
+		assertEquals(count * 2, evaluator.getHitCount());
+	}
+
 //	@Test
 	void test2() {
 		Map<String, Object> map = CommonUtils.map();
@@ -24,10 +24,11 @@ import org.gradle.work.DisableCachingByDefault;
 
 import com.sqlapp.data.db.command.CountAllTablesCommand;
 import com.sqlapp.gradle.plugins.properties.OutputFormatTypeTaskProperty;
+import com.sqlapp.gradle.plugins.properties.ParallelismTaskProperty;
 
 @DisableCachingByDefault
 public abstract class CountAllTableTask extends AbstractDbTableTask<CountAllTablesCommand>
-		implements OutputFormatTypeTaskProperty {
+		implements OutputFormatTypeTaskProperty, ParallelismTaskProperty {
 
 	public void call(Action<CountAllTableTask> cons) {
 		cons.execute(this);
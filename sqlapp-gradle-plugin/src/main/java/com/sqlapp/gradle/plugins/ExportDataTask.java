@@ -26,15 +26,18 @@ import com.sqlapp.data.db.command.export.ExportDataCommand;
 import com.sqlapp.gradle.plugins.properties.ConvertersTaskProperty;
 import com.sqlapp.gradle.plugins.properties.CsvEncodingTaskProperty;
 import com.sqlapp.gradle.plugins.properties.FetchSizeTaskProperty;
+import com.sqlapp.gradle.plugins.properties.MetadataCacheDirectoryTaskProperty;
 import com.sqlapp.gradle.plugins.properties.OutputDirectoryTaskProperty;
 import com.sqlapp.gradle.plugins.properties.OutputFileTypeTaskProperty;
+import com.sqlapp.gradle.plugins.properties.ParallelismTaskProperty;
 import com.sqlapp.gradle.plugins.properties.SheetNameTaskProperty;
 import com.sqlapp.gradle.plugins.properties.UseSchemaNameDirectoryTaskProperty;
 
 @DisableCachingByDefault
 public abstract class ExportDataTask extends AbstractDbTableTask<ExportDataCommand>
 		implements OutputFileTypeTaskProperty, OutputDirectoryTaskProperty, SheetNameTaskProperty,
-		ConvertersTaskProperty, CsvEncodingTaskProperty, UseSchemaNameDirectoryTaskProperty, FetchSizeTaskProperty {
+		ConvertersTaskProperty, CsvEncodingTaskProperty, UseSchemaNameDirectoryTaskProperty, FetchSizeTaskProperty,
+		ParallelismTaskProperty, MetadataCacheDirectoryTaskProperty {
 
 	public void call(Action<ExportDataTask> cons) {
 		cons.execute(this);
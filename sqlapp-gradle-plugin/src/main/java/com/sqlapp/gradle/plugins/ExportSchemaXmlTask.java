@@ -32,11 +32,13 @@ import com.sqlapp.data.db.command.ExportSchemaXmlCommand;
 import com.sqlapp.data.schemas.DbObject;
 import com.sqlapp.gradle.plugins.properties.ObjectTargetTaskProperty;
 import com.sqlapp.gradle.plugins.properties.OutputDirectoryTaskProperty;
+import com.sqlapp.gradle.plugins.properties.ParallelismTaskProperty;
 import com.sqlapp.gradle.plugins.properties.SchemaOptionTaskProperty;
 
 @DisableCachingByDefault
 public abstract class ExportSchemaXmlTask extends AbstractDbTableTask<ExportSchemaXmlCommand>
-		implements ObjectTargetTaskProperty, SchemaOptionTaskProperty, OutputDirectoryTaskProperty {
+		implements ObjectTargetTaskProperty, SchemaOptionTaskProperty, OutputDirectoryTaskProperty,
+		ParallelismTaskProperty {
 
 	public void call(Action<ExportSchemaXmlTask> cons) {
 		cons.execute(this);
@@ -38,11 +38,12 @@ import com.sqlapp.data.schemas.EqualsHandler;
 import com.sqlapp.data.schemas.SchemaUtils;
 import com.sqlapp.gradle.plugins.properties.EqualsHandlerTaskProperty;
 import com.sqlapp.gradle.plugins.properties.OriginalFileTaskProperty;
+import com.sqlapp.gradle.plugins.properties.ParallelismTaskProperty;
 import com.sqlapp.util.FileUtils;
 
 @DisableCachingByDefault
 public abstract class GenerateDiffSqlTask extends AbstractGenerateSqlTask<GenerateDiffSqlCommand>
-		implements EqualsHandlerTaskProperty, OriginalFileTaskProperty {
+		implements EqualsHandlerTaskProperty, OriginalFileTaskProperty, ParallelismTaskProperty {
 
 	@Override
 	protected GenerateDiffSqlCommand createCommand() {
@@ -29,6 +29,7 @@ import com.sqlapp.gradle.plugins.properties.CommitPerTableTaskProperty;
 import com.sqlapp.gradle.plugins.properties.CsvEncodingTaskProperty;
 import com.sqlapp.gradle.plugins.properties.DataSourceTaskProperty;
 import com.sqlapp.gradle.plugins.properties.FileDirectoryTaskProperty;
+import com.sqlapp.gradle.plugins.properties.MetadataCacheDirectoryTaskProperty;
 import com.sqlapp.gradle.plugins.properties.PlaceholderTaskProperty;
 import com.sqlapp.gradle.plugins.properties.QueryCommitIntervalTaskProperty;
 import com.sqlapp.gradle.plugins.properties.SchemaTargetTaskProperty;
@@ -41,7 +42,8 @@ import com.sqlapp.gradle.plugins.properties.UseSchemaNameDirectoryTaskProperty;
 public abstract class ImportDataTask extends AbstractDirectoryTask<ImportDataCommand>
 		implements DataSourceTaskProperty, SchemaTargetTaskProperty, TableTargetTaskProperty, TableOptionsTaskProperty,
 		FileDirectoryTaskProperty, QueryCommitIntervalTaskProperty, SqlTypeTaskProperty, PlaceholderTaskProperty,
-		CommitPerTableTaskProperty, CsvEncodingTaskProperty, UseSchemaNameDirectoryTaskProperty {
+		CommitPerTableTaskProperty, CsvEncodingTaskProperty, UseSchemaNameDirectoryTaskProperty,
+		MetadataCacheDirectoryTaskProperty {
 
 	public void call(Action<ImportDataTask> cons) {
 		cons.execute(this);
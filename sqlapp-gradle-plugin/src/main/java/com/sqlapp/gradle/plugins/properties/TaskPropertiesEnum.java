@@ -46,6 +46,7 @@ import com.sqlapp.data.db.command.properties.FileTypeProperty;
 import com.sqlapp.data.db.command.properties.ForeignKeyDefinitionDirectoryProperty;
 import com.sqlapp.data.db.command.properties.GeneratorConfigFactoryProperty;
 import com.sqlapp.data.db.command.properties.JsonConverterProperty;
+import com.sqlapp.data.db.command.properties.MetadataCacheDirectoryProperty;
 import com.sqlapp.data.db.command.properties.ObjectTargetProperty;
 import com.sqlapp.data.db.command.properties.OnlyCurrentCatalogProperty;
 import com.sqlapp.data.db.command.properties.OnlyCurrentSchemaProperty;
@@ -53,6 +54,7 @@ import com.sqlapp.data.db.command.properties.OriginalFileProperty;
 import com.sqlapp.data.db.command.properties.OutputDirectoryProperty;
 import com.sqlapp.data.db.command.properties.OutputFileTypeProperty;
 import com.sqlapp.data.db.command.properties.OutputFormatTypeProperty;
+import com.sqlapp.data.db.command.properties.ParallelismProperty;
 import com.sqlapp.data.db.command.properties.PlaceholderProperty;
 import com.sqlapp.data.db.command.properties.QueryCommitIntervalProperty;
 import com.sqlapp.data.db.command.properties.RecursiveProperty;
@@ -565,6 +567,27 @@ public enum TaskPropertiesEnum {
 			}
 		}
 	},
+	METADATA_CACHE_DIRECTORY() {
+		@Override
+		public boolean isInstanceof(Object obj) {
+			return obj instanceof MetadataCacheDirectoryTaskProperty;
+		}
+
+		@Override
+		public void setProperty(Object taskProps, Object obj) {
+			if (!isInstanceof(taskProps)) {
+				return;
+			}
+			if (!(obj instanceof MetadataCacheDirectoryProperty)) {
+				return;
+			}
+			final MetadataCacheDirectoryTaskProperty extension = cast(taskProps);
+			final MetadataCacheDirectoryProperty prop = cast(obj);
+			if (extension.getMetadataCacheDirectory().isPresent()) {
+				prop.setMetadataCacheDirectory(extension.getMetadataCacheDirectory().get().getAsFile());
+			}
+		}
+	},
 	OBJECT_TARGET() {
 		@Override
 		public boolean isInstanceof(Object obj) {
@@ -715,6 +738,27 @@ public enum TaskPropertiesEnum {
 			}
 		}
 	},
+	PARALLELISM() {
+		@Override
+		public boolean isInstanceof(Object obj) {
+			return obj instanceof ParallelismTaskProperty;
+		}
+
+		@Override
+		public void setProperty(Object taskProps, Object obj) {
+			if (!isInstanceof(taskProps)) {
+				return;
+			}
+			if (!(obj instanceof ParallelismProperty)) {
+				return;
+			}
+			final ParallelismTaskProperty extension = cast(taskProps);
+			final ParallelismProperty prop = cast(obj);
+			if (extension.getParallelism().isPresent()) {
+				prop.setParallelism(extension.getParallelism().get());
+			}
+		}
+	},
 	PLACEHOLDER() {
 		@Override
 		public boolean isInstanceof(Object obj) {